@@ -1,20 +1,84 @@
 package com.demo.MoneyMap.config;
 
-import okhttp3.OkHttpClient;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
+/**
+ * Single outbound HTTP stack for every external call (market data, Gemini).
+ *
+ * All clients share one Reactor Netty connection pool with keep-alive, idle eviction and
+ * a bounded acquire queue, and negotiate HTTP/2 over TLS where the server supports it.
+ * Every {@code WebClient.Builder} and the {@code RestTemplate} are wired to it, so services
+ * get pooling and metrics by injecting those instead of building their own clients.
+ *
+ * Latency and errors are recorded per host as {@code http.client.requests}
+ * (tag {@code client.name}) with percentile histograms; pool usage is published
+ * as {@code reactor.netty.connection.provider.*}.
+ */
 @Configuration
 public class HttpClientConfig {
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider outboundConnectionProvider(
+            @Value("${http.client.max-connections:200}") int maxConnections,
+            @Value("${http.client.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMillis,
+            @Value("${http.client.max-idle-seconds:30}") long maxIdleSeconds,
+            @Value("${http.client.max-life-seconds:300}") long maxLifeSeconds) {
+        return ConnectionProvider.builder("moneymap-outbound")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(maxConnections * 4)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+                .maxLifeTime(Duration.ofSeconds(maxLifeSeconds))
+                .evictInBackground(Duration.ofSeconds(maxIdleSeconds))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public HttpClient outboundHttpClient(
+            ConnectionProvider outboundConnectionProvider,
+            @Value("${http.client.connect-timeout-ms:2000}") int connectTimeoutMillis,
+            @Value("${http.client.response-timeout-ms:30000}") long responseTimeoutMillis) {
+        return HttpClient.create(outboundConnectionProvider)
+                .protocol(HttpProtocol.HTTP11, HttpProtocol.H2)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis))
+                .compress(true);
+    }
+
+    @Bean
+    public WebClientCustomizer outboundWebClientCustomizer(HttpClient outboundHttpClient) {
+        ReactorClientHttpConnector connector = new ReactorClientHttpConnector(outboundHttpClient);
+        return builder -> builder.clientConnector(connector);
+    }
+
     @Bean
-    public OkHttpClient httpClient() {
-        return new OkHttpClient.Builder()
-            .connectTimeout(30, TimeUnit.SECONDS)
-            .readTimeout(30, TimeUnit.SECONDS)
-            .writeTimeout(30, TimeUnit.SECONDS)
-            .build();
+    public MeterFilter outboundHttpHistograms() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().startsWith("http.client.requests")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
     }
-}
\ No newline at end of file
+}
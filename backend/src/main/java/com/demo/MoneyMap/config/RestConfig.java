@@ -1,14 +1,32 @@
 package com.demo.MoneyMap.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
 
 @Configuration
 public class RestConfig {
 
+    // Shares the pooled outbound client from HttpClientConfig; bounded so a hung
+    // market data service can't hold request threads indefinitely
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     HttpClient outboundHttpClient,
+                                     @Value("${market.data.connect-timeout-ms:2000}") long connectTimeoutMillis,
+                                     @Value("${market.data.read-timeout-ms:15000}") long readTimeoutMillis) {
+        return builder
+                .requestFactory(() -> {
+                    ReactorClientHttpRequestFactory factory = new ReactorClientHttpRequestFactory(outboundHttpClient);
+                    factory.setConnectTimeout(Duration.ofMillis(connectTimeoutMillis));
+                    factory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+                    return factory;
+                })
+                .build();
     }
 }
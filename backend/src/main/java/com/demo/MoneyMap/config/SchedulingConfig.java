@@ -0,0 +1,26 @@
+package com.demo.MoneyMap.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Thread pool behind every {@code @Scheduled} job.
+ *
+ * Spring's default scheduler has a single thread, so a settlement run holding its lease for
+ * minutes or an hourly holder index reload would delay the price drop sweep and the alert
+ * digest flush. The pool gets one thread per scheduled job instead.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer scheduledJobPool(
+            @Value("${scheduling.pool-size:5}") int poolSize) {
+        return scheduler -> {
+            scheduler.setPoolSize(poolSize);
+            scheduler.setThreadNamePrefix("scheduling-");
+        };
+    }
+}
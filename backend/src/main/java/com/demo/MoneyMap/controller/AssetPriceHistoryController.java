@@ -1,18 +1,31 @@
 package com.demo.MoneyMap.controller;
 
-import com.demo.MoneyMap.entity.AssetPriceHistory;
+import com.demo.MoneyMap.dto.request.BackfillRequestDTO;
+import com.demo.MoneyMap.dto.response.BackfillJobResponseDTO;
+import com.demo.MoneyMap.dto.response.PriceHistoryPointDTO;
 import com.demo.MoneyMap.service.AssetPriceHistoryService;
+import com.demo.MoneyMap.service.PriceHistoryBackfillService;
+import com.demo.MoneyMap.service.history.PriceInterval;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/price-history")
 @RequiredArgsConstructor
+@Validated
 public class AssetPriceHistoryController {
 
     private final AssetPriceHistoryService historyService;
+    private final PriceHistoryBackfillService backfillService;
 
     // 1️⃣ Fetch from Flask & store
     @PostMapping("/fetch/{symbol}")
@@ -24,9 +37,33 @@ public class AssetPriceHistoryController {
         return "Historical data stored for " + symbol;
     }
 
-    // 2️⃣ Get stored history
+    // 2️⃣ Get stored history, optionally limited to a date range, aggregated and downsampled
+    // Example: GET /api/price-history/AAPL?from=2020-01-01&interval=week&maxPoints=300
     @GetMapping("/{symbol}")
-    public List<AssetPriceHistory> getHistory(@PathVariable String symbol) {
-        return historyService.getHistory(symbol);
+    public List<PriceHistoryPointDTO> getHistory(
+            @PathVariable String symbol,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String interval,
+            @RequestParam(required = false) @Min(3) @Max(10000) Integer maxPoints
+    ) {
+        return historyService.getHistory(symbol, from, to, PriceInterval.from(interval), maxPoints);
+    }
+
+    // 3️⃣ Backfill many symbols in the background (all catalog assets when no symbols are given)
+    // Example: POST /api/price-history/backfill {"symbols": ["AAPL", "BTC"], "period": "1y"}
+    @PostMapping("/backfill")
+    public ResponseEntity<BackfillJobResponseDTO> startBackfill(
+            @Valid @RequestBody(required = false) BackfillRequestDTO request
+    ) {
+        BackfillJobResponseDTO job = backfillService.startBackfill(
+                request != null ? request : new BackfillRequestDTO());
+        return ResponseEntity.accepted().body(job);
+    }
+
+    // 4️⃣ Backfill progress
+    @GetMapping("/backfill/{jobId}")
+    public BackfillJobResponseDTO getBackfill(@PathVariable Long jobId) {
+        return backfillService.getJob(jobId);
     }
 }
@@ -2,10 +2,10 @@ package com.demo.MoneyMap.controller;
 
 import com.demo.MoneyMap.dto.response.ApiResponseDTO;
 import com.demo.MoneyMap.dto.response.TransactionResponseDTO;
-import com.demo.MoneyMap.dto.response.AvailableAssetDTO;
 import com.demo.MoneyMap.entity.enums.AssetType;
 import com.demo.MoneyMap.entity.enums.AvailableAsset;
 import com.demo.MoneyMap.service.AssetTradingService;
+import com.demo.MoneyMap.service.catalog.CatalogResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,13 +17,13 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 /**
  * REST Controller for Asset Trading operations.
@@ -37,6 +37,7 @@ import java.util.List;
 public class AssetTradingController {
 
     private final AssetTradingService assetTradingService;
+    private final CatalogResponseCache catalogResponseCache;
 
     @PostMapping("/buy")
     @Operation(
@@ -97,12 +98,16 @@ public class AssetTradingController {
     @GetMapping("/assets/available")
     @Operation(
             summary = "Get all available assets for trading",
-            description = "Returns a list of all assets that can be bought or sold"
+            description = "Returns a list of all assets that can be bought or sold. Supports conditional GET via ETag."
     )
-    @ApiResponse(responseCode = "200", description = "Available assets retrieved successfully")
-    public ResponseEntity<ApiResponseDTO<List<AvailableAssetDTO>>> getAvailableAssets() {
-        List<AvailableAssetDTO> assets = assetTradingService.getAvailableAssets();
-        return ResponseEntity.ok(ApiResponseDTO.success(assets));
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Available assets retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the ETag in If-None-Match")
+    })
+    public ResponseEntity<byte[]> getAvailableAssets(
+            @Parameter(description = "ETag from a previous response")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return catalogResponseCache.getAll().toResponse(ifNoneMatch);
     }
 
     @GetMapping("/assets/available/type/{assetType}")
@@ -110,12 +115,17 @@ public class AssetTradingController {
             summary = "Get available assets by type",
             description = "Returns a list of available assets filtered by type (STOCK, CRYPTO, GOLD, MUTUAL_FUND)"
     )
-    @ApiResponse(responseCode = "200", description = "Available assets retrieved successfully")
-    public ResponseEntity<ApiResponseDTO<List<AvailableAssetDTO>>> getAvailableAssetsByType(
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Available assets retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the ETag in If-None-Match")
+    })
+    public ResponseEntity<byte[]> getAvailableAssetsByType(
             @Parameter(description = "Asset type filter", required = true)
-            @PathVariable AssetType assetType) {
-        List<AvailableAssetDTO> assets = assetTradingService.getAvailableAssetsByType(assetType);
-        return ResponseEntity.ok(ApiResponseDTO.success(assets));
+            @PathVariable AssetType assetType,
+
+            @Parameter(description = "ETag from a previous response")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return catalogResponseCache.getByType(assetType).toResponse(ifNoneMatch);
     }
 
     @GetMapping("/assets/available/search")
@@ -123,12 +133,17 @@ public class AssetTradingController {
             summary = "Search available assets",
             description = "Search for available assets by name or symbol"
     )
-    @ApiResponse(responseCode = "200", description = "Search completed successfully")
-    public ResponseEntity<ApiResponseDTO<List<AvailableAssetDTO>>> searchAvailableAssets(
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Search completed successfully"),
+            @ApiResponse(responseCode = "304", description = "Results unchanged since the ETag in If-None-Match")
+    })
+    public ResponseEntity<byte[]> searchAvailableAssets(
             @Parameter(description = "Search query (name or symbol)", required = true)
-            @RequestParam @NotBlank String query) {
-        List<AvailableAssetDTO> assets = assetTradingService.searchAvailableAssets(query);
-        return ResponseEntity.ok(ApiResponseDTO.success(assets));
+            @RequestParam @NotBlank String query,
+
+            @Parameter(description = "ETag from a previous response")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return catalogResponseCache.search(query).toResponse(ifNoneMatch);
     }
 
     @GetMapping("/wallet/{clientId}")
@@ -0,0 +1,43 @@
+package com.demo.MoneyMap.controller;
+
+import com.demo.MoneyMap.dto.response.IndicatorSeriesDTO;
+import com.demo.MoneyMap.dto.response.IndicatorValueDTO;
+import com.demo.MoneyMap.service.IndicatorService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/indicators")
+@RequiredArgsConstructor
+public class IndicatorController {
+
+    private final IndicatorService indicatorService;
+
+    // 1️⃣ Latest indicator value across the catalog (or the given symbols)
+    // Example: GET /api/indicators/screen?indicator=rsi&params=14&symbols=AAPL,BTC
+    @GetMapping("/screen")
+    public List<IndicatorValueDTO> screen(
+            @RequestParam String indicator,
+            @RequestParam(required = false) List<Double> params,
+            @RequestParam(required = false) List<String> symbols
+    ) {
+        return indicatorService.screen(indicator, params, symbols);
+    }
+
+    // 2️⃣ Indicator series for one symbol, optionally limited to a date range
+    // Example: GET /api/indicators/AAPL?indicator=macd&params=12,26,9&from=2024-01-01
+    @GetMapping("/{symbol}")
+    public IndicatorSeriesDTO getIndicator(
+            @PathVariable String symbol,
+            @RequestParam String indicator,
+            @RequestParam(required = false) List<Double> params,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return indicatorService.getIndicator(symbol, indicator, params, from, to);
+    }
+}
@@ -1,16 +1,30 @@
 package com.demo.MoneyMap.controller;
 
+import com.demo.MoneyMap.dto.response.BulkQuoteResponseDTO;
 import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.dto.response.PriceTickDTO;
+import com.demo.MoneyMap.dto.response.TickSeriesDTO;
 import com.demo.MoneyMap.service.MarketDataService;
+import com.demo.MoneyMap.service.PriceStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/market")
 @RequiredArgsConstructor
 public class MarketDataController {
 
     private final MarketDataService marketDataService;
+    private final PriceStreamService priceStreamService;
 
     // Example: GET /api/market/price/AAPL
     @GetMapping("/price/{tickerId}")
@@ -19,4 +33,37 @@ public class MarketDataController {
 
         return marketDataService.getLiveQuote(tickerId);
     }
+
+    // Example: GET /api/market/prices?symbols=AAPL,MSFT,BTC
+    @GetMapping("/prices")
+    public BulkQuoteResponseDTO getCurrentPrices(
+            @RequestParam List<String> symbols) {
+
+        return marketDataService.getLiveQuotes(symbols);
+    }
+
+    // Example: GET /api/market/ticks/AAPL?from=2024-06-10T13:30:00Z&to=2024-06-10T20:00:00Z
+    @GetMapping("/ticks/{tickerId}")
+    public TickSeriesDTO getIntradayTicks(
+            @PathVariable String tickerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+
+        return marketDataService.getIntradayTicks(tickerId, from, to);
+    }
+
+    // Example: GET /api/market/stream?symbols=AAPL,BTC (text/event-stream)
+    // Prices come from one shared poller; a comment heartbeat keeps idle connections open.
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PriceTickDTO>> streamPrices(
+            @RequestParam List<String> symbols) {
+
+        Flux<ServerSentEvent<PriceTickDTO>> ticks = priceStreamService.subscribe(symbols)
+                .map(tick -> ServerSentEvent.builder(tick)
+                        .event("price")
+                        .build());
+        Flux<ServerSentEvent<PriceTickDTO>> heartbeats = Flux.interval(Duration.ofSeconds(15))
+                .map(beat -> ServerSentEvent.<PriceTickDTO>builder().comment("heartbeat").build());
+        return Flux.merge(ticks, heartbeats);
+    }
 }
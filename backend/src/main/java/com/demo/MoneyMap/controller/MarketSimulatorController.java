@@ -0,0 +1,136 @@
+package com.demo.MoneyMap.controller;
+
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.entity.enums.AvailableAsset;
+import com.demo.MoneyMap.service.market.MarketSimulator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Stand-in for the Flask market data service, active only with the {@code simulator} profile.
+ * Serves {@code /quote} and {@code /stock/{ticker}} with the same JSON shape, backed by {@link MarketSimulator}.
+ *
+ * Latency is applied without holding a request thread, so the simulator can serve tens of
+ * thousands of quotes per second even with {@code market.simulator.latency-ms} set.
+ */
+@RestController
+@RequestMapping("/simulator")
+@Profile("simulator")
+@RequiredArgsConstructor
+public class MarketSimulatorController {
+
+    private static final List<String> ALLOWED_PERIODS = List.of("5d", "1mo", "3mo", "6mo", "1y");
+
+    private final MarketSimulator marketSimulator;
+
+    @Value("${market.simulator.latency-ms:0}")
+    private long latencyMillis;
+
+    @Value("${market.simulator.latency-jitter-ms:0}")
+    private long latencyJitterMillis;
+
+    @Value("${market.simulator.error-rate:0}")
+    private double errorRate;
+
+    // Example: GET /simulator/quote?symbol=AAPL
+    @GetMapping("/quote")
+    public Mono<ResponseEntity<Map<String, Object>>> getQuote(@RequestParam(required = false) String symbol) {
+        if (symbol == null || symbol.isBlank()) {
+            return respond(error(HttpStatus.BAD_REQUEST, "symbol query param is required"));
+        }
+        return respond(marketSimulator.quote(symbol)
+                .map(quote -> ResponseEntity.ok(quoteBody(symbol, quote)))
+                .orElseGet(() -> error(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to fetch live quote")));
+    }
+
+    // Example: GET /simulator/stock/AAPL?period=3mo
+    @GetMapping("/stock/{ticker}")
+    public Mono<ResponseEntity<Map<String, Object>>> getStockData(
+            @PathVariable String ticker,
+            @RequestParam(defaultValue = "3mo") String period) {
+
+        if (!ALLOWED_PERIODS.contains(period)) {
+            return respond(error(HttpStatus.BAD_REQUEST, "Invalid period. Allowed values: " + ALLOWED_PERIODS));
+        }
+        LocalDate to = LocalDate.now();
+        return respond(marketSimulator.history(ticker, start(period, to), to)
+                .filter(history -> !history.isEmpty())
+                .map(history -> ResponseEntity.ok(stockBody(ticker, period, history)))
+                .orElseGet(() -> error(HttpStatus.NOT_FOUND, "Invalid ticker or no data available")));
+    }
+
+    private Mono<ResponseEntity<Map<String, Object>>> respond(ResponseEntity<Map<String, Object>> response) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (errorRate > 0 && random.nextDouble() < errorRate) {
+            response = error(HttpStatus.INTERNAL_SERVER_ERROR, "Simulated upstream failure");
+        }
+        long delay = latencyMillis + (latencyJitterMillis > 0 ? random.nextLong(latencyJitterMillis + 1) : 0);
+        Mono<ResponseEntity<Map<String, Object>>> result = Mono.just(response);
+        return delay > 0 ? result.delayElement(Duration.ofMillis(delay)) : result;
+    }
+
+    private static Map<String, Object> quoteBody(String symbol, FinnhubQuoteResponse quote) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("symbol", symbol.trim().toUpperCase(Locale.ROOT));
+        body.put("currentPrice", quote.getCurrentPrice());
+        body.put("change", quote.getChange());
+        body.put("changePercent", quote.getChangePercent());
+        body.put("high", quote.getHigh());
+        body.put("low", quote.getLow());
+        body.put("open", quote.getOpen());
+        body.put("previousClose", quote.getPreviousClose());
+        body.put("timestamp", quote.getTimestamp());
+        return body;
+    }
+
+    private static Map<String, Object> stockBody(String ticker, String period, List<Map<String, Object>> history) {
+        AvailableAsset asset = AvailableAsset.findBySymbol(ticker.trim()).orElseThrow();
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("ticker", asset.getSymbol());
+        metadata.put("companyName", asset.getName());
+        metadata.put("sector", asset.getAssetType().name());
+        metadata.put("industry", null);
+        metadata.put("currency", "USD");
+        metadata.put("exchange", asset.getExchangeOrNetwork());
+
+        double latest = (Double) history.get(history.size() - 1).get("close");
+        double first = (Double) history.get(0).get("close");
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("metadata", metadata);
+        body.put("latestPrice", latest);
+        body.put("period", period);
+        body.put("historicalData", history);
+        body.put("returnPercentage", Math.round((latest - first) / first * 100 * 100) / 100.0);
+        return body;
+    }
+
+    private static LocalDate start(String period, LocalDate to) {
+        return switch (period) {
+            case "5d" -> to.minusDays(6);
+            case "1mo" -> to.minusMonths(1);
+            case "6mo" -> to.minusMonths(6);
+            case "1y" -> to.minusYears(1);
+            default -> to.minusMonths(3);
+        };
+    }
+
+    private static ResponseEntity<Map<String, Object>> error(HttpStatus status, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("error", message);
+        return ResponseEntity.status(status).body(body);
+    }
+}
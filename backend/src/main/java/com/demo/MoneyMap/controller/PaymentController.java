@@ -1,27 +1,37 @@
 package com.demo.MoneyMap.controller;
 
+import com.demo.MoneyMap.dto.request.PaymentBulkStatusUpdateDTO;
 import com.demo.MoneyMap.dto.request.PaymentRequestDTO;
 import com.demo.MoneyMap.dto.request.PaymentStatusUpdateDTO;
 import com.demo.MoneyMap.dto.response.ApiResponseDTO;
 import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.PaymentBatchResultDTO;
+import com.demo.MoneyMap.dto.response.PaymentBulkStatusResultDTO;
 import com.demo.MoneyMap.dto.response.PaymentResponseDTO;
 import com.demo.MoneyMap.dto.response.PaymentStatusHistoryDTO;
 import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import com.demo.MoneyMap.exception.BadRequestException;
 import com.demo.MoneyMap.service.PaymentService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -35,7 +45,10 @@ import java.util.List;
         "Supports creating, validating, sending, and completing payments with full status history tracking.")
 public class PaymentController {
 
+    static final String NDJSON = "application/x-ndjson";
+
     private final PaymentService paymentService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @Operation(summary = "Create a new payment", description = "Creates a new payment and starts the payment lifecycle. " +
@@ -51,6 +64,30 @@ public class PaymentController {
                 .body(ApiResponseDTO.success(payment, "Payment created successfully"));
     }
 
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON})
+    @Operation(summary = "Create payments in bulk", description = "Creates many payments from a JSON array or an NDJSON " +
+            "stream (one payment per line, Content-Type application/x-ndjson). The body is read as a stream and " +
+            "committed in chunks. Payments with an idempotency key that is already used are skipped as duplicates, " +
+            "and invalid payments are reported without failing the rest of the batch.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch processed; see the counts and errors"),
+            @ApiResponse(responseCode = "400", description = "Body is not a JSON array or NDJSON stream")
+    })
+    public ResponseEntity<ApiResponseDTO<PaymentBatchResultDTO>> createPayments(HttpServletRequest request) throws IOException {
+        MappingIterator<PaymentRequestDTO> payments;
+        try {
+            payments = objectMapper.readerFor(PaymentRequestDTO.class).readValues(request.getInputStream());
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Malformed payment batch: " + e.getOriginalMessage());
+        }
+        try (payments) {
+            PaymentBatchResultDTO result = paymentService.createPayments(payments);
+            return ResponseEntity.ok(ApiResponseDTO.success(result, String.format(
+                    "%d payments created, %d duplicates, %d rejected",
+                    result.getCreated(), result.getDuplicates(), result.getRejected())));
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get payment by ID", description = "Retrieves payment details by its unique identifier.")
     @ApiResponses({
@@ -146,6 +183,22 @@ public class PaymentController {
         return ResponseEntity.ok(ApiResponseDTO.success(payment, "Payment status updated successfully"));
     }
 
+    @PutMapping("/batch/status")
+    @Operation(summary = "Update payment status in bulk", description = "Moves every selected payment that is allowed to " +
+            "make the transition to the new status, e.g. all VALIDATED payments created today to SENT. Payments are " +
+            "selected by id, current status and creation time; at least one is required. Payments in other " +
+            "statuses are left unchanged and counted in the result.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Statuses updated; see the counts"),
+            @ApiResponse(responseCode = "400", description = "No selection, or the current status cannot move to the new one")
+    })
+    public ResponseEntity<ApiResponseDTO<PaymentBulkStatusResultDTO>> updatePaymentStatuses(
+            @Valid @RequestBody PaymentBulkStatusUpdateDTO updateDTO) {
+        PaymentBulkStatusResultDTO result = paymentService.updatePaymentStatuses(updateDTO);
+        return ResponseEntity.ok(ApiResponseDTO.success(result, String.format(
+                "%d payments moved to %s", result.getUpdated(), result.getStatus())));
+    }
+
     @PostMapping("/{id}/validate")
     @Operation(summary = "Validate payment", description = "Moves payment from CREATED to VALIDATED status. " +
             "Simulates validation checks passing.")
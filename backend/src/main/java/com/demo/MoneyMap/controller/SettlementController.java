@@ -0,0 +1,68 @@
+package com.demo.MoneyMap.controller;
+
+import com.demo.MoneyMap.dto.request.SettlementRequestDTO;
+import com.demo.MoneyMap.dto.response.ApiResponseDTO;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.SettlementBatchResponseDTO;
+import com.demo.MoneyMap.dto.response.SettlementInstructionDTO;
+import com.demo.MoneyMap.service.SettlementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for settlement netting runs.
+ * Nets validated payments into settlement instructions and sends the payments.
+ */
+@RestController
+@RequestMapping("/api/v1/settlements")
+@RequiredArgsConstructor
+@Tag(name = "Settlement", description = "APIs for netting validated payments into settlement instructions. " +
+        "Payments between the same accounts are settled as one net transfer instead of one by one.")
+public class SettlementController {
+
+    private final SettlementService settlementService;
+
+    @PostMapping
+    @Operation(summary = "Run settlement netting", description = "Nets every VALIDATED payment created in the window " +
+            "into settlement instructions and moves the payments to SENT. BILATERAL mode emits one instruction per " +
+            "pair of accounts and currency; MULTILATERAL mode one per account and currency against the clearing account.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Netting run finished"),
+            @ApiResponse(responseCode = "400", description = "Invalid window")
+    })
+    public ResponseEntity<ApiResponseDTO<SettlementBatchResponseDTO>> settle(
+            @Valid @RequestBody(required = false) SettlementRequestDTO request) {
+        SettlementBatchResponseDTO batch = settlementService.settle(request != null ? request : new SettlementRequestDTO());
+        return ResponseEntity.ok(ApiResponseDTO.success(batch, String.format(
+                "%d payments settled", batch.getPaymentCount())));
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get settlement batch", description = "Retrieves the summary of a settlement netting run.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Settlement batch found"),
+            @ApiResponse(responseCode = "404", description = "Settlement batch not found")
+    })
+    public ResponseEntity<ApiResponseDTO<SettlementBatchResponseDTO>> getBatch(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponseDTO.success(settlementService.getBatch(id)));
+    }
+
+    @GetMapping("/{id}/instructions")
+    @Operation(summary = "Get settlement instructions", description = "Retrieves the net transfers of a settlement batch.")
+    public ResponseEntity<ApiResponseDTO<PagedResponseDTO<SettlementInstructionDTO>>> getInstructions(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id"));
+        return ResponseEntity.ok(ApiResponseDTO.success(settlementService.getInstructions(id, pageable)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.demo.MoneyMap.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * DTO for starting a multi-symbol price history backfill.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request payload for a price history backfill")
+public class BackfillRequestDTO {
+
+    @Size(max = 1000, message = "Cannot backfill more than 1000 symbols in one job")
+    @Schema(description = "Symbols to backfill; every catalog asset when omitted", example = "[\"AAPL\", \"BTC\"]")
+    private List<@Size(max = 20, message = "Symbol cannot exceed 20 characters") String> symbols;
+
+    @Pattern(regexp = "\\d+(d|mo|y)|ytd|max", message = "Period must look like 5d, 3mo, 1y, ytd or max")
+    @Schema(description = "History period to fetch per symbol", example = "1y")
+    private String period;
+}
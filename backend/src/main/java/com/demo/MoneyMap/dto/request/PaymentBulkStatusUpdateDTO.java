@@ -0,0 +1,54 @@
+package com.demo.MoneyMap.dto.request;
+
+import com.demo.MoneyMap.entity.enums.PaymentErrorCode;
+import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for moving many payments to a new status at once.
+ * Payments are chosen by id, by current status, by creation time, or any combination.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request payload for updating the status of many payments")
+public class PaymentBulkStatusUpdateDTO {
+
+    @NotNull(message = "Status is required")
+    @Schema(description = "New payment status", example = "SENT", required = true)
+    private PaymentStatus status;
+
+    @Size(max = 100000, message = "Cannot update more than 100000 payments by id in one request")
+    @Schema(description = "Payments to update; every payment matching the other filters when omitted",
+            example = "[101, 102, 103]")
+    private List<Long> paymentIds;
+
+    @Schema(description = "Only update payments currently in this status; every status that may move to " +
+            "the new one when omitted", example = "VALIDATED")
+    private PaymentStatus currentStatus;
+
+    @Schema(description = "Only update payments created at or after this time", example = "2024-06-10T00:00:00")
+    private LocalDateTime createdFrom;
+
+    @Schema(description = "Only update payments created before this time", example = "2024-06-11T00:00:00")
+    private LocalDateTime createdTo;
+
+    @Size(max = 500, message = "Notes cannot exceed 500 characters")
+    @Schema(description = "Notes for the status change", example = "End of day settlement")
+    private String notes;
+
+    @Schema(description = "Error code if marking as FAILED")
+    private PaymentErrorCode errorCode;
+
+    @Size(max = 500, message = "Error message cannot exceed 500 characters")
+    @Schema(description = "Error message if marking as FAILED")
+    private String errorMessage;
+}
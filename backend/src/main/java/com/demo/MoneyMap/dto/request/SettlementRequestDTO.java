@@ -0,0 +1,29 @@
+package com.demo.MoneyMap.dto.request;
+
+import com.demo.MoneyMap.entity.enums.NettingMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for netting and settling the validated payments of a window.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Request payload for a settlement netting run")
+public class SettlementRequestDTO {
+
+    @Schema(description = "Settle payments created at or after this time; every unsettled one when omitted",
+            example = "2024-06-10T00:00:00")
+    private LocalDateTime windowStart;
+
+    @Schema(description = "Settle payments created before this time; now when omitted", example = "2024-06-11T00:00:00")
+    private LocalDateTime windowEnd;
+
+    @Schema(description = "How to net the payments; settlement.netting.mode when omitted", example = "BILATERAL")
+    private NettingMode mode;
+}
@@ -22,7 +22,7 @@ public class AlertResponseDTO {
     @Schema(description = "Unique identifier of the alert", example = "1")
     private Long id;
 
-    @Schema(description = "Alert reference number", example = "ALERT-12345678")
+    @Schema(description = "Alert reference number", example = "ALERT-0RA1B2C3D4E5F")
     private String alertReference;
 
     @Schema(description = "Rule ID that triggered the alert", example = "1")
@@ -0,0 +1,56 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.entity.enums.BackfillStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Progress of a price history backfill job.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Price history backfill job status")
+public class BackfillJobResponseDTO {
+
+    @Schema(description = "Job ID", example = "1")
+    private Long jobId;
+
+    @Schema(description = "History period fetched per symbol", example = "1y")
+    private String period;
+
+    @Schema(description = "Job status; FAILED once finished if any symbol failed", example = "RUNNING")
+    private BackfillStatus status;
+
+    @Schema(description = "Number of symbols in the job", example = "26")
+    private Integer totalSymbols;
+
+    @Schema(description = "Symbols waiting to run", example = "18")
+    private Integer pendingSymbols;
+
+    @Schema(description = "Symbols currently running", example = "4")
+    private Integer runningSymbols;
+
+    @Schema(description = "Symbols finished successfully", example = "3")
+    private Integer completedSymbols;
+
+    @Schema(description = "Symbols that failed after all retries", example = "1")
+    private Integer failedSymbols;
+
+    @Schema(description = "New price history rows stored so far", example = "780")
+    private Long rowsStored;
+
+    @Schema(description = "Last error per failed symbol")
+    private Map<String, String> failures;
+
+    @Schema(description = "When the job was started")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "When the last symbol finished")
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,32 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * Result of quoting several symbols at once.
+ * Symbols that could not be quoted are listed in {@code failures} instead of failing the whole request.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Quotes for several symbols, with per-symbol failures")
+public class BulkQuoteResponseDTO {
+
+    @Schema(description = "Quotes keyed by upper-case symbol, in request order")
+    private Map<String, FinnhubQuoteResponse> quotes;
+
+    @Schema(description = "Failure reason keyed by upper-case symbol", example = "{\"XYZ\": \"Timed out after 3000 ms\"}")
+    private Map<String, String> failures;
+
+    /**
+     * Whether every requested symbol was quoted.
+     */
+    public boolean isComplete() {
+        return failures == null || failures.isEmpty();
+    }
+}
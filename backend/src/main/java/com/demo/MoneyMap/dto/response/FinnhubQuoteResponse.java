@@ -1,32 +1,68 @@
 package com.demo.MoneyMap.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 
+/**
+ * Live quote. Reads both Finnhub's short keys and the long keys returned by the market data service.
+ */
 @Data
 public class FinnhubQuoteResponse {
 
     @JsonProperty("c")
+    @JsonAlias("currentPrice")
     private Double currentPrice;
 
     @JsonProperty("d")
+    @JsonAlias("change")
     private Double change;
 
     @JsonProperty("dp")
+    @JsonAlias("changePercent")
     private Double changePercent;
 
     @JsonProperty("h")
+    @JsonAlias("high")
     private Double high;
 
     @JsonProperty("l")
+    @JsonAlias("low")
     private Double low;
 
     @JsonProperty("o")
+    @JsonAlias("open")
     private Double open;
 
     @JsonProperty("pc")
+    @JsonAlias("previousClose")
     private Double previousClose;
 
     @JsonProperty("t")
+    @JsonAlias("timestamp")
     private Long timestamp;
+
+    /**
+     * True when upstream could not be reached and this is the last known quote.
+     */
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean stale;
+
+    /**
+     * Copy of this quote marked as stale.
+     */
+    public FinnhubQuoteResponse asStale() {
+        FinnhubQuoteResponse copy = new FinnhubQuoteResponse();
+        copy.setCurrentPrice(currentPrice);
+        copy.setChange(change);
+        copy.setChangePercent(changePercent);
+        copy.setHigh(high);
+        copy.setLow(low);
+        copy.setOpen(open);
+        copy.setPreviousClose(previousClose);
+        copy.setTimestamp(timestamp);
+        copy.setStale(true);
+        return copy;
+    }
 }
@@ -0,0 +1,35 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Technical indicator values over a date range, one list entry per trading day.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Technical indicator series")
+public class IndicatorSeriesDTO {
+
+    @Schema(description = "Symbol/ticker", example = "AAPL")
+    private String symbol;
+
+    @Schema(description = "Indicator", example = "RSI")
+    private String indicator;
+
+    @Schema(description = "Indicator parameters", example = "[14]")
+    private List<Double> params;
+
+    @Schema(description = "Trading dates, oldest first")
+    private List<LocalDate> dates;
+
+    @Schema(description = "Values per output (e.g. macd, signal, histogram), aligned with dates; null while warming up")
+    private Map<String, List<Double>> values;
+}
@@ -0,0 +1,28 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Latest value of a technical indicator for one symbol.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Latest indicator value for a symbol")
+public class IndicatorValueDTO {
+
+    @Schema(description = "Symbol/ticker", example = "AAPL")
+    private String symbol;
+
+    @Schema(description = "Trading date of the value", example = "2024-06-10")
+    private LocalDate date;
+
+    @Schema(description = "Values per output; null while warming up", example = "{\"rsi\": 71.3}")
+    private Map<String, Double> values;
+}
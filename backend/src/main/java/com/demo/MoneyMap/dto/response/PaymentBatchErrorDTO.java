@@ -0,0 +1,25 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * A payment in a batch that was not created.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Payment in a batch that was rejected")
+public class PaymentBatchErrorDTO {
+
+    @Schema(description = "Zero-based position of the payment in the batch", example = "17")
+    private long index;
+
+    @Schema(description = "Idempotency key of the payment, if it had one", example = "idem-key-12345")
+    private String idempotencyKey;
+
+    @Schema(description = "Why the payment was rejected", example = "Source and destination accounts cannot be the same")
+    private String message;
+}
@@ -0,0 +1,39 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch payment upload.
+ * Payments are committed chunk by chunk, so a batch cut short by malformed input keeps the
+ * payments before the bad item; resending the whole batch is safe when every payment has an
+ * idempotency key, since the ones already created come back as duplicates.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a batch payment upload")
+public class PaymentBatchResultDTO {
+
+    @Schema(description = "Payments read from the request", example = "200000")
+    private long received;
+
+    @Schema(description = "Payments created", example = "199990")
+    private long created;
+
+    @Schema(description = "Payments skipped because their idempotency key was already used", example = "6")
+    private long duplicates;
+
+    @Schema(description = "Payments rejected by validation", example = "4")
+    private long rejected;
+
+    @Schema(description = "False if the request could not be read to the end", example = "true")
+    private boolean complete;
+
+    @Schema(description = "Rejected payments, at most the first 1000")
+    private List<PaymentBatchErrorDTO> errors;
+}
@@ -0,0 +1,32 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * Outcome of a bulk payment status update.
+ * Payments that were not in a status allowed to move to the new one are left as they were.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Outcome of a bulk payment status update")
+public class PaymentBulkStatusResultDTO {
+
+    @Schema(description = "Status the payments were moved to", example = "SENT")
+    private PaymentStatus status;
+
+    @Schema(description = "Payments moved to the new status", example = "100000")
+    private long updated;
+
+    @Schema(description = "Payments moved, by the status they left", example = "{\"VALIDATED\": 100000}")
+    private Map<PaymentStatus, Long> updatedFrom;
+
+    @Schema(description = "Requested ids that were not found or could not move to the new status", example = "0")
+    private long unchanged;
+}
@@ -23,7 +23,7 @@ public class PaymentResponseDTO {
     @Schema(description = "Unique identifier of the payment", example = "1")
     private Long id;
 
-    @Schema(description = "Payment reference number", example = "PAY-12345678")
+    @Schema(description = "Payment reference number", example = "PAY-0RA1B2C3D4E5F")
     private String paymentReference;
 
     @Schema(description = "Idempotency key", example = "idem-key-12345")
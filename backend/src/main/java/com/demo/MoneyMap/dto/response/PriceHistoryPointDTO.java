@@ -0,0 +1,40 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One daily OHLCV bar from stored price history.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Daily price bar")
+public class PriceHistoryPointDTO {
+
+    @Schema(description = "Symbol/ticker", example = "AAPL")
+    private String symbol;
+
+    @Schema(description = "Trading date", example = "2024-06-10")
+    private LocalDate priceDate;
+
+    @Schema(description = "Opening price", example = "190.0000")
+    private BigDecimal openPrice;
+
+    @Schema(description = "Highest price", example = "192.2500")
+    private BigDecimal highPrice;
+
+    @Schema(description = "Lowest price", example = "189.1000")
+    private BigDecimal lowPrice;
+
+    @Schema(description = "Closing price", example = "191.0000")
+    private BigDecimal closePrice;
+
+    @Schema(description = "Traded volume", example = "52000000")
+    private Long volume;
+}
@@ -0,0 +1,58 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * One price update pushed to live price stream subscribers.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Live price update for one symbol")
+public class PriceTickDTO {
+
+    @Schema(description = "Symbol/ticker", example = "AAPL")
+    private String symbol;
+
+    @Schema(description = "Current market price", example = "175.50")
+    private Double currentPrice;
+
+    @Schema(description = "Change since previous close", example = "-1.25")
+    private Double change;
+
+    @Schema(description = "Percentage change since previous close", example = "-0.71")
+    private Double changePercent;
+
+    @Schema(description = "Upstream quote timestamp (epoch seconds)", example = "1718035200")
+    private Long quoteTimestamp;
+
+    @Schema(description = "When the server received this price")
+    private LocalDateTime receivedAt;
+
+    public static PriceTickDTO from(String symbol, FinnhubQuoteResponse quote) {
+        return PriceTickDTO.builder()
+                .symbol(symbol)
+                .currentPrice(quote.getCurrentPrice())
+                .change(quote.getChange())
+                .changePercent(quote.getChangePercent())
+                .quoteTimestamp(quote.getTimestamp())
+                .receivedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Whether this tick carries the same price data as another, ignoring receive time.
+     */
+    public boolean samePriceAs(PriceTickDTO other) {
+        return other != null
+                && Objects.equals(currentPrice, other.currentPrice)
+                && Objects.equals(change, other.change)
+                && Objects.equals(quoteTimestamp, other.quoteTimestamp);
+    }
+}
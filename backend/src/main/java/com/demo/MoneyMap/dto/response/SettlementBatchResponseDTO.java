@@ -0,0 +1,47 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.entity.enums.NettingMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Summary of a settlement netting run.
+ * Both instruction counts are reported whichever mode was used, to show what the other would cost.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Summary of a settlement netting run")
+public class SettlementBatchResponseDTO {
+
+    @Schema(description = "Settlement batch ID; empty when there was nothing to settle", example = "1")
+    private Long id;
+
+    @Schema(description = "Start of the settled window", example = "2024-06-10T00:00:00")
+    private LocalDateTime windowStart;
+
+    @Schema(description = "End of the settled window", example = "2024-06-11T00:00:00")
+    private LocalDateTime windowEnd;
+
+    @Schema(description = "Netting mode of the emitted instructions", example = "BILATERAL")
+    private NettingMode mode;
+
+    @Schema(description = "Payments settled and moved to SENT", example = "1000000")
+    private long paymentCount;
+
+    @Schema(description = "Distinct source, destination and currency flows among the payments", example = "45000")
+    private long flowCount;
+
+    @Schema(description = "Instructions bilateral netting needs", example = "22000")
+    private long bilateralInstructionCount;
+
+    @Schema(description = "Instructions multilateral netting needs", example = "900")
+    private long multilateralInstructionCount;
+
+    @Schema(description = "When the run happened")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,33 @@
+package com.demo.MoneyMap.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * A net transfer emitted by a settlement netting run.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Net transfer to settle")
+public class SettlementInstructionDTO {
+
+    @Schema(description = "Account that pays", example = "ACC-001")
+    private String payerAccount;
+
+    @Schema(description = "Account that is paid", example = "ACC-002")
+    private String payeeAccount;
+
+    @Schema(description = "Currency code", example = "USD")
+    private String currency;
+
+    @Schema(description = "Net amount", example = "15230.5000")
+    private BigDecimal amount;
+
+    @Schema(description = "Payments netted into this transfer", example = "312")
+    private long paymentCount;
+}
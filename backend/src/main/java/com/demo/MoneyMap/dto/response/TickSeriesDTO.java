@@ -0,0 +1,47 @@
+package com.demo.MoneyMap.dto.response;
+
+import com.demo.MoneyMap.service.tick.TickSeries;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+/**
+ * Intraday ticks for one symbol, column-wise so large ranges stay compact on the wire.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "Intraday ticks for one symbol")
+public class TickSeriesDTO {
+
+    @Schema(description = "Symbol/ticker", example = "AAPL")
+    private String symbol;
+
+    @Schema(description = "Number of ticks", example = "3")
+    private Integer count;
+
+    @Schema(description = "Tick times (epoch milliseconds), oldest first")
+    private long[] timestamps;
+
+    @Schema(description = "Prices, aligned with timestamps")
+    private double[] prices;
+
+    @Schema(description = "Percentage change since previous close, aligned with timestamps")
+    private double[] changePercents;
+
+    public static TickSeriesDTO from(TickSeries series) {
+        long[] nanos = series.getEpochNanos();
+        long[] millis = new long[nanos.length];
+        for (int i = 0; i < nanos.length; i++) {
+            millis[i] = nanos[i] / 1_000_000L;
+        }
+        return TickSeriesDTO.builder()
+                .symbol(series.getSymbol())
+                .count(series.size())
+                .timestamps(millis)
+                .prices(series.getPrices())
+                .changePercents(series.getChangePercents())
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.demo.MoneyMap.entity;
 
 import com.demo.MoneyMap.entity.enums.AlertSeverity;
 import com.demo.MoneyMap.entity.enums.AlertStatus;
+import com.demo.MoneyMap.service.id.ReferenceEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -16,6 +17,7 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "alerts")
+@EntityListeners(ReferenceEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -84,16 +86,6 @@ public class Alert {
         triggeringPayments.add(payment);
     }
 
-    /**
-     * Generate an alert reference if not set.
-     */
-    @PrePersist
-    public void generateAlertReference() {
-        if (alertReference == null) {
-            alertReference = "ALERT-" + System.currentTimeMillis();
-        }
-    }
-
     /**
      * Acknowledge the alert.
      */
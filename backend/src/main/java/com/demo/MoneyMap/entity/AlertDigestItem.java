@@ -0,0 +1,51 @@
+package com.demo.MoneyMap.entity;
+
+import com.demo.MoneyMap.entity.enums.AlertKind;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * One alert waiting to be folded into its recipient's next digest email.
+ *
+ * {@code amount} is the current price for a price drop and the portfolio value for a low-value
+ * alert; {@code symbol} and {@code changePercent} are only set for price drops.
+ */
+@Entity
+@Table(name = "alert_digest_item", indexes = {
+        @Index(name = "idx_alert_digest_recipient", columnList = "recipient, created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AlertDigestItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AlertKind kind;
+
+    @Column(nullable = false)
+    private String portfolioName;
+
+    @Column(length = 20)
+    private String symbol;
+
+    @Column(precision = 18, scale = 8)
+    private BigDecimal amount;
+
+    private Double changePercent;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
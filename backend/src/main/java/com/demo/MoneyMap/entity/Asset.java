@@ -2,6 +2,8 @@ package com.demo.MoneyMap.entity;
 
 import com.demo.MoneyMap.entity.enums.AssetType;
 import com.demo.MoneyMap.entity.enums.TransactionType;
+import com.demo.MoneyMap.service.alert.PriceDropHolderEntityListener;
+import com.demo.MoneyMap.service.search.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -23,6 +25,7 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "assets")
+@EntityListeners({SearchIndexEntityListener.class, PriceDropHolderEntityListener.class})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "asset_type", discriminatorType = DiscriminatorType.STRING)
 @Getter
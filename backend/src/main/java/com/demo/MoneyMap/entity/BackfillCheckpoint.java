@@ -0,0 +1,50 @@
+package com.demo.MoneyMap.entity;
+
+import com.demo.MoneyMap.entity.enums.BackfillStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one symbol within a backfill job; a restart re-queues every unfinished checkpoint.
+ */
+@Entity
+@Table(name = "price_history_backfill_checkpoint", uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"job_id", "symbol"})
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackfillCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    private BackfillJob job;
+
+    @Column(nullable = false, length = 20)
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BackfillStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private Integer rowsStored;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
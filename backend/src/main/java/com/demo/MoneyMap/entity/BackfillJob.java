@@ -0,0 +1,38 @@
+package com.demo.MoneyMap.entity;
+
+import com.demo.MoneyMap.entity.enums.BackfillStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A multi-symbol price history backfill. Per-symbol progress is kept in {@link BackfillCheckpoint}.
+ */
+@Entity
+@Table(name = "price_history_backfill_job")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BackfillJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 10)
+    private String period;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BackfillStatus status;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime finishedAt;
+}
@@ -1,5 +1,6 @@
 package com.demo.MoneyMap.entity;
 
+import com.demo.MoneyMap.service.search.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -17,6 +18,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "clients")
+@EntityListeners(SearchIndexEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,63 @@
+package com.demo.MoneyMap.entity;
+
+import com.demo.MoneyMap.entity.enums.NotificationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * An email waiting in (or done with) the outbound notification queue.
+ *
+ * {@code nextAttemptAt} is when a PENDING row is due; while SENDING it is when the claim
+ * expires, after which another worker may pick the row up again.
+ */
+@Entity
+@Table(name = "notification_queue", indexes = {
+        @Index(name = "idx_notification_due", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_notification_claim", columnList = "claim_token")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, length = 4000)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = 36)
+    private String claimToken;
+
+    @Column(length = 500)
+    private String lastError;
+
+    private Instant sentAt;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
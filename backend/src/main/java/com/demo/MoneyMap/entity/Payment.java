@@ -2,6 +2,8 @@ package com.demo.MoneyMap.entity;
 
 import com.demo.MoneyMap.entity.enums.PaymentErrorCode;
 import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import com.demo.MoneyMap.service.id.ReferenceEntityListener;
+import com.demo.MoneyMap.service.search.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -17,7 +19,10 @@ import java.util.List;
  * Tracks the complete lifecycle from creation through completion or failure.
  */
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+        @Index(name = "idx_payments_settlement_batch", columnList = "settlement_batch_id")
+})
+@EntityListeners({ReferenceEntityListener.class, SearchIndexEntityListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -65,6 +70,10 @@ public class Payment {
     @Column(length = 500)
     private String description;
 
+    // Settlement batch that netted this payment, once it has been sent
+    @Column(name = "settlement_batch_id")
+    private Long settlementBatchId;
+
     @OneToMany(mappedBy = "payment", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     @OrderBy("timestamp DESC")
@@ -85,14 +94,4 @@ public class Payment {
         statusHistory.add(history);
         history.setPayment(this);
     }
-
-    /**
-     * Generate a payment reference if not set.
-     */
-    @PrePersist
-    public void generatePaymentReference() {
-        if (paymentReference == null) {
-            paymentReference = "PAY-" + System.currentTimeMillis();
-        }
-    }
 }
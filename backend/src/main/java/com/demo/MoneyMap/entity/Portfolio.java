@@ -1,5 +1,6 @@
 package com.demo.MoneyMap.entity;
 
+import com.demo.MoneyMap.service.search.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -16,6 +17,7 @@ import java.util.List;
  */
 @Entity
 @Table(name = "portfolios")
+@EntityListeners(SearchIndexEntityListener.class)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,36 @@
+package com.demo.MoneyMap.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Cluster-wide lease on a scheduled job. The node named in {@code owner} may run the job until
+ * {@code leasedUntil}; every takeover increments {@code fencingToken}.
+ */
+@Entity
+@Table(name = "scheduled_job_lease")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledJobLease {
+
+    @Id
+    @Column(length = 100)
+    private String jobName;
+
+    @Column(nullable = false, length = 150)
+    private String owner;
+
+    @Column(nullable = false)
+    private long fencingToken;
+
+    @Column(nullable = false)
+    private Instant leasedUntil;
+
+    @Column(nullable = false)
+    private Instant acquiredAt;
+}
@@ -0,0 +1,48 @@
+package com.demo.MoneyMap.entity;
+
+import com.demo.MoneyMap.entity.enums.NettingMode;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * One netting run over the VALIDATED payments created in a window. The payments it settled carry
+ * its id and have moved to SENT; what to settle instead is in its {@link SettlementInstruction}s.
+ */
+@Entity
+@Table(name = "settlement_batch")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private LocalDateTime windowStart;
+
+    @Column(nullable = false)
+    private LocalDateTime windowEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NettingMode mode;
+
+    private long paymentCount;
+
+    // Distinct (source, destination, currency) flows among the payments
+    private long flowCount;
+
+    private long bilateralInstructionCount;
+
+    private long multilateralInstructionCount;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,44 @@
+package com.demo.MoneyMap.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * A net amount one account owes another in a settlement batch, replacing the payments between them.
+ */
+@Entity
+@Table(name = "settlement_instruction", indexes = {
+        @Index(name = "idx_settlement_instruction_batch", columnList = "settlement_batch_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementInstruction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "settlement_batch_id", nullable = false)
+    private Long settlementBatchId;
+
+    @Column(name = "payer_account", nullable = false, length = 50)
+    private String payerAccount;
+
+    @Column(name = "payee_account", nullable = false, length = 50)
+    private String payeeAccount;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal amount;
+
+    // Payments netted into this instruction
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+}
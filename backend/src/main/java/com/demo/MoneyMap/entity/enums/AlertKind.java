@@ -0,0 +1,9 @@
+package com.demo.MoneyMap.entity.enums;
+
+/**
+ * Kind of client alert collected into a digest email.
+ */
+public enum AlertKind {
+    PRICE_DROP,
+    LOW_VALUE
+}
@@ -0,0 +1,17 @@
+package com.demo.MoneyMap.entity.enums;
+
+/**
+ * Progress of a price history backfill job and of each symbol within it.
+ * Lifecycle: PENDING → RUNNING → COMPLETED (or FAILED once retries are exhausted).
+ * A job ends COMPLETED only when every symbol completed, and FAILED otherwise.
+ */
+public enum BackfillStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,11 @@
+package com.demo.MoneyMap.entity.enums;
+
+/**
+ * How a settlement batch turns payment flows into settlement instructions.
+ */
+public enum NettingMode {
+    /** One instruction per pair of accounts and currency, for the difference of their flows. */
+    BILATERAL,
+    /** One instruction per account and currency, for its net position against the clearing account. */
+    MULTILATERAL
+}
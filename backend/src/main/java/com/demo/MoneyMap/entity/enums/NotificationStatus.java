@@ -0,0 +1,13 @@
+package com.demo.MoneyMap.entity.enums;
+
+/**
+ * Delivery state of a queued notification.
+ * Lifecycle: PENDING → SENDING → SENT, back to PENDING for a retry, or DEAD once retries are
+ * exhausted or the message can never be delivered.
+ */
+public enum NotificationStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
@@ -57,6 +57,16 @@ public class GlobalExceptionHandler {
                 .body(ApiResponseDTO.error(ex.getMessage(), "BAD_REQUEST", "The request was invalid or malformed"));
     }
 
+    /**
+     * Handle UpstreamUnavailableException.
+     */
+    @ExceptionHandler(UpstreamUnavailableException.class)
+    public ResponseEntity<ApiResponseDTO<Void>> handleUpstreamUnavailableException(UpstreamUnavailableException ex) {
+        log.warn("Upstream unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponseDTO.error(ex.getMessage(), "UPSTREAM_UNAVAILABLE", "Market data is temporarily unavailable. Please try again shortly"));
+    }
+
     /**
      * Handle validation errors from @Valid annotation.
      */
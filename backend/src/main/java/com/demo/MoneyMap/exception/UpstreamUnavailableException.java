@@ -0,0 +1,21 @@
+package com.demo.MoneyMap.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when an external dependency (such as the market data service)
+ * is failing, too slow, or temporarily cut off by its circuit breaker.
+ * Returns HTTP 503 Service Unavailable status.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class UpstreamUnavailableException extends RuntimeException {
+
+    public UpstreamUnavailableException(String message) {
+        super(message);
+    }
+
+    public UpstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
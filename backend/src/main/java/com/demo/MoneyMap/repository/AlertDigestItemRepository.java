@@ -0,0 +1,30 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.AlertDigestItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AlertDigestItemRepository extends JpaRepository<AlertDigestItem, Long> {
+
+    /**
+     * Recipients whose oldest waiting alert was raised at or before the cutoff.
+     */
+    @Query("SELECT i.recipient FROM AlertDigestItem i GROUP BY i.recipient " +
+           "HAVING MIN(i.createdAt) <= :cutoff ORDER BY MIN(i.createdAt)")
+    List<String> findDueRecipients(@Param("cutoff") Instant cutoff, Pageable page);
+
+    List<AlertDigestItem> findByRecipientInOrderByIdAsc(Collection<String> recipients);
+
+    @Modifying
+    @Query("DELETE FROM AlertDigestItem i WHERE i.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,20 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.AssetPriceHistory;
+
+import java.util.List;
+
+/**
+ * Bulk write operations for price history that bypass per-entity persistence.
+ */
+public interface AssetPriceHistoryBatchRepository {
+
+    /**
+     * Insert rows with multi-row INSERT statements, a few hundred rows per round trip.
+     * Callers should filter out rows that already exist; any that were stored concurrently
+     * since are skipped on the (symbol, price_date) key instead of failing the statement.
+     *
+     * @return number of rows written
+     */
+    int insertAll(List<AssetPriceHistory> rows);
+}
@@ -2,12 +2,15 @@ package com.demo.MoneyMap.repository;
 
 import com.demo.MoneyMap.entity.AssetPriceHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 public interface AssetPriceHistoryRepository
-        extends JpaRepository<AssetPriceHistory, Long> {
+        extends JpaRepository<AssetPriceHistory, Long>, AssetPriceHistoryBatchRepository {
 
     List<AssetPriceHistory> findBySymbolOrderByPriceDateAsc(String symbol);
 
@@ -18,4 +21,7 @@ public interface AssetPriceHistoryRepository
     );
 
     boolean existsBySymbolAndPriceDate(String symbol, LocalDate priceDate);
+
+    @Query("select h.priceDate from AssetPriceHistory h where h.symbol = :symbol")
+    Set<LocalDate> findPriceDates(@Param("symbol") String symbol);
 }
@@ -5,11 +5,14 @@ import com.demo.MoneyMap.entity.enums.AssetType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -107,4 +110,44 @@ public interface AssetRepository extends JpaRepository<Asset, Long> {
      */
     @Query("SELECT a FROM Asset a WHERE a.portfolio.client.id = :clientId")
     Page<Asset> findByClientId(@Param("clientId") Long clientId, Pageable pageable);
+
+    /**
+     * Distinct upper-case symbols held in any portfolio.
+     */
+    @Query("SELECT DISTINCT UPPER(a.symbol) FROM Asset a")
+    List<String> findDistinctSymbols();
+
+    /**
+     * Alert state of every holding as (id, upper-case symbol, last alert time) rows.
+     */
+    @Query("SELECT a.id, UPPER(a.symbol), a.lastAlertSentAt FROM Asset a")
+    List<Object[]> findAlertStates();
+
+    /**
+     * Searchable fields of holdings after an id as (id, name, symbol) rows, in id order.
+     */
+    @Query("SELECT a.id, a.name, a.symbol FROM Asset a WHERE a.id > :afterId ORDER BY a.id")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Holdings of the given (upper-case) symbols whose last alert is older than the cutoff,
+     * with portfolio and client loaded.
+     */
+    @Query("SELECT a FROM Asset a JOIN FETCH a.portfolio p JOIN FETCH p.client " +
+           "WHERE UPPER(a.symbol) IN :symbols AND (a.lastAlertSentAt IS NULL OR a.lastAlertSentAt < :cutoff)")
+    List<Asset> findAlertCandidates(@Param("symbols") Collection<String> symbols, @Param("cutoff") Instant cutoff);
+
+    /**
+     * Stamp the alert time on the given assets, skipping any alerted since the cutoff.
+     */
+    @Modifying
+    @Query("UPDATE Asset a SET a.lastAlertSentAt = :sentAt " +
+           "WHERE a.id IN :ids AND (a.lastAlertSentAt IS NULL OR a.lastAlertSentAt < :cutoff)")
+    int markAlertsSent(@Param("ids") Collection<Long> ids, @Param("sentAt") Instant sentAt, @Param("cutoff") Instant cutoff);
+
+    /**
+     * Which of the given assets carry exactly this alert time.
+     */
+    @Query("SELECT a.id FROM Asset a WHERE a.id IN :ids AND a.lastAlertSentAt = :sentAt")
+    List<Long> findIdsByLastAlertSentAt(@Param("ids") Collection<Long> ids, @Param("sentAt") Instant sentAt);
 }
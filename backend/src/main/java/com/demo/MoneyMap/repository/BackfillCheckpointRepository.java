@@ -0,0 +1,19 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.BackfillCheckpoint;
+import com.demo.MoneyMap.entity.enums.BackfillStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, Long> {
+
+    List<BackfillCheckpoint> findByJobIdOrderByIdAsc(Long jobId);
+
+    List<BackfillCheckpoint> findByJobIdAndStatusIn(Long jobId, Collection<BackfillStatus> statuses);
+
+    long countByJobIdAndStatusIn(Long jobId, Collection<BackfillStatus> statuses);
+}
@@ -0,0 +1,14 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.BackfillJob;
+import com.demo.MoneyMap.entity.enums.BackfillStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BackfillJobRepository extends JpaRepository<BackfillJob, Long> {
+
+    List<BackfillJob> findByStatus(BackfillStatus status);
+}
@@ -72,4 +72,10 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM Client c WHERE c.id = :id")
     Optional<Client> findByIdWithLock(@Param("id") Long id);
+
+    /**
+     * Searchable fields of clients after an id as (id, first name, last name, email) rows, in id order.
+     */
+    @Query("SELECT c.id, c.firstName, c.lastName, c.email FROM Client c WHERE c.id > :afterId ORDER BY c.id")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,46 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.Notification;
+import com.demo.MoneyMap.entity.enums.NotificationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    /**
+     * Ids of notifications that are due: pending ones whose retry time has come, and sending
+     * ones whose claim has expired (their worker died).
+     */
+    @Query("SELECT n.id FROM Notification n WHERE n.status IN :statuses AND n.nextAttemptAt <= :now " +
+           "ORDER BY n.nextAttemptAt")
+    List<Long> findDueIds(@Param("statuses") Collection<NotificationStatus> statuses,
+                          @Param("now") Instant now, Pageable page);
+
+    /**
+     * Claim due notifications for one worker. Rows another worker claimed first are not touched.
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = com.demo.MoneyMap.entity.enums.NotificationStatus.SENDING, " +
+           "n.claimToken = :token, n.nextAttemptAt = :claimedUntil " +
+           "WHERE n.id IN :ids AND n.status IN :statuses AND n.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids, @Param("statuses") Collection<NotificationStatus> statuses,
+              @Param("token") String token, @Param("now") Instant now, @Param("claimedUntil") Instant claimedUntil);
+
+    List<Notification> findByClaimTokenOrderByIdAsc(String claimToken);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.status = com.demo.MoneyMap.entity.enums.NotificationStatus.SENT, " +
+           "n.sentAt = :sentAt, n.claimToken = NULL WHERE n.id IN :ids AND n.claimToken = :token")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("token") String token, @Param("sentAt") Instant sentAt);
+
+    long countByStatus(NotificationStatus status);
+}
@@ -0,0 +1,65 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.Payment;
+import com.demo.MoneyMap.entity.enums.PaymentErrorCode;
+import com.demo.MoneyMap.entity.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Bulk write operations for payments that bypass per-entity persistence.
+ */
+public interface PaymentBatchRepository {
+
+    /**
+     * Insert payments with multi-row INSERT statements, a few hundred rows per round trip.
+     * Every payment needs its reference, status and timestamps set; generated ids are not
+     * read back.
+     *
+     * @return number of rows inserted
+     */
+    int insertAll(List<Payment> payments);
+
+    /**
+     * Insert one status history row per payment, all with the same transition and time.
+     *
+     * @return number of rows inserted
+     */
+    int insertStatusHistory(List<Long> paymentIds, PaymentStatus previousStatus, PaymentStatus status,
+                            String notes, LocalDateTime timestamp);
+
+    /**
+     * Move the selected payments that are in status {@code from} to status {@code to} and write
+     * their history rows, with one locking SELECT, one INSERT ... SELECT and one UPDATE however
+     * many payments match. The error code and message are only written for FAILED. Must run in a
+     * transaction.
+     *
+     * @return number of payments moved
+     * @throws org.springframework.dao.ConcurrencyFailureException if payments entered the
+     *         selection while the statements ran; the transaction must be rolled back
+     */
+    int transitionStatus(PaymentSelection selection, PaymentStatus from, PaymentStatus to, String notes,
+                         PaymentErrorCode errorCode, String errorMessage, LocalDateTime timestamp);
+
+    /**
+     * Mark the VALIDATED payments created in the window, and not claimed yet, as belonging to a
+     * settlement batch. The rows stay locked until the caller's transaction ends.
+     *
+     * @param createdFrom earliest creation time, inclusive; null for no lower bound
+     * @param createdTo   latest creation time, exclusive
+     * @return number of payments claimed
+     */
+    int claimForSettlement(Long settlementBatchId, LocalDateTime createdFrom, LocalDateTime createdTo);
+
+    /**
+     * Stream the flow of every payment in a settlement batch, without loading the entities.
+     */
+    void forEachSettlementFlow(Long settlementBatchId, PaymentFlowHandler handler);
+
+    @FunctionalInterface
+    interface PaymentFlowHandler {
+        void accept(String sourceAccount, String destinationAccount, String currency, BigDecimal amount);
+    }
+}
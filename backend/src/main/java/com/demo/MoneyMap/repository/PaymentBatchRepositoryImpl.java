@@ -0,0 +1,197 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.Payment;
+import com.demo.MoneyMap.entity.enums.PaymentErrorCode;
+import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IDENTITY ids stop Hibernate from batching inserts, so payments and their history are written
+ * with plain JDBC as one multi-row INSERT per chunk, like price history. Bulk status changes are
+ * set-based statements over the selection rather than a load and save per payment.
+ */
+@RequiredArgsConstructor
+class PaymentBatchRepositoryImpl implements PaymentBatchRepository {
+
+    static final int ROWS_PER_STATEMENT = 500;
+    static final int FLOW_FETCH_SIZE = 10_000;
+
+    private static final String INSERT_PAYMENT = "INSERT INTO payments (payment_reference, idempotency_key, "
+            + "source_account, destination_account, amount, currency, status, reference, description, "
+            + "created_at, updated_at) VALUES ";
+    private static final String PAYMENT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_HISTORY = "INSERT INTO payment_status_history "
+            + "(payment_id, previous_status, status, notes, timestamp) VALUES ";
+    private static final String HISTORY_ROW = "(?, ?, ?, ?, ?)";
+
+    private static final String INSERT_HISTORY_SELECT = "INSERT INTO payment_status_history "
+            + "(payment_id, previous_status, status, notes, timestamp) SELECT id, ?, ?, ?, ? FROM payments";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<Payment> payments) {
+        int inserted = 0;
+        for (int start = 0; start < payments.size(); start += ROWS_PER_STATEMENT) {
+            List<Payment> chunk = payments.subList(start, Math.min(payments.size(), start + ROWS_PER_STATEMENT));
+
+            StringBuilder sql = statement(INSERT_PAYMENT, PAYMENT_ROW, chunk.size());
+            List<Object> args = new ArrayList<>(chunk.size() * 11);
+            for (Payment payment : chunk) {
+                args.add(payment.getPaymentReference());
+                args.add(payment.getIdempotencyKey());
+                args.add(payment.getSourceAccount());
+                args.add(payment.getDestinationAccount());
+                args.add(payment.getAmount());
+                args.add(payment.getCurrency());
+                args.add(payment.getStatus().name());
+                args.add(payment.getReference());
+                args.add(payment.getDescription());
+                args.add(Timestamp.valueOf(payment.getCreatedAt()));
+                args.add(Timestamp.valueOf(payment.getUpdatedAt()));
+            }
+            inserted += jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+        return inserted;
+    }
+
+    @Override
+    public int insertStatusHistory(List<Long> paymentIds, PaymentStatus previousStatus, PaymentStatus status,
+                                   String notes, LocalDateTime timestamp) {
+        Timestamp at = Timestamp.valueOf(timestamp);
+        String previous = previousStatus != null ? previousStatus.name() : null;
+        int inserted = 0;
+        for (int start = 0; start < paymentIds.size(); start += ROWS_PER_STATEMENT) {
+            List<Long> chunk = paymentIds.subList(start, Math.min(paymentIds.size(), start + ROWS_PER_STATEMENT));
+
+            StringBuilder sql = statement(INSERT_HISTORY, HISTORY_ROW, chunk.size());
+            List<Object> args = new ArrayList<>(chunk.size() * 5);
+            for (Long paymentId : chunk) {
+                args.add(paymentId);
+                args.add(previous);
+                args.add(status.name());
+                args.add(notes);
+                args.add(at);
+            }
+            inserted += jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+        return inserted;
+    }
+
+    @Override
+    public int transitionStatus(PaymentSelection selection, PaymentStatus from, PaymentStatus to, String notes,
+                                PaymentErrorCode errorCode, String errorMessage, LocalDateTime timestamp) {
+        if (selection.ids() != null && selection.ids().isEmpty()) {
+            return 0;
+        }
+        List<Object> whereArgs = new ArrayList<>();
+        String where = where(selection, from, whereArgs);
+        Timestamp at = Timestamp.valueOf(timestamp);
+
+        // Locked rows cannot leave the selection, so the three counts differ only if rows entered it
+        int locked = jdbcTemplate.queryForList("SELECT id FROM payments" + where + " FOR UPDATE",
+                Long.class, whereArgs.toArray()).size();
+        if (locked == 0) {
+            return 0;
+        }
+
+        List<Object> historyArgs = new ArrayList<>(List.of(from.name(), to.name()));
+        historyArgs.add(notes);
+        historyArgs.add(at);
+        historyArgs.addAll(whereArgs);
+        int recorded = jdbcTemplate.update(INSERT_HISTORY_SELECT + where, historyArgs.toArray());
+
+        StringBuilder update = new StringBuilder("UPDATE payments SET status = ?, updated_at = ?");
+        List<Object> updateArgs = new ArrayList<>(List.of(to.name(), at));
+        if (to == PaymentStatus.FAILED) {
+            update.append(", error_code = ?, error_message = ?");
+            updateArgs.add(errorCode != null ? errorCode.name() : null);
+            updateArgs.add(errorMessage);
+        }
+        updateArgs.addAll(whereArgs);
+        int updated = jdbcTemplate.update(update.append(where).toString(), updateArgs.toArray());
+
+        if (recorded != locked || updated != locked) {
+            throw new ConcurrencyFailureException(String.format(
+                    "Payments entered status %s during a bulk update to %s (%d locked, %d recorded, %d updated)",
+                    from, to, locked, recorded, updated));
+        }
+        return updated;
+    }
+
+    @Override
+    public int claimForSettlement(Long settlementBatchId, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        List<Object> args = new ArrayList<>(List.of(settlementBatchId, PaymentStatus.VALIDATED.name()));
+        StringBuilder sql = new StringBuilder(
+                "UPDATE payments SET settlement_batch_id = ? WHERE status = ? AND settlement_batch_id IS NULL");
+        if (createdFrom != null) {
+            sql.append(" AND created_at >= ?");
+            args.add(Timestamp.valueOf(createdFrom));
+        }
+        sql.append(" AND created_at < ?");
+        args.add(Timestamp.valueOf(createdTo));
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    @Override
+    public void forEachSettlementFlow(Long settlementBatchId, PaymentFlowHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT source_account, destination_account, "
+                    + "currency, amount FROM payments WHERE settlement_batch_id = ?",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // Connector/J ignores a positive fetch size unless the URL sets useCursorFetch, and would
+            // buffer the whole batch; MIN_VALUE makes it stream row by row instead
+            boolean mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            statement.setFetchSize(mysql ? Integer.MIN_VALUE : FLOW_FETCH_SIZE);
+            statement.setLong(1, settlementBatchId);
+            return statement;
+        }, (RowCallbackHandler) rs -> handler.accept(
+                rs.getString(1), rs.getString(2), rs.getString(3), rs.getBigDecimal(4)));
+    }
+
+    private static String where(PaymentSelection selection, PaymentStatus status, List<Object> args) {
+        StringBuilder where = new StringBuilder(" WHERE status = ?");
+        args.add(status.name());
+        if (selection.ids() != null) {
+            where.append(" AND id IN (");
+            int i = 0;
+            for (Long id : selection.ids()) {
+                where.append(i++ == 0 ? "?" : ", ?");
+                args.add(id);
+            }
+            where.append(')');
+        }
+        if (selection.createdFrom() != null) {
+            where.append(" AND created_at >= ?");
+            args.add(Timestamp.valueOf(selection.createdFrom()));
+        }
+        if (selection.createdTo() != null) {
+            where.append(" AND created_at < ?");
+            args.add(Timestamp.valueOf(selection.createdTo()));
+        }
+        if (selection.settlementBatchId() != null) {
+            where.append(" AND settlement_batch_id = ?");
+            args.add(selection.settlementBatchId());
+        }
+        return where.toString();
+    }
+
+    private static StringBuilder statement(String insert, String row, int rows) {
+        StringBuilder sql = new StringBuilder(insert.length() + rows * (row.length() + 2)).append(insert);
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? row : ", " + row);
+        }
+        return sql;
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +19,7 @@ import java.util.Optional;
  * Repository interface for Payment entity operations.
  */
 @Repository
-public interface PaymentRepository extends JpaRepository<Payment, Long> {
+public interface PaymentRepository extends JpaRepository<Payment, Long>, PaymentBatchRepository {
 
     /**
      * Find payment by payment reference.
@@ -35,6 +36,30 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     boolean existsByIdempotencyKey(String idempotencyKey);
 
+    /**
+     * Which of the given idempotency keys are already taken.
+     */
+    @Query("SELECT p.idempotencyKey FROM Payment p WHERE p.idempotencyKey IN :keys")
+    List<String> findExistingIdempotencyKeys(@Param("keys") Collection<String> keys);
+
+    /**
+     * Id of the payment that used an idempotency key.
+     */
+    @Query("SELECT p.id FROM Payment p WHERE p.idempotencyKey = :key")
+    Optional<Long> findIdByIdempotencyKey(@Param("key") String key);
+
+    /**
+     * Idempotency keys of payments after an id as (id, key) pairs, in id order.
+     */
+    @Query("SELECT p.id, p.idempotencyKey FROM Payment p WHERE p.id > :afterId AND p.idempotencyKey IS NOT NULL ORDER BY p.id")
+    List<Object[]> findIdempotencyKeysAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Ids of the given payments as (payment reference, id) pairs.
+     */
+    @Query("SELECT p.paymentReference, p.id FROM Payment p WHERE p.paymentReference IN :references")
+    List<Object[]> findIdsByPaymentReferences(@Param("references") Collection<String> references);
+
     /**
      * Find payments by status.
      */
@@ -105,4 +130,11 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
      */
     @Query("SELECT p FROM Payment p WHERE LOWER(p.reference) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(p.description) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(p.paymentReference) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<Payment> searchPayments(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    /**
+     * Searchable fields of payments after an id as (id, reference, description, payment reference)
+     * rows, in id order.
+     */
+    @Query("SELECT p.id, p.reference, p.description, p.paymentReference FROM Payment p WHERE p.id > :afterId ORDER BY p.id")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,24 @@
+package com.demo.MoneyMap.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Which payments a bulk operation applies to. Null parts do not restrict the selection.
+ *
+ * @param ids               payment ids
+ * @param createdFrom       earliest creation time, inclusive
+ * @param createdTo         latest creation time, exclusive
+ * @param settlementBatchId settlement batch the payments were claimed by
+ */
+public record PaymentSelection(Collection<Long> ids, LocalDateTime createdFrom, LocalDateTime createdTo,
+                               Long settlementBatchId) {
+
+    public PaymentSelection(Collection<Long> ids, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        this(ids, createdFrom, createdTo, null);
+    }
+
+    public static PaymentSelection settlementBatch(Long settlementBatchId) {
+        return new PaymentSelection(null, null, null, settlementBatchId);
+    }
+}
@@ -85,4 +85,10 @@ public interface PortfolioRepository extends JpaRepository<Portfolio, Long> {
     long countByActiveTrue();
 
     List<Portfolio> findTop5ByOrderByTotalValueAsc();
+
+    /**
+     * Searchable fields of portfolios after an id as (id, name) rows, in id order.
+     */
+    @Query("SELECT p.id, p.name FROM Portfolio p WHERE p.id > :afterId ORDER BY p.id")
+    List<Object[]> findSearchFieldsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,60 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.ScheduledJobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+/**
+ * Every change is a single conditional statement, so two nodes racing for a lease are
+ * serialized by the database and at most one of them sees an updated row.
+ */
+@Repository
+public interface ScheduledJobLeaseRepository extends JpaRepository<ScheduledJobLease, String> {
+
+    /**
+     * Take over an expired lease, bumping the fencing token.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJobLease l SET l.owner = :owner, l.fencingToken = l.fencingToken + 1, " +
+           "l.acquiredAt = :now, l.leasedUntil = :until WHERE l.jobName = :jobName AND l.leasedUntil <= :now")
+    int takeOver(@Param("jobName") String jobName, @Param("owner") String owner,
+                 @Param("now") Instant now, @Param("until") Instant until);
+
+    /**
+     * First lease for a job; fails with a duplicate key if another node created it first.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO scheduled_job_lease (job_name, owner, fencing_token, leased_until, acquired_at) " +
+                   "VALUES (:jobName, :owner, 1, :until, :now)", nativeQuery = true)
+    int create(@Param("jobName") String jobName, @Param("owner") String owner,
+               @Param("now") Instant now, @Param("until") Instant until);
+
+    /**
+     * Extend a lease that is still held under the given token.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJobLease l SET l.leasedUntil = :until WHERE l.jobName = :jobName " +
+           "AND l.owner = :owner AND l.fencingToken = :token AND l.leasedUntil > :now")
+    int extend(@Param("jobName") String jobName, @Param("owner") String owner, @Param("token") long token,
+               @Param("now") Instant now, @Param("until") Instant until);
+
+    /**
+     * Expire a lease now so another node can take it without waiting.
+     */
+    @Modifying
+    @Query("UPDATE ScheduledJobLease l SET l.leasedUntil = :now WHERE l.jobName = :jobName " +
+           "AND l.owner = :owner AND l.fencingToken = :token AND l.leasedUntil > :now")
+    int expire(@Param("jobName") String jobName, @Param("owner") String owner, @Param("token") long token,
+               @Param("now") Instant now);
+
+    @Query("SELECT l.fencingToken FROM ScheduledJobLease l WHERE l.jobName = :jobName")
+    long findFencingToken(@Param("jobName") String jobName);
+
+    boolean existsByJobNameAndOwnerAndFencingTokenAndLeasedUntilAfter(String jobName, String owner,
+                                                                      long fencingToken, Instant now);
+}
@@ -0,0 +1,9 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.SettlementBatch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SettlementBatchRepository extends JpaRepository<SettlementBatch, Long> {
+}
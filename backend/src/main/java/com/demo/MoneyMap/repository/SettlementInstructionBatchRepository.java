@@ -0,0 +1,18 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.SettlementInstruction;
+
+import java.util.List;
+
+/**
+ * Bulk inserts of settlement instructions that bypass per-entity persistence.
+ */
+public interface SettlementInstructionBatchRepository {
+
+    /**
+     * Insert instructions with multi-row INSERT statements; generated ids are not read back.
+     *
+     * @return number of rows inserted
+     */
+    int insertAll(List<SettlementInstruction> instructions);
+}
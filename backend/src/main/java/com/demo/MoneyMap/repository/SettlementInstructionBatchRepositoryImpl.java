@@ -0,0 +1,47 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.SettlementInstruction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A netting run can emit tens of thousands of instructions, and IDENTITY ids stop Hibernate from
+ * batching them, so they are written as multi-row INSERTs like payments.
+ */
+@RequiredArgsConstructor
+class SettlementInstructionBatchRepositoryImpl implements SettlementInstructionBatchRepository {
+
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_INSTRUCTION = "INSERT INTO settlement_instruction (settlement_batch_id, "
+            + "payer_account, payee_account, currency, amount, payment_count) VALUES ";
+    private static final String INSTRUCTION_ROW = "(?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int insertAll(List<SettlementInstruction> instructions) {
+        int inserted = 0;
+        for (int start = 0; start < instructions.size(); start += ROWS_PER_STATEMENT) {
+            List<SettlementInstruction> chunk =
+                    instructions.subList(start, Math.min(instructions.size(), start + ROWS_PER_STATEMENT));
+
+            StringBuilder sql = new StringBuilder(INSERT_INSTRUCTION);
+            List<Object> args = new ArrayList<>(chunk.size() * 6);
+            for (SettlementInstruction instruction : chunk) {
+                sql.append(args.isEmpty() ? INSTRUCTION_ROW : ", " + INSTRUCTION_ROW);
+                args.add(instruction.getSettlementBatchId());
+                args.add(instruction.getPayerAccount());
+                args.add(instruction.getPayeeAccount());
+                args.add(instruction.getCurrency());
+                args.add(instruction.getAmount());
+                args.add(instruction.getPaymentCount());
+            }
+            inserted += jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+        return inserted;
+    }
+}
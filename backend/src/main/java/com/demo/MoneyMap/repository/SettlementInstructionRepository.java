@@ -0,0 +1,17 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.SettlementInstruction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SettlementInstructionRepository extends JpaRepository<SettlementInstruction, Long>,
+        SettlementInstructionBatchRepository {
+
+    /**
+     * Instructions of a settlement batch.
+     */
+    Page<SettlementInstruction> findBySettlementBatchId(Long settlementBatchId, Pageable pageable);
+}
@@ -1,75 +1,74 @@
 package com.demo.MoneyMap.scheduler;
 
+import com.demo.MoneyMap.dto.response.BulkQuoteResponseDTO;
 import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
-import com.demo.MoneyMap.entity.Asset;
-import com.demo.MoneyMap.entity.Portfolio;
 import com.demo.MoneyMap.repository.AssetRepository;
-import com.demo.MoneyMap.repository.PortfolioRepository;
-import com.demo.MoneyMap.service.EmailService;
 import com.demo.MoneyMap.service.MarketQuoteService;
+import com.demo.MoneyMap.service.alert.PriceDropAlertDispatcher;
+import com.demo.MoneyMap.service.lease.ClusterLocked;
+import com.demo.MoneyMap.service.lease.JobLeaseManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+
+/**
+ * Safety-net sweep for price drop alerts. Most alerts are raised as quotes arrive
+ * ({@link com.demo.MoneyMap.service.alert.PriceDropAlertMonitor}); this catches symbols nobody
+ * quoted and alerts the monitor had to drop.
+ *
+ * Each run quotes every distinct held symbol once (concurrently, via the bulk quote call) and
+ * hands the dropped ones to the dispatcher, so it costs O(symbols) quotes and a few queries
+ * regardless of how many holdings exist. Runs on one node of the cluster at a time.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AssetPriceAlertScheduler {
 
-    private final PortfolioRepository portfolioRepository;
     private final AssetRepository assetRepository;
     private final MarketQuoteService quoteService;
-    private final EmailService emailService;
-
-    @Value("${alerts.price-drop.percent-threshold}")
-    private double dropThreshold;
-
-    @Value("${alerts.price-drop.cooldown-minutes}")
-    private long cooldownMinutes;
+    private final PriceDropAlertDispatcher alertDispatcher;
+    private final JobLeaseManager leaseManager;
 
     @Scheduled(cron = "0 */30 * * * *") // every 30 min
-    @Transactional
+    @ClusterLocked("price-drop-sweep")
     public void checkAllAssetsForPriceDrop() {
 
         log.info("Running asset price drop alert job");
 
-        Duration cooldown = Duration.ofMinutes(cooldownMinutes);
-
-        List<Portfolio> portfolios = portfolioRepository.findAll();
-
-        for (Portfolio portfolio : portfolios) {
-
-            String email = portfolio.getClient().getEmail();
-
-            for (Asset asset : portfolio.getAssets()) {
-
-                FinnhubQuoteResponse quote =
-                        quoteService.getQuote(asset.getSymbol());
-
-                if (quote.getChangePercent() <= dropThreshold &&
-                        asset.canSendAlert(cooldown)) {
+        List<String> symbols = assetRepository.findDistinctSymbols();
+        if (symbols.isEmpty()) {
+            log.info("Asset price drop alert job completed: no holdings");
+            return;
+        }
 
-                    emailService.sendAssetDropAlert(
-                            email,
-                            portfolio.getName(),
-                            asset.getSymbol(),
-                            BigDecimal.valueOf(quote.getCurrentPrice()),
-                            quote.getChangePercent()
-                    );
+        BulkQuoteResponseDTO quotes = quoteService.getQuotes(symbols);
+        if (!quotes.isComplete()) {
+            log.warn("Could not quote {} of {} held symbols: {}",
+                    quotes.getFailures().size(), symbols.size(), quotes.getFailures().keySet());
+        }
 
-                    asset.markAlertSent();
-                    assetRepository.save(asset);
-                }
+        Map<String, FinnhubQuoteResponse> dropped = new LinkedHashMap<>();
+        quotes.getQuotes().forEach((symbol, quote) -> {
+            if (alertDispatcher.isDrop(quote)) {
+                dropped.put(symbol, quote);
             }
+        });
+
+        // Quoting can be slow; make sure no other node has taken over the sweep meanwhile
+        if (!dropped.isEmpty() && !leaseManager.holdsCurrentLease()) {
+            log.warn("Asset price drop alert job lost its lease, leaving {} dropped symbols to the next run",
+                    dropped.size());
+            return;
         }
+        int alerts = alertDispatcher.dispatch(dropped);
 
-        log.info("Asset price drop alert job completed");
+        log.info("Asset price drop alert job completed: {} symbols quoted, {} dropped, {} alerts",
+                quotes.getQuotes().size(), dropped.size(), alerts);
     }
 }
@@ -0,0 +1,25 @@
+package com.demo.MoneyMap.scheduler;
+
+import com.demo.MoneyMap.dto.request.SettlementRequestDTO;
+import com.demo.MoneyMap.service.SettlementService;
+import com.demo.MoneyMap.service.lease.ClusterLocked;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Settles every validated payment on {@code settlement.netting.cron}; off unless it is set.
+ * Runs on one node of the cluster at a time.
+ */
+@Service
+@RequiredArgsConstructor
+public class SettlementScheduler {
+
+    private final SettlementService settlementService;
+
+    @Scheduled(cron = "${settlement.netting.cron:-}")
+    @ClusterLocked(value = "settlement-netting", leaseSeconds = 600)
+    public void settleValidatedPayments() {
+        settlementService.settle(new SettlementRequestDTO());
+    }
+}
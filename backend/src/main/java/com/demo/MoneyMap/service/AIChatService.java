@@ -8,27 +8,39 @@ import com.demo.MoneyMap.repository.PortfolioRepository;
 import com.demo.MoneyMap.repository.AssetRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.*;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class AIChatService {
 
     private final ClientRepository clientRepository;
     private final PortfolioRepository portfolioRepository;
     private final AssetRepository assetRepository;
-    private final OkHttpClient httpClient;
+    private final WebClient webClient;
     private final ObjectMapper objectMapper;
 
+    public AIChatService(ClientRepository clientRepository,
+                         PortfolioRepository portfolioRepository,
+                         AssetRepository assetRepository,
+                         WebClient.Builder webClientBuilder,
+                         ObjectMapper objectMapper) {
+        this.clientRepository = clientRepository;
+        this.portfolioRepository = portfolioRepository;
+        this.assetRepository = assetRepository;
+        this.webClient = webClientBuilder.build();
+        this.objectMapper = objectMapper;
+    }
+
     @Value("${GEMINI_API_KEY}")
     private String geminiApiKey;
 
@@ -122,45 +134,38 @@ public class AIChatService {
             )
         );
 
-        String jsonBody = objectMapper.writeValueAsString(requestBody);
-        
-        RequestBody body = RequestBody.create(
-            jsonBody, 
-            MediaType.get("application/json; charset=utf-8")
-        );
-
-        Request request = new Request.Builder()
-            .url(GEMINI_URL + "?key=" + geminiApiKey)
-            .post(body)
-            .addHeader("Content-Type", "application/json")
-            .build();
-
-        try (Response response = httpClient.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                throw new IOException("Unexpected code " + response);
-            }
+        String responseBody;
+        try {
+            responseBody = webClient.post()
+                .uri(GEMINI_URL + "?key={key}", geminiApiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+        } catch (WebClientException e) {
+            throw new IOException("Gemini request failed: " + e.getMessage(), e);
+        }
 
-            String responseBody = response.body().string();
-            JsonNode jsonResponse = objectMapper.readTree(responseBody);
-            
-            // Extract the AI response
-            JsonNode candidates = jsonResponse.get("candidates");
-            if (candidates != null && candidates.isArray() && candidates.size() > 0) {
-                JsonNode firstCandidate = candidates.get(0);
-                JsonNode content = firstCandidate.get("content");
-                if (content != null) {
-                    JsonNode parts = content.get("parts");
-                    if (parts != null && parts.isArray() && parts.size() > 0) {
-                        JsonNode firstPart = parts.get(0);
-                        JsonNode text = firstPart.get("text");
-                        if (text != null) {
-                            return text.asText();
-                        }
+        JsonNode jsonResponse = objectMapper.readTree(responseBody);
+        
+        // Extract the AI response
+        JsonNode candidates = jsonResponse.get("candidates");
+        if (candidates != null && candidates.isArray() && candidates.size() > 0) {
+            JsonNode firstCandidate = candidates.get(0);
+            JsonNode content = firstCandidate.get("content");
+            if (content != null) {
+                JsonNode parts = content.get("parts");
+                if (parts != null && parts.isArray() && parts.size() > 0) {
+                    JsonNode firstPart = parts.get(0);
+                    JsonNode text = firstPart.get("text");
+                    if (text != null) {
+                        return text.asText();
                     }
                 }
             }
-            
-            return "I couldn't generate a response. Please try again.";
         }
+        
+        return "I couldn't generate a response. Please try again.";
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,25 @@
 package com.demo.MoneyMap.service;
 
-import com.demo.MoneyMap.entity.AssetPriceHistory;
+import com.demo.MoneyMap.dto.response.PriceHistoryPointDTO;
+import com.demo.MoneyMap.service.history.PriceHistorySeries;
+import com.demo.MoneyMap.service.history.PriceInterval;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AssetPriceHistoryService {
 
-    void fetchAndStoreHistory(String symbol, String period);
+    /**
+     * @return number of new rows stored
+     */
+    int fetchAndStoreHistory(String symbol, String period);
 
-    List<AssetPriceHistory> getHistory(String symbol);
+    /**
+     * @param interval  bar size; daily bars are rolled up for WEEK and MONTH
+     * @param maxPoints if set, downsample to at most this many bars
+     */
+    List<PriceHistoryPointDTO> getHistory(String symbol, LocalDate from, LocalDate to,
+                                          PriceInterval interval, Integer maxPoints);
+
+    PriceHistorySeries getSeries(String symbol, LocalDate from, LocalDate to);
 }
@@ -0,0 +1,22 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.IndicatorSeriesDTO;
+import com.demo.MoneyMap.dto.response.IndicatorValueDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface IndicatorService {
+
+    /**
+     * @param params indicator parameters, or null for the defaults
+     */
+    IndicatorSeriesDTO getIndicator(String symbol, String indicator, List<Double> params,
+                                    LocalDate from, LocalDate to);
+
+    /**
+     * Latest value for each symbol (all catalog assets when none are given). Symbols without
+     * stored history are left out.
+     */
+    List<IndicatorValueDTO> screen(String indicator, List<Double> params, List<String> symbols);
+}
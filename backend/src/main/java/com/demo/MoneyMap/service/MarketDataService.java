@@ -1,7 +1,16 @@
 package com.demo.MoneyMap.service;
 
+import com.demo.MoneyMap.dto.response.BulkQuoteResponseDTO;
 import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.dto.response.TickSeriesDTO;
+
+import java.time.Instant;
+import java.util.Collection;
 
 public interface MarketDataService {
     public FinnhubQuoteResponse getLiveQuote(String tickerId);
+
+    public BulkQuoteResponseDTO getLiveQuotes(Collection<String> tickerIds);
+
+    public TickSeriesDTO getIntradayTicks(String tickerId, Instant from, Instant to);
 }
@@ -1,8 +1,16 @@
 package com.demo.MoneyMap.service;
 
+import com.demo.MoneyMap.dto.response.BulkQuoteResponseDTO;
 import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
 
+import java.util.Collection;
+
 public interface MarketQuoteService {
     FinnhubQuoteResponse getQuote(String symbol);
-}
 
+    /**
+     * Quote several symbols concurrently. Symbols that fail or time out are reported
+     * in the result's failures rather than failing the whole call.
+     */
+    BulkQuoteResponseDTO getQuotes(Collection<String> symbols);
+}
@@ -1,13 +1,17 @@
 package com.demo.MoneyMap.service;
 
+import com.demo.MoneyMap.dto.request.PaymentBulkStatusUpdateDTO;
 import com.demo.MoneyMap.dto.request.PaymentRequestDTO;
 import com.demo.MoneyMap.dto.request.PaymentStatusUpdateDTO;
 import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.PaymentBatchResultDTO;
+import com.demo.MoneyMap.dto.response.PaymentBulkStatusResultDTO;
 import com.demo.MoneyMap.dto.response.PaymentResponseDTO;
 import com.demo.MoneyMap.dto.response.PaymentStatusHistoryDTO;
 import com.demo.MoneyMap.entity.enums.PaymentStatus;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -20,6 +24,12 @@ public interface PaymentService {
      */
     PaymentResponseDTO createPayment(PaymentRequestDTO requestDTO);
 
+    /**
+     * Create payments in bulk, committing them chunk by chunk.
+     * Invalid and duplicate payments are reported in the result instead of failing the batch.
+     */
+    PaymentBatchResultDTO createPayments(Iterator<PaymentRequestDTO> requests);
+
     /**
      * Get payment by ID.
      */
@@ -65,6 +75,11 @@ public interface PaymentService {
      */
     PaymentResponseDTO updatePaymentStatus(Long id, PaymentStatusUpdateDTO updateDTO);
 
+    /**
+     * Update the status of every selected payment that may move to the new status.
+     */
+    PaymentBulkStatusResultDTO updatePaymentStatuses(PaymentBulkStatusUpdateDTO updateDTO);
+
     /**
      * Process payment through validation (simulate).
      */
@@ -0,0 +1,11 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.request.BackfillRequestDTO;
+import com.demo.MoneyMap.dto.response.BackfillJobResponseDTO;
+
+public interface PriceHistoryBackfillService {
+
+    BackfillJobResponseDTO startBackfill(BackfillRequestDTO request);
+
+    BackfillJobResponseDTO getJob(Long jobId);
+}
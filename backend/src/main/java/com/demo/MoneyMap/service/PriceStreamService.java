@@ -0,0 +1,29 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.PriceTickDTO;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+/**
+ * Service interface for live price streaming.
+ * A single poller fetches every subscribed symbol once per interval and
+ * multicasts the results, so upstream load grows with symbols rather than subscribers.
+ */
+public interface PriceStreamService {
+
+    /**
+     * Subscribe to live prices for the given symbols.
+     * The stream starts with the last known price of each symbol, then emits a tick whenever a price changes.
+     * Slow subscribers lose their oldest buffered ticks rather than slowing down others.
+     *
+     * @param symbols Symbols to subscribe to
+     * @return Never-ending stream of price ticks; cancel to unsubscribe
+     */
+    Flux<PriceTickDTO> subscribe(Collection<String> symbols);
+
+    /**
+     * Fetch all currently subscribed symbols once and publish changed prices.
+     */
+    void poll();
+}
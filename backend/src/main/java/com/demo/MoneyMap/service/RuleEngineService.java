@@ -17,6 +17,12 @@ public interface RuleEngineService {
      */
     List<Alert> evaluatePayment(Payment payment);
 
+    /**
+     * Evaluate several payments against all active rules, loading the rules once.
+     * Returns the alerts generated for all of them.
+     */
+    List<Alert> evaluatePayments(List<Payment> payments);
+
     /**
      * Evaluate a specific rule against a payment.
      */
@@ -0,0 +1,35 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.service.search.SearchDomain;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface for the in-memory search index.
+ * Serves client, asset, portfolio and payment search without LIKE scans on the database.
+ */
+public interface SearchIndexService {
+
+    /**
+     * Search a domain and return matching entity IDs, best matches first.
+     * Returns empty if the index has not been built yet, in which case callers
+     * should fall back to the repository query.
+     */
+    Optional<List<Long>> search(SearchDomain domain, String term);
+
+    /**
+     * Add or refresh a searchable entity. Unsupported types are ignored.
+     */
+    void index(Object entity);
+
+    /**
+     * Remove a searchable entity. Unsupported types are ignored.
+     */
+    void remove(Object entity);
+
+    /**
+     * Rebuild all indexes from the database.
+     */
+    void rebuild();
+}
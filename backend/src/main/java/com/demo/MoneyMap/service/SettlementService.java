@@ -0,0 +1,29 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.request.SettlementRequestDTO;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.SettlementBatchResponseDTO;
+import com.demo.MoneyMap.dto.response.SettlementInstructionDTO;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service interface for netting validated payments into settlement instructions.
+ */
+public interface SettlementService {
+
+    /**
+     * Net the VALIDATED payments created in the window, store the settlement instructions and
+     * move the payments to SENT.
+     */
+    SettlementBatchResponseDTO settle(SettlementRequestDTO request);
+
+    /**
+     * Get a settlement batch by ID.
+     */
+    SettlementBatchResponseDTO getBatch(Long id);
+
+    /**
+     * Get the instructions of a settlement batch.
+     */
+    PagedResponseDTO<SettlementInstructionDTO> getInstructions(Long batchId, Pageable pageable);
+}
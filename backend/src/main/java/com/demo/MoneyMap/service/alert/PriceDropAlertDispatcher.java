@@ -0,0 +1,132 @@
+package com.demo.MoneyMap.service.alert;
+
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.entity.Asset;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.service.EmailService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Turns dropped quotes into price drop emails, shared by the quote-driven monitor and the
+ * scheduled sweep.
+ *
+ * Loads the holdings of the dropped symbols that are out of cooldown (portfolio and client
+ * fetch-joined), claims their cooldown with one guarded UPDATE per batch in a short transaction,
+ * and queues the emails in that same transaction for the notification workers to deliver.
+ * Holdings claimed concurrently by the other path are skipped, so a holder gets at most one
+ * alert per cooldown.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceDropAlertDispatcher {
+
+    private static final int CLAIM_BATCH_SIZE = 500;
+
+    private final AssetRepository assetRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final PriceDropHolderIndex holderIndex;
+
+    @Value("${alerts.price-drop.percent-threshold}")
+    private double dropThreshold;
+
+    @Value("${alerts.price-drop.cooldown-minutes}")
+    private long cooldownMinutes;
+
+    public boolean isDrop(FinnhubQuoteResponse quote) {
+        return !quote.isStale()
+                && quote.getChangePercent() != null
+                && quote.getCurrentPrice() != null
+                && quote.getChangePercent() <= dropThreshold;
+    }
+
+    public Duration getCooldown() {
+        return Duration.ofMinutes(cooldownMinutes);
+    }
+
+    /**
+     * @param dropped quotes keyed by upper-case symbol, already filtered with {@link #isDrop}
+     * @return number of alerts claimed
+     */
+    public int dispatch(Map<String, FinnhubQuoteResponse> dropped) {
+        if (dropped.isEmpty()) {
+            return 0;
+        }
+        // Queued in the claim transaction: a cooldown is only stamped if its email is queued too
+        return transactionTemplate.execute(status -> claimAlerts(dropped));
+    }
+
+    /**
+     * Stamp the cooldown on every eligible holding and queue an email for each one this caller
+     * now owns. The guarded UPDATE skips holdings claimed by someone else in the meantime.
+     */
+    private int claimAlerts(Map<String, FinnhubQuoteResponse> dropped) {
+        Instant sentAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Instant cutoff = sentAt.minus(getCooldown());
+
+        List<Asset> candidates = assetRepository.findAlertCandidates(dropped.keySet(), cutoff);
+        int alerts = 0;
+        Map<String, Set<Long>> claimedBySymbol = new HashMap<>();
+
+        for (int start = 0; start < candidates.size(); start += CLAIM_BATCH_SIZE) {
+            List<Asset> batch = candidates.subList(start, Math.min(start + CLAIM_BATCH_SIZE, candidates.size()));
+            List<Long> ids = batch.stream().map(Asset::getId).toList();
+
+            int claimed = assetRepository.markAlertsSent(ids, sentAt, cutoff);
+            Set<Long> owned = claimed == ids.size()
+                    ? new HashSet<>(ids)
+                    : new HashSet<>(assetRepository.findIdsByLastAlertSentAt(ids, sentAt));
+
+            for (Asset asset : batch) {
+                if (!owned.contains(asset.getId())) {
+                    continue;
+                }
+                String symbol = asset.getSymbol().toUpperCase(Locale.ROOT);
+                FinnhubQuoteResponse quote = dropped.get(symbol);
+                claimedBySymbol.computeIfAbsent(symbol, key -> new HashSet<>()).add(asset.getId());
+                emailService.sendAssetDropAlert(
+                        asset.getPortfolio().getClient().getEmail(),
+                        asset.getPortfolio().getName(),
+                        asset.getSymbol(),
+                        BigDecimal.valueOf(quote.getCurrentPrice()),
+                        quote.getChangePercent()
+                );
+                alerts++;
+            }
+        }
+        // The index only learns of claims that committed, or a rollback would suppress their alerts
+        afterCommit(() -> claimedBySymbol.forEach((symbol, ids) -> holderIndex.markAlerted(symbol, ids, sentAt)));
+        return alerts;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.demo.MoneyMap.service.alert;
+
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.service.market.QuoteObservedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raises price drop alerts as quotes arrive instead of waiting for the scheduled sweep.
+ *
+ * Each observed quote is checked against the threshold and the in-memory holder index; only
+ * when some holder of a dropped symbol is out of cooldown is the claim and email handed to a
+ * single background worker, so quotes that trigger nothing cost no database access. If the
+ * worker's queue ({@code alerts.price-drop.dispatch-queue-capacity}) is full the quote is
+ * dropped and the scheduled sweep catches it later.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceDropAlertMonitor {
+
+    private final PriceDropHolderIndex holderIndex;
+    private final PriceDropAlertDispatcher dispatcher;
+
+    @Value("${alerts.price-drop.dispatch-queue-capacity:1000}")
+    private int queueCapacity;
+
+    private ExecutorService worker;
+
+    @PostConstruct
+    void start() {
+        worker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "price-drop-alerts");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        if (worker != null) {
+            worker.shutdownNow();
+        }
+    }
+
+    @EventListener
+    public void onQuote(QuoteObservedEvent event) {
+        FinnhubQuoteResponse quote = event.quote();
+        if (!dispatcher.isDrop(quote)) {
+            return;
+        }
+        List<Long> due = holderIndex.takeDue(event.symbol(), Instant.now(), dispatcher.getCooldown());
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            worker.execute(() -> dispatch(event.symbol(), quote));
+        } catch (RejectedExecutionException e) {
+            log.warn("Price drop alert queue is full, leaving {} to the scheduled sweep", event.symbol());
+        }
+    }
+
+    private void dispatch(String symbol, FinnhubQuoteResponse quote) {
+        try {
+            int sent = dispatcher.dispatch(Map.of(symbol, quote));
+            log.info("{} dropped {}%: {} price drop alerts", symbol, quote.getChangePercent(), sent);
+        } catch (RuntimeException e) {
+            log.warn("Price drop alerts for {} failed: {}", symbol, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.demo.MoneyMap.service.alert;
+
+import com.demo.MoneyMap.entity.Asset;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+/**
+ * JPA entity listener that keeps the {@link PriceDropHolderIndex} in step with committed
+ * holdings, so new and deleted assets are seen without reloading every row. The index is
+ * injected lazily for the same reason as the search index listener.
+ */
+@Component
+public class PriceDropHolderEntityListener {
+
+    private final PriceDropHolderIndex holderIndex;
+
+    public PriceDropHolderEntityListener(@Lazy PriceDropHolderIndex holderIndex) {
+        this.holderIndex = holderIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Asset asset) {
+        Long id = asset.getId();
+        String symbol = asset.getSymbol();
+        Instant lastAlertSentAt = asset.getLastAlertSentAt();
+        afterCommit(() -> holderIndex.put(id, symbol, lastAlertSentAt));
+    }
+
+    @PostRemove
+    public void onRemove(Asset asset) {
+        Long id = asset.getId();
+        afterCommit(() -> holderIndex.remove(id));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
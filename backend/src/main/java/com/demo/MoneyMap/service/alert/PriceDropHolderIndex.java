@@ -0,0 +1,196 @@
+package com.demo.MoneyMap.service.alert;
+
+import com.demo.MoneyMap.repository.AssetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory map of symbol to the holdings of it and when each was last alerted, so a quote can
+ * be checked for due alerts without touching the database.
+ *
+ * Loaded from one projection query at startup and kept current by
+ * {@link PriceDropHolderEntityListener} as holdings are committed or deleted. The full load is
+ * repeated every {@code alerts.price-drop.index-refresh-ms} only as a safety net for writes that
+ * bypass JPA; it also corrects any in-memory alert times lost in between from the database.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PriceDropHolderIndex {
+
+    private static final long NEVER = Long.MIN_VALUE;
+
+    private final AssetRepository assetRepository;
+
+    private volatile Map<String, Holders> bySymbol = new ConcurrentHashMap<>();
+    private volatile Map<Long, String> symbolById = new ConcurrentHashMap<>();
+
+    // Changes made while a reload reads the database, replayed onto the reloaded maps; guarded by this
+    private List<Runnable> changesDuringReload;
+
+    @Scheduled(fixedDelayString = "${alerts.price-drop.index-refresh-ms:3600000}")
+    public void refresh() {
+        synchronized (this) {
+            changesDuringReload = new ArrayList<>();
+        }
+        Map<String, Holders> reloadedBySymbol = new ConcurrentHashMap<>();
+        Map<Long, String> reloadedSymbolById = new ConcurrentHashMap<>();
+        try {
+            for (Object[] row : assetRepository.findAlertStates()) {
+                put(reloadedBySymbol, reloadedSymbolById, (Long) row[0], (String) row[1], (Instant) row[2]);
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                changesDuringReload = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            bySymbol = reloadedBySymbol;
+            symbolById = reloadedSymbolById;
+            changesDuringReload.forEach(Runnable::run);
+            changesDuringReload = null;
+        }
+        log.debug("Price drop holder index reloaded: {} symbols", reloadedBySymbol.size());
+    }
+
+    /**
+     * Add a holding, or move it to a new symbol. A known alert time is never moved back.
+     */
+    public synchronized void put(Long assetId, String symbol, Instant lastAlertSentAt) {
+        if (assetId == null || symbol == null) {
+            return;
+        }
+        Runnable change = () -> put(bySymbol, symbolById, assetId, symbol, lastAlertSentAt);
+        change.run();
+        if (changesDuringReload != null) {
+            changesDuringReload.add(change);
+        }
+    }
+
+    public synchronized void remove(Long assetId) {
+        if (assetId == null) {
+            return;
+        }
+        Runnable change = () -> remove(bySymbol, symbolById, assetId);
+        change.run();
+        if (changesDuringReload != null) {
+            changesDuringReload.add(change);
+        }
+    }
+
+    /**
+     * Holdings of the symbol whose cooldown has expired. They are marked as alerted at
+     * {@code now}, so further quotes within the cooldown do not return them again.
+     */
+    public List<Long> takeDue(String symbol, Instant now, Duration cooldown) {
+        Holders holders = bySymbol.get(symbol.toUpperCase(Locale.ROOT));
+        return holders == null ? List.of() : holders.takeDue(now.toEpochMilli(), cooldown.toMillis());
+    }
+
+    /**
+     * Record alerts claimed in the database, e.g. by the scheduled sweep.
+     */
+    public void markAlerted(String symbol, Set<Long> assetIds, Instant sentAt) {
+        Holders holders = bySymbol.get(symbol.toUpperCase(Locale.ROOT));
+        if (holders != null) {
+            holders.mark(assetIds, sentAt.toEpochMilli());
+        }
+    }
+
+    private static void put(Map<String, Holders> bySymbol, Map<Long, String> symbolById,
+                            long assetId, String symbol, Instant lastAlertSentAt) {
+        String key = symbol.toUpperCase(Locale.ROOT);
+        String previous = symbolById.put(assetId, key);
+        if (previous != null && !previous.equals(key)) {
+            removeHolder(bySymbol, previous, assetId);
+        }
+        bySymbol.computeIfAbsent(key, ignored -> new Holders())
+                .put(assetId, lastAlertSentAt == null ? NEVER : lastAlertSentAt.toEpochMilli());
+    }
+
+    private static void remove(Map<String, Holders> bySymbol, Map<Long, String> symbolById, long assetId) {
+        String symbol = symbolById.remove(assetId);
+        if (symbol != null) {
+            removeHolder(bySymbol, symbol, assetId);
+        }
+    }
+
+    private static void removeHolder(Map<String, Holders> bySymbol, String symbol, long assetId) {
+        Holders holders = bySymbol.get(symbol);
+        if (holders != null && holders.remove(assetId) == 0) {
+            bySymbol.remove(symbol);
+        }
+    }
+
+    /**
+     * Holdings of one symbol in parallel arrays.
+     */
+    private static final class Holders {
+        private long[] assetIds = new long[4];
+        private long[] lastAlertMillis = new long[4];
+        private int size;
+
+        private synchronized void put(long assetId, long alertedMillis) {
+            for (int i = 0; i < size; i++) {
+                if (assetIds[i] == assetId) {
+                    lastAlertMillis[i] = Math.max(lastAlertMillis[i], alertedMillis);
+                    return;
+                }
+            }
+            if (size == assetIds.length) {
+                assetIds = Arrays.copyOf(assetIds, size * 2);
+                lastAlertMillis = Arrays.copyOf(lastAlertMillis, size * 2);
+            }
+            assetIds[size] = assetId;
+            lastAlertMillis[size] = alertedMillis;
+            size++;
+        }
+
+        /**
+         * @return holdings left
+         */
+        private synchronized int remove(long assetId) {
+            for (int i = 0; i < size; i++) {
+                if (assetIds[i] == assetId) {
+                    size--;
+                    assetIds[i] = assetIds[size];
+                    lastAlertMillis[i] = lastAlertMillis[size];
+                    break;
+                }
+            }
+            return size;
+        }
+
+        private synchronized List<Long> takeDue(long nowMillis, long cooldownMillis) {
+            List<Long> due = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (lastAlertMillis[i] == NEVER || lastAlertMillis[i] < nowMillis - cooldownMillis) {
+                    lastAlertMillis[i] = nowMillis;
+                    due.add(assetIds[i]);
+                }
+            }
+            return due;
+        }
+
+        private synchronized void mark(Set<Long> ids, long sentAtMillis) {
+            for (int i = 0; i < size; i++) {
+                if (ids.contains(assetIds[i])) {
+                    lastAlertMillis[i] = Math.max(lastAlertMillis[i], sentAtMillis);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.demo.MoneyMap.service.catalog;
+
+import com.demo.MoneyMap.entity.enums.AvailableAsset;
+import com.demo.MoneyMap.service.search.TrigramIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Trigram index over the {@code AvailableAsset} catalog, keyed by ordinal. The catalog is an
+ * enum, so the index is built once when the component is created and never changes.
+ */
+@Component
+public class AssetCatalogIndex {
+
+    private static final AvailableAsset[] ASSETS = AvailableAsset.values();
+
+    private final TrigramIndex index = new TrigramIndex();
+
+    public AssetCatalogIndex() {
+        for (AvailableAsset asset : ASSETS) {
+            index.put(asset.ordinal(), asset.getSymbol(), asset.getName());
+        }
+    }
+
+    /**
+     * Search the catalog by name or symbol, best matches first.
+     */
+    public List<AvailableAsset> search(String query) {
+        return index.search(query).stream()
+                .map(ordinal -> ASSETS[ordinal.intValue()])
+                .toList();
+    }
+}
@@ -0,0 +1,111 @@
+package com.demo.MoneyMap.service.catalog;
+
+import com.demo.MoneyMap.dto.response.ApiResponseDTO;
+import com.demo.MoneyMap.dto.response.AvailableAssetDTO;
+import com.demo.MoneyMap.entity.enums.AssetType;
+import com.demo.MoneyMap.service.AssetTradingService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Serialized, ETag-stamped responses for the available-asset catalog.
+ * The catalog is the {@code AvailableAsset} enum, so it cannot change while the app runs:
+ * the full catalog and the per-type lists are serialized once, on first use, and search
+ * results are kept in a small LRU keyed by the normalized query. The cached envelopes carry
+ * no {@code timestamp}, since one shared body cannot state when each response was sent.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogResponseCache {
+
+    private static final int MAX_CACHED_SEARCHES = 256;
+
+    private final AssetTradingService assetTradingService;
+    private final ObjectMapper objectMapper;
+
+    private volatile CatalogVersion version;
+
+    public CachedJsonResponse getAll() {
+        return currentVersion().all;
+    }
+
+    public CachedJsonResponse getByType(AssetType assetType) {
+        return currentVersion().byType.get(assetType);
+    }
+
+    public CachedJsonResponse search(String query) {
+        CatalogVersion current = currentVersion();
+        String key = query.trim().toLowerCase(Locale.ROOT);
+        synchronized (current.searches) {
+            CachedJsonResponse cached = current.searches.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        CachedJsonResponse response = serialize(assetTradingService.searchAvailableAssets(query));
+        synchronized (current.searches) {
+            current.searches.put(key, response);
+        }
+        return response;
+    }
+
+    private CatalogVersion currentVersion() {
+        CatalogVersion current = version;
+        if (current == null) {
+            synchronized (this) {
+                current = version;
+                if (current == null) {
+                    current = buildVersion();
+                    version = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private CatalogVersion buildVersion() {
+        CachedJsonResponse all = serialize(assetTradingService.getAvailableAssets());
+        Map<AssetType, CachedJsonResponse> byType = new EnumMap<>(AssetType.class);
+        for (AssetType assetType : AssetType.values()) {
+            byType.put(assetType, serialize(assetTradingService.getAvailableAssetsByType(assetType)));
+        }
+        log.info("Built available asset catalog responses, ETag {}", all.getEtag());
+        return new CatalogVersion(all, byType);
+    }
+
+    private CachedJsonResponse serialize(List<AvailableAssetDTO> assets) {
+        try {
+            ApiResponseDTO<List<AvailableAssetDTO>> envelope = ApiResponseDTO.success(assets);
+            envelope.setTimestamp(null);
+            return new CachedJsonResponse(objectMapper.writeValueAsBytes(envelope));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize available asset catalog", e);
+        }
+    }
+
+    private static final class CatalogVersion {
+        private final CachedJsonResponse all;
+        private final Map<AssetType, CachedJsonResponse> byType;
+        private final Map<String, CachedJsonResponse> searches = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedJsonResponse> eldest) {
+                return size() > MAX_CACHED_SEARCHES;
+            }
+        };
+
+        private CatalogVersion(CachedJsonResponse all, Map<AssetType, CachedJsonResponse> byType) {
+            this.all = all;
+            this.byType = byType;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.demo.MoneyMap.service.history;
+
+import java.util.Arrays;
+
+/**
+ * Server-side reshaping of price history for charts.
+ *
+ * - {@link #aggregate} rolls daily bars up into weekly or monthly OHLCV bars dated at the start of
+ *   each period: first open, highest high, lowest low, last close, summed volume.
+ * - {@link #downsample} keeps at most {@code maxPoints} bars using Largest-Triangle-Three-Buckets
+ *   on the close, which preserves the visual shape (peaks and troughs) far better than taking
+ *   every Nth bar. The first and last bars are always kept.
+ *
+ * Both make one pass over the primitive columns and return a new series.
+ */
+public final class PriceHistoryAggregator {
+
+    private PriceHistoryAggregator() {
+    }
+
+    public static PriceHistorySeries aggregate(PriceHistorySeries series, PriceInterval interval) {
+        if (interval == PriceInterval.DAY || series.isEmpty()) {
+            return series;
+        }
+        int size = series.size();
+        int[] days = new int[size];
+        long[] open = new long[size];
+        long[] high = new long[size];
+        long[] low = new long[size];
+        long[] close = new long[size];
+        long[] volume = new long[size];
+
+        int bars = -1;
+        int currentPeriod = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            int period = interval.periodStart(series.epochDay(i));
+            if (period != currentPeriod) {
+                currentPeriod = period;
+                bars++;
+                days[bars] = period;
+                open[bars] = PriceHistorySeries.MISSING;
+                high[bars] = PriceHistorySeries.MISSING;
+                low[bars] = PriceHistorySeries.MISSING;
+                close[bars] = PriceHistorySeries.MISSING;
+                volume[bars] = PriceHistorySeries.MISSING;
+            }
+            if (open[bars] == PriceHistorySeries.MISSING) {
+                open[bars] = series.rawOpen(i);
+            }
+            high[bars] = max(high[bars], series.rawHigh(i));
+            low[bars] = min(low[bars], series.rawLow(i));
+            if (series.rawClose(i) != PriceHistorySeries.MISSING) {
+                close[bars] = series.rawClose(i);
+            }
+            if (series.rawVolume(i) != PriceHistorySeries.MISSING) {
+                volume[bars] = volume[bars] == PriceHistorySeries.MISSING
+                        ? series.rawVolume(i)
+                        : volume[bars] + series.rawVolume(i);
+            }
+        }
+
+        int length = bars + 1;
+        return PriceHistorySeries.ofColumns(series.getSymbol(), Arrays.copyOf(days, length),
+                Arrays.copyOf(open, length), Arrays.copyOf(high, length), Arrays.copyOf(low, length),
+                Arrays.copyOf(close, length), Arrays.copyOf(volume, length));
+    }
+
+    public static PriceHistorySeries downsample(PriceHistorySeries series, int maxPoints) {
+        int size = series.size();
+        if (maxPoints < 3 || size <= maxPoints) {
+            return series;
+        }
+
+        int[] picked = new int[maxPoints];
+        int count = 0;
+        picked[count++] = 0;
+
+        // Interior bars are split into maxPoints - 2 buckets; from each, keep the bar forming the
+        // largest triangle with the previously kept bar and the average of the next bucket
+        double bucketSize = (double) (size - 2) / (maxPoints - 2);
+        int previous = 0;
+        for (int bucket = 0; bucket < maxPoints - 2; bucket++) {
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = (int) ((bucket + 1) * bucketSize) + 1;
+
+            int nextStart = end;
+            int nextEnd = Math.min(size, (int) ((bucket + 2) * bucketSize) + 1);
+            double avgX = 0;
+            double avgY = 0;
+            int averaged = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                double y = series.closeValue(i);
+                if (!Double.isNaN(y)) {
+                    avgX += series.epochDay(i);
+                    avgY += y;
+                    averaged++;
+                }
+            }
+            if (averaged == 0) {
+                avgX = series.epochDay(size - 1);
+                avgY = series.closeValue(size - 1);
+            } else {
+                avgX /= averaged;
+                avgY /= averaged;
+            }
+
+            double prevX = series.epochDay(previous);
+            double prevY = series.closeValue(previous);
+            int chosen = start;
+            double maxArea = -1;
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((prevX - avgX) * (series.closeValue(i) - prevY)
+                        - (prevX - series.epochDay(i)) * (avgY - prevY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = i;
+                }
+            }
+            picked[count++] = chosen;
+            previous = chosen;
+        }
+        picked[count++] = size - 1;
+
+        int[] days = new int[count];
+        long[] open = new long[count];
+        long[] high = new long[count];
+        long[] low = new long[count];
+        long[] close = new long[count];
+        long[] volume = new long[count];
+        for (int i = 0; i < count; i++) {
+            int index = picked[i];
+            days[i] = series.epochDay(index);
+            open[i] = series.rawOpen(index);
+            high[i] = series.rawHigh(index);
+            low[i] = series.rawLow(index);
+            close[i] = series.rawClose(index);
+            volume[i] = series.rawVolume(index);
+        }
+        return PriceHistorySeries.ofColumns(series.getSymbol(), days, open, high, low, close, volume);
+    }
+
+    private static long max(long current, long value) {
+        if (value == PriceHistorySeries.MISSING) {
+            return current;
+        }
+        return current == PriceHistorySeries.MISSING ? value : Math.max(current, value);
+    }
+
+    private static long min(long current, long value) {
+        if (value == PriceHistorySeries.MISSING) {
+            return current;
+        }
+        return current == PriceHistorySeries.MISSING ? value : Math.min(current, value);
+    }
+}
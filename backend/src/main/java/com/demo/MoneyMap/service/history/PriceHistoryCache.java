@@ -0,0 +1,130 @@
+package com.demo.MoneyMap.service.history;
+
+import com.demo.MoneyMap.repository.AssetPriceHistoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * In-memory daily price history, one columnar {@link PriceHistorySeries} per symbol.
+ *
+ * A symbol is loaded from the database on first use and then served from memory until it is
+ * invalidated (new rows stored) or evicted. Eviction is least-recently-used, bounded by the
+ * estimated heap of all cached series ({@code price-history.cache.max-bytes}) rather than the
+ * number of symbols, since a 20-year history is far larger than a 5-day one.
+ *
+ * Lookups are published as {@code moneymap.price.history.cache} (hit, miss, eviction) and the
+ * footprint as {@code moneymap.price.history.cache.bytes}.
+ */
+@Component
+@Slf4j
+public class PriceHistoryCache {
+
+    private final AssetPriceHistoryRepository repository;
+    private final long maxBytes;
+
+    private final LinkedHashMap<String, PriceHistorySeries> series = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+    // Bumped on every invalidation so a load that raced with one is not cached
+    private long generation;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public PriceHistoryCache(AssetPriceHistoryRepository repository,
+                             @Value("${price-history.cache.max-bytes:67108864}") long maxBytes,
+                             MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.maxBytes = maxBytes;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.evictions = counter(meterRegistry, "eviction");
+        meterRegistry.gauge("moneymap.price.history.cache.bytes", List.of(), this, PriceHistoryCache::footprint);
+    }
+
+    /**
+     * Full history for a symbol, loading it on a miss. Unknown symbols yield an empty series.
+     */
+    public PriceHistorySeries get(String symbol) {
+        String key = normalize(symbol);
+        long loadGeneration;
+        synchronized (this) {
+            PriceHistorySeries cached = series.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        misses.increment();
+        PriceHistorySeries loaded = PriceHistorySeries.of(key, repository.findBySymbolOrderByPriceDateAsc(key));
+
+        synchronized (this) {
+            if (loadGeneration == generation && !series.containsKey(key)) {
+                series.put(key, loaded);
+                totalBytes += loaded.estimatedBytes();
+                evictOverBudget(key);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Drop a symbol so the next lookup reloads it.
+     */
+    public synchronized void invalidate(String symbol) {
+        generation++;
+        PriceHistorySeries removed = series.remove(normalize(symbol));
+        if (removed != null) {
+            totalBytes -= removed.estimatedBytes();
+        }
+    }
+
+    synchronized long footprint() {
+        return totalBytes;
+    }
+
+    synchronized boolean contains(String symbol) {
+        return series.containsKey(normalize(symbol));
+    }
+
+    /**
+     * Evict least recently used series until under budget, always keeping the one just loaded.
+     */
+    private void evictOverBudget(String keep) {
+        Iterator<Map.Entry<String, PriceHistorySeries>> eldest = series.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, PriceHistorySeries> entry = eldest.next();
+            if (entry.getKey().equals(keep)) {
+                continue;
+            }
+            totalBytes -= entry.getValue().estimatedBytes();
+            eldest.remove();
+            evictions.increment();
+            log.debug("Evicted price history for {} from cache", entry.getKey());
+        }
+    }
+
+    private static String normalize(String symbol) {
+        return symbol.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("moneymap.price.history.cache")
+                .description("Price history cache lookups by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,185 @@
+package com.demo.MoneyMap.service.history;
+
+import com.demo.MoneyMap.entity.AssetPriceHistory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Daily OHLCV bars for one symbol, oldest first, stored column-wise in primitive arrays.
+ *
+ * Dates are epoch days and prices are longs scaled by 10^{@value #PRICE_SCALE} (the column scale of
+ * {@code asset_price_history}), so a bar costs 44 bytes instead of an entity with four BigDecimals
+ * and a LocalDate. Missing values are kept as {@link #MISSING}. {@link #range} returns a view over
+ * the same arrays, so slicing never copies.
+ */
+public final class PriceHistorySeries {
+
+    public static final int PRICE_SCALE = 4;
+    static final long MISSING = Long.MIN_VALUE;
+
+    private static final int BYTES_PER_BAR = Integer.BYTES + 5 * Long.BYTES;
+    private static final int ARRAY_OVERHEAD = 6 * 16 + 64;
+
+    private final String symbol;
+    private final int[] epochDays;
+    private final long[] open;
+    private final long[] high;
+    private final long[] low;
+    private final long[] close;
+    private final long[] volume;
+    private final int offset;
+    private final int length;
+
+    private PriceHistorySeries(String symbol, int[] epochDays, long[] open, long[] high, long[] low,
+                               long[] close, long[] volume, int offset, int length) {
+        this.symbol = symbol;
+        this.epochDays = epochDays;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Build from rows already sorted by date.
+     */
+    public static PriceHistorySeries of(String symbol, List<AssetPriceHistory> rows) {
+        int size = rows.size();
+        int[] days = new int[size];
+        long[] open = new long[size];
+        long[] high = new long[size];
+        long[] low = new long[size];
+        long[] close = new long[size];
+        long[] volume = new long[size];
+        for (int i = 0; i < size; i++) {
+            AssetPriceHistory row = rows.get(i);
+            days[i] = (int) row.getPriceDate().toEpochDay();
+            open[i] = scale(row.getOpenPrice());
+            high[i] = scale(row.getHighPrice());
+            low[i] = scale(row.getLowPrice());
+            close[i] = scale(row.getClosePrice());
+            volume[i] = row.getVolume() != null ? row.getVolume() : MISSING;
+        }
+        return new PriceHistorySeries(symbol, days, open, high, low, close, volume, 0, size);
+    }
+
+    /**
+     * Wrap columns built elsewhere in this package; arrays must be the same length and sorted by day.
+     */
+    static PriceHistorySeries ofColumns(String symbol, int[] epochDays, long[] open, long[] high, long[] low,
+                                        long[] close, long[] volume) {
+        return new PriceHistorySeries(symbol, epochDays, open, high, low, close, volume, 0, epochDays.length);
+    }
+
+    /**
+     * Bars with {@code from <= date <= to}; either bound may be null for an open range.
+     */
+    public PriceHistorySeries range(LocalDate from, LocalDate to) {
+        int start = from == null ? offset : lowerBound((int) from.toEpochDay());
+        int end = to == null ? offset + length : lowerBound((int) to.toEpochDay() + 1);
+        if (start == offset && end == offset + length) {
+            return this;
+        }
+        return new PriceHistorySeries(symbol, epochDays, open, high, low, close, volume,
+                start, Math.max(0, end - start));
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public int epochDay(int index) {
+        return epochDays[offset + index];
+    }
+
+    public LocalDate getDate(int index) {
+        return LocalDate.ofEpochDay(epochDay(index));
+    }
+
+    public BigDecimal getOpen(int index) {
+        return decimal(open[offset + index]);
+    }
+
+    public BigDecimal getHigh(int index) {
+        return decimal(high[offset + index]);
+    }
+
+    public BigDecimal getLow(int index) {
+        return decimal(low[offset + index]);
+    }
+
+    public BigDecimal getClose(int index) {
+        return decimal(close[offset + index]);
+    }
+
+    public Long getVolume(int index) {
+        long value = volume[offset + index];
+        return value == MISSING ? null : value;
+    }
+
+    /**
+     * Close price for arithmetic, NaN if missing.
+     */
+    public double closeValue(int index) {
+        long value = close[offset + index];
+        return value == MISSING ? Double.NaN : value / Math.pow(10, PRICE_SCALE);
+    }
+
+    long rawOpen(int index) {
+        return open[offset + index];
+    }
+
+    long rawHigh(int index) {
+        return high[offset + index];
+    }
+
+    long rawLow(int index) {
+        return low[offset + index];
+    }
+
+    long rawClose(int index) {
+        return close[offset + index];
+    }
+
+    long rawVolume(int index) {
+        return volume[offset + index];
+    }
+
+    /**
+     * Approximate heap held by the backing arrays (shared by every range view).
+     */
+    long estimatedBytes() {
+        return (long) epochDays.length * BYTES_PER_BAR + ARRAY_OVERHEAD;
+    }
+
+    /**
+     * First index (absolute) in this view whose date is at or after {@code epochDay}.
+     */
+    private int lowerBound(int epochDay) {
+        int found = Arrays.binarySearch(epochDays, offset, offset + length, epochDay);
+        return found >= 0 ? found : -found - 1;
+    }
+
+    private static long scale(BigDecimal price) {
+        return price == null ? MISSING : price.movePointRight(PRICE_SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static BigDecimal decimal(long scaled) {
+        return scaled == MISSING ? null : BigDecimal.valueOf(scaled, PRICE_SCALE);
+    }
+}
@@ -0,0 +1,42 @@
+package com.demo.MoneyMap.service.history;
+
+import com.demo.MoneyMap.exception.BadRequestException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoField;
+import java.util.Locale;
+
+/**
+ * Bar size for price history: daily as stored, or aggregated to calendar weeks (Monday start) or months.
+ */
+public enum PriceInterval {
+    DAY,
+    WEEK,
+    MONTH;
+
+    public static PriceInterval from(String value) {
+        if (value == null || value.isBlank()) {
+            return DAY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid interval '" + value + "'. Allowed values: day, week, month");
+        }
+    }
+
+    /**
+     * Epoch day of the first day of the period containing {@code epochDay}.
+     */
+    int periodStart(int epochDay) {
+        return switch (this) {
+            case DAY -> epochDay;
+            // 1970-01-01 was a Thursday, so Monday-based weeks are offset by 3 days
+            case WEEK -> Math.floorDiv(epochDay + 3, 7) * 7 - 3;
+            case MONTH -> {
+                LocalDate date = LocalDate.ofEpochDay(epochDay);
+                yield epochDay - date.get(ChronoField.DAY_OF_MONTH) + 1;
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.demo.MoneyMap.service.id;
+
+import com.demo.MoneyMap.entity.Alert;
+import com.demo.MoneyMap.entity.Payment;
+import jakarta.persistence.PrePersist;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that gives new payments and alerts a reference from the
+ * {@link SnowflakeIdGenerator}, unless one was set already.
+ */
+@Component
+public class ReferenceEntityListener {
+
+    private final SnowflakeIdGenerator idGenerator;
+
+    public ReferenceEntityListener(SnowflakeIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+    }
+
+    @PrePersist
+    public void assignReference(Object entity) {
+        if (entity instanceof Payment payment && payment.getPaymentReference() == null) {
+            payment.setPaymentReference(idGenerator.nextPaymentReference());
+        } else if (entity instanceof Alert alert && alert.getAlertReference() == null) {
+            alert.setAlertReference(idGenerator.nextAlertReference());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.demo.MoneyMap.service.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Issues unique, time-ordered 63-bit ids and the payment and alert references built from them.
+ *
+ * An id is 41 bits of milliseconds since 2024-01-01, 10 bits of node id and a 12-bit sequence,
+ * so one node can issue 4096 ids per millisecond. The last timestamp and sequence share one
+ * {@link AtomicLong} and are advanced with compare-and-set, without locking. When a millisecond's
+ * sequence runs out, or the clock steps back, ids continue from the last one issued and borrow
+ * from the next millisecond; the generator waits once it is more than {@code MAX_BORROW_MILLIS}
+ * ahead of the clock.
+ *
+ * The node id is {@code ids.node-id} (0-1023). Unset, a random one is picked at startup, which is
+ * fine for a single node; every node of a cluster must be given its own. A node named with
+ * {@code scheduling.lease.node-id} is taken to be part of a cluster and refuses to start without
+ * one, since two random node ids collide often enough to issue duplicate references.
+ */
+@Component
+@Slf4j
+public class SnowflakeIdGenerator {
+
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    static final long MAX_BORROW_MILLIS = 1000;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // Crockford's base32: no I, L, O or U, so references survive being read aloud or retyped
+    private static final char[] BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int BASE32_LENGTH = 13;
+
+    private final long node;
+    private final LongSupplier clock;
+
+    // Milliseconds since the epoch, shifted left by SEQUENCE_BITS, plus the sequence of the last id
+    private final AtomicLong last = new AtomicLong();
+
+    @Autowired
+    public SnowflakeIdGenerator(@Value("${ids.node-id:-1}") int nodeId,
+                                @Value("${scheduling.lease.node-id:}") String clusterNodeId) {
+        this(resolveNodeId(nodeId, clusterNodeId), System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(int nodeId) {
+        this(nodeId, "");
+    }
+
+    SnowflakeIdGenerator(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("ids.node-id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.node = nodeId;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            long current = last.get();
+            long lastMillis = current >>> SEQUENCE_BITS;
+            // Adding one to a full sequence carries into the timestamp, i.e. the next millisecond
+            long next = now > lastMillis ? now << SEQUENCE_BITS : current + 1;
+            if ((next >>> SEQUENCE_BITS) - now > MAX_BORROW_MILLIS) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (last.compareAndSet(current, next)) {
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+                        | node << SEQUENCE_BITS
+                        | next & SEQUENCE_MASK;
+            }
+        }
+    }
+
+    public String nextPaymentReference() {
+        return "PAY-" + encode(nextId());
+    }
+
+    public String nextAlertReference() {
+        return "ALERT-" + encode(nextId());
+    }
+
+    /**
+     * Fixed-width base32 of a non-negative id; strings sort in the same order as the ids.
+     */
+    static String encode(long id) {
+        char[] chars = new char[BASE32_LENGTH];
+        for (int i = BASE32_LENGTH - 1; i >= 0; i--) {
+            chars[i] = BASE32[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    private static int resolveNodeId(int nodeId, String clusterNodeId) {
+        if (nodeId >= 0) {
+            return nodeId;
+        }
+        if (!clusterNodeId.isBlank()) {
+            throw new IllegalStateException("ids.node-id must be set on every node of a cluster "
+                    + "(scheduling.lease.node-id is " + clusterNodeId + ")");
+        }
+        int random = ThreadLocalRandom.current().nextInt(MAX_NODE_ID + 1);
+        log.info("ids.node-id not set, using random node id {}", random);
+        return random;
+    }
+}
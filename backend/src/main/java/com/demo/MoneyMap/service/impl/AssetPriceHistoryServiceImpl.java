@@ -1,69 +1,153 @@
 package com.demo.MoneyMap.service.impl;
 
+import com.demo.MoneyMap.dto.response.PriceHistoryPointDTO;
 import com.demo.MoneyMap.entity.AssetPriceHistory;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.exception.UpstreamUnavailableException;
 import com.demo.MoneyMap.repository.AssetPriceHistoryRepository;
 import com.demo.MoneyMap.service.AssetPriceHistoryService;
-import lombok.RequiredArgsConstructor;
+import com.demo.MoneyMap.service.history.PriceHistoryAggregator;
+import com.demo.MoneyMap.service.history.PriceHistoryCache;
+import com.demo.MoneyMap.service.history.PriceHistorySeries;
+import com.demo.MoneyMap.service.history.PriceInterval;
+import com.demo.MoneyMap.service.market.MarketDataGuard;
+import com.demo.MoneyMap.service.market.PriceHistoryParser;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-
-
-import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class AssetPriceHistoryServiceImpl implements AssetPriceHistoryService {
 
     private final AssetPriceHistoryRepository repository;
     private final RestTemplate restTemplate;
+    private final MarketDataGuard marketDataGuard;
+    private final PriceHistoryParser historyParser;
+    private final PriceHistoryCache historyCache;
+    private final TransactionTemplate transactionTemplate;
 
-    @Value("${market.data.base-url}")
-    private String flaskBaseUrl;
-
-    @Override
-    public void fetchAndStoreHistory(String symbol, String period) {
-
-        String url = flaskBaseUrl + "/stock/" + symbol + "?period=" + period;
+    private static final int INSERT_CHUNK_SIZE = 500;
 
-        Map response = restTemplate.getForObject(url, Map.class);
-        List<Map<String, Object>> history =
-                (List<Map<String, Object>>) response.get("historicalData");
+    @Value("${market.data.base-url:http://172.30.1.148:5000}")
+    private String flaskBaseUrl;
 
-        for (Map<String, Object> row : history) {
-            LocalDate date = LocalDate.parse((String) row.get("date"));
+    public AssetPriceHistoryServiceImpl(AssetPriceHistoryRepository repository,
+                                        RestTemplate restTemplate,
+                                        MarketDataGuard marketDataGuard,
+                                        PriceHistoryParser historyParser,
+                                        PriceHistoryCache historyCache,
+                                        PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.restTemplate = restTemplate;
+        this.marketDataGuard = marketDataGuard;
+        this.historyParser = historyParser;
+        this.historyCache = historyCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
-            if (repository.existsBySymbolAndPriceDate(symbol, date)) {
-                continue;
+    /**
+     * Runs without a transaction so no pooled connection is held while the response downloads;
+     * each parsed chunk commits on its own. A failure part-way leaves the earlier chunks stored,
+     * and the next run inserts only the dates still missing.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int fetchAndStoreHistory(String symbol, String period) {
+
+        // Templated so the http.client.requests uri tag stays low-cardinality
+        String url = flaskBaseUrl + "/stock/{symbol}?period={period}";
+
+        String normalized = symbol.toUpperCase();
+        Set<LocalDate> stored = new HashSet<>(repository.findPriceDates(normalized));
+        AtomicInteger inserted = new AtomicInteger();
+
+        // Rows are parsed off the response stream and written a chunk at a time,
+        // so the full history is never held in memory
+        Integer rows;
+        try {
+            rows = marketDataGuard.execute(() -> restTemplate.execute(url, HttpMethod.GET, null,
+                    response -> historyParser.parse(response.getBody(), normalized, INSERT_CHUNK_SIZE,
+                            chunk -> inserted.addAndGet(storeNewRows(chunk, stored))),
+                    symbol, period));
+        } catch (HttpClientErrorException e) {
+            throw new BadRequestException("No price history available for " + symbol + " and period " + period);
+        } catch (RestClientException e) {
+            throw new UpstreamUnavailableException("Could not fetch price history for " + symbol, e);
+        } finally {
+            // Chunks are already committed, even when a later one failed
+            if (inserted.get() > 0) {
+                historyCache.invalidate(normalized);
             }
+        }
 
-            AssetPriceHistory entity = AssetPriceHistory.builder()
-                    .symbol(symbol.toUpperCase())
-                    .priceDate(date)
-                    .openPrice(BigDecimal.valueOf((Double) row.get("open")))
-                    .highPrice(BigDecimal.valueOf((Double) row.get("high")))
-                    .lowPrice(BigDecimal.valueOf((Double) row.get("low")))
-                    .closePrice(BigDecimal.valueOf((Double) row.get("close")))
-                    .volume(((Number) row.get("volume")).longValue())
-                    .build();
+        log.info("Stored historical data for {}: {} new of {} rows", normalized, inserted.get(), rows);
+        return inserted.get();
+    }
 
-            repository.save(entity);
+    /**
+     * Skips dates already stored (or seen earlier in this response) and inserts the rest
+     * with multi-row inserts, instead of an exists check and a save per row. Each chunk commits
+     * in its own transaction.
+     */
+    private int storeNewRows(List<AssetPriceHistory> chunk, Set<LocalDate> stored) {
+        List<AssetPriceHistory> newRows = chunk.stream()
+                .filter(row -> stored.add(row.getPriceDate()))
+                .toList();
+        if (newRows.isEmpty()) {
+            return 0;
         }
+        Integer inserted = transactionTemplate.execute(status -> repository.insertAll(newRows));
+        return inserted != null ? inserted : 0;
+    }
 
-        log.info("Stored historical data for {}", symbol);
+    /**
+     * Served from the columnar history cache; the database is only read on a cache miss,
+     * so no transaction is opened here. Aggregation and downsampling run on the cached columns
+     * before any DTO is built.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PriceHistoryPointDTO> getHistory(String symbol, LocalDate from, LocalDate to,
+                                                 PriceInterval interval, Integer maxPoints) {
+        PriceHistorySeries series = PriceHistoryAggregator.aggregate(getSeries(symbol, from, to), interval);
+        if (maxPoints != null) {
+            series = PriceHistoryAggregator.downsample(series, maxPoints);
+        }
+        List<PriceHistoryPointDTO> points = new ArrayList<>(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            points.add(PriceHistoryPointDTO.builder()
+                    .symbol(series.getSymbol())
+                    .priceDate(series.getDate(i))
+                    .openPrice(series.getOpen(i))
+                    .highPrice(series.getHigh(i))
+                    .lowPrice(series.getLow(i))
+                    .closePrice(series.getClose(i))
+                    .volume(series.getVolume(i))
+                    .build());
+        }
+        return points;
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<AssetPriceHistory> getHistory(String symbol) {
-        return repository.findBySymbolOrderByPriceDateAsc(symbol.toUpperCase());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PriceHistorySeries getSeries(String symbol, LocalDate from, LocalDate to) {
+        return historyCache.get(symbol).range(from, to);
     }
 }
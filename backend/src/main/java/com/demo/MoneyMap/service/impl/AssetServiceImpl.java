@@ -13,6 +13,9 @@ import com.demo.MoneyMap.mapper.AssetMapper;
 import com.demo.MoneyMap.repository.AssetRepository;
 import com.demo.MoneyMap.repository.PortfolioRepository;
 import com.demo.MoneyMap.service.AssetService;
+import com.demo.MoneyMap.service.SearchIndexService;
+import com.demo.MoneyMap.service.search.SearchDomain;
+import com.demo.MoneyMap.service.search.SearchPages;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -39,6 +42,7 @@ public class AssetServiceImpl implements AssetService {
     private final PortfolioRepository portfolioRepository;
     private final AssetMapper assetMapper;
     private final AssetFactory assetFactory;
+    private final SearchIndexService searchIndexService;
 
     @Override
     public AssetResponseDTO createAsset(AssetRequestDTO requestDTO) {
@@ -170,7 +174,9 @@ public class AssetServiceImpl implements AssetService {
     @Transactional(readOnly = true)
     public PagedResponseDTO<AssetResponseDTO> searchAssets(String query, Pageable pageable) {
         log.debug("Searching assets with query: {}", query);
-        Page<Asset> page = assetRepository.searchAssets(query, pageable);
+        Page<Asset> page = searchIndexService.search(SearchDomain.ASSET, query)
+                .map(ids -> SearchPages.load(ids, pageable, assetRepository::findAllById, Asset::getId))
+                .orElseGet(() -> assetRepository.searchAssets(query, pageable));
         return PagedResponseDTO.from(page, assetMapper::toResponseDTO);
     }
 
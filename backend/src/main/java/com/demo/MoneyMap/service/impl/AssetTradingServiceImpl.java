@@ -18,15 +18,19 @@ import com.demo.MoneyMap.repository.ClientRepository;
 import com.demo.MoneyMap.repository.PortfolioRepository;
 import com.demo.MoneyMap.service.AssetTradingService;
 import com.demo.MoneyMap.service.TransactionService;
+import com.demo.MoneyMap.service.catalog.AssetCatalogIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of AssetTradingService.
@@ -43,6 +47,17 @@ public class AssetTradingServiceImpl implements AssetTradingService {
     private final PortfolioRepository portfolioRepository;
     private final TransactionService transactionService;
     private final AssetFactory assetFactory;
+    private final AssetCatalogIndex assetCatalogIndex;
+
+    /**
+     * The catalog is a compile-time enum, so its DTOs are built once rather than per request.
+     */
+    private static final Map<AvailableAsset, AvailableAssetDTO> AVAILABLE_ASSET_DTOS = buildAvailableAssetDTOs();
+    private static final List<AvailableAssetDTO> AVAILABLE_ASSETS = List.copyOf(AVAILABLE_ASSET_DTOS.values());
+    private static final Map<AssetType, List<AvailableAssetDTO>> AVAILABLE_ASSETS_BY_TYPE = AVAILABLE_ASSETS.stream()
+            .collect(Collectors.groupingBy(dto -> AssetType.valueOf(dto.getAssetType()),
+                    () -> new EnumMap<>(AssetType.class),
+                    Collectors.toUnmodifiableList()));
 
     @Override
     public TransactionResponseDTO buyAsset(Long clientId, String symbol, BigDecimal quantity, BigDecimal price) {
@@ -161,46 +176,23 @@ public class AssetTradingServiceImpl implements AssetTradingService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<AvailableAssetDTO> getAvailableAssets() {
-        return Arrays.stream(AvailableAsset.values())
-                .map(asset -> AvailableAssetDTO.builder()
-                        .symbol(asset.getSymbol())
-                        .name(asset.getName())
-                        .assetType(asset.getAssetType().name())
-                        .currentMarketPrice(asset.getCurrentMarketPrice())
-                        .exchangeOrNetwork(asset.getExchangeOrNetwork())
-                        .build())
-                .toList();
+        return AVAILABLE_ASSETS;
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<AvailableAssetDTO> getAvailableAssetsByType(AssetType assetType) {
-        return AvailableAsset.findByType(assetType)
-                .stream()
-                .map(asset -> AvailableAssetDTO.builder()
-                        .symbol(asset.getSymbol())
-                        .name(asset.getName())
-                        .assetType(asset.getAssetType().name())
-                        .currentMarketPrice(asset.getCurrentMarketPrice())
-                        .exchangeOrNetwork(asset.getExchangeOrNetwork())
-                        .build())
-                .toList();
+        return AVAILABLE_ASSETS_BY_TYPE.getOrDefault(assetType, List.of());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<AvailableAssetDTO> searchAvailableAssets(String query) {
-        return AvailableAsset.searchAssets(query)
+        return assetCatalogIndex.search(query)
                 .stream()
-                .map(asset -> AvailableAssetDTO.builder()
-                        .symbol(asset.getSymbol())
-                        .name(asset.getName())
-                        .assetType(asset.getAssetType().name())
-                        .currentMarketPrice(asset.getCurrentMarketPrice())
-                        .exchangeOrNetwork(asset.getExchangeOrNetwork())
-                        .build())
+                .map(AVAILABLE_ASSET_DTOS::get)
                 .toList();
     }
 
@@ -242,6 +234,20 @@ public class AssetTradingServiceImpl implements AssetTradingService {
         return client.hasSufficientFunds(amount);
     }
 
+    private static Map<AvailableAsset, AvailableAssetDTO> buildAvailableAssetDTOs() {
+        Map<AvailableAsset, AvailableAssetDTO> dtos = new EnumMap<>(AvailableAsset.class);
+        for (AvailableAsset asset : AvailableAsset.values()) {
+            dtos.put(asset, AvailableAssetDTO.builder()
+                    .symbol(asset.getSymbol())
+                    .name(asset.getName())
+                    .assetType(asset.getAssetType().name())
+                    .currentMarketPrice(asset.getCurrentMarketPrice())
+                    .exchangeOrNetwork(asset.getExchangeOrNetwork())
+                    .build());
+        }
+        return dtos;
+    }
+
     /**
      * Find existing asset in portfolio or create new one
      */
@@ -9,6 +9,9 @@ import com.demo.MoneyMap.exception.ResourceNotFoundException;
 import com.demo.MoneyMap.mapper.ClientMapper;
 import com.demo.MoneyMap.repository.ClientRepository;
 import com.demo.MoneyMap.service.ClientService;
+import com.demo.MoneyMap.service.SearchIndexService;
+import com.demo.MoneyMap.service.search.SearchDomain;
+import com.demo.MoneyMap.service.search.SearchPages;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -31,6 +34,7 @@ public class ClientServiceImpl implements ClientService {
 
     private final ClientRepository clientRepository;
     private final ClientMapper clientMapper;
+    private final SearchIndexService searchIndexService;
 
     @Override
     public ClientResponseDTO createClient(ClientRequestDTO requestDTO) {
@@ -86,7 +90,9 @@ public class ClientServiceImpl implements ClientService {
     @Transactional(readOnly = true)
     public PagedResponseDTO<ClientResponseDTO> searchClients(String searchTerm, Pageable pageable) {
         log.debug("Searching clients with term: {}", searchTerm);
-        Page<Client> clientPage = clientRepository.searchClients(searchTerm, pageable);
+        Page<Client> clientPage = searchIndexService.search(SearchDomain.CLIENT, searchTerm)
+                .map(ids -> SearchPages.load(ids, pageable, clientRepository::findAllById, Client::getId))
+                .orElseGet(() -> clientRepository.searchClients(searchTerm, pageable));
         return mapToPagedResponse(clientPage);
     }
 
@@ -1,20 +1,23 @@
 package com.demo.MoneyMap.service.impl;
 
 import com.demo.MoneyMap.service.EmailService;
+import com.demo.MoneyMap.service.notification.AlertDigester;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 
+/**
+ * Hands client alerts to the {@link AlertDigester}, which folds each client's alerts into one
+ * email per window and queues it for delivery, so callers never wait on SMTP.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EmailServiceImpl implements EmailService {
 
-    private final JavaMailSender mailSender;
+    private final AlertDigester alertDigester;
 
     @Override
     public void sendAssetDropAlert(
@@ -24,26 +27,8 @@ public class EmailServiceImpl implements EmailService {
             BigDecimal currentPrice,
             Double dropPercent
     ) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject("⚠ Asset Price Alert: " + symbol);
-        message.setText("""
-                Alert for your portfolio: %s
-
-                Asset: %s
-                Current Price: %s
-                Drop Today: %.2f%%
-
-                Please review your holdings.
-                """.formatted(
-                portfolioName,
-                symbol,
-                currentPrice,
-                dropPercent
-        ));
-
-        mailSender.send(message);
-        log.info("Price drop alert sent for {} to {}", symbol, to);
+        alertDigester.priceDrop(to, portfolioName, symbol, currentPrice, dropPercent);
+        log.info("Price drop alert queued for {} to {}", symbol, to);
     }
     @Override
     public void sendLowValueAlert(
@@ -51,26 +36,8 @@ public class EmailServiceImpl implements EmailService {
             String portfolioName,
             BigDecimal totalValue
     ) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject("⚠ Portfolio Value Alert");
-
-        message.setText("""
-            Alert for your portfolio: %s
-
-            Your portfolio value has dropped significantly.
-
-            Current Total Value: %s
-
-            Please review your investments.
-            """.formatted(
-                portfolioName,
-                totalValue
-        ));
-
-        mailSender.send(message);
-
-        log.info("Low value portfolio alert sent to {} for portfolio {}", to, portfolioName);
+        alertDigester.lowValue(to, portfolioName, totalValue);
+        log.info("Low value portfolio alert queued to {} for portfolio {}", to, portfolioName);
     }
 
 }
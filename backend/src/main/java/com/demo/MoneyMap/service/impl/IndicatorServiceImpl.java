@@ -0,0 +1,107 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.dto.response.IndicatorSeriesDTO;
+import com.demo.MoneyMap.dto.response.IndicatorValueDTO;
+import com.demo.MoneyMap.entity.enums.AvailableAsset;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.service.IndicatorService;
+import com.demo.MoneyMap.service.indicator.IndicatorEngine;
+import com.demo.MoneyMap.service.indicator.IndicatorSeries;
+import com.demo.MoneyMap.service.indicator.IndicatorSpec;
+import com.demo.MoneyMap.service.indicator.IndicatorType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IndicatorServiceImpl implements IndicatorService {
+
+    private final IndicatorEngine indicatorEngine;
+
+    @Override
+    public IndicatorSeriesDTO getIndicator(String symbol, String indicator, List<Double> params,
+                                           LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        IndicatorSpec spec = IndicatorSpec.of(IndicatorType.from(indicator), params);
+        IndicatorSeries series = indicatorEngine.compute(symbol, spec).range(from, to);
+
+        List<String> outputs = spec.getType().getOutputs();
+        List<LocalDate> dates = new ArrayList<>(series.size());
+        Map<String, List<Double>> values = new LinkedHashMap<>();
+        outputs.forEach(output -> values.put(output, new ArrayList<>(series.size())));
+        for (int i = 0; i < series.size(); i++) {
+            dates.add(series.getDate(i));
+            for (int output = 0; output < outputs.size(); output++) {
+                values.get(outputs.get(output)).add(boxed(series.value(output, i)));
+            }
+        }
+
+        return IndicatorSeriesDTO.builder()
+                .symbol(series.getSymbol())
+                .indicator(spec.getType().name())
+                .params(spec.getParams())
+                .dates(dates)
+                .values(values)
+                .build();
+    }
+
+    @Override
+    public List<IndicatorValueDTO> screen(String indicator, List<Double> params, List<String> symbols) {
+        IndicatorSpec spec = IndicatorSpec.of(IndicatorType.from(indicator), params);
+        List<String> outputs = spec.getType().getOutputs();
+
+        List<IndicatorValueDTO> results = new ArrayList<>();
+        for (String symbol : normalize(symbols)) {
+            IndicatorSeries series = indicatorEngine.compute(symbol, spec);
+            if (series.isEmpty()) {
+                continue;
+            }
+            int last = series.size() - 1;
+            Map<String, Double> values = new LinkedHashMap<>();
+            for (int output = 0; output < outputs.size(); output++) {
+                values.put(outputs.get(output), boxed(series.value(output, last)));
+            }
+            results.add(IndicatorValueDTO.builder()
+                    .symbol(symbol)
+                    .date(series.getDate(last))
+                    .values(values)
+                    .build());
+        }
+        log.debug("Screened {} symbols on {}", results.size(), spec);
+        return results;
+    }
+
+    private static Double boxed(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private static Set<String> normalize(Collection<String> symbols) {
+        if (symbols == null || symbols.isEmpty()) {
+            return Arrays.stream(AvailableAsset.values())
+                    .map(AvailableAsset::getSymbol)
+                    .collect(LinkedHashSet::new, Set::add, Set::addAll);
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String symbol : symbols) {
+            if (symbol != null && !symbol.isBlank()) {
+                normalized.add(symbol.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+        return normalized;
+    }
+}
@@ -1,25 +1,50 @@
 package com.demo.MoneyMap.service.impl;
 
+import com.demo.MoneyMap.dto.response.BulkQuoteResponseDTO;
 import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.dto.response.TickSeriesDTO;
+import com.demo.MoneyMap.exception.BadRequestException;
 import com.demo.MoneyMap.service.MarketDataService;
+import com.demo.MoneyMap.service.MarketQuoteService;
+import com.demo.MoneyMap.service.tick.TickStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 
 @Service
 @RequiredArgsConstructor
 public class MarketDataServiceImpl implements MarketDataService {
 
-    private final WebClient webClient = WebClient.create("http://172.30.1.148:5000");
+    // Shares the quote cache, so repeated lookups of the same ticker hit upstream once per TTL
+    private final MarketQuoteService marketQuoteService;
+
+    private final TickStore tickStore;
 
     public FinnhubQuoteResponse getLiveQuote(String tickerId) {
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/quote")
-                        .queryParam("symbol", tickerId)
-                        .build())
-                .retrieve()
-                .bodyToMono(FinnhubQuoteResponse.class)
-                .block(); // blocking is OK for now
+        return marketQuoteService.getQuote(tickerId);
+    }
+
+    public BulkQuoteResponseDTO getLiveQuotes(Collection<String> tickerIds) {
+        return marketQuoteService.getQuotes(tickerIds);
+    }
+
+    // Defaults to the last 24 hours; reads local tick segments only, never MySQL or upstream
+    public TickSeriesDTO getIntradayTicks(String tickerId, Instant from, Instant to) {
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : end.minus(Duration.ofDays(1));
+        if (!start.isBefore(end)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+        if (!TickStore.isValidSymbol(tickerId)) {
+            throw new BadRequestException("Invalid symbol: " + tickerId);
+        }
+        return TickSeriesDTO.from(tickStore.read(tickerId, toEpochNanos(start), toEpochNanos(end)));
+    }
+
+    private static long toEpochNanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
     }
 }
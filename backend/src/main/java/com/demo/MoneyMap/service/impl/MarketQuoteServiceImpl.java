@@ -1,27 +1,190 @@
 package com.demo.MoneyMap.service.impl;
 
+import com.demo.MoneyMap.dto.response.BulkQuoteResponseDTO;
 import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.exception.UpstreamUnavailableException;
 import com.demo.MoneyMap.service.MarketQuoteService;
-import lombok.RequiredArgsConstructor;
+import com.demo.MoneyMap.service.market.MarketDataGuard;
+import com.demo.MoneyMap.service.market.QuoteCache;
+import com.demo.MoneyMap.service.market.QuoteObservedEvent;
+import com.demo.MoneyMap.service.tick.TickStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class MarketQuoteServiceImpl implements MarketQuoteService {
 
-    private final WebClient webClient =
-            WebClient.create("http://172.30.1.148:5000");
+    private final WebClient webClient;
+
+    private final QuoteCache quoteCache;
+
+    private final MarketDataGuard marketDataGuard;
+
+    private final TickStore tickStore;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${market.quotes.timeout-ms:3000}")
+    private long timeoutMillis;
+
+    @Value("${market.quotes.bulk.concurrency:32}")
+    private int bulkConcurrency;
 
+    public MarketQuoteServiceImpl(QuoteCache quoteCache,
+                                  MarketDataGuard marketDataGuard,
+                                  TickStore tickStore,
+                                  ApplicationEventPublisher eventPublisher,
+                                  WebClient.Builder webClientBuilder,
+                                  @Value("${market.data.base-url:http://172.30.1.148:5000}") String baseUrl) {
+        this.quoteCache = quoteCache;
+        this.marketDataGuard = marketDataGuard;
+        this.tickStore = tickStore;
+        this.eventPublisher = eventPublisher;
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+    }
+
+    /**
+     * If upstream fails or the circuit is open, falls back to the last known quote marked as stale.
+     */
     @Override
     public FinnhubQuoteResponse getQuote(String symbol) {
-        return webClient.get()
+        if (!TickStore.isValidSymbol(symbol)) {
+            throw new BadRequestException("Invalid symbol: " + symbol);
+        }
+        try {
+            return quoteCache.get(symbol, this::fetchQuote);
+        } catch (RuntimeException e) {
+            return quoteCache.lastKnown(symbol)
+                    .map(FinnhubQuoteResponse::asStale)
+                    .orElseThrow(() -> e instanceof UpstreamUnavailableException unavailable
+                            ? unavailable
+                            : new UpstreamUnavailableException("Quote unavailable for " + symbol, e));
+        }
+    }
+
+    /**
+     * The upstream only has a single-symbol /quote endpoint, so symbols are fetched in parallel
+     * (at most {@code market.quotes.bulk.concurrency} at a time) and the whole batch costs
+     * roughly one round trip. Cached symbols are not refetched, and symbols that fail but have
+     * a last known quote are returned with that quote marked as stale. Malformed symbols are
+     * reported as failures without a request.
+     */
+    @Override
+    public BulkQuoteResponseDTO getQuotes(Collection<String> symbols) {
+        Set<String> distinct = symbols.stream()
+                .filter(Objects::nonNull)
+                .map(symbol -> symbol.trim().toUpperCase(Locale.ROOT))
+                .filter(symbol -> !symbol.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, FinnhubQuoteResponse> fetched = new ConcurrentHashMap<>();
+        Map<String, String> failed = new ConcurrentHashMap<>();
+        Duration timeout = Duration.ofMillis(timeoutMillis);
+        distinct.stream()
+                .filter(symbol -> !TickStore.isValidSymbol(symbol))
+                .forEach(symbol -> failed.put(symbol, "Invalid symbol"));
+
+        Flux.fromIterable(distinct)
+                .filter(symbol -> !failed.containsKey(symbol))
+                .flatMap(symbol -> quoteCache.getAsync(symbol, this::fetchQuote)
+                        .timeout(timeout)
+                        .switchIfEmpty(Mono.error(new IllegalStateException("Empty quote response")))
+                        .doOnNext(quote -> fetched.put(symbol, quote))
+                        .onErrorResume(error -> {
+                            quoteCache.lastKnown(symbol).ifPresentOrElse(
+                                    last -> fetched.put(symbol, last.asStale()),
+                                    () -> failed.put(symbol, describe(error)));
+                            return Mono.empty();
+                        }), bulkConcurrency)
+                .then()
+                .block();
+
+        Map<String, FinnhubQuoteResponse> quotes = new LinkedHashMap<>();
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (String symbol : distinct) {
+            if (fetched.containsKey(symbol)) {
+                quotes.put(symbol, fetched.get(symbol));
+            } else {
+                failures.put(symbol, failed.getOrDefault(symbol, "No quote returned"));
+            }
+        }
+        if (!failures.isEmpty()) {
+            log.warn("Bulk quote: {} of {} symbols failed: {}", failures.size(), distinct.size(), failures.keySet());
+        }
+
+        return BulkQuoteResponseDTO.builder()
+                .quotes(quotes)
+                .failures(failures)
+                .build();
+    }
+
+    private Mono<FinnhubQuoteResponse> fetchQuote(String symbol) {
+        return marketDataGuard.call(() -> webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/quote")
                         .queryParam("symbol", symbol)
                         .build())
                 .retrieve()
-                .bodyToMono(FinnhubQuoteResponse.class)
-                .block();
+                .bodyToMono(FinnhubQuoteResponse.class), Duration.ofMillis(timeoutMillis))
+                .doOnNext(quote -> {
+                    recordTick(symbol, quote);
+                    publishQuote(symbol, quote);
+                });
+    }
+
+    // Every fresh upstream quote goes to the intraday tick store; a store failure never fails the quote.
+    // Unknown tickers come back as 200 with a zero price and are not recorded.
+    private void recordTick(String symbol, FinnhubQuoteResponse quote) {
+        if (quote.getCurrentPrice() == null || quote.getCurrentPrice() <= 0) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            tickStore.append(symbol, now.getEpochSecond() * 1_000_000_000L + now.getNano(),
+                    quote.getCurrentPrice(),
+                    quote.getChangePercent() != null ? quote.getChangePercent() : 0d);
+        } catch (RuntimeException e) {
+            log.warn("Could not record tick for {}: {}", symbol, e.getMessage());
+        }
+    }
+
+    // Listeners (e.g. price drop alerts) run inline, so one failing must not fail the quote
+    private void publishQuote(String symbol, FinnhubQuoteResponse quote) {
+        try {
+            eventPublisher.publishEvent(new QuoteObservedEvent(symbol.toUpperCase(Locale.ROOT), quote));
+        } catch (RuntimeException e) {
+            log.warn("Quote listener failed for {}: {}", symbol, e.getMessage());
+        }
+    }
+
+    private String describe(Throwable error) {
+        if (error instanceof TimeoutException) {
+            return "Timed out after " + timeoutMillis + " ms";
+        }
+        if (error instanceof WebClientResponseException responseException) {
+            return "Upstream returned " + responseException.getStatusCode().value();
+        }
+        return error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
     }
 }
@@ -1,8 +1,11 @@
 package com.demo.MoneyMap.service.impl;
 
+import com.demo.MoneyMap.dto.request.PaymentBulkStatusUpdateDTO;
 import com.demo.MoneyMap.dto.request.PaymentRequestDTO;
 import com.demo.MoneyMap.dto.request.PaymentStatusUpdateDTO;
 import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.PaymentBatchResultDTO;
+import com.demo.MoneyMap.dto.response.PaymentBulkStatusResultDTO;
 import com.demo.MoneyMap.dto.response.PaymentResponseDTO;
 import com.demo.MoneyMap.dto.response.PaymentStatusHistoryDTO;
 import com.demo.MoneyMap.entity.Payment;
@@ -17,15 +20,26 @@ import com.demo.MoneyMap.repository.PaymentRepository;
 import com.demo.MoneyMap.repository.PaymentStatusHistoryRepository;
 import com.demo.MoneyMap.service.PaymentService;
 import com.demo.MoneyMap.service.RuleEngineService;
-import lombok.RequiredArgsConstructor;
+import com.demo.MoneyMap.service.SearchIndexService;
+import com.demo.MoneyMap.service.payment.IdempotencyKeyIndex;
+import com.demo.MoneyMap.service.payment.PaymentBatchIngestor;
+import com.demo.MoneyMap.service.payment.PaymentRequestRules;
+import com.demo.MoneyMap.service.payment.PaymentStatusBulkUpdater;
+import com.demo.MoneyMap.service.search.SearchDomain;
+import com.demo.MoneyMap.service.search.SearchPages;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -33,7 +47,6 @@ import java.util.stream.Collectors;
  * Handles payment lifecycle management with full audit trail.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class PaymentServiceImpl implements PaymentService {
@@ -42,42 +55,89 @@ public class PaymentServiceImpl implements PaymentService {
     private final PaymentStatusHistoryRepository statusHistoryRepository;
     private final PaymentMapper paymentMapper;
     private final RuleEngineService ruleEngineService;
-
-    private static final List<String> SUPPORTED_CURRENCIES = Arrays.asList("USD", "EUR", "GBP", "JPY", "INR", "CAD", "AUD");
+    private final SearchIndexService searchIndexService;
+    private final PaymentBatchIngestor paymentBatchIngestor;
+    private final IdempotencyKeyIndex idempotencyKeyIndex;
+    private final PaymentStatusBulkUpdater paymentStatusBulkUpdater;
+    private final TransactionTemplate transactionTemplate;
+
+    public PaymentServiceImpl(PaymentRepository paymentRepository,
+                              PaymentStatusHistoryRepository statusHistoryRepository,
+                              PaymentMapper paymentMapper,
+                              RuleEngineService ruleEngineService,
+                              SearchIndexService searchIndexService,
+                              PaymentBatchIngestor paymentBatchIngestor,
+                              IdempotencyKeyIndex idempotencyKeyIndex,
+                              PaymentStatusBulkUpdater paymentStatusBulkUpdater,
+                              PlatformTransactionManager transactionManager) {
+        this.paymentRepository = paymentRepository;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.paymentMapper = paymentMapper;
+        this.ruleEngineService = ruleEngineService;
+        this.searchIndexService = searchIndexService;
+        this.paymentBatchIngestor = paymentBatchIngestor;
+        this.idempotencyKeyIndex = idempotencyKeyIndex;
+        this.paymentStatusBulkUpdater = paymentStatusBulkUpdater;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentResponseDTO createPayment(PaymentRequestDTO requestDTO) {
         log.info("Creating new payment from {} to {}", requestDTO.getSourceAccount(), requestDTO.getDestinationAccount());
 
-        // Check for duplicate using idempotency key
-        if (requestDTO.getIdempotencyKey() != null && paymentRepository.existsByIdempotencyKey(requestDTO.getIdempotencyKey())) {
-            Payment existing = paymentRepository.findByIdempotencyKey(requestDTO.getIdempotencyKey())
-                    .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
-            log.info("Duplicate payment request with idempotency key: {}", requestDTO.getIdempotencyKey());
-            return paymentMapper.toResponseDTO(existing);
+        // Check for duplicate using idempotency key; new keys are answered from memory
+        String idempotencyKey = requestDTO.getIdempotencyKey();
+        if (idempotencyKey != null) {
+            Optional<Long> existingId = idempotencyKeyIndex.find(idempotencyKey);
+            if (existingId.isPresent()) {
+                log.info("Duplicate payment request with idempotency key: {}", idempotencyKey);
+                return getPaymentById(existingId.get());
+            }
         }
 
         // Validate payment
         validatePaymentRequest(requestDTO);
 
-        Payment payment = paymentMapper.toEntity(requestDTO);
-        Payment savedPayment = paymentRepository.save(payment);
-
-        // Add initial status history
-        addStatusHistory(savedPayment, null, PaymentStatus.CREATED, "Payment created");
-
-        log.info("Successfully created payment with ID: {}", savedPayment.getId());
-
-        // Evaluate monitoring rules asynchronously
+        Payment savedPayment;
         try {
-            ruleEngineService.evaluatePayment(savedPayment);
-        } catch (Exception e) {
-            log.warn("Rule evaluation failed for payment {}: {}", savedPayment.getId(), e.getMessage());
+            savedPayment = transactionTemplate.execute(status -> {
+                Payment payment = paymentRepository.save(paymentMapper.toEntity(requestDTO));
+
+                // Add initial status history
+                addStatusHistory(payment, null, PaymentStatus.CREATED, "Payment created");
+
+                // Evaluate monitoring rules
+                try {
+                    ruleEngineService.evaluatePayment(payment);
+                } catch (Exception e) {
+                    log.warn("Rule evaluation failed for payment {}: {}", payment.getId(), e.getMessage());
+                }
+                return payment;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // The key was used concurrently, possibly on another node; the unique constraint decides
+            Long existingId = idempotencyKey == null ? null
+                    : paymentRepository.findIdByIdempotencyKey(idempotencyKey).orElse(null);
+            if (existingId == null) {
+                throw e;
+            }
+            log.info("Duplicate payment request with idempotency key: {}", idempotencyKey);
+            idempotencyKeyIndex.record(idempotencyKey, existingId);
+            return getPaymentById(existingId);
         }
 
+        idempotencyKeyIndex.record(idempotencyKey, savedPayment.getId());
+        log.info("Successfully created payment with ID: {}", savedPayment.getId());
         return paymentMapper.toResponseDTO(savedPayment);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PaymentBatchResultDTO createPayments(Iterator<PaymentRequestDTO> requests) {
+        return paymentBatchIngestor.ingest(requests);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PaymentResponseDTO getPaymentById(Long id) {
@@ -125,7 +185,9 @@ public class PaymentServiceImpl implements PaymentService {
     @Override
     @Transactional(readOnly = true)
     public PagedResponseDTO<PaymentResponseDTO> searchPayments(String searchTerm, Pageable pageable) {
-        Page<Payment> paymentPage = paymentRepository.searchPayments(searchTerm, pageable);
+        Page<Payment> paymentPage = searchIndexService.search(SearchDomain.PAYMENT, searchTerm)
+                .map(ids -> SearchPages.load(ids, pageable, paymentRepository::findAllById, Payment::getId))
+                .orElseGet(() -> paymentRepository.searchPayments(searchTerm, pageable));
         return mapToPagedResponse(paymentPage);
     }
 
@@ -170,6 +232,13 @@ public class PaymentServiceImpl implements PaymentService {
         return paymentMapper.toResponseDTO(updatedPayment);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PaymentBulkStatusResultDTO updatePaymentStatuses(PaymentBulkStatusUpdateDTO updateDTO) {
+        log.info("Updating status of payments in bulk to {}", updateDTO.getStatus());
+        return paymentStatusBulkUpdater.update(updateDTO);
+    }
+
     @Override
     public PaymentResponseDTO validatePayment(Long id) {
         log.info("Validating payment {}", id);
@@ -223,14 +292,9 @@ public class PaymentServiceImpl implements PaymentService {
      * Validate payment request.
      */
     private void validatePaymentRequest(PaymentRequestDTO requestDTO) {
-        // Check same account
-        if (requestDTO.getSourceAccount().equals(requestDTO.getDestinationAccount())) {
-            throw new BadRequestException("Source and destination accounts cannot be the same");
-        }
-
-        // Check currency is supported
-        if (!SUPPORTED_CURRENCIES.contains(requestDTO.getCurrency().toUpperCase())) {
-            throw new BadRequestException("Currency " + requestDTO.getCurrency() + " is not supported. Supported currencies: " + SUPPORTED_CURRENCIES);
+        String violation = PaymentRequestRules.violation(requestDTO);
+        if (violation != null) {
+            throw new BadRequestException(violation);
         }
     }
 
@@ -12,6 +12,9 @@ import com.demo.MoneyMap.repository.AssetRepository;
 import com.demo.MoneyMap.repository.ClientRepository;
 import com.demo.MoneyMap.repository.PortfolioRepository;
 import com.demo.MoneyMap.service.PortfolioService;
+import com.demo.MoneyMap.service.SearchIndexService;
+import com.demo.MoneyMap.service.search.SearchDomain;
+import com.demo.MoneyMap.service.search.SearchPages;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -37,6 +40,7 @@ public class PortfolioServiceImpl implements PortfolioService {
     private final ClientRepository clientRepository;
     private final AssetRepository assetRepository;
     private final PortfolioMapper portfolioMapper;
+    private final SearchIndexService searchIndexService;
 
     @Override
     public PortfolioResponseDTO createPortfolio(PortfolioRequestDTO requestDTO) {
@@ -108,7 +112,9 @@ public class PortfolioServiceImpl implements PortfolioService {
     @Transactional(readOnly = true)
     public PagedResponseDTO<PortfolioResponseDTO> searchPortfolios(String query, Pageable pageable) {
         log.debug("Searching portfolios with query: {}", query);
-        Page<Portfolio> page = portfolioRepository.searchPortfolios(query, pageable);
+        Page<Portfolio> page = searchIndexService.search(SearchDomain.PORTFOLIO, query)
+                .map(ids -> SearchPages.load(ids, pageable, portfolioRepository::findAllById, Portfolio::getId))
+                .orElseGet(() -> portfolioRepository.searchPortfolios(query, pageable));
         return PagedResponseDTO.from(page, portfolioMapper::toResponseDTO);
     }
 
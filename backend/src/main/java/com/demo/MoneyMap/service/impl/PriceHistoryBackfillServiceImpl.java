@@ -0,0 +1,323 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.dto.request.BackfillRequestDTO;
+import com.demo.MoneyMap.dto.response.BackfillJobResponseDTO;
+import com.demo.MoneyMap.entity.BackfillCheckpoint;
+import com.demo.MoneyMap.entity.BackfillJob;
+import com.demo.MoneyMap.entity.enums.AvailableAsset;
+import com.demo.MoneyMap.entity.enums.BackfillStatus;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.exception.ResourceNotFoundException;
+import com.demo.MoneyMap.repository.BackfillCheckpointRepository;
+import com.demo.MoneyMap.repository.BackfillJobRepository;
+import com.demo.MoneyMap.service.AssetPriceHistoryService;
+import com.demo.MoneyMap.service.PriceHistoryBackfillService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Backfills price history for many symbols in the background.
+ *
+ * Symbols run on a fixed pool of {@code market.backfill.concurrency} workers, and every upstream
+ * request first takes a slot from a shared pacer ({@code market.backfill.requests-per-second}), so
+ * a large universe never floods the market data service. Each symbol has a checkpoint row; a
+ * symbol that fails transiently is retried with backoff, and on startup every unfinished
+ * checkpoint of a running job is queued again. Re-running a symbol is safe because ingest only
+ * inserts dates that are not stored yet.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PriceHistoryBackfillServiceImpl implements PriceHistoryBackfillService {
+
+    private static final Set<BackfillStatus> UNFINISHED = Set.of(BackfillStatus.PENDING, BackfillStatus.RUNNING);
+
+    private final BackfillJobRepository jobRepository;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final AssetPriceHistoryService historyService;
+
+    @Value("${market.backfill.concurrency:4}")
+    private int concurrency;
+
+    @Value("${market.backfill.requests-per-second:2}")
+    private double requestsPerSecond;
+
+    @Value("${market.backfill.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${market.backfill.retry-backoff-ms:2000}")
+    private long retryBackoffMillis;
+
+    @Value("${market.backfill.default-period:1y}")
+    private String defaultPeriod;
+
+    private ExecutorService workers;
+    private RequestPacer pacer;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threads = new AtomicInteger();
+        workers = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "price-backfill-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pacer = new RequestPacer(requestsPerSecond);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Queue every unfinished symbol of jobs that were running when the application stopped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        for (BackfillJob job : jobRepository.findByStatus(BackfillStatus.RUNNING)) {
+            List<BackfillCheckpoint> remaining = checkpointRepository.findByJobIdAndStatusIn(job.getId(), UNFINISHED);
+            if (remaining.isEmpty()) {
+                finishJobIfDone(job.getId());
+                continue;
+            }
+            log.info("Resuming backfill job {}: {} symbols left", job.getId(), remaining.size());
+            remaining.forEach(checkpoint -> submit(checkpoint.getId(), job.getId(), job.getPeriod()));
+        }
+    }
+
+    @Override
+    @Transactional
+    public BackfillJobResponseDTO startBackfill(BackfillRequestDTO request) {
+        Set<String> symbols = normalize(request.getSymbols());
+        if (symbols.isEmpty()) {
+            throw new BadRequestException("At least one symbol is required");
+        }
+        String period = request.getPeriod() != null ? request.getPeriod() : defaultPeriod;
+
+        BackfillJob job = jobRepository.save(BackfillJob.builder()
+                .period(period)
+                .status(BackfillStatus.RUNNING)
+                .build());
+        List<BackfillCheckpoint> checkpoints = checkpointRepository.saveAll(symbols.stream()
+                .map(symbol -> BackfillCheckpoint.builder()
+                        .job(job)
+                        .symbol(symbol)
+                        .status(BackfillStatus.PENDING)
+                        .build())
+                .toList());
+        log.info("Started backfill job {} for {} symbols, period {}", job.getId(), symbols.size(), period);
+
+        // Workers read the checkpoints, so only hand them over once they are committed
+        runAfterCommit(() -> checkpoints.forEach(checkpoint -> submit(checkpoint.getId(), job.getId(), period)));
+        return toResponse(job, checkpoints);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BackfillJobResponseDTO getJob(Long jobId) {
+        BackfillJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Backfill job", "id", jobId));
+        return toResponse(job, checkpointRepository.findByJobIdOrderByIdAsc(jobId));
+    }
+
+    private void submit(Long checkpointId, Long jobId, String period) {
+        workers.execute(() -> {
+            try {
+                runCheckpoint(checkpointId, period);
+                finishJobIfDone(jobId);
+            } catch (RuntimeException e) {
+                log.error("Backfill worker failed for checkpoint {}", checkpointId, e);
+            }
+        });
+    }
+
+    private void runCheckpoint(Long checkpointId, String period) {
+        BackfillCheckpoint checkpoint = checkpointRepository.findById(checkpointId).orElse(null);
+        if (checkpoint == null || checkpoint.getStatus().isFinished()) {
+            return;
+        }
+        String symbol = checkpoint.getSymbol();
+
+        while (true) {
+            checkpoint.setStatus(BackfillStatus.RUNNING);
+            checkpoint.setAttempts(checkpoint.getAttempts() + 1);
+            checkpoint = checkpointRepository.save(checkpoint);
+            try {
+                pacer.acquire();
+                int rows = historyService.fetchAndStoreHistory(symbol, period);
+                finish(checkpoint, BackfillStatus.COMPLETED, rows, null);
+                return;
+            } catch (InterruptedException e) {
+                // Shutting down; left RUNNING so the next startup picks it up again
+                Thread.currentThread().interrupt();
+                return;
+            } catch (BadRequestException e) {
+                // No data for this symbol/period: retrying won't help
+                finish(checkpoint, BackfillStatus.FAILED, null, e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                if (checkpoint.getAttempts() >= maxAttempts) {
+                    log.warn("Backfill of {} failed after {} attempts: {}", symbol, checkpoint.getAttempts(), e.getMessage());
+                    finish(checkpoint, BackfillStatus.FAILED, null, e.getMessage());
+                    return;
+                }
+                log.debug("Backfill of {} failed (attempt {}), retrying: {}", symbol, checkpoint.getAttempts(), e.getMessage());
+                checkpoint.setLastError(truncate(e.getMessage()));
+                if (!sleep(retryBackoffMillis * checkpoint.getAttempts())) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void finish(BackfillCheckpoint checkpoint, BackfillStatus status, Integer rows, String error) {
+        checkpoint.setStatus(status);
+        checkpoint.setRowsStored(rows);
+        checkpoint.setLastError(truncate(error));
+        checkpointRepository.save(checkpoint);
+    }
+
+    // A job is COMPLETED only if every symbol was stored; any failed symbol makes it FAILED
+    private void finishJobIfDone(Long jobId) {
+        if (checkpointRepository.countByJobIdAndStatusIn(jobId, UNFINISHED) > 0) {
+            return;
+        }
+        boolean failed = checkpointRepository.countByJobIdAndStatusIn(jobId, List.of(BackfillStatus.FAILED)) > 0
+                || checkpointRepository.countByJobIdAndStatusIn(jobId, List.of(BackfillStatus.COMPLETED)) == 0;
+        BackfillStatus status = failed ? BackfillStatus.FAILED : BackfillStatus.COMPLETED;
+        jobRepository.findById(jobId)
+                .filter(job -> job.getStatus() == BackfillStatus.RUNNING)
+                .ifPresent(job -> {
+                    job.setStatus(status);
+                    job.setFinishedAt(LocalDateTime.now());
+                    jobRepository.save(job);
+                    log.info("Backfill job {} finished: {}", jobId, status);
+                });
+    }
+
+    private BackfillJobResponseDTO toResponse(BackfillJob job, List<BackfillCheckpoint> checkpoints) {
+        Map<BackfillStatus, Long> counts = checkpoints.stream()
+                .collect(Collectors.groupingBy(BackfillCheckpoint::getStatus, Collectors.counting()));
+        Map<String, String> failures = new LinkedHashMap<>();
+        long rows = 0;
+        for (BackfillCheckpoint checkpoint : checkpoints) {
+            if (checkpoint.getStatus() == BackfillStatus.FAILED) {
+                failures.put(checkpoint.getSymbol(), checkpoint.getLastError());
+            }
+            if (checkpoint.getRowsStored() != null) {
+                rows += checkpoint.getRowsStored();
+            }
+        }
+
+        return BackfillJobResponseDTO.builder()
+                .jobId(job.getId())
+                .period(job.getPeriod())
+                .status(job.getStatus())
+                .totalSymbols(checkpoints.size())
+                .pendingSymbols(counts.getOrDefault(BackfillStatus.PENDING, 0L).intValue())
+                .runningSymbols(counts.getOrDefault(BackfillStatus.RUNNING, 0L).intValue())
+                .completedSymbols(counts.getOrDefault(BackfillStatus.COMPLETED, 0L).intValue())
+                .failedSymbols(counts.getOrDefault(BackfillStatus.FAILED, 0L).intValue())
+                .rowsStored(rows)
+                .failures(failures)
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    private static Set<String> normalize(Collection<String> symbols) {
+        if (symbols == null || symbols.isEmpty()) {
+            return Arrays.stream(AvailableAsset.values())
+                    .map(AvailableAsset::getSymbol)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+        return symbols.stream()
+                .filter(Objects::nonNull)
+                .map(symbol -> symbol.trim().toUpperCase(Locale.ROOT))
+                .filter(symbol -> !symbol.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    /**
+     * Spaces upstream requests evenly across all workers: each caller reserves the next free
+     * slot and sleeps until it comes round.
+     */
+    private static final class RequestPacer {
+        private final long intervalNanos;
+        private long nextFreeNanos = System.nanoTime();
+
+        private RequestPacer(double permitsPerSecond) {
+            this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0L;
+        }
+
+        void acquire() throws InterruptedException {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(now, nextFreeNanos);
+                nextFreeNanos = slot + intervalNanos;
+                waitNanos = slot - now;
+            }
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.dto.response.BulkQuoteResponseDTO;
+import com.demo.MoneyMap.dto.response.PriceTickDTO;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.service.MarketQuoteService;
+import com.demo.MoneyMap.service.PriceStreamService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of PriceStreamService.
+ * Subscribers are reference-counted per symbol. One poller thread quotes the subscribed symbols
+ * in a single bulk call each interval and pushes changed prices into a shared multicast sink.
+ * Each subscriber reads the sink through its own bounded drop-oldest buffer.
+ */
+@Service
+@Slf4j
+public class PriceStreamServiceImpl implements PriceStreamService {
+
+    private final MarketQuoteService marketQuoteService;
+
+    private final ConcurrentHashMap<String, AtomicInteger> subscriptions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PriceTickDTO> lastTicks = new ConcurrentHashMap<>();
+    private final Sinks.Many<PriceTickDTO> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    private final Counter droppedTicks;
+    private final Counter publishedTicks;
+
+    @Value("${market.stream.poll-interval-ms:5000}")
+    private long pollIntervalMillis;
+
+    @Value("${market.stream.subscriber-buffer:256}")
+    private int subscriberBuffer;
+
+    @Value("${market.stream.max-symbols:50}")
+    private int maxSymbols;
+
+    private ScheduledExecutorService poller;
+
+    public PriceStreamServiceImpl(MarketQuoteService marketQuoteService, MeterRegistry meterRegistry) {
+        this.marketQuoteService = marketQuoteService;
+        this.droppedTicks = Counter.builder("moneymap.price.stream.ticks")
+                .description("Price ticks dropped from slow subscriber buffers")
+                .tag("result", "dropped")
+                .register(meterRegistry);
+        this.publishedTicks = Counter.builder("moneymap.price.stream.ticks")
+                .description("Price ticks published to subscribers")
+                .tag("result", "published")
+                .register(meterRegistry);
+        meterRegistry.gauge("moneymap.price.stream.subscribers", subscribers);
+        meterRegistry.gaugeMapSize("moneymap.price.stream.symbols", List.of(), subscriptions);
+    }
+
+    @PostConstruct
+    void start() {
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "price-stream-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::pollSafely, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        sink.tryEmitComplete();
+    }
+
+    @Override
+    public Flux<PriceTickDTO> subscribe(Collection<String> symbols) {
+        Set<String> requested = symbols.stream()
+                .filter(Objects::nonNull)
+                .map(symbol -> symbol.trim().toUpperCase(Locale.ROOT))
+                .filter(symbol -> !symbol.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (requested.isEmpty()) {
+            throw new BadRequestException("At least one symbol is required");
+        }
+        if (requested.size() > maxSymbols) {
+            throw new BadRequestException("Cannot subscribe to more than " + maxSymbols + " symbols");
+        }
+
+        return Flux.defer(() -> {
+            boolean newSymbols = register(requested);
+            if (newSymbols && poller != null) {
+                // Don't make the first subscriber of a symbol wait a full interval
+                poller.execute(this::pollSafely);
+            }
+
+            Flux<PriceTickDTO> snapshot = Flux.fromIterable(requested).mapNotNull(lastTicks::get);
+            Flux<PriceTickDTO> live = sink.asFlux().filter(tick -> requested.contains(tick.getSymbol()));
+            return Flux.concat(snapshot, live)
+                    .onBackpressureBuffer(subscriberBuffer, dropped -> droppedTicks.increment(),
+                            BufferOverflowStrategy.DROP_OLDEST)
+                    .doFinally(signal -> unregister(requested));
+        });
+    }
+
+    @Override
+    public synchronized void poll() {
+        List<String> symbols = new ArrayList<>(subscriptions.keySet());
+        if (symbols.isEmpty()) {
+            return;
+        }
+
+        BulkQuoteResponseDTO result = marketQuoteService.getQuotes(symbols);
+        result.getQuotes().forEach((symbol, quote) -> {
+            if (!subscriptions.containsKey(symbol)) {
+                return;
+            }
+            PriceTickDTO tick = PriceTickDTO.from(symbol, quote);
+            PriceTickDTO previous = lastTicks.put(symbol, tick);
+            if (!tick.samePriceAs(previous)) {
+                sink.tryEmitNext(tick);
+                publishedTicks.increment();
+            }
+        });
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Price stream poll failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return true if any symbol had no subscribers before
+     */
+    private boolean register(Set<String> symbols) {
+        subscribers.incrementAndGet();
+        boolean[] added = {false};
+        for (String symbol : symbols) {
+            subscriptions.compute(symbol, (key, count) -> {
+                if (count == null) {
+                    added[0] = true;
+                    return new AtomicInteger(1);
+                }
+                count.incrementAndGet();
+                return count;
+            });
+        }
+        return added[0];
+    }
+
+    private void unregister(Set<String> symbols) {
+        subscribers.decrementAndGet();
+        for (String symbol : symbols) {
+            subscriptions.computeIfPresent(symbol, (key, count) -> {
+                if (count.decrementAndGet() > 0) {
+                    return count;
+                }
+                lastTicks.remove(key);
+                return null;
+            });
+        }
+    }
+}
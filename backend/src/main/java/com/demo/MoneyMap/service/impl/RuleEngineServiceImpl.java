@@ -37,27 +37,16 @@ public class RuleEngineServiceImpl implements RuleEngineService {
     @Override
     public List<Alert> evaluatePayment(Payment payment) {
         log.debug("Evaluating payment {} against all active rules", payment.getId());
+        return evaluateAgainstRules(payment, ruleRepository.findByActiveTrue());
+    }
 
+    @Override
+    public List<Alert> evaluatePayments(List<Payment> payments) {
         List<MonitoringRule> activeRules = ruleRepository.findByActiveTrue();
         List<Alert> generatedAlerts = new ArrayList<>();
-
-        for (MonitoringRule rule : activeRules) {
-            try {
-                Optional<Alert> alert = evaluatePaymentAgainstRule(payment, rule);
-                if (alert.isPresent()) {
-                    Alert savedAlert = alertRepository.save(alert.get());
-                    generatedAlerts.add(savedAlert);
-                    log.info("Alert {} generated for payment {} by rule {}", 
-                            savedAlert.getId(), payment.getId(), rule.getRuleName());
-                }
-            } catch (Exception e) {
-                log.error("Error evaluating rule {} for payment {}: {}", 
-                        rule.getId(), payment.getId(), e.getMessage());
-            }
+        for (Payment payment : payments) {
+            generatedAlerts.addAll(evaluateAgainstRules(payment, activeRules));
         }
-
-        log.info("Payment {} evaluation complete: {} alerts generated", 
-                payment.getId(), generatedAlerts.size());
         return generatedAlerts;
     }
 
@@ -96,6 +85,32 @@ public class RuleEngineServiceImpl implements RuleEngineService {
         return generatedAlerts;
     }
 
+    /**
+     * Evaluate one payment against the given rules, saving any alerts.
+     */
+    private List<Alert> evaluateAgainstRules(Payment payment, List<MonitoringRule> activeRules) {
+        List<Alert> generatedAlerts = new ArrayList<>();
+
+        for (MonitoringRule rule : activeRules) {
+            try {
+                Optional<Alert> alert = evaluatePaymentAgainstRule(payment, rule);
+                if (alert.isPresent()) {
+                    Alert savedAlert = alertRepository.save(alert.get());
+                    generatedAlerts.add(savedAlert);
+                    log.info("Alert {} generated for payment {} by rule {}", 
+                            savedAlert.getId(), payment.getId(), rule.getRuleName());
+                }
+            } catch (Exception e) {
+                log.error("Error evaluating rule {} for payment {}: {}", 
+                        rule.getId(), payment.getId(), e.getMessage());
+            }
+        }
+
+        log.info("Payment {} evaluation complete: {} alerts generated", 
+                payment.getId(), generatedAlerts.size());
+        return generatedAlerts;
+    }
+
     /**
      * Find the appropriate evaluator and evaluate the payment.
      */
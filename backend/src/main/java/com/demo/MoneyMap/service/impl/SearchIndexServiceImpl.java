@@ -0,0 +1,136 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.entity.Asset;
+import com.demo.MoneyMap.entity.Client;
+import com.demo.MoneyMap.entity.Payment;
+import com.demo.MoneyMap.entity.Portfolio;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.PaymentRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.service.SearchIndexService;
+import com.demo.MoneyMap.service.search.SearchDomain;
+import com.demo.MoneyMap.service.search.TrigramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+/**
+ * Implementation of SearchIndexService.
+ * Holds one trigram index per search domain. Indexes are rebuilt when the application
+ * starts and kept current by {@link com.demo.MoneyMap.service.search.SearchIndexEntityListener}.
+ * A rebuild reads only the indexed columns, a page at a time in id order, so it never loads
+ * whole entities or holds a table in the persistence context.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexServiceImpl implements SearchIndexService {
+
+    static final int REBUILD_PAGE_SIZE = 5_000;
+
+    private final ClientRepository clientRepository;
+    private final AssetRepository assetRepository;
+    private final PortfolioRepository portfolioRepository;
+    private final PaymentRepository paymentRepository;
+
+    private final Map<SearchDomain, TrigramIndex> indexes = createIndexes();
+
+    private volatile boolean ready;
+
+    @Override
+    public Optional<List<Long>> search(SearchDomain domain, String term) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        return Optional.of(indexes.get(domain).search(term));
+    }
+
+    @Override
+    public void index(Object entity) {
+        switch (entity) {
+            case Client client -> indexes.get(SearchDomain.CLIENT)
+                    .put(client.getId(), client.getFirstName(), client.getLastName(), client.getEmail());
+            case Asset asset -> indexes.get(SearchDomain.ASSET)
+                    .put(asset.getId(), asset.getName(), asset.getSymbol());
+            case Portfolio portfolio -> indexes.get(SearchDomain.PORTFOLIO)
+                    .put(portfolio.getId(), portfolio.getName());
+            case Payment payment -> indexes.get(SearchDomain.PAYMENT)
+                    .put(payment.getId(), payment.getReference(), payment.getDescription(), payment.getPaymentReference());
+            default -> {
+                // Not a searchable entity
+            }
+        }
+    }
+
+    @Override
+    public void remove(Object entity) {
+        switch (entity) {
+            case Client client -> indexes.get(SearchDomain.CLIENT).remove(client.getId());
+            case Asset asset -> indexes.get(SearchDomain.ASSET).remove(asset.getId());
+            case Portfolio portfolio -> indexes.get(SearchDomain.PORTFOLIO).remove(portfolio.getId());
+            case Payment payment -> indexes.get(SearchDomain.PAYMENT).remove(payment.getId());
+            default -> {
+                // Not a searchable entity
+            }
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        indexes.values().forEach(TrigramIndex::clear);
+
+        indexAll(SearchDomain.CLIENT, clientRepository::findSearchFieldsAfter);
+        indexAll(SearchDomain.ASSET, assetRepository::findSearchFieldsAfter);
+        indexAll(SearchDomain.PORTFOLIO, portfolioRepository::findSearchFieldsAfter);
+        indexAll(SearchDomain.PAYMENT, paymentRepository::findSearchFieldsAfter);
+
+        ready = true;
+        log.info("Search index rebuilt in {} ms: {} clients, {} assets, {} portfolios, {} payments",
+                System.currentTimeMillis() - start,
+                indexes.get(SearchDomain.CLIENT).size(),
+                indexes.get(SearchDomain.ASSET).size(),
+                indexes.get(SearchDomain.PORTFOLIO).size(),
+                indexes.get(SearchDomain.PAYMENT).size());
+    }
+
+    /**
+     * Index every row of a domain from (id, field...) projection pages, keyed on the last id seen.
+     */
+    private void indexAll(SearchDomain domain, BiFunction<Long, Pageable, List<Object[]>> pageAfter) {
+        TrigramIndex index = indexes.get(domain);
+        long afterId = 0;
+        List<Object[]> page;
+        do {
+            page = pageAfter.apply(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (Object[] row : page) {
+                afterId = ((Number) row[0]).longValue();
+                String[] fields = new String[row.length - 1];
+                for (int i = 1; i < row.length; i++) {
+                    fields[i - 1] = (String) row[i];
+                }
+                index.put(afterId, fields);
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+    }
+
+    private static Map<SearchDomain, TrigramIndex> createIndexes() {
+        Map<SearchDomain, TrigramIndex> map = new EnumMap<>(SearchDomain.class);
+        for (SearchDomain domain : SearchDomain.values()) {
+            map.put(domain, new TrigramIndex());
+        }
+        return map;
+    }
+}
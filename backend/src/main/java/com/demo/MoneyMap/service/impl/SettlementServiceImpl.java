@@ -0,0 +1,209 @@
+package com.demo.MoneyMap.service.impl;
+
+import com.demo.MoneyMap.dto.request.SettlementRequestDTO;
+import com.demo.MoneyMap.dto.response.PagedResponseDTO;
+import com.demo.MoneyMap.dto.response.SettlementBatchResponseDTO;
+import com.demo.MoneyMap.dto.response.SettlementInstructionDTO;
+import com.demo.MoneyMap.entity.SettlementBatch;
+import com.demo.MoneyMap.entity.SettlementInstruction;
+import com.demo.MoneyMap.entity.enums.NettingMode;
+import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.exception.ResourceNotFoundException;
+import com.demo.MoneyMap.repository.PaymentRepository;
+import com.demo.MoneyMap.repository.PaymentSelection;
+import com.demo.MoneyMap.repository.SettlementBatchRepository;
+import com.demo.MoneyMap.repository.SettlementInstructionRepository;
+import com.demo.MoneyMap.service.SettlementService;
+import com.demo.MoneyMap.service.settlement.NettingEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of SettlementService.
+ *
+ * A run claims the window's VALIDATED payments for a new batch with one UPDATE, streams their
+ * flows through a {@link NettingEngine}, writes the instructions of the chosen netting mode, and
+ * moves the claimed payments to SENT with one set-based transition, all in a single transaction.
+ * A payment is therefore either settled in exactly one batch or still VALIDATED.
+ *
+ * Published as {@code moneymap.settlement.payments} and {@code moneymap.settlement.instructions}.
+ */
+@Service
+@Slf4j
+public class SettlementServiceImpl implements SettlementService {
+
+    // Flow tables start small and grow; most windows have far fewer flows than payments
+    private static final int INITIAL_FLOWS = 1 << 16;
+
+    private final PaymentRepository paymentRepository;
+    private final SettlementBatchRepository batchRepository;
+    private final SettlementInstructionRepository instructionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter paymentsCounter;
+    private final Counter instructionsCounter;
+
+    @Value("${settlement.netting.mode:BILATERAL}")
+    private NettingMode defaultMode;
+
+    @Value("${settlement.netting.clearing-account:CLEARING}")
+    private String clearingAccount;
+
+    public SettlementServiceImpl(PaymentRepository paymentRepository,
+                                 SettlementBatchRepository batchRepository,
+                                 SettlementInstructionRepository instructionRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.paymentRepository = paymentRepository;
+        this.batchRepository = batchRepository;
+        this.instructionRepository = instructionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.paymentsCounter = Counter.builder("moneymap.settlement.payments")
+                .description("Payments netted into settlement batches")
+                .register(meterRegistry);
+        this.instructionsCounter = Counter.builder("moneymap.settlement.instructions")
+                .description("Settlement instructions emitted by netting runs")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SettlementBatchResponseDTO settle(SettlementRequestDTO request) {
+        LocalDateTime windowStart = request.getWindowStart();
+        LocalDateTime windowEnd = request.getWindowEnd() != null ? request.getWindowEnd() : LocalDateTime.now();
+        if (windowStart != null && !windowStart.isBefore(windowEnd)) {
+            throw new BadRequestException("Window start must be before window end");
+        }
+        NettingMode mode = request.getMode() != null ? request.getMode() : defaultMode;
+
+        long started = System.currentTimeMillis();
+        SettlementBatch batch = transactionTemplate.execute(status -> {
+            SettlementBatch created = batchRepository.save(SettlementBatch.builder()
+                    .windowStart(windowStart)
+                    .windowEnd(windowEnd)
+                    .mode(mode)
+                    .build());
+            int claimed = paymentRepository.claimForSettlement(created.getId(), windowStart, windowEnd);
+            if (claimed == 0) {
+                status.setRollbackOnly();
+                return null;
+            }
+            return net(created, claimed);
+        });
+
+        if (batch == null) {
+            log.info("Settlement from {} to {}: no validated payments", windowStart, windowEnd);
+            return SettlementBatchResponseDTO.builder()
+                    .windowStart(windowStart)
+                    .windowEnd(windowEnd)
+                    .mode(mode)
+                    .build();
+        }
+        long emitted = mode == NettingMode.BILATERAL
+                ? batch.getBilateralInstructionCount() : batch.getMultilateralInstructionCount();
+        paymentsCounter.increment(batch.getPaymentCount());
+        instructionsCounter.increment(emitted);
+        log.info("Settlement batch {}: {} payments in {} flows netted to {} {} instructions in {} ms",
+                batch.getId(), batch.getPaymentCount(), batch.getFlowCount(), emitted, mode,
+                System.currentTimeMillis() - started);
+        return toResponse(batch);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SettlementBatchResponseDTO getBatch(Long id) {
+        return toResponse(findBatchById(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponseDTO<SettlementInstructionDTO> getInstructions(Long batchId, Pageable pageable) {
+        findBatchById(batchId);
+        Page<SettlementInstruction> page = instructionRepository.findBySettlementBatchId(batchId, pageable);
+        return PagedResponseDTO.<SettlementInstructionDTO>builder()
+                .content(page.getContent().stream().map(this::toDTO).toList())
+                .pageNumber(page.getNumber())
+                .pageSize(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .first(page.isFirst())
+                .last(page.isLast())
+                .empty(page.isEmpty())
+                .build();
+    }
+
+    private SettlementBatch net(SettlementBatch batch, int claimed) {
+        NettingEngine engine = new NettingEngine(Math.min(claimed, INITIAL_FLOWS));
+        paymentRepository.forEachSettlementFlow(batch.getId(), engine::add);
+
+        List<NettingEngine.Transfer> bilateral = engine.bilateral();
+        List<NettingEngine.Transfer> multilateral = engine.multilateral(clearingAccount);
+        List<NettingEngine.Transfer> emitted = batch.getMode() == NettingMode.BILATERAL ? bilateral : multilateral;
+        instructionRepository.insertAll(emitted.stream()
+                .map(transfer -> SettlementInstruction.builder()
+                        .settlementBatchId(batch.getId())
+                        .payerAccount(transfer.payer())
+                        .payeeAccount(transfer.payee())
+                        .currency(transfer.currency())
+                        .amount(transfer.amount())
+                        .paymentCount(transfer.paymentCount())
+                        .build())
+                .toList());
+
+        int sent = paymentRepository.transitionStatus(PaymentSelection.settlementBatch(batch.getId()),
+                PaymentStatus.VALIDATED, PaymentStatus.SENT, "Settled in batch " + batch.getId(),
+                null, null, LocalDateTime.now());
+        if (sent != claimed || engine.paymentCount() != claimed) {
+            throw new IllegalStateException(String.format(
+                    "Settlement batch %d claimed %d payments but netted %d and sent %d",
+                    batch.getId(), claimed, engine.paymentCount(), sent));
+        }
+
+        batch.setPaymentCount(engine.paymentCount());
+        batch.setFlowCount(engine.flowCount());
+        batch.setBilateralInstructionCount(bilateral.size());
+        batch.setMultilateralInstructionCount(multilateral.size());
+        return batchRepository.save(batch);
+    }
+
+    private SettlementBatch findBatchById(Long id) {
+        return batchRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement batch not found with ID: " + id));
+    }
+
+    private SettlementBatchResponseDTO toResponse(SettlementBatch batch) {
+        return SettlementBatchResponseDTO.builder()
+                .id(batch.getId())
+                .windowStart(batch.getWindowStart())
+                .windowEnd(batch.getWindowEnd())
+                .mode(batch.getMode())
+                .paymentCount(batch.getPaymentCount())
+                .flowCount(batch.getFlowCount())
+                .bilateralInstructionCount(batch.getBilateralInstructionCount())
+                .multilateralInstructionCount(batch.getMultilateralInstructionCount())
+                .createdAt(batch.getCreatedAt())
+                .build();
+    }
+
+    private SettlementInstructionDTO toDTO(SettlementInstruction instruction) {
+        return SettlementInstructionDTO.builder()
+                .payerAccount(instruction.getPayerAccount())
+                .payeeAccount(instruction.getPayeeAccount())
+                .currency(instruction.getCurrency())
+                .amount(instruction.getAmount())
+                .paymentCount(instruction.getPaymentCount())
+                .build();
+    }
+}
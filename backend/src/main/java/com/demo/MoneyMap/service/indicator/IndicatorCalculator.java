@@ -0,0 +1,191 @@
+package com.demo.MoneyMap.service.indicator;
+
+import java.util.Arrays;
+
+/**
+ * Streaming indicator state: each close is folded in with O(1) work, so a series is computed in
+ * one pass and new bars can be appended later without replaying history. Window indicators keep
+ * a ring buffer of the last {@code period} closes; everything else is a handful of doubles.
+ */
+interface IndicatorCalculator {
+
+    /**
+     * Fold in the next close and write this bar's outputs into {@code out}; NaN while warming up.
+     */
+    void update(double close, double[] out);
+
+    final class Sma implements IndicatorCalculator {
+        private final double[] window;
+        private double sum;
+        private int count;
+        private int next;
+
+        Sma(int period) {
+            this.window = new double[period];
+        }
+
+        @Override
+        public void update(double close, double[] out) {
+            if (count == window.length) {
+                sum -= window[next];
+            } else {
+                count++;
+            }
+            window[next] = close;
+            sum += close;
+            next = (next + 1) % window.length;
+            out[0] = count == window.length ? sum / window.length : Double.NaN;
+        }
+    }
+
+    final class Ema implements IndicatorCalculator {
+        private final int period;
+        private final double alpha;
+        private double seedSum;
+        private int count;
+        private double ema = Double.NaN;
+
+        Ema(int period) {
+            this.period = period;
+            this.alpha = 2.0 / (period + 1);
+        }
+
+        @Override
+        public void update(double close, double[] out) {
+            out[0] = next(close);
+        }
+
+        /**
+         * Seeded with the simple average of the first {@code period} values.
+         */
+        double next(double value) {
+            if (count < period) {
+                seedSum += value;
+                count++;
+                if (count == period) {
+                    ema = seedSum / period;
+                }
+                return ema;
+            }
+            ema += alpha * (value - ema);
+            return ema;
+        }
+    }
+
+    /**
+     * Wilder's RSI: simple average of the first {@code period} gains/losses, then smoothed.
+     */
+    final class Rsi implements IndicatorCalculator {
+        private final int period;
+        private double previous = Double.NaN;
+        private double avgGain;
+        private double avgLoss;
+        private int changes;
+
+        Rsi(int period) {
+            this.period = period;
+        }
+
+        @Override
+        public void update(double close, double[] out) {
+            if (Double.isNaN(previous)) {
+                previous = close;
+                out[0] = Double.NaN;
+                return;
+            }
+            double change = close - previous;
+            previous = close;
+            double gain = Math.max(change, 0);
+            double loss = Math.max(-change, 0);
+            changes++;
+            if (changes <= period) {
+                avgGain += gain / period;
+                avgLoss += loss / period;
+                if (changes < period) {
+                    out[0] = Double.NaN;
+                    return;
+                }
+            } else {
+                avgGain = (avgGain * (period - 1) + gain) / period;
+                avgLoss = (avgLoss * (period - 1) + loss) / period;
+            }
+            if (avgLoss == 0) {
+                out[0] = avgGain == 0 ? 50 : 100;
+            } else {
+                out[0] = 100 - 100 / (1 + avgGain / avgLoss);
+            }
+        }
+    }
+
+    /**
+     * MACD line (fast EMA - slow EMA), its signal EMA, and the histogram between them.
+     */
+    final class Macd implements IndicatorCalculator {
+        private final Ema fast;
+        private final Ema slow;
+        private final Ema signal;
+
+        Macd(int fastPeriod, int slowPeriod, int signalPeriod) {
+            this.fast = new Ema(fastPeriod);
+            this.slow = new Ema(slowPeriod);
+            this.signal = new Ema(signalPeriod);
+        }
+
+        @Override
+        public void update(double close, double[] out) {
+            double fastValue = fast.next(close);
+            double slowValue = slow.next(close);
+            if (Double.isNaN(slowValue)) {
+                Arrays.fill(out, Double.NaN);
+                return;
+            }
+            double macd = fastValue - slowValue;
+            double signalValue = signal.next(macd);
+            out[0] = macd;
+            out[1] = signalValue;
+            out[2] = Double.isNaN(signalValue) ? Double.NaN : macd - signalValue;
+        }
+    }
+
+    /**
+     * Middle band is the SMA; upper/lower are {@code width} population standard deviations away.
+     */
+    final class Bollinger implements IndicatorCalculator {
+        private final double[] window;
+        private final double width;
+        private double sum;
+        private double sumOfSquares;
+        private int count;
+        private int next;
+
+        Bollinger(int period, double width) {
+            this.window = new double[period];
+            this.width = width;
+        }
+
+        @Override
+        public void update(double close, double[] out) {
+            if (count == window.length) {
+                double dropped = window[next];
+                sum -= dropped;
+                sumOfSquares -= dropped * dropped;
+            } else {
+                count++;
+            }
+            window[next] = close;
+            sum += close;
+            sumOfSquares += close * close;
+            next = (next + 1) % window.length;
+
+            if (count < window.length) {
+                Arrays.fill(out, Double.NaN);
+                return;
+            }
+            double mean = sum / window.length;
+            double deviation = Math.sqrt(Math.max(0, sumOfSquares / window.length - mean * mean));
+            out[0] = mean;
+            out[1] = mean + width * deviation;
+            out[2] = mean - width * deviation;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.demo.MoneyMap.service.indicator;
+
+import com.demo.MoneyMap.service.history.PriceHistoryCache;
+import com.demo.MoneyMap.service.history.PriceHistorySeries;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Computes indicators over cached daily closes and keeps the running state per
+ * (symbol, indicator, params).
+ *
+ * The first request for a key runs the calculator over the whole history once. Later requests
+ * only fold in bars dated after the last one seen, so newly ingested days cost O(new days). If
+ * earlier history appears (e.g. a longer backfill), the key is recomputed from scratch. At most
+ * {@code indicators.cache.max-entries} keys are kept, least recently used first out.
+ *
+ * Bars folded in are counted as {@code moneymap.indicator.bars} (tag mode=appended|recomputed).
+ */
+@Component
+@Slf4j
+public class IndicatorEngine {
+
+    private final PriceHistoryCache historyCache;
+    private final Map<String, State> states;
+
+    private final Counter appendedBars;
+    private final Counter recomputedBars;
+
+    public IndicatorEngine(PriceHistoryCache historyCache,
+                           @Value("${indicators.cache.max-entries:2000}") int maxEntries,
+                           MeterRegistry meterRegistry) {
+        this.historyCache = historyCache;
+        this.states = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, State> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.appendedBars = counter(meterRegistry, "appended");
+        this.recomputedBars = counter(meterRegistry, "recomputed");
+        meterRegistry.gaugeMapSize("moneymap.indicator.cache.size", List.of(), states);
+    }
+
+    public IndicatorSeries compute(String symbol, IndicatorSpec spec) {
+        String normalized = symbol.trim().toUpperCase(Locale.ROOT);
+        PriceHistorySeries prices = historyCache.get(normalized);
+
+        State state;
+        synchronized (states) {
+            state = states.computeIfAbsent(normalized + '|' + spec, key -> new State(normalized, spec));
+        }
+        synchronized (state) {
+            state.catchUp(prices);
+            return state.snapshot();
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String mode) {
+        return Counter.builder("moneymap.indicator.bars")
+                .description("Price bars folded into indicator state")
+                .tag("mode", mode)
+                .register(registry);
+    }
+
+    /**
+     * Calculator state plus every output computed so far for one key.
+     */
+    private final class State {
+        private final String symbol;
+        private final IndicatorSpec spec;
+        private IndicatorCalculator calculator;
+        private int[] days = new int[0];
+        private double[][] values;
+        private int size;
+        private final double[] row;
+
+        private State(String symbol, IndicatorSpec spec) {
+            this.symbol = symbol;
+            this.spec = spec;
+            this.row = new double[spec.getType().getOutputs().size()];
+            reset();
+        }
+
+        private void reset() {
+            calculator = spec.newCalculator();
+            days = new int[0];
+            values = new double[row.length][0];
+            size = 0;
+        }
+
+        private void catchUp(PriceHistorySeries prices) {
+            int start = 0;
+            boolean recompute = false;
+            if (size > 0) {
+                PriceHistorySeries seen = prices.range(null, LocalDate.ofEpochDay(days[size - 1]));
+                if (seen.size() == size && seen.epochDay(0) == days[0]) {
+                    start = size;
+                } else {
+                    log.debug("Price history for {} changed before {}, recomputing {}", symbol,
+                            LocalDate.ofEpochDay(days[size - 1]), spec);
+                    reset();
+                    recompute = true;
+                }
+            }
+            int added = prices.size() - start;
+            if (added <= 0) {
+                return;
+            }
+            ensureCapacity(size + added);
+            for (int i = start; i < prices.size(); i++) {
+                double close = prices.closeValue(i);
+                if (Double.isNaN(close)) {
+                    Arrays.fill(row, Double.NaN);
+                } else {
+                    calculator.update(close, row);
+                }
+                days[size] = prices.epochDay(i);
+                for (int output = 0; output < row.length; output++) {
+                    values[output][size] = row[output];
+                }
+                size++;
+            }
+            (recompute || start == 0 ? recomputedBars : appendedBars).increment(added);
+        }
+
+        /**
+         * Always grows into new arrays so snapshots handed out earlier are never written to.
+         */
+        private void ensureCapacity(int required) {
+            if (required <= days.length) {
+                return;
+            }
+            int capacity = Math.max(required, days.length + (days.length >> 1) + 16);
+            days = Arrays.copyOf(days, capacity);
+            for (int output = 0; output < values.length; output++) {
+                values[output] = Arrays.copyOf(values[output], capacity);
+            }
+        }
+
+        private IndicatorSeries snapshot() {
+            return new IndicatorSeries(symbol, spec, days, values.clone(), 0, size);
+        }
+    }
+}
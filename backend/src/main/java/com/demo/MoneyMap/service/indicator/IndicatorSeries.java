@@ -0,0 +1,71 @@
+package com.demo.MoneyMap.service.indicator;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Indicator values for one symbol, one row per price bar, oldest first. Values are NaN where the
+ * indicator is still warming up or the close was missing.
+ *
+ * This is a read-only snapshot over the engine's arrays: the engine only ever writes past the
+ * snapshot's end (or into fresh arrays), so it stays consistent without copying.
+ */
+public final class IndicatorSeries {
+
+    private final String symbol;
+    private final IndicatorSpec spec;
+    private final int[] epochDays;
+    private final double[][] values;
+    private final int offset;
+    private final int length;
+
+    IndicatorSeries(String symbol, IndicatorSpec spec, int[] epochDays, double[][] values, int offset, int length) {
+        this.symbol = symbol;
+        this.spec = spec;
+        this.epochDays = epochDays;
+        this.values = values;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Rows with {@code from <= date <= to}; either bound may be null.
+     */
+    public IndicatorSeries range(LocalDate from, LocalDate to) {
+        int start = from == null ? offset : lowerBound((int) from.toEpochDay());
+        int end = to == null ? offset + length : lowerBound((int) to.toEpochDay() + 1);
+        return new IndicatorSeries(symbol, spec, epochDays, values, start, Math.max(0, end - start));
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public IndicatorSpec getSpec() {
+        return spec;
+    }
+
+    public int size() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    public LocalDate getDate(int index) {
+        return LocalDate.ofEpochDay(epochDays[offset + index]);
+    }
+
+    /**
+     * @param output index into {@link IndicatorType#getOutputs()}
+     */
+    public double value(int output, int index) {
+        return values[output][offset + index];
+    }
+
+    private int lowerBound(int epochDay) {
+        int found = Arrays.binarySearch(epochDays, offset, offset + length, epochDay);
+        return found >= 0 ? found : -found - 1;
+    }
+}
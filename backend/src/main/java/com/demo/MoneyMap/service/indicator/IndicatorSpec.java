@@ -0,0 +1,92 @@
+package com.demo.MoneyMap.service.indicator;
+
+import com.demo.MoneyMap.exception.BadRequestException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * An indicator with concrete parameters, e.g. {@code MACD(12,26,9)}. Used as the cache key.
+ */
+public final class IndicatorSpec {
+
+    private static final int MAX_PERIOD = 500;
+
+    private final IndicatorType type;
+    private final List<Double> params;
+
+    private IndicatorSpec(IndicatorType type, List<Double> params) {
+        this.type = type;
+        this.params = List.copyOf(params);
+    }
+
+    /**
+     * @param params indicator parameters, or null/empty for the defaults
+     */
+    public static IndicatorSpec of(IndicatorType type, List<Double> params) {
+        List<Double> resolved = params == null || params.isEmpty() ? type.getDefaultParams() : params;
+        if (resolved.size() != type.getDefaultParams().size()) {
+            throw new BadRequestException(type + " takes " + type.getDefaultParams().size()
+                    + " parameters, e.g. " + type.getDefaultParams());
+        }
+        IndicatorSpec spec = new IndicatorSpec(type, resolved);
+        int periods = type == IndicatorType.BOLLINGER ? 1 : resolved.size();
+        for (int i = 0; i < periods; i++) {
+            double value = resolved.get(i);
+            if (value != Math.rint(value) || value < 1 || value > MAX_PERIOD) {
+                throw new BadRequestException("Indicator periods must be whole numbers between 1 and " + MAX_PERIOD);
+            }
+        }
+        if (type == IndicatorType.MACD && spec.period(0) >= spec.period(1)) {
+            throw new BadRequestException("MACD fast period must be shorter than the slow period");
+        }
+        if (type == IndicatorType.BOLLINGER && !(resolved.get(1) > 0)) {
+            throw new BadRequestException("Bollinger band width must be positive");
+        }
+        return spec;
+    }
+
+    public IndicatorType getType() {
+        return type;
+    }
+
+    public List<Double> getParams() {
+        return params;
+    }
+
+    int period(int index) {
+        return params.get(index).intValue();
+    }
+
+    /**
+     * A fresh calculator with empty state.
+     */
+    IndicatorCalculator newCalculator() {
+        return switch (type) {
+            case SMA -> new IndicatorCalculator.Sma(period(0));
+            case EMA -> new IndicatorCalculator.Ema(period(0));
+            case RSI -> new IndicatorCalculator.Rsi(period(0));
+            case MACD -> new IndicatorCalculator.Macd(period(0), period(1), period(2));
+            case BOLLINGER -> new IndicatorCalculator.Bollinger(period(0), params.get(1));
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other || other instanceof IndicatorSpec spec
+                && type == spec.type && params.equals(spec.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, params);
+    }
+
+    @Override
+    public String toString() {
+        return type + params.stream()
+                .map(value -> value == Math.rint(value) ? String.valueOf(value.longValue()) : String.valueOf(value))
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.demo.MoneyMap.service.indicator;
+
+import com.demo.MoneyMap.exception.BadRequestException;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Supported technical indicators, their default parameters and the values each one outputs per bar.
+ */
+public enum IndicatorType {
+    SMA(List.of(20.0), List.of("sma")),
+    EMA(List.of(20.0), List.of("ema")),
+    RSI(List.of(14.0), List.of("rsi")),
+    MACD(List.of(12.0, 26.0, 9.0), List.of("macd", "signal", "histogram")),
+    BOLLINGER(List.of(20.0, 2.0), List.of("middle", "upper", "lower"));
+
+    private final List<Double> defaultParams;
+    private final List<String> outputs;
+
+    IndicatorType(List<Double> defaultParams, List<String> outputs) {
+        this.defaultParams = defaultParams;
+        this.outputs = outputs;
+    }
+
+    public List<Double> getDefaultParams() {
+        return defaultParams;
+    }
+
+    public List<String> getOutputs() {
+        return outputs;
+    }
+
+    public static IndicatorType from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BadRequestException("Unknown indicator '" + value + "'. Allowed values: sma, ema, rsi, macd, bollinger");
+        }
+    }
+}
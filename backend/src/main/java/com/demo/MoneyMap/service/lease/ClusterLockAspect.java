@@ -0,0 +1,95 @@
+package com.demo.MoneyMap.service.lease;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies {@link ClusterLocked}: take the lease or skip the call, keep the lease renewed while
+ * the method runs, and release it afterwards.
+ */
+@Aspect
+@Component
+@Slf4j
+public class ClusterLockAspect {
+
+    private final JobLeaseManager leaseManager;
+    private final ScheduledExecutorService renewals;
+
+    public ClusterLockAspect(JobLeaseManager leaseManager) {
+        this.leaseManager = leaseManager;
+        this.renewals = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-lease-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        renewals.shutdownNow();
+    }
+
+    @Around("@annotation(clusterLocked)")
+    public Object runExclusively(ProceedingJoinPoint joinPoint, ClusterLocked clusterLocked) throws Throwable {
+        String jobName = clusterLocked.value();
+        Duration ttl = Duration.ofSeconds(clusterLocked.leaseSeconds());
+
+        Optional<JobLease> acquired = leaseManager.tryAcquire(jobName, ttl);
+        if (acquired.isEmpty()) {
+            log.debug("Skipping {}: lease held by another node", jobName);
+            return null;
+        }
+
+        AtomicReference<JobLease> lease = new AtomicReference<>(acquired.get());
+        long renewEveryMillis = Math.max(1, ttl.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewals.scheduleAtFixedRate(
+                () -> renew(lease, ttl), renewEveryMillis, renewEveryMillis, TimeUnit.MILLISECONDS);
+
+        leaseManager.bind(lease);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            leaseManager.unbind();
+            renewal.cancel(false);
+            JobLease held = lease.getAndSet(null);
+            if (held != null) {
+                try {
+                    leaseManager.release(held);
+                } catch (RuntimeException e) {
+                    log.warn("Could not release lease for {}, it expires at {}: {}",
+                            jobName, held.leasedUntil(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void renew(AtomicReference<JobLease> lease, Duration ttl) {
+        JobLease held = lease.get();
+        if (held == null) {
+            return;
+        }
+        try {
+            Optional<JobLease> renewed = leaseManager.renew(held, ttl);
+            if (renewed.isPresent()) {
+                lease.compareAndSet(held, renewed.get());
+            } else {
+                lease.compareAndSet(held, null);
+                log.warn("Lost lease for {} (token {}) while the job was running", held.jobName(), held.fencingToken());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not renew lease for {}: {}", held.jobName(), e.getMessage());
+        }
+    }
+}
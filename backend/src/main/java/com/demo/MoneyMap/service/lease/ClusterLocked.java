@@ -0,0 +1,28 @@
+package com.demo.MoneyMap.service.lease;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Run the annotated method on at most one node of the cluster at a time.
+ *
+ * The call goes ahead only if this node can take the job's lease; otherwise it is skipped
+ * (annotated methods should return void). The lease is renewed every third of
+ * {@link #leaseSeconds()} while the method runs and released when it returns, so a node that
+ * dies mid-run blocks the job for at most one lease period.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ClusterLocked {
+
+    /**
+     * Job name used as the lease key.
+     */
+    String value();
+
+    long leaseSeconds() default 300;
+}
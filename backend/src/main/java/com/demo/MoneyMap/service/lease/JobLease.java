@@ -0,0 +1,10 @@
+package com.demo.MoneyMap.service.lease;
+
+import java.time.Instant;
+
+/**
+ * A lease held by this node. {@code fencingToken} grows with every takeover, so a write tagged
+ * with an older token can be recognised as coming from a holder that has since lost the lease.
+ */
+public record JobLease(String jobName, String owner, long fencingToken, Instant leasedUntil) {
+}
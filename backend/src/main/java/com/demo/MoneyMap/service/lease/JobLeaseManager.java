@@ -0,0 +1,153 @@
+package com.demo.MoneyMap.service.lease;
+
+import com.demo.MoneyMap.repository.ScheduledJobLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Acquires, renews and releases job leases in the {@code scheduled_job_lease} table.
+ *
+ * Each operation commits in its own transaction, independent of any transaction the caller is in.
+ * Lease times come from this node's clock, so node clocks must agree to well within a lease period.
+ * The node's identity is {@code scheduling.lease.node-id}, or pid@host plus a random suffix.
+ */
+@Component
+@Slf4j
+public class JobLeaseManager {
+
+    private final ScheduledJobLeaseRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final Clock clock;
+
+    // Lease of the cluster-locked job running on this thread; cleared if a renewal fails
+    private final ThreadLocal<AtomicReference<JobLease>> running = new ThreadLocal<>();
+
+    @Autowired
+    public JobLeaseManager(ScheduledJobLeaseRepository repository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${scheduling.lease.node-id:}") String nodeId) {
+        this(repository, transactionManager, nodeId.isBlank() ? defaultNodeId() : nodeId, Clock.systemUTC());
+    }
+
+    JobLeaseManager(ScheduledJobLeaseRepository repository, PlatformTransactionManager transactionManager,
+                    String nodeId, Clock clock) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Take the job's lease if nobody holds it or the holder's lease has expired.
+     */
+    public Optional<JobLease> tryAcquire(String jobName, Duration ttl) {
+        Instant now = now();
+        Instant until = now.plus(ttl);
+
+        // The row stays locked by the update until commit, so the token read back is ours
+        Long token = transactionTemplate.execute(status ->
+                repository.takeOver(jobName, nodeId, now, until) == 1 ? repository.findFencingToken(jobName) : null);
+        if (token != null) {
+            return Optional.of(new JobLease(jobName, nodeId, token, until));
+        }
+
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> repository.existsById(jobName)))) {
+            return Optional.empty();
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.create(jobName, nodeId, now, until));
+            return Optional.of(new JobLease(jobName, nodeId, 1, until));
+        } catch (DataIntegrityViolationException e) {
+            return Optional.empty(); // another node created it first
+        }
+    }
+
+    /**
+     * Extend a lease this node still holds.
+     *
+     * @return the extended lease, or empty if it expired or was taken over
+     */
+    public Optional<JobLease> renew(JobLease lease, Duration ttl) {
+        Instant now = now();
+        Instant until = now.plus(ttl);
+        Integer updated = transactionTemplate.execute(status ->
+                repository.extend(lease.jobName(), lease.owner(), lease.fencingToken(), now, until));
+        return updated != null && updated == 1
+                ? Optional.of(new JobLease(lease.jobName(), lease.owner(), lease.fencingToken(), until))
+                : Optional.empty();
+    }
+
+    public void release(JobLease lease) {
+        Instant now = now();
+        transactionTemplate.executeWithoutResult(status ->
+                repository.expire(lease.jobName(), lease.owner(), lease.fencingToken(), now));
+    }
+
+    /**
+     * Whether the lease is unexpired and its fencing token has not been superseded.
+     */
+    public boolean isCurrent(JobLease lease) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                repository.existsByJobNameAndOwnerAndFencingTokenAndLeasedUntilAfter(
+                        lease.jobName(), lease.owner(), lease.fencingToken(), now())));
+    }
+
+    /**
+     * Lease of the {@link ClusterLocked} job running on this thread, if any and not known to be lost.
+     */
+    public Optional<JobLease> currentLease() {
+        AtomicReference<JobLease> lease = running.get();
+        return lease == null ? Optional.empty() : Optional.ofNullable(lease.get());
+    }
+
+    /**
+     * Fencing check for a {@link ClusterLocked} job before it does work another node must not
+     * duplicate. Always true outside such a job.
+     */
+    public boolean holdsCurrentLease() {
+        AtomicReference<JobLease> lease = running.get();
+        if (lease == null) {
+            return true;
+        }
+        JobLease held = lease.get();
+        return held != null && isCurrent(held);
+    }
+
+    void bind(AtomicReference<JobLease> lease) {
+        running.set(lease);
+    }
+
+    void unbind() {
+        running.remove();
+    }
+
+    private Instant now() {
+        // Millisecond precision so stored and compared instants match on every database
+        return clock.instant().truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private static String defaultNodeId() {
+        return ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,290 @@
+package com.demo.MoneyMap.service.market;
+
+import com.demo.MoneyMap.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker and bulkhead shared by every call to the market data service.
+ *
+ * - At most {@code max-concurrent-calls} calls are in flight; extra calls are rejected at once
+ *   instead of queueing behind a slow upstream.
+ * - The breaker opens when the failure rate over the last {@code window-size} calls reaches
+ *   the threshold, rejects calls for {@code open-seconds}, then lets a few trial calls through
+ *   (half-open) to decide whether to close again.
+ * - Only upstream faults count as failures: timeouts, connection errors and 5xx responses.
+ *   A 4xx means the upstream is healthy and the request was bad.
+ *
+ * Latency by outcome, rejections and the breaker state are published as
+ * {@code moneymap.upstream.*} with tag {@code upstream=market-data}.
+ */
+@Component
+@Slf4j
+public class MarketDataGuard {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private static final String UPSTREAM = "market-data";
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final Semaphore bulkhead;
+    private final LongSupplier clock;
+
+    // Breaker state, guarded by this
+    private State state = State.CLOSED;
+    private int windowNext;
+    private int windowCount;
+    private int windowFailures;
+    private long openedAtNanos;
+    private int halfOpenStarted;
+    private int halfOpenSucceeded;
+
+    private final Timer successLatency;
+    private final Timer failureLatency;
+    private final Counter rejectedOpen;
+    private final Counter rejectedFull;
+
+    @Autowired
+    public MarketDataGuard(@Value("${market.resilience.window-size:20}") int windowSize,
+                           @Value("${market.resilience.minimum-calls:10}") int minimumCalls,
+                           @Value("${market.resilience.failure-rate-threshold:50}") double failureRateThreshold,
+                           @Value("${market.resilience.open-seconds:30}") long openSeconds,
+                           @Value("${market.resilience.half-open-calls:3}") int halfOpenCalls,
+                           @Value("${market.resilience.max-concurrent-calls:32}") int maxConcurrentCalls,
+                           MeterRegistry meterRegistry) {
+        this(windowSize, minimumCalls, failureRateThreshold, openSeconds, halfOpenCalls, maxConcurrentCalls,
+                System::nanoTime, meterRegistry);
+    }
+
+    MarketDataGuard(int windowSize,
+                    int minimumCalls,
+                    double failureRateThreshold,
+                    long openSeconds,
+                    int halfOpenCalls,
+                    int maxConcurrentCalls,
+                    LongSupplier clock,
+                    MeterRegistry meterRegistry) {
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = TimeUnit.SECONDS.toNanos(openSeconds);
+        this.halfOpenCalls = halfOpenCalls;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.clock = clock;
+
+        this.successLatency = timer(meterRegistry, "success");
+        this.failureLatency = timer(meterRegistry, "failure");
+        this.rejectedOpen = rejected(meterRegistry, "circuit_open");
+        this.rejectedFull = rejected(meterRegistry, "bulkhead_full");
+        meterRegistry.gauge("moneymap.upstream.circuit.state", Tags.of("upstream", UPSTREAM),
+                this, guard -> guard.getState().ordinal());
+    }
+
+    /**
+     * Guard a reactive call. The call is only started on subscription and is cut off after {@code timeout}.
+     * Fails with {@link UpstreamUnavailableException} if the breaker is open or the bulkhead is full.
+     */
+    public <T> Mono<T> call(Supplier<Mono<T>> call, Duration timeout) {
+        return Mono.defer(() -> {
+            Permit permit = acquire();
+            long start = clock.getAsLong();
+            return call.get()
+                    .timeout(timeout)
+                    .doOnSuccess(value -> permit.complete(start, null))
+                    .doOnError(error -> permit.complete(start, error))
+                    .doFinally(signal -> permit.release());
+        });
+    }
+
+    /**
+     * Guard a blocking call. The call itself must be bounded by client timeouts.
+     */
+    public <T> T execute(Supplier<T> call) {
+        Permit permit = acquire();
+        long start = clock.getAsLong();
+        try {
+            T result = call.get();
+            permit.complete(start, null);
+            return result;
+        } catch (RuntimeException e) {
+            permit.complete(start, e);
+            throw e;
+        } finally {
+            permit.release();
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && clock.getAsLong() - openedAtNanos >= openNanos) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private Permit acquire() {
+        boolean trial;
+        synchronized (this) {
+            if (state == State.OPEN && clock.getAsLong() - openedAtNanos >= openNanos) {
+                transition(State.HALF_OPEN);
+            }
+            if (state == State.OPEN || (state == State.HALF_OPEN && halfOpenStarted >= halfOpenCalls)) {
+                rejectedOpen.increment();
+                throw new UpstreamUnavailableException("Market data service is unavailable (circuit open)");
+            }
+            trial = state == State.HALF_OPEN;
+            if (trial) {
+                halfOpenStarted++;
+            }
+        }
+        if (!bulkhead.tryAcquire()) {
+            if (trial) {
+                synchronized (this) {
+                    halfOpenStarted--;
+                }
+            }
+            rejectedFull.increment();
+            throw new UpstreamUnavailableException("Market data service is busy (too many concurrent calls)");
+        }
+        return new Permit();
+    }
+
+    private synchronized void record(boolean failure) {
+        if (state == State.HALF_OPEN) {
+            if (failure) {
+                transition(State.OPEN);
+            } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+
+        if (windowCount == window.length) {
+            if (window[windowNext]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowNext] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowNext = (windowNext + 1) % window.length;
+
+        if (windowCount >= minimumCalls && windowFailures * 100.0 / windowCount >= failureRateThreshold) {
+            transition(State.OPEN);
+        }
+    }
+
+    private void transition(State next) {
+        if (next == state) {
+            return;
+        }
+        log.warn("Market data circuit {} -> {}", state, next);
+        state = next;
+        halfOpenStarted = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAtNanos = clock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            windowNext = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+
+    /**
+     * Whether an error means the upstream itself is unhealthy.
+     */
+    static boolean isUpstreamFault(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError();
+        }
+        return error instanceof TimeoutException
+                || error instanceof WebClientRequestException
+                || error instanceof ResourceAccessException
+                || error instanceof HttpServerErrorException
+                || error instanceof IOException
+                || (error.getCause() != null && error.getCause() != error && isUpstreamFault(error.getCause()));
+    }
+
+    private static Timer timer(MeterRegistry registry, String outcome) {
+        return Timer.builder("moneymap.upstream.latency")
+                .description("Latency of calls to upstream services")
+                .tag("upstream", UPSTREAM)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static Counter rejected(MeterRegistry registry, String reason) {
+        return Counter.builder("moneymap.upstream.rejected")
+                .description("Upstream calls rejected without being attempted")
+                .tag("upstream", UPSTREAM)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /**
+     * One admitted call. Records its outcome and frees its bulkhead slot exactly once.
+     */
+    private final class Permit {
+        private boolean completed;
+        private boolean released;
+
+        private synchronized void complete(long start, Throwable error) {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            long elapsed = clock.getAsLong() - start;
+            boolean failure = error != null && isUpstreamFault(error);
+            (failure ? failureLatency : successLatency).record(elapsed, TimeUnit.NANOSECONDS);
+            record(failure);
+        }
+
+        private synchronized void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            if (!completed) {
+                // Cancelled before an outcome: give a half-open trial slot back
+                completed = true;
+                synchronized (MarketDataGuard.this) {
+                    if (state == State.HALF_OPEN && halfOpenStarted > 0) {
+                        halfOpenStarted--;
+                    }
+                }
+            }
+            bulkhead.release();
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.demo.MoneyMap.service.market;
+
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.entity.enums.AssetType;
+import com.demo.MoneyMap.entity.enums.AvailableAsset;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * Synthetic market for offline runs and load tests (profile {@code simulator}).
+ *
+ * Every {@link AvailableAsset} gets a live price that follows geometric Brownian motion,
+ * advanced lazily on each read by the wall-clock time since the previous read
+ * (times {@code market.simulator.time-scale}). Daily history is generated from a seed per
+ * symbol and date, so repeated requests for the same period return the same bars.
+ */
+@Component
+@Profile("simulator")
+public class MarketSimulator {
+
+    private static final double TRADING_SECONDS_PER_YEAR = 252 * 6.5 * 3600;
+    private static final double DRIFT = 0.07;
+
+    private final Map<String, SimulatedPrice> prices;
+    private final double timeScale;
+    private final LongSupplier clock;
+
+    @Autowired
+    public MarketSimulator(@Value("${market.simulator.time-scale:1}") double timeScale) {
+        this(timeScale, System::nanoTime);
+    }
+
+    MarketSimulator(double timeScale, LongSupplier clock) {
+        this.timeScale = timeScale;
+        this.clock = clock;
+        Map<String, SimulatedPrice> initial = new HashMap<>();
+        long now = clock.getAsLong();
+        for (AvailableAsset asset : AvailableAsset.values()) {
+            initial.put(asset.getSymbol(), new SimulatedPrice(asset, now));
+        }
+        this.prices = Collections.unmodifiableMap(initial);
+    }
+
+    /**
+     * Current quote for a catalog symbol, advancing its price to now.
+     */
+    public Optional<FinnhubQuoteResponse> quote(String symbol) {
+        SimulatedPrice price = prices.get(symbol.trim().toUpperCase(Locale.ROOT));
+        return price == null ? Optional.empty() : Optional.of(price.advance(clock.getAsLong()));
+    }
+
+    /**
+     * Daily OHLCV bars from {@code from} to {@code to} inclusive, ending at the asset's catalog price.
+     * Crypto trades every day; other assets skip weekends.
+     */
+    public Optional<List<Map<String, Object>>> history(String symbol, LocalDate from, LocalDate to) {
+        Optional<AvailableAsset> found = AvailableAsset.findBySymbol(symbol.trim());
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        AvailableAsset asset = found.get();
+        boolean weekends = asset.getAssetType() == AssetType.CRYPTO;
+
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (weekends || (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY)) {
+                dates.add(date);
+            }
+        }
+
+        // Walk backwards from the catalog price so the latest close matches it
+        double dailySigma = volatility(asset.getAssetType()) / Math.sqrt(252);
+        double[] closes = new double[dates.size()];
+        double close = asset.getCurrentMarketPrice().doubleValue();
+        for (int i = dates.size() - 1; i >= 0; i--) {
+            closes[i] = close;
+            Random random = seeded(asset, dates.get(i));
+            close = close / Math.exp((DRIFT / 252 - dailySigma * dailySigma / 2) + dailySigma * random.nextGaussian());
+        }
+
+        List<Map<String, Object>> bars = new ArrayList<>(dates.size());
+        for (int i = 0; i < dates.size(); i++) {
+            Random random = seeded(asset, dates.get(i));
+            random.nextGaussian();
+            double previous = i == 0 ? close : closes[i - 1];
+            double open = previous * (1 + dailySigma * 0.2 * random.nextGaussian());
+            double high = Math.max(open, closes[i]) * (1 + Math.abs(dailySigma * 0.5 * random.nextGaussian()));
+            double low = Math.min(open, closes[i]) * (1 - Math.abs(dailySigma * 0.5 * random.nextGaussian()));
+
+            Map<String, Object> bar = new LinkedHashMap<>();
+            bar.put("date", dates.get(i).toString());
+            bar.put("open", round(open));
+            bar.put("high", round(high));
+            bar.put("low", round(low));
+            bar.put("close", round(closes[i]));
+            bar.put("volume", 100_000L + (long) (random.nextDouble() * 5_000_000));
+            bars.add(bar);
+        }
+        return Optional.of(bars);
+    }
+
+    private static Random seeded(AvailableAsset asset, LocalDate date) {
+        return new Random(asset.getSymbol().hashCode() * 1_000_003L + date.toEpochDay());
+    }
+
+    private static double volatility(AssetType type) {
+        return switch (type) {
+            case CRYPTO -> 0.80;
+            case STOCK -> 0.30;
+            case GOLD -> 0.15;
+            case MUTUAL_FUND -> 0.12;
+        };
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static double roundQuote(double value) {
+        return Math.round(value * 10_000) / 10_000.0;
+    }
+
+    private final class SimulatedPrice {
+        private final double sigma;
+        private final double previousClose;
+        private double price;
+        private final double open;
+        private double high;
+        private double low;
+        private long updatedAtNanos;
+
+        private SimulatedPrice(AvailableAsset asset, long now) {
+            this.sigma = volatility(asset.getAssetType());
+            this.previousClose = asset.getCurrentMarketPrice().doubleValue();
+            this.price = previousClose;
+            this.open = previousClose;
+            this.high = previousClose;
+            this.low = previousClose;
+            this.updatedAtNanos = now;
+        }
+
+        private synchronized FinnhubQuoteResponse advance(long now) {
+            double years = (now - updatedAtNanos) / 1e9 * timeScale / TRADING_SECONDS_PER_YEAR;
+            if (years > 0) {
+                double shock = ThreadLocalRandom.current().nextGaussian();
+                price *= Math.exp((DRIFT - sigma * sigma / 2) * years + sigma * Math.sqrt(years) * shock);
+                high = Math.max(high, price);
+                low = Math.min(low, price);
+                updatedAtNanos = now;
+            }
+
+            FinnhubQuoteResponse quote = new FinnhubQuoteResponse();
+            quote.setCurrentPrice(roundQuote(price));
+            quote.setChange(roundQuote(price - previousClose));
+            quote.setChangePercent(roundQuote((price - previousClose) / previousClose * 100));
+            quote.setHigh(roundQuote(high));
+            quote.setLow(roundQuote(low));
+            quote.setOpen(roundQuote(open));
+            quote.setPreviousClose(roundQuote(previousClose));
+            quote.setTimestamp(System.currentTimeMillis() / 1000);
+            return quote;
+        }
+    }
+}
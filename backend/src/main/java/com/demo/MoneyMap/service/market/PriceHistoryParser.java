@@ -0,0 +1,112 @@
+package com.demo.MoneyMap.service.market;
+
+import com.demo.MoneyMap.entity.AssetPriceHistory;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streaming reader for the market data {@code /stock/{symbol}} response.
+ *
+ * Walks the JSON token by token and turns each {@code historicalData} element straight into an
+ * {@link AssetPriceHistory} row, handing them to the caller in fixed-size chunks. Only one chunk
+ * is held at a time, so memory stays flat however long the requested period is. Prices are read
+ * as exact decimals whether upstream sends them as integers or floats; unknown fields are skipped.
+ */
+@Component
+public class PriceHistoryParser {
+
+    private final JsonFactory jsonFactory;
+
+    public PriceHistoryParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * @return number of rows read
+     */
+    public int parse(InputStream body, String symbol, int chunkSize, Consumer<List<AssetPriceHistory>> sink)
+            throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object in the price history response");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("historicalData".equals(field) && value == JsonToken.START_ARRAY) {
+                    return readRows(parser, symbol, chunkSize, sink);
+                }
+                parser.skipChildren();
+            }
+            return 0;
+        }
+    }
+
+    private int readRows(JsonParser parser, String symbol, int chunkSize, Consumer<List<AssetPriceHistory>> sink)
+            throws IOException {
+        List<AssetPriceHistory> chunk = new ArrayList<>(chunkSize);
+        int rows = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            AssetPriceHistory row = readRow(parser, symbol);
+            if (row == null) {
+                continue;
+            }
+            chunk.add(row);
+            rows++;
+            if (chunk.size() == chunkSize) {
+                sink.accept(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            sink.accept(chunk);
+        }
+        return rows;
+    }
+
+    /**
+     * @return the row, or null if it has no date
+     */
+    private AssetPriceHistory readRow(JsonParser parser, String symbol) throws IOException {
+        AssetPriceHistory.AssetPriceHistoryBuilder row = AssetPriceHistory.builder().symbol(symbol);
+        LocalDate date = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                // Accept "2024-06-10" as well as "2024-06-10 00:00:00" / ISO date-times
+                case "date" -> date = value == JsonToken.VALUE_STRING && parser.getTextLength() >= 10
+                        ? LocalDate.parse(parser.getText().substring(0, 10))
+                        : null;
+                case "open" -> row.openPrice(decimal(parser, value));
+                case "high" -> row.highPrice(decimal(parser, value));
+                case "low" -> row.lowPrice(decimal(parser, value));
+                case "close" -> row.closePrice(decimal(parser, value));
+                case "volume" -> row.volume(value.isNumeric() ? parser.getValueAsLong() : null);
+                default -> parser.skipChildren();
+            }
+        }
+        return date != null ? row.priceDate(date).build() : null;
+    }
+
+    private static BigDecimal decimal(JsonParser parser, JsonToken value) throws IOException {
+        if (value.isNumeric()) {
+            return parser.getDecimalValue();
+        }
+        if (value == JsonToken.VALUE_STRING && !parser.getText().isBlank()) {
+            return new BigDecimal(parser.getText().trim());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,258 @@
+package com.demo.MoneyMap.service.market;
+
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.entity.enums.AssetType;
+import com.demo.MoneyMap.entity.enums.AvailableAsset;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Shared cache of upstream market quotes.
+ *
+ * - Each asset type has its own TTL (crypto moves faster than mutual fund NAVs).
+ * - Concurrent misses for the same symbol share one in-flight upstream fetch.
+ * - A quote past its TTL but inside the stale window is served immediately
+ *   while a background refresh runs (stale-while-revalidate).
+ * - At most {@code market.quotes.cache.max-entries} symbols are kept, evicting the least
+ *   recently used, so lookups of arbitrary symbols cannot grow it without bound. Expired
+ *   quotes are not dropped on age alone since {@link #lastKnown} still serves them.
+ *
+ * Hit, stale, miss, coalesce and eviction counts are published as {@code moneymap.quote.cache}.
+ */
+@Component
+@Slf4j
+public class QuoteCache {
+
+    private final Map<AssetType, Long> ttlNanosByType;
+    private final long defaultTtlNanos;
+    private final long staleWindowNanos;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<String, CachedQuote> quotes;
+    private final ConcurrentHashMap<String, CompletableFuture<FinnhubQuoteResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter loadFailures;
+    private final Counter evictions;
+
+    @Autowired
+    public QuoteCache(@Value("${market.quotes.cache.stock-ttl-seconds:15}") long stockTtlSeconds,
+                      @Value("${market.quotes.cache.crypto-ttl-seconds:5}") long cryptoTtlSeconds,
+                      @Value("${market.quotes.cache.gold-ttl-seconds:60}") long goldTtlSeconds,
+                      @Value("${market.quotes.cache.mutual-fund-ttl-seconds:300}") long mutualFundTtlSeconds,
+                      @Value("${market.quotes.cache.default-ttl-seconds:15}") long defaultTtlSeconds,
+                      @Value("${market.quotes.cache.stale-window-seconds:120}") long staleWindowSeconds,
+                      @Value("${market.quotes.cache.max-entries:10000}") int maxEntries,
+                      MeterRegistry meterRegistry) {
+        this(ttls(stockTtlSeconds, cryptoTtlSeconds, goldTtlSeconds, mutualFundTtlSeconds),
+                defaultTtlSeconds, staleWindowSeconds, maxEntries, System::nanoTime, meterRegistry);
+    }
+
+    QuoteCache(Map<AssetType, Long> ttlSecondsByType,
+               long defaultTtlSeconds,
+               long staleWindowSeconds,
+               int maxEntries,
+               LongSupplier clock,
+               MeterRegistry meterRegistry) {
+        this.ttlNanosByType = new EnumMap<>(AssetType.class);
+        ttlSecondsByType.forEach((type, seconds) -> ttlNanosByType.put(type, TimeUnit.SECONDS.toNanos(seconds)));
+        this.defaultTtlNanos = TimeUnit.SECONDS.toNanos(defaultTtlSeconds);
+        this.staleWindowNanos = TimeUnit.SECONDS.toNanos(staleWindowSeconds);
+        this.clock = clock;
+
+        this.hits = counter(meterRegistry, "hit");
+        this.staleHits = counter(meterRegistry, "stale");
+        this.misses = counter(meterRegistry, "miss");
+        this.coalesced = counter(meterRegistry, "coalesced");
+        this.loadFailures = counter(meterRegistry, "load_failure");
+        this.evictions = counter(meterRegistry, "eviction");
+        this.quotes = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedQuote> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+        meterRegistry.gauge("moneymap.quote.cache.size", List.of(), this, QuoteCache::size);
+    }
+
+    /**
+     * Get a quote, calling {@code loader} on a miss. Blocks only when no usable cached value exists.
+     */
+    public FinnhubQuoteResponse get(String symbol, Function<String, Mono<FinnhubQuoteResponse>> loader) {
+        String key = normalize(symbol);
+        FinnhubQuoteResponse cached = cachedOrRevalidate(key, loader);
+        if (cached != null) {
+            return cached;
+        }
+
+        misses.increment();
+        try {
+            return load(key, loader).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Non-blocking variant of {@link #get}. Cancelling the returned Mono does not cancel
+     * an upstream fetch other callers may be waiting on.
+     */
+    public Mono<FinnhubQuoteResponse> getAsync(String symbol, Function<String, Mono<FinnhubQuoteResponse>> loader) {
+        return Mono.defer(() -> {
+            String key = normalize(symbol);
+            FinnhubQuoteResponse cached = cachedOrRevalidate(key, loader);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            misses.increment();
+            return Mono.fromFuture(load(key, loader), true);
+        });
+    }
+
+    /**
+     * The cached quote if it is fresh or inside the stale window (starting a background refresh
+     * in the latter case), otherwise null.
+     */
+    private FinnhubQuoteResponse cachedOrRevalidate(String key, Function<String, Mono<FinnhubQuoteResponse>> loader) {
+        CachedQuote cached = cached(key);
+        if (cached == null) {
+            return null;
+        }
+        long age = clock.getAsLong() - cached.fetchedAtNanos;
+        long ttl = ttlFor(key);
+        if (age <= ttl) {
+            hits.increment();
+            return cached.quote;
+        }
+        if (age <= ttl + staleWindowNanos) {
+            staleHits.increment();
+            load(key, loader);
+            return cached.quote;
+        }
+        return null;
+    }
+
+    /**
+     * Start (or join) the upstream fetch for a symbol. The cache is updated when it completes.
+     */
+    CompletableFuture<FinnhubQuoteResponse> load(String key, Function<String, Mono<FinnhubQuoteResponse>> loader) {
+        CompletableFuture<FinnhubQuoteResponse> created = new CompletableFuture<>();
+        CompletableFuture<FinnhubQuoteResponse> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+
+        Mono<FinnhubQuoteResponse> upstream;
+        try {
+            upstream = loader.apply(key);
+        } catch (RuntimeException e) {
+            upstream = Mono.error(e);
+        }
+        upstream.toFuture().whenComplete((quote, error) -> {
+            if (error == null && quote != null) {
+                store(key, new CachedQuote(quote, clock.getAsLong()));
+            }
+            inFlight.remove(key, created);
+            if (error != null) {
+                loadFailures.increment();
+                log.warn("Quote fetch failed for {}: {}", key, error.getMessage());
+                created.completeExceptionally(error);
+            } else {
+                created.complete(quote);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * The most recent quote for a symbol regardless of age, for use when upstream is unavailable.
+     */
+    public Optional<FinnhubQuoteResponse> lastKnown(String symbol) {
+        CachedQuote cached = cached(normalize(symbol));
+        return cached == null ? Optional.empty() : Optional.of(cached.quote);
+    }
+
+    /**
+     * Drop all cached quotes.
+     */
+    public synchronized void clear() {
+        quotes.clear();
+    }
+
+    synchronized int size() {
+        return quotes.size();
+    }
+
+    private synchronized CachedQuote cached(String key) {
+        return quotes.get(key);
+    }
+
+    private synchronized void store(String key, CachedQuote quote) {
+        quotes.put(key, quote);
+    }
+
+    private long ttlFor(String symbol) {
+        return AvailableAsset.findBySymbol(symbol)
+                .map(asset -> ttlNanosByType.getOrDefault(asset.getAssetType(), defaultTtlNanos))
+                .orElse(defaultTtlNanos);
+    }
+
+    private static String normalize(String symbol) {
+        return symbol.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("moneymap.quote.cache")
+                .description("Quote cache lookups by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Map<AssetType, Long> ttls(long stock, long crypto, long gold, long mutualFund) {
+        Map<AssetType, Long> ttls = new EnumMap<>(AssetType.class);
+        ttls.put(AssetType.STOCK, stock);
+        ttls.put(AssetType.CRYPTO, crypto);
+        ttls.put(AssetType.GOLD, gold);
+        ttls.put(AssetType.MUTUAL_FUND, mutualFund);
+        return ttls;
+    }
+
+    private static final class CachedQuote {
+        private final FinnhubQuoteResponse quote;
+        private final long fetchedAtNanos;
+
+        private CachedQuote(FinnhubQuoteResponse quote, long fetchedAtNanos) {
+            this.quote = quote;
+            this.fetchedAtNanos = fetchedAtNanos;
+        }
+    }
+}
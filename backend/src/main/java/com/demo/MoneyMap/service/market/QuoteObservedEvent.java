@@ -0,0 +1,14 @@
+package com.demo.MoneyMap.service.market;
+
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+
+/**
+ * Published for every fresh quote received from the market data service.
+ *
+ * Published on the HTTP client's I/O thread, so listeners must return quickly and hand any
+ * blocking work to their own executor.
+ *
+ * @param symbol upper-case symbol
+ */
+public record QuoteObservedEvent(String symbol, FinnhubQuoteResponse quote) {
+}
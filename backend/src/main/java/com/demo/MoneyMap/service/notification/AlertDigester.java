@@ -0,0 +1,237 @@
+package com.demo.MoneyMap.service.notification;
+
+import com.demo.MoneyMap.entity.AlertDigestItem;
+import com.demo.MoneyMap.entity.enums.AlertKind;
+import com.demo.MoneyMap.repository.AlertDigestItemRepository;
+import com.demo.MoneyMap.service.lease.ClusterLocked;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Collects client alerts and mails each recipient one summary per {@code alerts.digest.window-seconds}.
+ *
+ * Alerts are stored as rows in the caller's transaction, so they keep the outbox guarantee of
+ * {@link NotificationQueue}. A recipient's digest is queued once their oldest waiting alert is a
+ * window old and covers everything collected by then, so a sell-off across fifteen holdings costs
+ * one email. A digest of a single alert reads like the plain alert email. With
+ * {@code alerts.digest.enabled=false} every alert is queued on its own straight away.
+ *
+ * Published as {@code moneymap.alerts.digest} (tag stage=collected|sent).
+ */
+@Component
+@Slf4j
+public class AlertDigester {
+
+    private static final int RECIPIENTS_PER_BATCH = 200;
+
+    private final AlertDigestItemRepository repository;
+    private final NotificationQueue notificationQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter collectedCounter;
+    private final Counter sentCounter;
+
+    @Value("${alerts.digest.enabled:true}")
+    private boolean enabled;
+
+    @Value("${alerts.digest.window-seconds:120}")
+    private long windowSeconds;
+
+    public AlertDigester(AlertDigestItemRepository repository,
+                         NotificationQueue notificationQueue,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.notificationQueue = notificationQueue;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.collectedCounter = counter(meterRegistry, "collected");
+        this.sentCounter = counter(meterRegistry, "sent");
+    }
+
+    @Transactional
+    public void priceDrop(String recipient, String portfolioName, String symbol,
+                          BigDecimal currentPrice, Double dropPercent) {
+        collect(AlertDigestItem.builder()
+                .recipient(recipient)
+                .kind(AlertKind.PRICE_DROP)
+                .portfolioName(portfolioName)
+                .symbol(symbol)
+                .amount(currentPrice)
+                .changePercent(dropPercent)
+                .createdAt(Instant.now())
+                .build());
+    }
+
+    @Transactional
+    public void lowValue(String recipient, String portfolioName, BigDecimal totalValue) {
+        collect(AlertDigestItem.builder()
+                .recipient(recipient)
+                .kind(AlertKind.LOW_VALUE)
+                .portfolioName(portfolioName)
+                .amount(totalValue)
+                .createdAt(Instant.now())
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${alerts.digest.flush-interval-ms:15000}")
+    @ClusterLocked(value = "alert-digest-flush", leaseSeconds = 60)
+    public void flush() {
+        int digests = flushDue(Instant.now());
+        if (digests > 0) {
+            log.info("Queued {} alert digests", digests);
+        }
+    }
+
+    /**
+     * Queue a digest for every recipient whose oldest alert was raised a window or more before
+     * {@code now}, and remove the alerts it covers.
+     *
+     * @return number of digests queued
+     */
+    public int flushDue(Instant now) {
+        Instant cutoff = now.minusSeconds(windowSeconds);
+        int digests = 0;
+        int queued;
+        do {
+            queued = transactionTemplate.execute(status -> flushBatch(cutoff));
+            digests += queued;
+        } while (queued > 0);
+        return digests;
+    }
+
+    private int flushBatch(Instant cutoff) {
+        List<String> recipients = repository.findDueRecipients(cutoff, PageRequest.of(0, RECIPIENTS_PER_BATCH));
+        if (recipients.isEmpty()) {
+            return 0;
+        }
+        List<AlertDigestItem> items = repository.findByRecipientInOrderByIdAsc(recipients);
+        Map<String, List<AlertDigestItem>> byRecipient = items.stream()
+                .collect(Collectors.groupingBy(AlertDigestItem::getRecipient, LinkedHashMap::new, Collectors.toList()));
+
+        byRecipient.forEach(this::send);
+        repository.deleteByIds(items.stream().map(AlertDigestItem::getId).toList());
+        return byRecipient.size();
+    }
+
+    private void collect(AlertDigestItem item) {
+        collectedCounter.increment();
+        if (enabled) {
+            repository.save(item);
+        } else {
+            send(item.getRecipient(), List.of(item));
+        }
+    }
+
+    private void send(String recipient, List<AlertDigestItem> items) {
+        // A holding alerted twice in one window only needs its latest numbers
+        Map<String, AlertDigestItem> latest = new LinkedHashMap<>();
+        for (AlertDigestItem item : items) {
+            latest.put(item.getKind() + "|" + item.getPortfolioName() + "|" + item.getSymbol(), item);
+        }
+        List<AlertDigestItem> alerts = new ArrayList<>(latest.values());
+
+        if (alerts.size() == 1) {
+            AlertDigestItem alert = alerts.get(0);
+            if (alert.getKind() == AlertKind.PRICE_DROP) {
+                notificationQueue.enqueue(recipient, "⚠ Asset Price Alert: " + alert.getSymbol(), """
+                        Alert for your portfolio: %s
+
+                        Asset: %s
+                        Current Price: %s
+                        Drop Today: %.2f%%
+
+                        Please review your holdings.
+                        """.formatted(
+                        alert.getPortfolioName(),
+                        alert.getSymbol(),
+                        plain(alert.getAmount()),
+                        alert.getChangePercent()
+                ));
+            } else {
+                notificationQueue.enqueue(recipient, "⚠ Portfolio Value Alert", """
+                        Alert for your portfolio: %s
+
+                        Your portfolio value has dropped significantly.
+
+                        Current Total Value: %s
+
+                        Please review your investments.
+                        """.formatted(
+                        alert.getPortfolioName(),
+                        plain(alert.getAmount())
+                ));
+            }
+        } else {
+            notificationQueue.enqueue(recipient, "⚠ Alert Digest: " + summary(alerts), digestBody(alerts));
+        }
+        sentCounter.increment();
+    }
+
+    private static String summary(List<AlertDigestItem> alerts) {
+        long drops = alerts.stream().filter(alert -> alert.getKind() == AlertKind.PRICE_DROP).count();
+        long lowValue = alerts.size() - drops;
+        List<String> parts = new ArrayList<>(2);
+        if (drops > 0) {
+            parts.add(drops + (drops == 1 ? " price drop" : " price drops"));
+        }
+        if (lowValue > 0) {
+            parts.add(lowValue + (lowValue == 1 ? " low value portfolio" : " low value portfolios"));
+        }
+        return String.join(", ", parts);
+    }
+
+    private static String digestBody(List<AlertDigestItem> alerts) {
+        StringBuilder body = new StringBuilder("You have ").append(alerts.size()).append(" new alerts.\n");
+
+        List<AlertDigestItem> drops = alerts.stream()
+                .filter(alert -> alert.getKind() == AlertKind.PRICE_DROP)
+                .sorted(Comparator.comparing(AlertDigestItem::getChangePercent,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        if (!drops.isEmpty()) {
+            body.append("\nPrice drops (worst first):\n");
+            for (AlertDigestItem drop : drops) {
+                body.append("  %s in %s: %s (%.2f%% today)%n".formatted(
+                        drop.getSymbol(), drop.getPortfolioName(), plain(drop.getAmount()), drop.getChangePercent()));
+            }
+        }
+
+        List<AlertDigestItem> lowValue = alerts.stream()
+                .filter(alert -> alert.getKind() == AlertKind.LOW_VALUE)
+                .toList();
+        if (!lowValue.isEmpty()) {
+            body.append("\nPortfolios with a low total value:\n");
+            for (AlertDigestItem portfolio : lowValue) {
+                body.append("  %s: %s%n".formatted(portfolio.getPortfolioName(), plain(portfolio.getAmount())));
+            }
+        }
+        return body.append("\nPlease review your holdings.\n").toString();
+    }
+
+    private static String plain(BigDecimal amount) {
+        return amount == null ? "n/a" : amount.stripTrailingZeros().toPlainString();
+    }
+
+    private static Counter counter(MeterRegistry registry, String stage) {
+        return Counter.builder("moneymap.alerts.digest")
+                .description("Client alerts collected into digests, and digest emails queued")
+                .tag("stage", stage)
+                .register(registry);
+    }
+}
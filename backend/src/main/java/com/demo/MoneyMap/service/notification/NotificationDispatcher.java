@@ -0,0 +1,304 @@
+package com.demo.MoneyMap.service.notification;
+
+import com.demo.MoneyMap.entity.Notification;
+import com.demo.MoneyMap.entity.enums.NotificationStatus;
+import com.demo.MoneyMap.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.AddressException;
+import jakarta.mail.internet.InternetAddress;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the notification queue on a pool of {@code notifications.workers} threads.
+ *
+ * Each worker claims up to {@code notifications.batch-size} due rows with a guarded UPDATE (so
+ * workers on any node never send the same row twice), sends the whole batch over one SMTP
+ * connection, and records the outcome per message. Failures are retried with exponential
+ * backoff from {@code notifications.retry-backoff-ms}; after {@code notifications.max-attempts},
+ * or straight away for a malformed or rejected address, the row is marked DEAD and left for
+ * inspection. A worker that dies mid-batch only delays its rows until the claim times out.
+ *
+ * Published as {@code moneymap.notifications} (tag result=sent|retried|dead) and
+ * {@code moneymap.notifications.queue} (tag status=pending|dead). The queue depth is counted every
+ * {@code notifications.depth-refresh-ms} on its own schedule, so it stays current while workers
+ * are busy and on nodes where they are disabled.
+ */
+@Component
+@Slf4j
+public class NotificationDispatcher {
+
+    private static final Set<NotificationStatus> DUE = EnumSet.of(NotificationStatus.PENDING, NotificationStatus.SENDING);
+
+    private final NotificationRepository repository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+    private final AtomicLong pendingDepth = new AtomicLong();
+    private final AtomicLong deadDepth = new AtomicLong();
+
+    @Value("${notifications.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notifications.workers:2}")
+    private int workers;
+
+    @Value("${notifications.batch-size:50}")
+    private int batchSize;
+
+    @Value("${notifications.poll-interval-ms:1000}")
+    private long pollIntervalMillis;
+
+    @Value("${notifications.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${notifications.retry-backoff-ms:5000}")
+    private long retryBackoffMillis;
+
+    @Value("${notifications.max-backoff-ms:600000}")
+    private long maxBackoffMillis;
+
+    @Value("${notifications.claim-timeout-ms:300000}")
+    private long claimTimeoutMillis;
+
+    private final Object signal = new Object();
+    private volatile boolean running;
+    private ExecutorService pool;
+
+    public NotificationDispatcher(NotificationRepository repository,
+                                  JavaMailSender mailSender,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sentCounter = counter(meterRegistry, "sent");
+        this.retriedCounter = counter(meterRegistry, "retried");
+        this.deadCounter = counter(meterRegistry, "dead");
+        Gauge.builder("moneymap.notifications.queue", pendingDepth, AtomicLong::get)
+                .description("Notifications waiting to be sent")
+                .tag("status", "pending")
+                .register(meterRegistry);
+        Gauge.builder("moneymap.notifications.queue", deadDepth, AtomicLong::get)
+                .description("Notifications that will not be retried")
+                .tag("status", "dead")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        AtomicInteger threads = new AtomicInteger();
+        pool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "notification-worker-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            pool.execute(this::work);
+        }
+        log.info("Notification dispatcher started with {} workers", workers);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        wakeUp();
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Let idle workers look for new notifications now instead of at the next poll.
+     */
+    public void wakeUp() {
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+    }
+
+    /**
+     * Claim one batch of due notifications and send it.
+     *
+     * @return number of due notifications seen, including any another worker claimed first
+     */
+    public int drainOnce() {
+        Instant now = Instant.now();
+        String token = UUID.randomUUID().toString();
+        AtomicInteger due = new AtomicInteger();
+
+        List<Notification> batch = transactionTemplate.execute(status -> {
+            List<Long> ids = repository.findDueIds(DUE, now, PageRequest.of(0, batchSize));
+            due.set(ids.size());
+            if (ids.isEmpty() || repository.claim(ids, DUE, token, now, now.plusMillis(claimTimeoutMillis)) == 0) {
+                return List.<Notification>of();
+            }
+            return repository.findByClaimTokenOrderByIdAsc(token);
+        });
+        if (!batch.isEmpty()) {
+            send(batch, token);
+        }
+        return due.get();
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                if (drainOnce() == 0) {
+                    synchronized (signal) {
+                        signal.wait(pollIntervalMillis);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Notification worker failed, retrying in {} ms: {}", pollIntervalMillis, e.getMessage());
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void send(List<Notification> batch, String token) {
+        List<Notification> deliverable = new ArrayList<>(batch.size());
+        List<SimpleMailMessage> messages = new ArrayList<>(batch.size());
+        List<Notification> failed = new ArrayList<>();
+
+        for (Notification notification : batch) {
+            try {
+                new InternetAddress(notification.getRecipient(), true).validate();
+            } catch (AddressException e) {
+                failed.add(recordFailure(notification, e, true));
+                continue;
+            }
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setTo(notification.getRecipient());
+            message.setSubject(notification.getSubject());
+            message.setText(notification.getBody());
+            deliverable.add(notification);
+            messages.add(message);
+        }
+
+        // One connection for the whole batch; per-message failures come back in the exception
+        Map<Object, Exception> failures = Map.of();
+        Exception batchFailure = null;
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.toArray(SimpleMailMessage[]::new));
+            } catch (MailSendException e) {
+                failures = e.getFailedMessages();
+                if (failures.isEmpty()) {
+                    batchFailure = e;
+                }
+            } catch (MailException e) {
+                batchFailure = e;
+            }
+        }
+
+        List<Long> sentIds = new ArrayList<>(deliverable.size());
+        for (int i = 0; i < deliverable.size(); i++) {
+            Exception error = batchFailure != null ? batchFailure : failures.get(messages.get(i));
+            if (error == null) {
+                sentIds.add(deliverable.get(i).getId());
+            } else {
+                failed.add(recordFailure(deliverable.get(i), error, isRejectedAddress(error)));
+            }
+        }
+
+        Instant sentAt = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sentIds.isEmpty()) {
+                repository.markSent(sentIds, token, sentAt);
+            }
+            repository.saveAll(failed);
+        });
+        sentCounter.increment(sentIds.size());
+        if (!failed.isEmpty()) {
+            log.warn("Sent {} of {} notifications; {} failed", sentIds.size(), batch.size(), failed.size());
+        }
+    }
+
+    private Notification recordFailure(Notification notification, Exception error, boolean permanent) {
+        int attempts = notification.getAttempts() + 1;
+        notification.setAttempts(attempts);
+        notification.setClaimToken(null);
+        notification.setLastError(describe(error));
+
+        if (permanent || attempts >= maxAttempts) {
+            notification.setStatus(NotificationStatus.DEAD);
+            deadCounter.increment();
+            log.warn("Notification {} to {} dead-lettered after {} attempts: {}",
+                    notification.getId(), notification.getRecipient(), attempts, notification.getLastError());
+        } else {
+            long backoff = Math.min(maxBackoffMillis, retryBackoffMillis << Math.min(attempts - 1, 20));
+            notification.setStatus(NotificationStatus.PENDING);
+            notification.setNextAttemptAt(Instant.now().plusMillis(backoff));
+            retriedCounter.increment();
+        }
+        return notification;
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.depth-refresh-ms:5000}")
+    public void refreshDepth() {
+        pendingDepth.set(repository.countByStatus(NotificationStatus.PENDING));
+        deadDepth.set(repository.countByStatus(NotificationStatus.DEAD));
+    }
+
+    // The server refused the recipient outright; retrying cannot help
+    private static boolean isRejectedAddress(Exception error) {
+        return error instanceof SendFailedException sendFailed
+                && sendFailed.getInvalidAddresses() != null
+                && sendFailed.getInvalidAddresses().length > 0;
+    }
+
+    private static String describe(Exception error) {
+        String message = error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("moneymap.notifications")
+                .description("Notification delivery attempts")
+                .tag("result", result)
+                .register(registry);
+    }
+}
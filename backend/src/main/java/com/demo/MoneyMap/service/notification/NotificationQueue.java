@@ -0,0 +1,60 @@
+package com.demo.MoneyMap.service.notification;
+
+import com.demo.MoneyMap.entity.Notification;
+import com.demo.MoneyMap.entity.enums.NotificationStatus;
+import com.demo.MoneyMap.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+
+/**
+ * Outbound email queue. Enqueueing only inserts a row, so callers never wait on the mail server;
+ * inside a transaction the row commits or rolls back with the caller's own changes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationQueue {
+
+    private static final int MAX_SUBJECT = 255;
+    private static final int MAX_BODY = 4000;
+
+    private final NotificationRepository repository;
+    private final NotificationDispatcher dispatcher;
+
+    @Transactional
+    public Notification enqueue(String recipient, String subject, String body) {
+        Notification notification = repository.save(Notification.builder()
+                .recipient(recipient)
+                .subject(truncate(subject, MAX_SUBJECT))
+                .body(truncate(body, MAX_BODY))
+                .status(NotificationStatus.PENDING)
+                .nextAttemptAt(Instant.now())
+                .build());
+        log.debug("Queued notification {} to {}", notification.getId(), recipient);
+        afterCommit(dispatcher::wakeUp);
+        return notification;
+    }
+
+    private static String truncate(String value, int max) {
+        return value.length() <= max ? value : value.substring(0, max);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.demo.MoneyMap.service.payment;
+
+import com.demo.MoneyMap.repository.PaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Answers "has this idempotency key been used?" without a query in the common case.
+ *
+ * Keys map to payment ids in a bounded LRU of {@code idempotency.cache.max-entries} recent keys,
+ * backed by a Bloom filter of every key seen. A key the filter has never seen is new, so the
+ * database is not asked; a key it might have seen is looked up once and then cached. Both are
+ * filled from the payments table on startup; until that finishes every key goes to the
+ * database.
+ *
+ * Keys written by other nodes are not in this node's filter, so a duplicate can slip past the
+ * check. The unique constraint on {@code idempotency_key} catches it, and callers then fetch the
+ * existing payment. Only committed payments may be recorded.
+ *
+ * Published as {@code moneymap.payments.idempotency} (tag lookup=cached|new|found|missed) and
+ * {@code moneymap.payments.idempotency.cache.size}.
+ */
+@Component
+@Slf4j
+public class IdempotencyKeyIndex {
+
+    private static final int WARM_UP_PAGE_SIZE = 10_000;
+
+    private final PaymentRepository paymentRepository;
+    private final BloomFilter seen;
+    private final Map<String, Long> recent;
+
+    private final Counter cachedCounter;
+    private final Counter newCounter;
+    private final Counter foundCounter;
+    private final Counter missedCounter;
+
+    @Value("${idempotency.warm-up.enabled:true}")
+    private boolean warmUpEnabled;
+
+    private volatile boolean ready;
+
+    public IdempotencyKeyIndex(PaymentRepository paymentRepository,
+                               @Value("${idempotency.bloom.expected-keys:1000000}") long expectedKeys,
+                               @Value("${idempotency.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${idempotency.cache.max-entries:100000}") int maxEntries,
+                               MeterRegistry meterRegistry) {
+        this.paymentRepository = paymentRepository;
+        this.seen = BloomFilter.create(expectedKeys, falsePositiveRate);
+        this.recent = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.cachedCounter = counter(meterRegistry, "cached");
+        this.newCounter = counter(meterRegistry, "new");
+        this.foundCounter = counter(meterRegistry, "found");
+        this.missedCounter = counter(meterRegistry, "missed");
+        Gauge.builder("moneymap.payments.idempotency.cache.size", this, IdempotencyKeyIndex::cacheSize)
+                .description("Idempotency keys cached with their payment id")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWarmUp() {
+        if (!warmUpEnabled) {
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "idempotency-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Load every existing key into the filter, and the most recent ones into the cache.
+     */
+    void warmUp() {
+        long started = System.currentTimeMillis();
+        long afterId = 0;
+        long keys = 0;
+        try {
+            List<Object[]> page;
+            do {
+                page = paymentRepository.findIdempotencyKeysAfter(afterId, PageRequest.of(0, WARM_UP_PAGE_SIZE));
+                for (Object[] row : page) {
+                    afterId = ((Number) row[0]).longValue();
+                    record((String) row[1], afterId);
+                }
+                keys += page.size();
+            } while (page.size() == WARM_UP_PAGE_SIZE);
+            ready = true;
+            log.info("Idempotency key index warmed with {} keys in {} ms ({} bits)",
+                    keys, System.currentTimeMillis() - started, seen.bitSize());
+        } catch (RuntimeException e) {
+            log.warn("Idempotency key index warm-up failed after {} keys, checking keys in the database: {}",
+                    keys, e.getMessage());
+        }
+    }
+
+    /**
+     * Id of the payment that used this key, if any.
+     */
+    public Optional<Long> find(String key) {
+        Long id = cached(key);
+        if (id != null) {
+            cachedCounter.increment();
+            return Optional.of(id);
+        }
+        if (ready && !seen.mightContain(key)) {
+            newCounter.increment();
+            return Optional.empty();
+        }
+        Optional<Long> stored = paymentRepository.findIdByIdempotencyKey(key);
+        if (stored.isPresent()) {
+            foundCounter.increment();
+            record(key, stored.get());
+        } else {
+            missedCounter.increment();
+        }
+        return stored;
+    }
+
+    /**
+     * The subset of these keys that may already be used. Keys left out are certainly new.
+     */
+    public List<String> possiblyUsed(Collection<String> keys) {
+        if (!ready) {
+            return new ArrayList<>(keys);
+        }
+        List<String> candidates = new ArrayList<>();
+        for (String key : keys) {
+            if (seen.mightContain(key)) {
+                candidates.add(key);
+            }
+        }
+        newCounter.increment(keys.size() - candidates.size());
+        return candidates;
+    }
+
+    /**
+     * Remember a key of a committed payment.
+     */
+    public void record(String key, Long paymentId) {
+        if (key == null || paymentId == null) {
+            return;
+        }
+        seen.put(key);
+        synchronized (recent) {
+            recent.put(key, paymentId);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private Long cached(String key) {
+        synchronized (recent) {
+            return recent.get(key);
+        }
+    }
+
+    private int cacheSize() {
+        synchronized (recent) {
+            return recent.size();
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String lookup) {
+        return Counter.builder("moneymap.payments.idempotency")
+                .description("Idempotency key lookups by how they were answered")
+                .tag("lookup", lookup)
+                .register(registry);
+    }
+}
@@ -0,0 +1,250 @@
+package com.demo.MoneyMap.service.payment;
+
+import com.demo.MoneyMap.dto.request.PaymentRequestDTO;
+import com.demo.MoneyMap.dto.response.PaymentBatchErrorDTO;
+import com.demo.MoneyMap.dto.response.PaymentBatchResultDTO;
+import com.demo.MoneyMap.entity.Payment;
+import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import com.demo.MoneyMap.mapper.PaymentMapper;
+import com.demo.MoneyMap.repository.PaymentRepository;
+import com.demo.MoneyMap.service.SearchIndexService;
+import com.demo.MoneyMap.service.id.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Creates payments in bulk for {@code POST /api/v1/payments/batch}.
+ *
+ * Requests are read one at a time and written in chunks of {@code payments.batch.chunk-size},
+ * each in its own transaction: idempotency keys are resolved with one IN query over the keys the
+ * {@link IdempotencyKeyIndex} cannot rule out (none, for a chunk of fresh keys), payments and
+ * their CREATED history are written with multi-row INSERTs, and the new ids are read back with
+ * one more query. Once a chunk commits, its payments are indexed for search and handed to the
+ * {@link PaymentRuleEvaluationQueue}. Memory use is bounded by the chunk size, not the upload.
+ *
+ * Published as {@code moneymap.payments.batch} (tag result=created|duplicate|rejected).
+ */
+@Component
+@Slf4j
+public class PaymentBatchIngestor {
+
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentMapper paymentMapper;
+    private final Validator validator;
+    private final SearchIndexService searchIndexService;
+    private final PaymentRuleEvaluationQueue ruleEvaluationQueue;
+    private final IdempotencyKeyIndex idempotencyKeyIndex;
+    private final SnowflakeIdGenerator idGenerator;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter createdCounter;
+    private final Counter duplicateCounter;
+    private final Counter rejectedCounter;
+
+    @Value("${payments.batch.chunk-size:1000}")
+    private int chunkSize;
+
+    public PaymentBatchIngestor(PaymentRepository paymentRepository,
+                                PaymentMapper paymentMapper,
+                                Validator validator,
+                                SearchIndexService searchIndexService,
+                                PaymentRuleEvaluationQueue ruleEvaluationQueue,
+                                IdempotencyKeyIndex idempotencyKeyIndex,
+                                SnowflakeIdGenerator idGenerator,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.paymentRepository = paymentRepository;
+        this.paymentMapper = paymentMapper;
+        this.validator = validator;
+        this.searchIndexService = searchIndexService;
+        this.ruleEvaluationQueue = ruleEvaluationQueue;
+        this.idempotencyKeyIndex = idempotencyKeyIndex;
+        this.idGenerator = idGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.createdCounter = counter(meterRegistry, "created");
+        this.duplicateCounter = counter(meterRegistry, "duplicate");
+        this.rejectedCounter = counter(meterRegistry, "rejected");
+    }
+
+    /**
+     * Create every valid payment in the sequence. If reading the sequence fails, the failure is
+     * reported at that position and the payments before it are kept.
+     */
+    public PaymentBatchResultDTO ingest(Iterator<PaymentRequestDTO> requests) {
+        Progress progress = new Progress();
+        List<Pending> chunk = new ArrayList<>(chunkSize);
+        boolean complete = true;
+
+        for (long index = 0; ; index++) {
+            PaymentRequestDTO request;
+            try {
+                if (!requests.hasNext()) {
+                    break;
+                }
+                request = requests.next();
+            } catch (RuntimeException e) {
+                progress.reject(index, null, "Malformed payment, stopped reading: " + e.getMessage());
+                complete = false;
+                break;
+            }
+
+            String violation = violation(request);
+            if (violation != null) {
+                progress.reject(index, request != null ? request.getIdempotencyKey() : null, violation);
+                continue;
+            }
+            chunk.add(new Pending(index, request));
+            if (chunk.size() >= chunkSize) {
+                write(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            write(chunk, progress);
+        }
+
+        log.info("Payment batch: {} received, {} created, {} duplicates, {} rejected{}",
+                progress.received(), progress.created, progress.duplicates, progress.rejected,
+                complete ? "" : " (input cut short)");
+        return PaymentBatchResultDTO.builder()
+                .received(progress.received())
+                .created(progress.created)
+                .duplicates(progress.duplicates)
+                .rejected(progress.rejected)
+                .complete(complete)
+                .errors(progress.errors)
+                .build();
+    }
+
+    private String violation(PaymentRequestDTO request) {
+        if (request == null) {
+            return "Payment is empty";
+        }
+        Set<ConstraintViolation<PaymentRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        return PaymentRequestRules.violation(request);
+    }
+
+    private void write(List<Pending> chunk, Progress progress) {
+        Written written;
+        try {
+            written = transactionTemplate.execute(status -> insert(chunk, true));
+        } catch (DataIntegrityViolationException e) {
+            // Another request, maybe on another node, took one of the keys after the check; the
+            // retry asks the database about every key and sees it as a duplicate
+            log.debug("Idempotency key race in payment batch, retrying chunk: {}", e.getMessage());
+            written = transactionTemplate.execute(status -> insert(chunk, false));
+        }
+
+        progress.created += written.payments().size();
+        progress.duplicates += written.duplicates();
+        createdCounter.increment(written.payments().size());
+        duplicateCounter.increment(written.duplicates());
+
+        written.payments().forEach(payment -> idempotencyKeyIndex.record(payment.getIdempotencyKey(), payment.getId()));
+        written.payments().forEach(searchIndexService::index);
+        ruleEvaluationQueue.submit(written.payments().stream().map(Payment::getId).toList());
+    }
+
+    private Written insert(List<Pending> chunk, boolean useIndex) {
+        Set<String> keys = chunk.stream()
+                .map(pending -> pending.request().getIdempotencyKey())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Collection<String> candidates = useIndex ? idempotencyKeyIndex.possiblyUsed(keys) : keys;
+        Set<String> taken = candidates.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(paymentRepository.findExistingIdempotencyKeys(candidates));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Payment> payments = new ArrayList<>(chunk.size());
+        int duplicates = 0;
+        for (Pending pending : chunk) {
+            String key = pending.request().getIdempotencyKey();
+            if (key != null && !taken.add(key)) {
+                duplicates++;
+                continue;
+            }
+            Payment payment = paymentMapper.toEntity(pending.request());
+            payment.setPaymentReference(idGenerator.nextPaymentReference());
+            payment.setStatus(PaymentStatus.CREATED);
+            payment.setCreatedAt(now);
+            payment.setUpdatedAt(now);
+            payments.add(payment);
+        }
+        if (payments.isEmpty()) {
+            return new Written(payments, duplicates);
+        }
+
+        paymentRepository.insertAll(payments);
+        Map<String, Long> ids = new HashMap<>(payments.size() * 2);
+        for (Object[] row : paymentRepository.findIdsByPaymentReferences(
+                payments.stream().map(Payment::getPaymentReference).toList())) {
+            ids.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        payments.forEach(payment -> payment.setId(ids.get(payment.getPaymentReference())));
+
+        paymentRepository.insertStatusHistory(payments.stream().map(Payment::getId).toList(),
+                null, PaymentStatus.CREATED, "Payment created", now);
+        return new Written(payments, duplicates);
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("moneymap.payments.batch")
+                .description("Payments received through batch upload")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record Pending(long index, PaymentRequestDTO request) {
+    }
+
+    private record Written(List<Payment> payments, int duplicates) {
+    }
+
+    private final class Progress {
+        private long created;
+        private long duplicates;
+        private long rejected;
+        private final List<PaymentBatchErrorDTO> errors = new ArrayList<>();
+
+        private void reject(long index, String idempotencyKey, String message) {
+            rejected++;
+            rejectedCounter.increment();
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new PaymentBatchErrorDTO(index, idempotencyKey, message));
+            }
+        }
+
+        private long received() {
+            return created + duplicates + rejected;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.demo.MoneyMap.service.payment;
+
+import com.demo.MoneyMap.dto.request.PaymentRequestDTO;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Business checks on a new payment that go beyond its field constraints, shared by single and
+ * batch creation.
+ */
+public final class PaymentRequestRules {
+
+    public static final List<String> SUPPORTED_CURRENCIES = List.of("USD", "EUR", "GBP", "JPY", "INR", "CAD", "AUD");
+
+    private PaymentRequestRules() {
+    }
+
+    /**
+     * @return why the payment cannot be created, or null if it can
+     */
+    public static String violation(PaymentRequestDTO request) {
+        if (request.getSourceAccount().equals(request.getDestinationAccount())) {
+            return "Source and destination accounts cannot be the same";
+        }
+        if (!SUPPORTED_CURRENCIES.contains(request.getCurrency().toUpperCase(Locale.ROOT))) {
+            return "Currency " + request.getCurrency() + " is not supported. Supported currencies: " + SUPPORTED_CURRENCIES;
+        }
+        return null;
+    }
+}
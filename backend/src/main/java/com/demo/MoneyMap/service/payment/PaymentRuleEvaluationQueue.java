@@ -0,0 +1,99 @@
+package com.demo.MoneyMap.service.payment;
+
+import com.demo.MoneyMap.entity.Payment;
+import com.demo.MoneyMap.repository.PaymentRepository;
+import com.demo.MoneyMap.service.RuleEngineService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs monitoring rules over newly created payments in the background, a chunk at a time.
+ *
+ * Each chunk is loaded and evaluated in its own transaction on one of
+ * {@code payments.rules.workers} threads. When {@code payments.rules.queue-capacity} chunks are
+ * already waiting, the submitting thread evaluates the chunk itself, so a large upload slows
+ * down instead of outrunning rule evaluation or dropping it.
+ */
+@Component
+@Slf4j
+public class PaymentRuleEvaluationQueue {
+
+    private final PaymentRepository paymentRepository;
+    private final RuleEngineService ruleEngineService;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter evaluatedCounter;
+
+    @Value("${payments.rules.workers:2}")
+    private int workers;
+
+    @Value("${payments.rules.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    public PaymentRuleEvaluationQueue(PaymentRepository paymentRepository,
+                                      RuleEngineService ruleEngineService,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry) {
+        this.paymentRepository = paymentRepository;
+        this.ruleEngineService = ruleEngineService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.evaluatedCounter = Counter.builder("moneymap.payments.rules.evaluated")
+                .description("Payments evaluated against monitoring rules in the background")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threads = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "payment-rules-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Evaluate the given committed payments against all active rules.
+     */
+    public void submit(List<Long> paymentIds) {
+        if (!paymentIds.isEmpty()) {
+            executor.execute(() -> evaluate(paymentIds));
+        }
+    }
+
+    private void evaluate(List<Long> paymentIds) {
+        try {
+            int alerts = transactionTemplate.execute(status -> {
+                List<Payment> payments = paymentRepository.findAllById(paymentIds);
+                return ruleEngineService.evaluatePayments(payments).size();
+            });
+            evaluatedCounter.increment(paymentIds.size());
+            log.debug("Evaluated rules for {} payments: {} alerts", paymentIds.size(), alerts);
+        } catch (RuntimeException e) {
+            log.warn("Rule evaluation failed for {} payments starting at id {}: {}",
+                    paymentIds.size(), paymentIds.get(0), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.demo.MoneyMap.service.payment;
+
+import com.demo.MoneyMap.dto.request.PaymentBulkStatusUpdateDTO;
+import com.demo.MoneyMap.dto.response.PaymentBulkStatusResultDTO;
+import com.demo.MoneyMap.entity.enums.PaymentErrorCode;
+import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.repository.PaymentRepository;
+import com.demo.MoneyMap.repository.PaymentSelection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves many payments to a new status with a few set-based statements instead of a load, save and
+ * history insert per payment.
+ *
+ * The statuses a payment may leave for the target are the ones {@link PaymentStatus#canTransitionTo}
+ * allows, and each becomes a {@code WHERE status = ?} of its own so the history rows record where
+ * every payment came from. Selections by id are split into chunks of {@code IDS_PER_STATEMENT};
+ * every chunk and status commits in its own transaction, retried if payments enter the selection
+ * while it runs.
+ *
+ * Published as {@code moneymap.payments.transitions} (tags from, to).
+ */
+@Component
+@Slf4j
+public class PaymentStatusBulkUpdater {
+
+    static final int IDS_PER_STATEMENT = 1000;
+    static final int MAX_ATTEMPTS = 3;
+
+    private final PaymentRepository paymentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public PaymentStatusBulkUpdater(PaymentRepository paymentRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.paymentRepository = paymentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    public PaymentBulkStatusResultDTO update(PaymentBulkStatusUpdateDTO request) {
+        PaymentStatus target = request.getStatus();
+        if (request.getPaymentIds() == null && request.getCurrentStatus() == null
+                && request.getCreatedFrom() == null && request.getCreatedTo() == null) {
+            throw new BadRequestException("Choose payments by id, current status or creation time");
+        }
+        List<PaymentStatus> sources;
+        if (request.getCurrentStatus() != null) {
+            if (!request.getCurrentStatus().canTransitionTo(target)) {
+                throw new BadRequestException(String.format(
+                        "Invalid status transition from %s to %s", request.getCurrentStatus(), target));
+            }
+            sources = List.of(request.getCurrentStatus());
+        } else {
+            sources = Arrays.stream(PaymentStatus.values()).filter(status -> status.canTransitionTo(target)).toList();
+        }
+
+        List<PaymentSelection> selections = new ArrayList<>();
+        long requestedIds = 0;
+        if (request.getPaymentIds() != null) {
+            List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getPaymentIds()));
+            requestedIds = ids.size();
+            for (int start = 0; start < ids.size(); start += IDS_PER_STATEMENT) {
+                selections.add(new PaymentSelection(ids.subList(start, Math.min(ids.size(), start + IDS_PER_STATEMENT)),
+                        request.getCreatedFrom(), request.getCreatedTo()));
+            }
+        } else {
+            selections.add(new PaymentSelection(null, request.getCreatedFrom(), request.getCreatedTo()));
+        }
+
+        String notes = request.getNotes() != null ? request.getNotes() : "Bulk status update";
+        Map<PaymentStatus, Long> updatedFrom = new EnumMap<>(PaymentStatus.class);
+        for (PaymentStatus source : sources) {
+            long moved = 0;
+            for (PaymentSelection selection : selections) {
+                moved += transition(selection, source, target, notes, request.getErrorCode(), request.getErrorMessage());
+            }
+            if (moved > 0) {
+                updatedFrom.put(source, moved);
+            }
+        }
+
+        long updated = updatedFrom.values().stream().mapToLong(Long::longValue).sum();
+        log.info("Bulk status update to {}: {} payments moved {}", target, updated, updatedFrom);
+        return PaymentBulkStatusResultDTO.builder()
+                .status(target)
+                .updated(updated)
+                .updatedFrom(updatedFrom)
+                .unchanged(request.getPaymentIds() != null ? requestedIds - updated : 0)
+                .build();
+    }
+
+    /**
+     * Move the selected payments in status {@code from} to {@code to} in one transaction.
+     *
+     * @return number of payments moved
+     */
+    public int transition(PaymentSelection selection, PaymentStatus from, PaymentStatus to, String notes,
+                          PaymentErrorCode errorCode, String errorMessage) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer moved = transactionTemplate.execute(status -> paymentRepository.transitionStatus(
+                        selection, from, to, notes, errorCode, errorMessage, LocalDateTime.now()));
+                int count = moved != null ? moved : 0;
+                Counter.builder("moneymap.payments.transitions")
+                        .description("Payments moved between statuses by bulk updates")
+                        .tag("from", from.name())
+                        .tag("to", to.name())
+                        .register(meterRegistry)
+                        .increment(count);
+                return count;
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("Retrying bulk status update from {} to {}: {}", from, to, e.getMessage());
+            }
+        }
+    }
+}
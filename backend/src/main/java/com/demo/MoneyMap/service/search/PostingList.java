@@ -0,0 +1,147 @@
+package com.demo.MoneyMap.service.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted list of document IDs for a single trigram.
+ * IDs are stored as delta-encoded varints, so a posting list of dense database IDs
+ * costs roughly one byte per entry instead of eight.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int size;
+    private long last;
+
+    /**
+     * Add an ID, keeping the list sorted and free of duplicates.
+     * Appending an ID larger than the current tail is O(1); anything else re-encodes the list.
+     */
+    void add(long id) {
+        if (size == 0 || id > last) {
+            append(id);
+            return;
+        }
+        long[] ids = toArray();
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, insertAt);
+        updated[insertAt] = id;
+        System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+        encode(updated);
+    }
+
+    /**
+     * Remove an ID if present.
+     */
+    void remove(long id) {
+        if (size == 0 || id > last) {
+            return;
+        }
+        long[] ids = toArray();
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos < 0) {
+            return;
+        }
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, pos);
+        System.arraycopy(ids, pos + 1, updated, pos, ids.length - pos - 1);
+        encode(updated);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Decode the full list of IDs in ascending order.
+     */
+    long[] toArray() {
+        long[] ids = new long[size];
+        int offset = 0;
+        long value = 0;
+        for (int i = 0; i < size; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += delta;
+            ids[i] = value;
+        }
+        return ids;
+    }
+
+    /**
+     * Intersect this list with a sorted array of candidate IDs, decoding lazily.
+     */
+    long[] retainAll(long[] candidates) {
+        long[] result = new long[Math.min(candidates.length, size)];
+        int count = 0;
+        int offset = 0;
+        int decoded = 0;
+        long value = 0;
+        int c = 0;
+        while (c < candidates.length && decoded < size) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[offset++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += delta;
+            decoded++;
+
+            while (c < candidates.length && candidates[c] < value) {
+                c++;
+            }
+            if (c < candidates.length && candidates[c] == value) {
+                result[count++] = value;
+                c++;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    private void encode(long[] ids) {
+        data = new byte[Math.max(8, ids.length * 2)];
+        length = 0;
+        size = 0;
+        last = 0;
+        for (long id : ids) {
+            append(id);
+        }
+    }
+
+    private void append(long id) {
+        long delta = size == 0 ? id : id - last;
+        ensureCapacity(length + 10);
+        while ((delta & ~0x7FL) != 0) {
+            data[length++] = (byte) ((delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        data[length++] = (byte) delta;
+        last = id;
+        size++;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, data.length * 2));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.demo.MoneyMap.service.search;
+
+/**
+ * Entity collections served by the in-memory search index.
+ */
+public enum SearchDomain {
+    CLIENT,
+    ASSET,
+    PORTFOLIO,
+    PAYMENT
+}
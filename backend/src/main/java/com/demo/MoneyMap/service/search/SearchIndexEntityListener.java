@@ -0,0 +1,51 @@
+package com.demo.MoneyMap.service.search;
+
+import com.demo.MoneyMap.service.SearchIndexService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that keeps the search index in step with entity writes.
+ * Changes reach the index only once the writing transaction commits, so a rolled back
+ * save or delete leaves it untouched. The service is injected lazily because Hibernate
+ * creates listeners while the EntityManagerFactory that the service's repositories
+ * depend on is still being built.
+ */
+@Component
+public class SearchIndexEntityListener {
+
+    private final SearchIndexService searchIndexService;
+
+    public SearchIndexEntityListener(@Lazy SearchIndexService searchIndexService) {
+        this.searchIndexService = searchIndexService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        afterCommit(() -> searchIndexService.index(entity));
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        afterCommit(() -> searchIndexService.remove(entity));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.demo.MoneyMap.service.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Helper for turning a ranked list of IDs from the search index into a page of entities.
+ * Only the IDs on the requested page are loaded, and the ranking order is preserved.
+ */
+public final class SearchPages {
+
+    private SearchPages() {
+    }
+
+    public static <T> Page<T> load(List<Long> rankedIds,
+                                   Pageable pageable,
+                                   Function<List<Long>, List<T>> loader,
+                                   Function<T, Long> idOf) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(ordered(rankedIds, loader, idOf));
+        }
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.size());
+        List<T> content = ordered(rankedIds.subList(from, to), loader, idOf);
+        return new PageImpl<>(content, pageable, rankedIds.size());
+    }
+
+    private static <T> List<T> ordered(List<Long> ids,
+                                       Function<List<Long>, List<T>> loader,
+                                       Function<T, Long> idOf) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        return loader.apply(ids).stream()
+                .sorted(Comparator.comparingInt(entity -> rank.getOrDefault(idOf.apply(entity), Integer.MAX_VALUE)))
+                .toList();
+    }
+}
@@ -0,0 +1,214 @@
+package com.demo.MoneyMap.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index for case-insensitive substring search.
+ * Each document is an ID with one or more text fields. A query of three or more characters
+ * is answered by intersecting the posting lists of its trigrams and verifying the survivors,
+ * so the cost depends on the number of matches rather than the number of documents.
+ *
+ * Results are ranked: exact field match, then field prefix, then word prefix, then any substring.
+ */
+public class TrigramIndex {
+
+    private static final int SCORE_EXACT = 4;
+    private static final int SCORE_PREFIX = 3;
+    private static final int SCORE_WORD_PREFIX = 2;
+    private static final int SCORE_CONTAINS = 1;
+
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Add or replace a document.
+     */
+    public void put(long id, String... fields) {
+        String[] normalized = Arrays.stream(fields)
+                .filter(field -> field != null && !field.isBlank())
+                .map(TrigramIndex::normalize)
+                .toArray(String[]::new);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            documents.put(id, normalized);
+            for (long trigram : trigrams(normalized)) {
+                postings.computeIfAbsent(trigram, key -> new PostingList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a document if present.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove all documents.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find all documents with a field containing the query, best matches first.
+     * Ties are broken by ascending ID so paging through results is stable.
+     */
+    public List<Long> search(String query) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        String term = normalize(query.trim());
+
+        lock.readLock().lock();
+        try {
+            long[] candidates = term.length() < 3 ? allIds() : candidates(term);
+
+            List<long[]> scored = new ArrayList<>();
+            for (long id : candidates) {
+                int score = score(documents.get(id), term);
+                if (score > 0) {
+                    scored.add(new long[]{id, score});
+                }
+            }
+            scored.sort(Comparator.<long[]>comparingLong(entry -> -entry[1])
+                    .thenComparingLong(entry -> entry[0]));
+
+            List<Long> ids = new ArrayList<>(scored.size());
+            for (long[] entry : scored) {
+                ids.add(entry[0]);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] candidates(String term) {
+        List<PostingList> lists = new ArrayList<>();
+        for (long trigram : trigrams(new String[]{term})) {
+            PostingList list = postings.get(trigram);
+            if (list == null) {
+                return new long[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        long[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = lists.get(i).retainAll(result);
+        }
+        return result;
+    }
+
+    private long[] allIds() {
+        return documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
+    private void removeInternal(long id) {
+        String[] previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (long trigram : trigrams(previous)) {
+            PostingList list = postings.get(trigram);
+            if (list != null) {
+                list.remove(id);
+                if (list.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private static int score(String[] fields, String term) {
+        if (fields == null) {
+            return 0;
+        }
+        int best = 0;
+        for (String field : fields) {
+            int index = field.indexOf(term);
+            if (index < 0) {
+                continue;
+            }
+            int score;
+            if (field.length() == term.length()) {
+                score = SCORE_EXACT;
+            } else if (index == 0) {
+                score = SCORE_PREFIX;
+            } else if (isWordPrefix(field, term)) {
+                score = SCORE_WORD_PREFIX;
+            } else {
+                score = SCORE_CONTAINS;
+            }
+            best = Math.max(best, score);
+        }
+        return best;
+    }
+
+    private static boolean isWordPrefix(String field, String term) {
+        for (int i = field.indexOf(term); i >= 0; i = field.indexOf(term, i + 1)) {
+            if (i == 0 || !Character.isLetterOrDigit(field.charAt(i - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Distinct trigrams of all fields, each packed as three 16-bit chars in a long.
+     * Trigrams never span two fields.
+     */
+    private static Set<Long> trigrams(String[] fields) {
+        Set<Long> result = new LinkedHashSet<>();
+        for (String field : fields) {
+            for (int i = 0; i + 3 <= field.length(); i++) {
+                result.add(((long) field.charAt(i) << 32)
+                        | ((long) field.charAt(i + 1) << 16)
+                        | field.charAt(i + 2));
+            }
+        }
+        return result;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,98 @@
+package com.demo.MoneyMap.service.settlement;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from a non-negative long key to a running amount and payment count,
+ * kept in parallel primitive arrays so a million updates allocate nothing.
+ */
+final class FlowTable {
+
+    private static final long EMPTY = -1L;
+
+    private long[] keys;
+    private long[] amounts;
+    private long[] counts;
+    private int mask;
+    private int size;
+
+    FlowTable(int expectedKeys) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedKeys * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Add to the key's amount and count, creating the entry at zero if it is new.
+     *
+     * @throws ArithmeticException if the amount overflows a long
+     */
+    void add(long key, long amount, long count) {
+        int slot = slot(key);
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            amounts[slot] = amount;
+            counts[slot] = count;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+            return;
+        }
+        amounts[slot] = Math.addExact(amounts[slot], amount);
+        counts[slot] += count;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(Entry entry) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                entry.accept(keys[slot], amounts[slot], counts[slot]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Entry {
+        void accept(long key, long amount, long count);
+    }
+
+    private int slot(long key) {
+        // MurmurHash3 finalizer; packed keys differ mostly in their low bits
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldAmounts = amounts;
+        long[] oldCounts = counts;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                amounts[slot] = oldAmounts[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        amounts = new long[capacity];
+        counts = new long[capacity];
+        mask = capacity - 1;
+    }
+}
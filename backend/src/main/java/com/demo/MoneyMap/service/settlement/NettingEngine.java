@@ -0,0 +1,176 @@
+package com.demo.MoneyMap.service.settlement;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Nets a stream of payments into settlement transfers, entirely in memory.
+ *
+ * Accounts and currencies are numbered as they are first seen, so each payment becomes one update
+ * of a {@link FlowTable} keyed by (source, destination, currency) packed into a long, with the
+ * amount in ten-thousandths. Bilateral netting folds each pair's two directions together;
+ * multilateral netting sums every account's flows into one position per currency, settled against
+ * a clearing account. Not thread-safe: one engine per netting run.
+ */
+public final class NettingEngine {
+
+    static final int AMOUNT_SCALE = 4;
+
+    private static final int CURRENCY_BITS = 8;
+    private static final int ACCOUNT_BITS = 27;
+    private static final long ACCOUNT_MASK = (1L << ACCOUNT_BITS) - 1;
+    private static final long CURRENCY_MASK = (1L << CURRENCY_BITS) - 1;
+
+    private final Map<String, Integer> accountIds = new HashMap<>();
+    private final List<String> accounts = new ArrayList<>();
+    private final Map<String, Integer> currencyIds = new HashMap<>();
+    private final List<String> currencies = new ArrayList<>();
+    private final FlowTable flows;
+    private long paymentCount;
+
+    public NettingEngine(int expectedFlows) {
+        this.flows = new FlowTable(expectedFlows);
+    }
+
+    /**
+     * A net amount owed from one account to another.
+     */
+    public record Transfer(String payer, String payee, String currency, BigDecimal amount, long paymentCount) {
+    }
+
+    /**
+     * Add one payment.
+     *
+     * @throws ArithmeticException if the amount has more than four decimals or a flow overflows
+     */
+    public void add(String sourceAccount, String destinationAccount, String currency, BigDecimal amount) {
+        long units = amount.movePointRight(AMOUNT_SCALE).longValueExact();
+        flows.add(flowKey(accountId(sourceAccount), accountId(destinationAccount), currencyId(currency)), units, 1);
+        paymentCount++;
+    }
+
+    public long paymentCount() {
+        return paymentCount;
+    }
+
+    /**
+     * Distinct (source, destination, currency) flows added so far.
+     */
+    public int flowCount() {
+        return flows.size();
+    }
+
+    /**
+     * One transfer per pair of accounts and currency whose flows do not cancel out.
+     */
+    public List<Transfer> bilateral() {
+        FlowTable pairs = new FlowTable(flows.size());
+        flows.forEach((key, amount, count) -> {
+            int source = source(key);
+            int destination = destination(key);
+            int currency = currency(key);
+            // A pair is keyed lower account first; a positive amount means the lower account pays
+            if (source < destination) {
+                pairs.add(flowKey(source, destination, currency), amount, count);
+            } else {
+                pairs.add(flowKey(destination, source, currency), Math.negateExact(amount), count);
+            }
+        });
+
+        List<Transfer> transfers = new ArrayList<>(pairs.size());
+        pairs.forEach((key, amount, count) -> {
+            if (amount > 0) {
+                transfers.add(transfer(source(key), destination(key), currency(key), amount, count));
+            } else if (amount < 0) {
+                transfers.add(transfer(destination(key), source(key), currency(key), -amount, count));
+            }
+        });
+        return sorted(transfers);
+    }
+
+    /**
+     * One transfer per account and currency with a non-zero net position, to or from the clearing
+     * account. For each currency the transfers into the clearing account equal those out of it.
+     */
+    public List<Transfer> multilateral(String clearingAccount) {
+        FlowTable positions = new FlowTable(accounts.size());
+        flows.forEach((key, amount, count) -> {
+            long currency = currency(key);
+            positions.add((long) source(key) << CURRENCY_BITS | currency, Math.negateExact(amount), count);
+            positions.add((long) destination(key) << CURRENCY_BITS | currency, amount, count);
+        });
+
+        List<Transfer> transfers = new ArrayList<>(positions.size());
+        positions.forEach((key, amount, count) -> {
+            String account = accounts.get((int) (key >>> CURRENCY_BITS));
+            String currency = currencies.get((int) (key & CURRENCY_MASK));
+            if (amount < 0) {
+                transfers.add(new Transfer(account, clearingAccount, currency, toAmount(-amount), count));
+            } else if (amount > 0) {
+                transfers.add(new Transfer(clearingAccount, account, currency, toAmount(amount), count));
+            }
+        });
+        return sorted(transfers);
+    }
+
+    private int accountId(String account) {
+        Integer id = accountIds.get(account);
+        if (id == null) {
+            if (accounts.size() > ACCOUNT_MASK) {
+                throw new IllegalStateException("Too many accounts to net in one run: " + accounts.size());
+            }
+            id = accounts.size();
+            accountIds.put(account, id);
+            accounts.add(account);
+        }
+        return id;
+    }
+
+    private int currencyId(String currency) {
+        Integer id = currencyIds.get(currency);
+        if (id == null) {
+            if (currencies.size() > CURRENCY_MASK) {
+                throw new IllegalStateException("Too many currencies to net in one run: " + currencies.size());
+            }
+            id = currencies.size();
+            currencyIds.put(currency, id);
+            currencies.add(currency);
+        }
+        return id;
+    }
+
+    private Transfer transfer(int payer, int payee, int currency, long units, long count) {
+        return new Transfer(accounts.get(payer), accounts.get(payee), currencies.get(currency), toAmount(units), count);
+    }
+
+    private static long flowKey(long source, long destination, long currency) {
+        return source << (ACCOUNT_BITS + CURRENCY_BITS) | destination << CURRENCY_BITS | currency;
+    }
+
+    private static int source(long key) {
+        return (int) (key >>> (ACCOUNT_BITS + CURRENCY_BITS));
+    }
+
+    private static int destination(long key) {
+        return (int) ((key >>> CURRENCY_BITS) & ACCOUNT_MASK);
+    }
+
+    private static int currency(long key) {
+        return (int) (key & CURRENCY_MASK);
+    }
+
+    private static BigDecimal toAmount(long units) {
+        return BigDecimal.valueOf(units, AMOUNT_SCALE);
+    }
+
+    private static List<Transfer> sorted(List<Transfer> transfers) {
+        transfers.sort(Comparator.comparing(Transfer::currency)
+                .thenComparing(Transfer::payer)
+                .thenComparing(Transfer::payee));
+        return transfers;
+    }
+}
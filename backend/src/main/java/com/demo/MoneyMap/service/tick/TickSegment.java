@@ -0,0 +1,203 @@
+package com.demo.MoneyMap.service.tick;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * One memory-mapped, append-only file of fixed-width tick records.
+ *
+ * Layout: a 32-byte header (magic, version, record size, capacity, record count) followed by
+ * {@code capacity} 24-byte records of (epoch nanos, price in micros, change % x 10^4, reserved).
+ * The writable mapping covers the full capacity up front; the file stays sparse until written.
+ *
+ * The record count is published after the record bytes, so concurrent readers only ever see
+ * complete records. Every {@link #INDEX_STRIDE}th timestamp is kept in a sparse in-memory index
+ * for binary search on range reads.
+ */
+final class TickSegment {
+
+    static final int HEADER_BYTES = 32;
+    static final int RECORD_BYTES = 24;
+    static final int INDEX_STRIDE = 1024;
+
+    private static final int MAGIC = 0x4D4D544B; // "MMTK"
+    private static final int VERSION = 1;
+    private static final int COUNT_OFFSET = 16;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final boolean writable;
+
+    private volatile int count;
+    private volatile long[] sparseIndex;
+    private long lastNanos = Long.MIN_VALUE;
+
+    private TickSegment(Path path, MappedByteBuffer buffer, int capacity, int count, boolean writable) {
+        this.path = path;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.count = count;
+        this.writable = writable;
+
+        long[] index = new long[Math.max(16, count / INDEX_STRIDE + 1)];
+        for (int i = 0; i < count; i += INDEX_STRIDE) {
+            index[i / INDEX_STRIDE] = nanosAt(i);
+        }
+        this.sparseIndex = index;
+        if (count > 0) {
+            this.lastNanos = nanosAt(count - 1);
+        }
+    }
+
+    /**
+     * Open (or create) a segment for appending.
+     */
+    static TickSegment openForAppend(Path path, int capacity) throws IOException {
+        Files.createDirectories(path.getParent());
+        boolean exists = Files.exists(path) && Files.size(path) >= HEADER_BYTES;
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (exists) {
+                int existingCapacity = readHeader(channel, path)[0];
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                        HEADER_BYTES + (long) existingCapacity * RECORD_BYTES);
+                return new TickSegment(path, buffer, existingCapacity, buffer.getInt(COUNT_OFFSET), true);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_BYTES + (long) capacity * RECORD_BYTES);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, RECORD_BYTES);
+            buffer.putInt(12, capacity);
+            buffer.putInt(COUNT_OFFSET, 0);
+            return new TickSegment(path, buffer, capacity, 0, true);
+        }
+    }
+
+    /**
+     * Map the records written so far, read-only.
+     */
+    static TickSegment openForRead(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int[] header = readHeader(channel, path);
+            int recordCount = header[1];
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    HEADER_BYTES + (long) recordCount * RECORD_BYTES);
+            return new TickSegment(path, buffer, header[0], recordCount, false);
+        }
+    }
+
+    /**
+     * Append one tick. Timestamps are clamped so they never go backwards within a segment.
+     *
+     * @return false if the segment is full
+     */
+    synchronized boolean append(long epochNanos, long priceMicros, int changePercentE4) {
+        if (!writable) {
+            throw new IllegalStateException("Segment is read-only: " + path);
+        }
+        int index = count;
+        if (index >= capacity) {
+            return false;
+        }
+        long nanos = Math.max(epochNanos, lastNanos);
+        int offset = HEADER_BYTES + index * RECORD_BYTES;
+        buffer.putLong(offset, nanos);
+        buffer.putLong(offset + 8, priceMicros);
+        buffer.putInt(offset + 16, changePercentE4);
+
+        if (index % INDEX_STRIDE == 0) {
+            long[] sparse = sparseIndex;
+            int slot = index / INDEX_STRIDE;
+            if (slot >= sparse.length) {
+                sparse = Arrays.copyOf(sparse, sparse.length * 2);
+            }
+            sparse[slot] = nanos;
+            sparseIndex = sparse;
+        }
+        lastNanos = nanos;
+        buffer.putInt(COUNT_OFFSET, index + 1);
+        count = index + 1;
+        return true;
+    }
+
+    /**
+     * Copy ticks with {@code from <= nanos < to} into the series.
+     */
+    void readRange(long fromNanos, long toNanos, TickSeries.Builder into) {
+        int size = count;
+        for (int i = lowerBound(fromNanos, size); i < size; i++) {
+            int offset = HEADER_BYTES + i * RECORD_BYTES;
+            long nanos = buffer.getLong(offset);
+            if (nanos >= toNanos) {
+                break;
+            }
+            into.add(nanos, buffer.getLong(offset + 8), buffer.getInt(offset + 16));
+        }
+    }
+
+    /**
+     * Index of the first record with a timestamp at or after {@code nanos}.
+     */
+    private int lowerBound(long nanos, int size) {
+        long[] sparse = sparseIndex;
+        int blocks = (size + INDEX_STRIDE - 1) / INDEX_STRIDE;
+
+        // Last block whose first timestamp is before the target
+        int low = 0;
+        int high = blocks - 1;
+        int block = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (sparse[mid] < nanos) {
+                block = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        int end = Math.min(size, (block + 1) * INDEX_STRIDE);
+        for (int i = block * INDEX_STRIDE; i < end; i++) {
+            if (nanosAt(i) >= nanos) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    int size() {
+        return count;
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    void force() {
+        if (writable) {
+            buffer.force();
+        }
+    }
+
+    private long nanosAt(int index) {
+        return buffer.getLong(HEADER_BYTES + index * RECORD_BYTES);
+    }
+
+    /**
+     * @return {capacity, record count}
+     */
+    private static int[] readHeader(FileChannel channel, Path path) throws IOException {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        if (header.getInt(0) != MAGIC || header.getInt(8) != RECORD_BYTES) {
+            throw new IOException("Not a tick segment: " + path);
+        }
+        return new int[]{header.getInt(12), header.getInt(COUNT_OFFSET)};
+    }
+}
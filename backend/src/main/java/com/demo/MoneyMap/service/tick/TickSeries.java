@@ -0,0 +1,67 @@
+package com.demo.MoneyMap.service.tick;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Ticks for one symbol in time order, held column-wise in primitive arrays.
+ */
+@Getter
+public class TickSeries {
+
+    private final String symbol;
+    private final long[] epochNanos;
+    private final double[] prices;
+    private final double[] changePercents;
+
+    private TickSeries(String symbol, long[] epochNanos, double[] prices, double[] changePercents) {
+        this.symbol = symbol;
+        this.epochNanos = epochNanos;
+        this.prices = prices;
+        this.changePercents = changePercents;
+    }
+
+    public int size() {
+        return epochNanos.length;
+    }
+
+    static Builder builder(String symbol) {
+        return new Builder(symbol);
+    }
+
+    static final class Builder {
+        private final String symbol;
+        private long[] nanos = new long[256];
+        private long[] priceMicros = new long[256];
+        private int[] changeE4 = new int[256];
+        private int size;
+
+        private Builder(String symbol) {
+            this.symbol = symbol;
+        }
+
+        void add(long epochNanos, long price, int changePercentE4) {
+            if (size == nanos.length) {
+                int grown = size * 2;
+                nanos = Arrays.copyOf(nanos, grown);
+                priceMicros = Arrays.copyOf(priceMicros, grown);
+                changeE4 = Arrays.copyOf(changeE4, grown);
+            }
+            nanos[size] = epochNanos;
+            priceMicros[size] = price;
+            changeE4[size] = changePercentE4;
+            size++;
+        }
+
+        TickSeries build() {
+            double[] prices = new double[size];
+            double[] changes = new double[size];
+            for (int i = 0; i < size; i++) {
+                prices[i] = priceMicros[i] / TickStore.PRICE_SCALE;
+                changes[i] = changeE4[i] / TickStore.CHANGE_SCALE;
+            }
+            return new TickSeries(symbol, Arrays.copyOf(nanos, size), prices, changes);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.demo.MoneyMap.service.tick;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Local store of intraday quotes, kept out of MySQL.
+ *
+ * Each symbol has one directory with append-only segments named {@code yyyy-MM-dd.NNN.ticks}
+ * (UTC day, part number). A new segment is started when the day changes or the current one
+ * reaches {@code tick-store.segment-capacity} records. Segments older than
+ * {@code tick-store.retention-days} are deleted when a writer rolls to a new day and on startup.
+ * Symbols become directory names, so only those matching {@link #isValidSymbol} are accepted.
+ */
+@Component
+@Slf4j
+public class TickStore {
+
+    static final double PRICE_SCALE = 1_000_000d;
+    static final double CHANGE_SCALE = 10_000d;
+
+    private static final String SUFFIX = ".ticks";
+    private static final long NANOS_PER_DAY = 86_400_000_000_000L;
+    private static final Pattern SYMBOL = Pattern.compile("[A-Z0-9][A-Z0-9.\\-]{0,19}");
+
+    private final Path root;
+    private final int segmentCapacity;
+    private final int retentionDays;
+    private final boolean enabled;
+    private final Clock clock;
+
+    private final Map<String, Writer> writers = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TickStore(@Value("${tick-store.dir:data/ticks}") String dir,
+                     @Value("${tick-store.segment-capacity:262144}") int segmentCapacity,
+                     @Value("${tick-store.retention-days:30}") int retentionDays,
+                     @Value("${tick-store.enabled:true}") boolean enabled) {
+        this(Paths.get(dir), segmentCapacity, retentionDays, enabled, Clock.systemUTC());
+    }
+
+    TickStore(Path root, int segmentCapacity, int retentionDays, boolean enabled, Clock clock) {
+        this.root = root.toAbsolutePath().normalize();
+        this.segmentCapacity = segmentCapacity;
+        this.retentionDays = retentionDays;
+        this.enabled = enabled;
+        this.clock = clock;
+        if (enabled && Files.isDirectory(root)) {
+            purgeExpired();
+        }
+    }
+
+    /**
+     * Whether a symbol, after trimming and upper-casing, is safe to use as a tick directory.
+     */
+    public static boolean isValidSymbol(String symbol) {
+        if (symbol == null) {
+            return false;
+        }
+        String key = symbol.trim().toUpperCase(Locale.ROOT);
+        return SYMBOL.matcher(key).matches() && !key.contains("..");
+    }
+
+    /**
+     * Append one tick for a symbol.
+     *
+     * @throws IllegalArgumentException if the symbol is not valid
+     */
+    public void append(String symbol, long epochNanos, double price, double changePercent) {
+        if (!enabled) {
+            return;
+        }
+        String key = normalize(symbol);
+        LocalDate day = dayOf(epochNanos);
+        long priceMicros = Math.round(price * PRICE_SCALE);
+        int changeE4 = (int) Math.round(changePercent * CHANGE_SCALE);
+
+        Writer writer = writers.computeIfAbsent(key, Writer::new);
+        synchronized (writer) {
+            try {
+                if (writer.segment == null || !day.equals(writer.day)) {
+                    boolean newDay = writer.day != null;
+                    writer.open(day);
+                    if (newDay) {
+                        purgeExpired();
+                    }
+                }
+                if (!writer.segment.append(epochNanos, priceMicros, changeE4)) {
+                    writer.roll();
+                    writer.segment.append(epochNanos, priceMicros, changeE4);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not append tick for " + key, e);
+            }
+        }
+    }
+
+    /**
+     * Read ticks with {@code fromNanos <= time < toNanos}, oldest first.
+     *
+     * @throws IllegalArgumentException if the symbol is not valid
+     */
+    public TickSeries read(String symbol, long fromNanos, long toNanos) {
+        String key = normalize(symbol);
+        TickSeries.Builder series = TickSeries.builder(key);
+        if (fromNanos >= toNanos) {
+            return series.build();
+        }
+        Writer writer = writers.get(key);
+
+        LocalDate last = dayOf(toNanos - 1);
+        for (LocalDate day = dayOf(fromNanos); !day.isAfter(last); day = day.plusDays(1)) {
+            for (Path path : segmentsFor(key, day)) {
+                TickSegment segment = writer != null ? writer.liveSegment(path) : null;
+                try {
+                    if (segment == null) {
+                        segment = TickSegment.openForRead(path);
+                    }
+                    segment.readRange(fromNanos, toNanos, series);
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable tick segment {}: {}", path, e.getMessage());
+                }
+            }
+        }
+        return series.build();
+    }
+
+    /**
+     * Delete segments older than the retention period.
+     *
+     * @return number of files deleted
+     */
+    public int purgeExpired() {
+        LocalDate cutoff = LocalDate.now(clock).minusDays(retentionDays);
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(root, 2)) {
+            for (Path path : files.filter(TickStore::isSegment).toList()) {
+                if (dayOfFile(path).isBefore(cutoff)) {
+                    Files.deleteIfExists(path);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Tick retention sweep failed: {}", e.getMessage());
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} expired tick segments", deleted);
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    public void close() {
+        writers.values().forEach(writer -> {
+            synchronized (writer) {
+                if (writer.segment != null) {
+                    writer.segment.force();
+                }
+            }
+        });
+    }
+
+    private List<Path> segmentsFor(String symbol, LocalDate day) {
+        Path dir = directoryOf(symbol);
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        String prefix = day + ".";
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(path -> path.getFileName().toString().startsWith(prefix) && isSegment(path))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Could not list tick segments in {}: {}", dir, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static boolean isSegment(Path path) {
+        return path.getFileName().toString().endsWith(SUFFIX);
+    }
+
+    private static LocalDate dayOfFile(Path path) {
+        return LocalDate.parse(path.getFileName().toString().substring(0, 10));
+    }
+
+    private static LocalDate dayOf(long epochNanos) {
+        return LocalDate.ofEpochDay(Math.floorDiv(epochNanos, NANOS_PER_DAY));
+    }
+
+    private static String normalize(String symbol) {
+        if (!isValidSymbol(symbol)) {
+            throw new IllegalArgumentException("Invalid tick symbol: " + symbol);
+        }
+        return symbol.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private Path directoryOf(String key) {
+        Path dir = root.resolve(key).normalize();
+        if (!dir.startsWith(root) || dir.equals(root)) {
+            throw new IllegalArgumentException("Invalid tick symbol: " + key);
+        }
+        return dir;
+    }
+
+    /**
+     * Current segment of one symbol. All access is synchronized on the writer.
+     */
+    private final class Writer {
+        private final String symbol;
+        private LocalDate day;
+        private int part;
+        private TickSegment segment;
+        private Path segmentPath;
+
+        private Writer(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Continue the last segment of the day, or start one.
+         */
+        private void open(LocalDate newDay) throws IOException {
+            if (segment != null) {
+                segment.force();
+            }
+            List<Path> existing = new ArrayList<>(segmentsFor(symbol, newDay));
+            day = newDay;
+            part = existing.isEmpty() ? 0 : partOf(existing.get(existing.size() - 1));
+            openPart();
+            if (segment.isFull()) {
+                roll();
+            }
+        }
+
+        private void roll() throws IOException {
+            segment.force();
+            part++;
+            openPart();
+        }
+
+        private void openPart() throws IOException {
+            segmentPath = directoryOf(symbol).resolve(String.format("%s.%03d%s", day, part, SUFFIX));
+            segment = TickSegment.openForAppend(segmentPath, segmentCapacity);
+        }
+
+        private synchronized TickSegment liveSegment(Path path) {
+            return path.equals(segmentPath) ? segment : null;
+        }
+
+        private int partOf(Path path) {
+            String name = path.getFileName().toString();
+            return Integer.parseInt(name.substring(11, name.length() - SUFFIX.length()));
+        }
+    }
+}
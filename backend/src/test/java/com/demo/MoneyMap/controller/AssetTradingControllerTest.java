@@ -0,0 +1,129 @@
+package com.demo.MoneyMap.controller;
+
+import com.demo.MoneyMap.dto.response.AvailableAssetDTO;
+import com.demo.MoneyMap.entity.enums.AssetType;
+import com.demo.MoneyMap.service.AssetTradingService;
+import com.demo.MoneyMap.service.catalog.CachedJsonResponse;
+import com.demo.MoneyMap.service.catalog.CatalogResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test suite for conditional GETs of the available-asset catalog.
+ *
+ * Validates that catalog responses carry an ETag, that sending it back in
+ * If-None-Match yields 304 Not Modified with an empty body, and that a tag
+ * from another version yields the full 200 response.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Asset Trading Controller - Catalog ETag Tests")
+class AssetTradingControllerTest {
+
+    private static final String BASE = "/api/v1/trading/assets/available";
+
+    @Mock
+    private AssetTradingService assetTradingService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        AvailableAssetDTO apple = AvailableAssetDTO.builder()
+                .symbol("AAPL").name("Apple Inc.").assetType(AssetType.STOCK.name()).build();
+        given(assetTradingService.getAvailableAssets()).willReturn(List.of(apple));
+        given(assetTradingService.getAvailableAssetsByType(any())).willReturn(List.of());
+        given(assetTradingService.getAvailableAssetsByType(AssetType.STOCK)).willReturn(List.of(apple));
+        given(assetTradingService.searchAvailableAssets(anyString())).willReturn(List.of(apple));
+
+        CatalogResponseCache catalogResponseCache =
+                new CatalogResponseCache(assetTradingService, new ObjectMapper().findAndRegisterModules());
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new AssetTradingController(assetTradingService, catalogResponseCache))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 with an empty body when the catalog ETag is sent back")
+    void shouldReturnNotModifiedForCurrentEtag() throws Exception {
+        String etag = mockMvc.perform(get(BASE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].symbol").value("AAPL"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        byte[] body = mockMvc.perform(get(BASE).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(body).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should answer 200 with the full body when the ETag does not match")
+    void shouldReturnBodyForStaleEtag() throws Exception {
+        mockMvc.perform(get(BASE).header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.data[0].symbol").value("AAPL"));
+    }
+
+    @Test
+    @DisplayName("Should honour ETags on the by-type and search endpoints")
+    void shouldReturnNotModifiedForTypeAndSearch() throws Exception {
+        String typeEtag = mockMvc.perform(get(BASE + "/type/STOCK"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(BASE + "/type/STOCK").header(HttpHeaders.IF_NONE_MATCH, typeEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+
+        String searchEtag = mockMvc.perform(get(BASE + "/search").param("query", "apple"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(BASE + "/search").param("query", "apple")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/" + searchEtag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get(BASE + "/type/GOLD").header(HttpHeaders.IF_NONE_MATCH, typeEtag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should match a tag list, a weak tag or a wildcard in If-None-Match")
+    void shouldMatchIfNoneMatchForms() {
+        CachedJsonResponse response = new CachedJsonResponse("{\"data\":[]}".getBytes(StandardCharsets.UTF_8));
+        String etag = response.getEtag();
+
+        assertThat(response.toResponse("\"other\", " + etag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.toResponse("W/" + etag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.toResponse("*").getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.toResponse("\"other\"").getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.toResponse(null).getBody()).isEqualTo(response.getBody());
+        assertThat(response.toResponse(etag).getBody()).isNull();
+    }
+}
@@ -0,0 +1,92 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.AssetPriceHistory;
+import com.demo.MoneyMap.service.SearchIndexService;
+import com.demo.MoneyMap.service.alert.PriceDropHolderIndex;
+import com.demo.MoneyMap.service.id.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test suite for the bulk price history insert against H2.
+ *
+ * Validates that rows are written across several statements and that rows
+ * already stored under the (symbol, price_date) key are skipped instead of
+ * failing the insert.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Asset Price History Batch Repository Tests")
+class AssetPriceHistoryBatchRepositoryTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    // Entity listener dependencies outside the JPA slice
+    @MockitoBean
+    private SnowflakeIdGenerator idGenerator;
+
+    @MockitoBean
+    private SearchIndexService searchIndexService;
+
+    @MockitoBean
+    private PriceDropHolderIndex holderIndex;
+
+    @Autowired
+    private AssetPriceHistoryRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should write rows across several statements")
+    void shouldInsertAcrossStatements() {
+        int inserted = repository.insertAll(rows("AAPL", 0, 1200));
+
+        assertThat(inserted).isEqualTo(1200);
+        assertThat(count("AAPL")).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("Should skip rows stored concurrently instead of failing")
+    void shouldSkipRowsAlreadyStored() {
+        repository.insertAll(rows("MSFT", 0, 300));
+
+        repository.insertAll(rows("MSFT", 200, 400));
+
+        assertThat(count("MSFT")).isEqualTo(400);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT close_price FROM asset_price_history WHERE symbol = 'MSFT' AND price_date = ?",
+                BigDecimal.class, START.plusDays(399))).isEqualByComparingTo("100");
+    }
+
+    private List<AssetPriceHistory> rows(String symbol, int fromDay, int toDay) {
+        return IntStream.range(fromDay, toDay)
+                .mapToObj(day -> AssetPriceHistory.builder()
+                        .symbol(symbol)
+                        .priceDate(START.plusDays(day))
+                        .openPrice(new BigDecimal("99"))
+                        .highPrice(new BigDecimal("101"))
+                        .lowPrice(new BigDecimal("98"))
+                        .closePrice(new BigDecimal("100"))
+                        .volume(1_000L)
+                        .build())
+                .toList();
+    }
+
+    private int count(String symbol) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM asset_price_history WHERE symbol = ?", Integer.class, symbol);
+    }
+}
@@ -0,0 +1,174 @@
+package com.demo.MoneyMap.repository;
+
+import com.demo.MoneyMap.entity.Payment;
+import com.demo.MoneyMap.entity.enums.PaymentErrorCode;
+import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import com.demo.MoneyMap.service.SearchIndexService;
+import com.demo.MoneyMap.service.alert.PriceDropHolderIndex;
+import com.demo.MoneyMap.service.id.SnowflakeIdGenerator;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Test suite for the bulk payment statements against H2.
+ *
+ * Validates that inserted payments get their initial history row, that a
+ * status transition only moves payments in the source status and records
+ * the status they left, and that a settlement claim takes only unclaimed
+ * VALIDATED payments in its window and streams their flows.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Payment Batch Repository Tests")
+class PaymentBatchRepositoryTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 6, 10, 0, 0);
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 12, 9, 30);
+
+    // Entity listener dependencies outside the JPA slice
+    @MockitoBean
+    private SnowflakeIdGenerator idGenerator;
+
+    @MockitoBean
+    private SearchIndexService searchIndexService;
+
+    @MockitoBean
+    private PriceDropHolderIndex holderIndex;
+
+    @Autowired
+    private PaymentRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should insert payments and their initial history rows")
+    void shouldInsertPaymentsWithHistory() {
+        List<Long> ids = insert(PaymentStatus.CREATED, DAY, 3);
+
+        assertThat(repository.insertStatusHistory(ids, null, PaymentStatus.CREATED, "Payment created", NOW))
+                .isEqualTo(3);
+
+        assertThat(ids).hasSize(3);
+        assertThat(history(ids.get(0))).containsExactly(tuple(null, "CREATED", "Payment created"));
+    }
+
+    @Test
+    @DisplayName("Should move only payments in the source status and record the status they left")
+    void shouldTransitionStatusWithHistory() {
+        List<Long> created = insert(PaymentStatus.CREATED, DAY, 2);
+        List<Long> sent = insert(PaymentStatus.SENT, DAY, 1);
+        List<Long> all = new ArrayList<>(created);
+        all.addAll(sent);
+
+        int moved = repository.transitionStatus(new PaymentSelection(all, null, null),
+                PaymentStatus.CREATED, PaymentStatus.VALIDATED, "Validated", null, null, NOW);
+
+        assertThat(moved).isEqualTo(2);
+        assertThat(statuses(all)).containsExactly("VALIDATED", "VALIDATED", "SENT");
+        assertThat(history(created.get(0))).containsExactly(tuple("CREATED", "VALIDATED", "Validated"));
+        assertThat(history(created.get(1))).containsExactly(tuple("CREATED", "VALIDATED", "Validated"));
+        assertThat(history(sent.get(0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should write the error code and message when moving payments to FAILED")
+    void shouldRecordFailure() {
+        List<Long> ids = insert(PaymentStatus.VALIDATED, DAY, 1);
+
+        repository.transitionStatus(new PaymentSelection(ids, null, null), PaymentStatus.VALIDATED,
+                PaymentStatus.FAILED, "Rejected", PaymentErrorCode.INVALID_ACCOUNT, "Unknown account", NOW);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT status, error_code, error_message FROM payments WHERE id = ?", ids.get(0));
+        assertThat(row).containsEntry("STATUS", "FAILED")
+                .containsEntry("ERROR_CODE", "INVALID_ACCOUNT")
+                .containsEntry("ERROR_MESSAGE", "Unknown account");
+        assertThat(history(ids.get(0))).containsExactly(tuple("VALIDATED", "FAILED", "Rejected"));
+    }
+
+    @Test
+    @DisplayName("Should claim unclaimed validated payments in the window and settle them")
+    void shouldClaimForSettlement() {
+        List<Long> inWindow = insert(PaymentStatus.VALIDATED, DAY.plusHours(1), 2);
+        List<Long> beforeWindow = insert(PaymentStatus.VALIDATED, DAY.minusHours(1), 1);
+        List<Long> notValidated = insert(PaymentStatus.CREATED, DAY.plusHours(2), 1);
+        List<Long> claimedElsewhere = insert(PaymentStatus.VALIDATED, DAY.plusHours(3), 1);
+        assertThat(repository.claimForSettlement(1L, DAY.plusHours(3), DAY.plusHours(4))).isEqualTo(1);
+
+        int claimed = repository.claimForSettlement(2L, DAY, DAY.plusDays(1));
+
+        assertThat(claimed).isEqualTo(2);
+        assertThat(batchOf(inWindow.get(0))).isEqualTo(2L);
+        assertThat(batchOf(inWindow.get(1))).isEqualTo(2L);
+        assertThat(batchOf(beforeWindow.get(0))).isNull();
+        assertThat(batchOf(notValidated.get(0))).isNull();
+        assertThat(batchOf(claimedElsewhere.get(0))).isEqualTo(1L);
+
+        List<String> flows = new ArrayList<>();
+        repository.forEachSettlementFlow(2L, (source, destination, currency, amount) ->
+                flows.add(source + ">" + destination + " " + amount.stripTrailingZeros().toPlainString() + currency));
+        assertThat(flows).hasSize(2).allMatch(flow -> flow.endsWith(" 25USD"));
+
+        int sent = repository.transitionStatus(PaymentSelection.settlementBatch(2L),
+                PaymentStatus.VALIDATED, PaymentStatus.SENT, "Settled in batch 2", null, null, NOW);
+
+        assertThat(sent).isEqualTo(2);
+        assertThat(statuses(inWindow)).containsExactly("SENT", "SENT");
+        assertThat(history(inWindow.get(0))).containsExactly(tuple("VALIDATED", "SENT", "Settled in batch 2"));
+        assertThat(statuses(claimedElsewhere)).containsExactly("VALIDATED");
+    }
+
+    private List<Long> insert(PaymentStatus status, LocalDateTime createdAt, int count) {
+        Long lastId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM payments", Long.class);
+        List<Payment> payments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String reference = "PAY-" + status + "-" + createdAt.getHour() + "-" + i;
+            payments.add(Payment.builder()
+                    .paymentReference(reference)
+                    .idempotencyKey(reference)
+                    .sourceAccount("ACC-" + i)
+                    .destinationAccount("ACC-" + (i + 1))
+                    .amount(new BigDecimal("25.00"))
+                    .currency("USD")
+                    .status(status)
+                    .createdAt(createdAt)
+                    .updatedAt(createdAt)
+                    .build());
+        }
+        assertThat(repository.insertAll(payments)).isEqualTo(count);
+        return jdbcTemplate.queryForList("SELECT id FROM payments WHERE id > ? ORDER BY id",
+                Long.class, lastId != null ? lastId : 0L);
+    }
+
+    private List<String> statuses(List<Long> ids) {
+        return ids.stream()
+                .map(id -> jdbcTemplate.queryForObject("SELECT status FROM payments WHERE id = ?", String.class, id))
+                .toList();
+    }
+
+    private Long batchOf(Long id) {
+        return jdbcTemplate.queryForObject("SELECT settlement_batch_id FROM payments WHERE id = ?", Long.class, id);
+    }
+
+    private List<Tuple> history(Long paymentId) {
+        return jdbcTemplate.query("SELECT previous_status, status, notes FROM payment_status_history "
+                        + "WHERE payment_id = ? ORDER BY id",
+                (rs, row) -> tuple(rs.getString(1), rs.getString(2), rs.getString(3)), paymentId);
+    }
+}
@@ -0,0 +1,216 @@
+package com.demo.MoneyMap.scheduler;
+
+import com.demo.MoneyMap.dto.response.BulkQuoteResponseDTO;
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.entity.Asset;
+import com.demo.MoneyMap.entity.Client;
+import com.demo.MoneyMap.entity.Portfolio;
+import com.demo.MoneyMap.entity.StockAsset;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.service.EmailService;
+import com.demo.MoneyMap.service.MarketQuoteService;
+import com.demo.MoneyMap.service.alert.PriceDropAlertDispatcher;
+import com.demo.MoneyMap.service.alert.PriceDropHolderIndex;
+import com.demo.MoneyMap.service.lease.JobLeaseManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Test suite for the price drop alert job.
+ *
+ * Validates that each held symbol is quoted once, that only holdings of
+ * dropped symbols are loaded and claimed, that emails are queued in the
+ * claim transaction, and that only committed claims are mirrored into the
+ * holder index.
+ */
+@ExtendWith(MockitoExtension.class)
+@ActiveProfiles("test")
+@DisplayName("Asset Price Alert Scheduler - Price Drop Job Tests")
+class AssetPriceAlertSchedulerTest {
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Mock
+    private MarketQuoteService quoteService;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PriceDropHolderIndex holderIndex;
+
+    @Mock
+    private JobLeaseManager leaseManager;
+
+    private AssetPriceAlertScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        PriceDropAlertDispatcher dispatcher = new PriceDropAlertDispatcher(assetRepository, emailService,
+                new TransactionTemplate(transactionManager), holderIndex);
+        ReflectionTestUtils.setField(dispatcher, "dropThreshold", -5.0);
+        ReflectionTestUtils.setField(dispatcher, "cooldownMinutes", 60L);
+        scheduler = new AssetPriceAlertScheduler(assetRepository, quoteService, dispatcher, leaseManager);
+    }
+
+    @Test
+    @DisplayName("Should quote each symbol once and queue alerts for holders of dropped symbols before commit")
+    void shouldAlertHoldersOfDroppedSymbols() {
+        given(assetRepository.findDistinctSymbols()).willReturn(List.of("AAPL", "BTC"));
+        given(quoteService.getQuotes(List.of("AAPL", "BTC"))).willReturn(quotes(Map.of("AAPL", -7.5, "BTC", 1.2)));
+        given(assetRepository.findAlertCandidates(eq(Set.of("AAPL")), any()))
+                .willReturn(List.of(holding(1L, "aapl", "ann@example.com"), holding(2L, "AAPL", "bob@example.com")));
+        given(assetRepository.markAlertsSent(eq(List.of(1L, 2L)), any(), any())).willReturn(2);
+
+        given(leaseManager.holdsCurrentLease()).willReturn(true);
+
+        scheduler.checkAllAssetsForPriceDrop();
+
+        InOrder order = inOrder(assetRepository, transactionManager, emailService);
+        order.verify(assetRepository).markAlertsSent(eq(List.of(1L, 2L)), any(), any());
+        order.verify(emailService).sendAssetDropAlert(eq("ann@example.com"), anyString(), eq("aapl"),
+                eq(BigDecimal.valueOf(100.0)), eq(-7.5));
+        order.verify(emailService).sendAssetDropAlert(eq("bob@example.com"), anyString(), eq("AAPL"),
+                eq(BigDecimal.valueOf(100.0)), eq(-7.5));
+        order.verify(transactionManager).commit(any());
+        verify(quoteService, times(1)).getQuotes(anyCollection());
+        verify(assetRepository, never()).findIdsByLastAlertSentAt(anyCollection(), any());
+        verify(holderIndex).markAlerted(eq("AAPL"), eq(Set.of(1L, 2L)), any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave the holder index untouched when the claim does not commit")
+    void shouldNotMarkIndexWhenClaimRollsBack() {
+        given(assetRepository.findDistinctSymbols()).willReturn(List.of("AAPL"));
+        given(quoteService.getQuotes(List.of("AAPL"))).willReturn(quotes(Map.of("AAPL", -7.5)));
+        given(assetRepository.findAlertCandidates(eq(Set.of("AAPL")), any()))
+                .willReturn(List.of(holding(1L, "AAPL", "ann@example.com")));
+        given(assetRepository.markAlertsSent(eq(List.of(1L)), any(), any())).willReturn(1);
+        given(leaseManager.holdsCurrentLease()).willReturn(true);
+        willThrow(new TransactionSystemException("Commit failed")).given(transactionManager).commit(any());
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThatThrownBy(() -> scheduler.checkAllAssetsForPriceDrop())
+                .isInstanceOf(TransactionSystemException.class);
+
+        verify(holderIndex, never()).markAlerted(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should skip holdings claimed by a concurrent run")
+    void shouldOnlyAlertClaimedHoldings() {
+        given(assetRepository.findDistinctSymbols()).willReturn(List.of("TSLA"));
+        given(quoteService.getQuotes(List.of("TSLA"))).willReturn(quotes(Map.of("TSLA", -9.0)));
+        given(assetRepository.findAlertCandidates(eq(Set.of("TSLA")), any())).willReturn(List.of(
+                holding(1L, "TSLA", "ann@example.com"),
+                holding(2L, "TSLA", "bob@example.com"),
+                holding(3L, "TSLA", "cat@example.com")));
+        given(assetRepository.markAlertsSent(anyCollection(), any(), any())).willReturn(2);
+        given(assetRepository.findIdsByLastAlertSentAt(anyCollection(), any())).willReturn(List.of(1L, 3L));
+
+        given(leaseManager.holdsCurrentLease()).willReturn(true);
+
+        scheduler.checkAllAssetsForPriceDrop();
+
+        verify(emailService).sendAssetDropAlert(eq("ann@example.com"), anyString(), anyString(), any(), anyDouble());
+        verify(emailService).sendAssetDropAlert(eq("cat@example.com"), anyString(), anyString(), any(), anyDouble());
+        verify(emailService, never()).sendAssetDropAlert(eq("bob@example.com"), anyString(), anyString(), any(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("Should not open a transaction when no held symbol dropped")
+    void shouldDoNothingWithoutDrops() {
+        FinnhubQuoteResponse stale = quotes(Map.of("ETH", -20.0)).getQuotes().get("ETH").asStale();
+        BulkQuoteResponseDTO response = quotes(Map.of("AAPL", -1.0));
+        response.getQuotes().put("ETH", stale);
+        response.setFailures(Map.of("XYZ", "Timed out"));
+        given(assetRepository.findDistinctSymbols()).willReturn(List.of("AAPL", "ETH", "XYZ"));
+        given(quoteService.getQuotes(anyCollection())).willReturn(response);
+
+        scheduler.checkAllAssetsForPriceDrop();
+
+        verify(assetRepository, never()).findAlertCandidates(anyCollection(), any());
+        verifyNoInteractions(transactionManager, emailService);
+    }
+
+    @Test
+    @DisplayName("Should not claim alerts after losing the cluster lease")
+    void shouldStopAfterLosingLease() {
+        given(assetRepository.findDistinctSymbols()).willReturn(List.of("AAPL"));
+        given(quoteService.getQuotes(List.of("AAPL"))).willReturn(quotes(Map.of("AAPL", -7.5)));
+        given(leaseManager.holdsCurrentLease()).willReturn(false);
+
+        scheduler.checkAllAssetsForPriceDrop();
+
+        verify(assetRepository, never()).findAlertCandidates(anyCollection(), any());
+        verifyNoInteractions(transactionManager, emailService);
+    }
+
+    private static BulkQuoteResponseDTO quotes(Map<String, Double> changes) {
+        Map<String, FinnhubQuoteResponse> quotes = new LinkedHashMap<>();
+        changes.forEach((symbol, change) -> {
+            FinnhubQuoteResponse quote = new FinnhubQuoteResponse();
+            quote.setCurrentPrice(100.0);
+            quote.setChangePercent(change);
+            quotes.put(symbol, quote);
+        });
+        return BulkQuoteResponseDTO.builder().quotes(quotes).failures(Map.of()).build();
+    }
+
+    private static Asset holding(Long id, String symbol, String email) {
+        Client client = Client.builder().id(id).email(email).build();
+        Portfolio portfolio = Portfolio.builder().id(id).name("Portfolio " + id).client(client).build();
+        return StockAsset.builder()
+                .id(id)
+                .symbol(symbol)
+                .name(symbol)
+                .quantity(BigDecimal.TEN)
+                .purchasePrice(new BigDecimal("90.00"))
+                .currentPrice(new BigDecimal("100.00"))
+                .portfolio(portfolio)
+                .build();
+    }
+}
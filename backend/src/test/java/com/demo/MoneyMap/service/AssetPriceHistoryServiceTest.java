@@ -0,0 +1,144 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.entity.AssetPriceHistory;
+import com.demo.MoneyMap.repository.AssetPriceHistoryRepository;
+import com.demo.MoneyMap.service.impl.AssetPriceHistoryServiceImpl;
+import com.demo.MoneyMap.service.history.PriceHistoryCache;
+import com.demo.MoneyMap.service.market.MarketDataGuard;
+import com.demo.MoneyMap.service.market.PriceHistoryParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for price history ingestion.
+ *
+ * Validates that existing dates are loaded in one query and only new rows
+ * are written, in a single batch, under the upper-cased symbol, and that
+ * each chunk of a long response commits on its own.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Asset Price History Service - Ingestion Tests")
+@ActiveProfiles("test")
+class AssetPriceHistoryServiceTest {
+
+    @Mock
+    private AssetPriceHistoryRepository repository;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private MarketDataGuard marketDataGuard;
+
+    @Mock
+    private PriceHistoryCache historyCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AssetPriceHistoryServiceImpl assetPriceHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        assetPriceHistoryService = new AssetPriceHistoryServiceImpl(
+                repository, restTemplate, marketDataGuard, new PriceHistoryParser(new ObjectMapper()), historyCache,
+                transactionManager);
+        ReflectionTestUtils.setField(assetPriceHistoryService, "flaskBaseUrl", "http://localhost:5000");
+        given(marketDataGuard.execute(any())).willAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    @Test
+    @DisplayName("Should insert only dates not already stored, in one batch")
+    void shouldInsertOnlyNewDates() {
+        respondWith("aapl", "1mo", "2024-06-10", "2024-06-11", "2024-06-12", "2024-06-12");
+        given(repository.findPriceDates("AAPL")).willReturn(Set.of(LocalDate.parse("2024-06-11")));
+        given(repository.insertAll(anyList())).willAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        assetPriceHistoryService.fetchAndStoreHistory("aapl", "1mo");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AssetPriceHistory>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(repository).insertAll(inserted.capture());
+        assertThat(inserted.getValue())
+                .extracting(AssetPriceHistory::getPriceDate)
+                .containsExactly(LocalDate.parse("2024-06-10"), LocalDate.parse("2024-06-12"));
+        assertThat(inserted.getValue()).allMatch(row -> row.getSymbol().equals("AAPL"));
+        verify(repository, never()).existsBySymbolAndPriceDate(any(), any());
+        verify(repository, never()).save(any());
+        verify(historyCache).invalidate("AAPL");
+    }
+
+    @Test
+    @DisplayName("Should not write anything when every date is already stored")
+    void shouldSkipWriteWhenNothingIsNew() {
+        respondWith("BTC", "5d", "2024-06-10");
+        given(repository.findPriceDates("BTC")).willReturn(Set.of(LocalDate.parse("2024-06-10")));
+
+        assetPriceHistoryService.fetchAndStoreHistory("BTC", "5d");
+
+        verify(repository, never()).insertAll(anyList());
+        verify(historyCache, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("Should commit each chunk of a long history in its own transaction")
+    void shouldCommitEachChunk() {
+        String[] dates = LocalDate.parse("2020-01-01").datesUntil(LocalDate.parse("2020-01-01").plusDays(1200))
+                .map(LocalDate::toString)
+                .toArray(String[]::new);
+        respondWith("SPY", "5y", dates);
+        given(repository.findPriceDates("SPY")).willReturn(Set.of());
+        given(repository.insertAll(anyList())).willAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        int inserted = assetPriceHistoryService.fetchAndStoreHistory("SPY", "5y");
+
+        assertThat(inserted).isEqualTo(1200);
+        verify(repository, times(3)).insertAll(anyList());
+        verify(transactionManager, times(3)).commit(any());
+        verify(historyCache).invalidate("SPY");
+    }
+
+    private void respondWith(String symbol, String period, String... dates) {
+        String rows = Arrays.stream(dates)
+                .map(date -> "{\"date\":\"" + date + "\",\"open\":1.0,\"high\":2,\"low\":0.5,\"close\":1.5,\"volume\":1000}")
+                .collect(Collectors.joining(","));
+        byte[] body = ("{\"metadata\":{},\"historicalData\":[" + rows + "]}").getBytes(StandardCharsets.UTF_8);
+        given(restTemplate.execute(anyString(), eq(HttpMethod.GET), isNull(), any(ResponseExtractor.class), eq(symbol), eq(period)))
+                .willAnswer(invocation -> invocation.<ResponseExtractor<?>>getArgument(3)
+                        .extractData(new MockClientHttpResponse(body, HttpStatus.OK)));
+    }
+}
@@ -59,6 +59,9 @@ class AssetServiceTest {
     
     @Mock
     private AssetFactory assetFactory;
+
+    @Mock
+    private SearchIndexService searchIndexService;
     
     @InjectMocks
     private AssetServiceImpl assetService;
@@ -11,6 +11,7 @@ import com.demo.MoneyMap.exception.ResourceNotFoundException;
 import com.demo.MoneyMap.repository.AssetRepository;
 import com.demo.MoneyMap.repository.ClientRepository;
 import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.service.catalog.AssetCatalogIndex;
 import com.demo.MoneyMap.service.impl.AssetTradingServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -58,6 +60,9 @@ class AssetTradingServiceTest {
     
     @Mock
     private AssetFactory assetFactory;
+
+    @Spy
+    private AssetCatalogIndex assetCatalogIndex = new AssetCatalogIndex();
     
     @InjectMocks
     private AssetTradingServiceImpl assetTradingService;
@@ -145,4 +150,20 @@ class AssetTradingServiceTest {
         assertThat(hasNoFunds).isFalse();
         verify(clientRepository, times(2)).findById(1L);
     }
+
+    @Test
+    @DisplayName("Should serve the available asset catalog from precomputed DTOs")
+    void shouldServePrecomputedCatalog() {
+        // When: Fetching the catalog twice and by type
+        var first = assetTradingService.getAvailableAssets();
+        var second = assetTradingService.getAvailableAssets();
+        var gold = assetTradingService.getAvailableAssetsByType(com.demo.MoneyMap.entity.enums.AssetType.GOLD);
+
+        // Then: The same immutable list is returned and no repository is touched
+        assertThat(first).isSameAs(second).hasSize(29);
+        assertThat(gold).extracting("symbol").containsExactly("GOLD24K", "GOLD22K", "GOLD18K", "SILVER");
+        assertThat(assetTradingService.searchAvailableAssets("eth").get(0)).isSameAs(
+                first.stream().filter(dto -> dto.getSymbol().equals("ETH")).findFirst().orElseThrow());
+        verifyNoInteractions(clientRepository, assetRepository, portfolioRepository);
+    }
 }
@@ -9,6 +9,7 @@ import com.demo.MoneyMap.exception.ResourceNotFoundException;
 import com.demo.MoneyMap.mapper.ClientMapper;
 import com.demo.MoneyMap.repository.ClientRepository;
 import com.demo.MoneyMap.service.impl.ClientServiceImpl;
+import com.demo.MoneyMap.service.search.SearchDomain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -50,6 +51,9 @@ class ClientServiceTest {
     
     @Mock
     private ClientMapper clientMapper;
+
+    @Mock
+    private SearchIndexService searchIndexService;
     
     @InjectMocks
     private ClientServiceImpl clientService;
@@ -242,6 +246,23 @@ class ClientServiceTest {
         verify(clientRepository).searchClients("John", defaultPageable);
     }
 
+    @Test
+    @DisplayName("Should serve client search from the search index when it is ready")
+    void shouldSearchClientsFromIndex() {
+        // Given: The index returns a ranked match
+        given(searchIndexService.search(SearchDomain.CLIENT, "John")).willReturn(Optional.of(List.of(1L)));
+        given(clientRepository.findAllById(List.of(1L))).willReturn(List.of(testClient));
+        given(clientMapper.toResponseDTO(testClient)).willReturn(expectedClientResponse);
+
+        // When: Searching clients
+        PagedResponseDTO<ClientResponseDTO> result = clientService.searchClients("John", defaultPageable);
+
+        // Then: Should load only the matched page and skip the LIKE query
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(clientRepository, never()).searchClients(anyString(), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("Should update client successfully")
     void shouldUpdateClientSuccessfully() {
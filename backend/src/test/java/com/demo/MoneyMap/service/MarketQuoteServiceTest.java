@@ -0,0 +1,150 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.BulkQuoteResponseDTO;
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.exception.UpstreamUnavailableException;
+import com.demo.MoneyMap.service.impl.MarketQuoteServiceImpl;
+import com.demo.MoneyMap.service.market.MarketDataGuard;
+import com.demo.MoneyMap.service.market.QuoteCache;
+import com.demo.MoneyMap.service.tick.TickStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for bulk quote fan-out.
+ *
+ * Validates that symbols are fetched concurrently, de-duplicated, and that
+ * failing or slow symbols are reported without failing the whole batch.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Market Quote Service - Bulk Quote Tests")
+@ActiveProfiles("test")
+class MarketQuoteServiceTest {
+
+    @Mock
+    private QuoteCache quoteCache;
+
+    @Mock
+    private MarketDataGuard marketDataGuard;
+
+    @Mock
+    private TickStore tickStore;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MarketQuoteServiceImpl marketQuoteService;
+
+    @BeforeEach
+    void setUp() {
+        marketQuoteService = new MarketQuoteServiceImpl(quoteCache, marketDataGuard, tickStore, eventPublisher, WebClient.builder(), "http://localhost:5000");
+        ReflectionTestUtils.setField(marketQuoteService, "timeoutMillis", 500L);
+        ReflectionTestUtils.setField(marketQuoteService, "bulkConcurrency", 32);
+    }
+
+    @Test
+    @DisplayName("Should fetch all symbols concurrently in roughly one round trip")
+    void shouldFetchSymbolsConcurrently() {
+        given(quoteCache.getAsync(any(), any())).willAnswer(invocation ->
+                Mono.just(quote(1.0)).delayElement(Duration.ofMillis(200)));
+        List<String> symbols = Arrays.asList("AAPL", "MSFT", "GOOGL", "AMZN", "TSLA", "BTC", "ETH", "GLD");
+
+        long start = System.nanoTime();
+        BulkQuoteResponseDTO result = marketQuoteService.getQuotes(symbols);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        assertThat(result.getQuotes()).containsOnlyKeys(symbols);
+        assertThat(result.isComplete()).isTrue();
+        assertThat(elapsedMillis).isLessThan(200L * symbols.size() / 2);
+    }
+
+    @Test
+    @DisplayName("Should report failed and timed-out symbols without failing the batch")
+    void shouldReportPartialFailures() {
+        given(quoteCache.getAsync(eq("AAPL"), any())).willReturn(Mono.just(quote(190.0)));
+        given(quoteCache.getAsync(eq("BAD"), any())).willReturn(Mono.error(new IllegalStateException("boom")));
+        given(quoteCache.getAsync(eq("SLOW"), any())).willReturn(Mono.never());
+
+        BulkQuoteResponseDTO result = marketQuoteService.getQuotes(List.of("AAPL", "BAD", "SLOW"));
+
+        assertThat(result.getQuotes()).containsOnlyKeys("AAPL");
+        assertThat(result.getQuotes().get("AAPL").getCurrentPrice()).isEqualTo(190.0);
+        assertThat(result.getFailures()).containsEntry("BAD", "boom")
+                .containsEntry("SLOW", "Timed out after 500 ms");
+        assertThat(result.isComplete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the last known quote marked as stale")
+    void shouldFallBackToLastKnownQuote() {
+        given(quoteCache.getAsync(eq("AAPL"), any()))
+                .willReturn(Mono.error(new UpstreamUnavailableException("circuit open")));
+        given(quoteCache.lastKnown("AAPL")).willReturn(Optional.of(quote(180.0)));
+        given(quoteCache.get(eq("MSFT"), any())).willThrow(new UpstreamUnavailableException("circuit open"));
+
+        BulkQuoteResponseDTO result = marketQuoteService.getQuotes(List.of("AAPL"));
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getQuotes().get("AAPL").isStale()).isTrue();
+        assertThat(result.getQuotes().get("AAPL").getCurrentPrice()).isEqualTo(180.0);
+        assertThatThrownBy(() -> marketQuoteService.getQuote("MSFT"))
+                .isInstanceOf(UpstreamUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should normalize and de-duplicate requested symbols")
+    void shouldDeduplicateSymbols() {
+        given(quoteCache.getAsync(eq("AAPL"), any())).willReturn(Mono.just(quote(190.0)));
+
+        BulkQuoteResponseDTO result = marketQuoteService.getQuotes(Arrays.asList("aapl", " AAPL ", null, ""));
+
+        assertThat(result.getQuotes()).containsOnlyKeys("AAPL");
+        verify(quoteCache, times(1)).getAsync(eq("AAPL"), any());
+    }
+
+    @Test
+    @DisplayName("Should report malformed symbols as failures without fetching them")
+    void shouldRejectMalformedSymbols() {
+        given(quoteCache.getAsync(eq("BRK.B"), any())).willReturn(Mono.just(quote(410.0)));
+
+        BulkQuoteResponseDTO result = marketQuoteService.getQuotes(List.of("brk.b", "../../X", "A/B"));
+
+        assertThat(result.getQuotes()).containsOnlyKeys("BRK.B");
+        assertThat(result.getFailures()).containsOnlyKeys("../../X", "A/B");
+        verify(quoteCache, never()).getAsync(eq("../../X"), any());
+        assertThatThrownBy(() -> marketQuoteService.getQuote("..%2F.."))
+                .isInstanceOf(BadRequestException.class);
+        verify(quoteCache, never()).get(anyString(), any());
+    }
+
+    private static FinnhubQuoteResponse quote(double price) {
+        FinnhubQuoteResponse quote = new FinnhubQuoteResponse();
+        quote.setCurrentPrice(price);
+        return quote;
+    }
+}
@@ -65,6 +65,9 @@ class PortfolioServiceTest {
     
     @Mock
     private PortfolioMapper portfolioMapper;
+
+    @Mock
+    private SearchIndexService searchIndexService;
     
     @InjectMocks
     private PortfolioServiceImpl portfolioService;
@@ -0,0 +1,221 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.request.BackfillRequestDTO;
+import com.demo.MoneyMap.dto.response.BackfillJobResponseDTO;
+import com.demo.MoneyMap.entity.BackfillCheckpoint;
+import com.demo.MoneyMap.entity.BackfillJob;
+import com.demo.MoneyMap.entity.enums.AvailableAsset;
+import com.demo.MoneyMap.entity.enums.BackfillStatus;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.exception.UpstreamUnavailableException;
+import com.demo.MoneyMap.repository.BackfillCheckpointRepository;
+import com.demo.MoneyMap.repository.BackfillJobRepository;
+import com.demo.MoneyMap.service.impl.PriceHistoryBackfillServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for the multi-symbol price history backfill.
+ *
+ * Validates that every symbol is checkpointed and run, that transient
+ * failures are retried while bad symbols are not, that a job with failed
+ * symbols ends FAILED, and that unfinished checkpoints are resumed after a
+ * restart.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Price History Backfill Service - Backfill Job Tests")
+@ActiveProfiles("test")
+class PriceHistoryBackfillServiceTest {
+
+    @Mock
+    private BackfillJobRepository jobRepository;
+
+    @Mock
+    private BackfillCheckpointRepository checkpointRepository;
+
+    @Mock
+    private AssetPriceHistoryService historyService;
+
+    @InjectMocks
+    private PriceHistoryBackfillServiceImpl backfillService;
+
+    private final Map<Long, BackfillJob> jobs = new ConcurrentHashMap<>();
+    private final Map<Long, BackfillCheckpoint> checkpoints = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(backfillService, "concurrency", 4);
+        ReflectionTestUtils.setField(backfillService, "requestsPerSecond", 0.0);
+        ReflectionTestUtils.setField(backfillService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(backfillService, "retryBackoffMillis", 1L);
+        ReflectionTestUtils.setField(backfillService, "defaultPeriod", "1y");
+        ReflectionTestUtils.invokeMethod(backfillService, "start");
+        stubRepositories();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(backfillService, "stop");
+    }
+
+    @Test
+    @DisplayName("Should backfill every catalog asset when no symbols are given")
+    void shouldBackfillCatalogByDefault() {
+        given(historyService.fetchAndStoreHistory(anyString(), anyString())).willReturn(10);
+
+        BackfillJobResponseDTO started = backfillService.startBackfill(new BackfillRequestDTO());
+
+        assertThat(started.getTotalSymbols()).isEqualTo(AvailableAsset.values().length);
+        assertThat(started.getStatus()).isEqualTo(BackfillStatus.RUNNING);
+        BackfillJobResponseDTO finished = awaitFinished(started.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(BackfillStatus.COMPLETED);
+        assertThat(finished.getCompletedSymbols()).isEqualTo(AvailableAsset.values().length);
+        assertThat(finished.getRowsStored()).isEqualTo(10L * AvailableAsset.values().length);
+        assertThat(finished.getFinishedAt()).isNotNull();
+        verify(historyService).fetchAndStoreHistory("AAPL", "1y");
+    }
+
+    @Test
+    @DisplayName("Should retry transient failures and not retry symbols without data")
+    void shouldRetryOnlyTransientFailures() {
+        given(historyService.fetchAndStoreHistory("AAPL", "6mo"))
+                .willThrow(new UpstreamUnavailableException("down"))
+                .willReturn(5);
+        given(historyService.fetchAndStoreHistory("NOPE", "6mo"))
+                .willThrow(new BadRequestException("No price history available for NOPE"));
+        given(historyService.fetchAndStoreHistory("DOWN", "6mo"))
+                .willThrow(new UpstreamUnavailableException("still down"));
+
+        BackfillJobResponseDTO started = backfillService.startBackfill(
+                new BackfillRequestDTO(List.of("aapl", "NOPE", "down", "AAPL"), "6mo"));
+
+        assertThat(started.getTotalSymbols()).isEqualTo(3);
+        BackfillJobResponseDTO finished = awaitFinished(started.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(BackfillStatus.FAILED);
+        assertThat(finished.getCompletedSymbols()).isEqualTo(1);
+        assertThat(finished.getFailedSymbols()).isEqualTo(2);
+        assertThat(finished.getFailures()).containsOnlyKeys("NOPE", "DOWN");
+        verify(historyService, times(2)).fetchAndStoreHistory("AAPL", "6mo");
+        verify(historyService, times(1)).fetchAndStoreHistory("NOPE", "6mo");
+        verify(historyService, times(3)).fetchAndStoreHistory("DOWN", "6mo");
+    }
+
+    @Test
+    @DisplayName("Should mark the job FAILED when no symbol could be stored")
+    void shouldFailJobWhenEverySymbolFails() {
+        given(historyService.fetchAndStoreHistory(anyString(), anyString()))
+                .willThrow(new BadRequestException("No price history available"));
+
+        BackfillJobResponseDTO started = backfillService.startBackfill(
+                new BackfillRequestDTO(List.of("NOPE", "NADA"), "1mo"));
+
+        BackfillJobResponseDTO finished = awaitFinished(started.getJobId());
+        assertThat(finished.getStatus()).isEqualTo(BackfillStatus.FAILED);
+        assertThat(finished.getCompletedSymbols()).isZero();
+        assertThat(finished.getFailures()).containsOnlyKeys("NOPE", "NADA");
+        assertThat(finished.getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should resume unfinished symbols of running jobs after a restart")
+    void shouldResumeUnfinishedCheckpoints() {
+        BackfillJob job = jobRepository.save(BackfillJob.builder().period("3mo").status(BackfillStatus.RUNNING).build());
+        checkpointRepository.save(checkpoint(job, "AAPL", BackfillStatus.COMPLETED));
+        checkpointRepository.save(checkpoint(job, "MSFT", BackfillStatus.RUNNING));
+        checkpointRepository.save(checkpoint(job, "BTC", BackfillStatus.PENDING));
+        given(historyService.fetchAndStoreHistory(anyString(), anyString())).willReturn(1);
+
+        backfillService.resumeUnfinished();
+
+        BackfillJobResponseDTO finished = awaitFinished(job.getId());
+        assertThat(finished.getCompletedSymbols()).isEqualTo(3);
+        verify(historyService, never()).fetchAndStoreHistory("AAPL", "3mo");
+        verify(historyService).fetchAndStoreHistory("MSFT", "3mo");
+        verify(historyService).fetchAndStoreHistory("BTC", "3mo");
+    }
+
+    private BackfillJobResponseDTO awaitFinished(Long jobId) {
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> jobs.get(jobId).getStatus().isFinished());
+        return backfillService.getJob(jobId);
+    }
+
+    private static BackfillCheckpoint checkpoint(BackfillJob job, String symbol, BackfillStatus status) {
+        return BackfillCheckpoint.builder().job(job).symbol(symbol).status(status).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubRepositories() {
+        given(jobRepository.save(any())).willAnswer(invocation -> {
+            BackfillJob job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                job.setId(ids.incrementAndGet());
+            }
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        given(jobRepository.findById(anyLong())).willAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<Long>getArgument(0))));
+        given(jobRepository.findByStatus(any())).willAnswer(invocation -> jobs.values().stream()
+                .filter(job -> job.getStatus() == invocation.getArgument(0))
+                .toList());
+
+        given(checkpointRepository.save(any())).willAnswer(invocation -> saveCheckpoint(invocation.getArgument(0)));
+        given(checkpointRepository.saveAll(anyList())).willAnswer(invocation ->
+                ((List<BackfillCheckpoint>) invocation.getArgument(0)).stream().map(this::saveCheckpoint).toList());
+        given(checkpointRepository.findById(anyLong())).willAnswer(invocation ->
+                Optional.ofNullable(checkpoints.get(invocation.<Long>getArgument(0))));
+        given(checkpointRepository.findByJobIdOrderByIdAsc(anyLong())).willAnswer(invocation ->
+                checkpointsOf(invocation.getArgument(0), List.of(BackfillStatus.values())));
+        given(checkpointRepository.findByJobIdAndStatusIn(anyLong(), anyCollection())).willAnswer(invocation ->
+                checkpointsOf(invocation.getArgument(0), invocation.getArgument(1)));
+        given(checkpointRepository.countByJobIdAndStatusIn(anyLong(), anyCollection())).willAnswer(invocation ->
+                (long) checkpointsOf(invocation.getArgument(0), invocation.getArgument(1)).size());
+    }
+
+    private BackfillCheckpoint saveCheckpoint(BackfillCheckpoint checkpoint) {
+        if (checkpoint.getId() == null) {
+            checkpoint.setId(ids.incrementAndGet());
+        }
+        checkpoints.put(checkpoint.getId(), checkpoint);
+        return checkpoint;
+    }
+
+    private List<BackfillCheckpoint> checkpointsOf(Long jobId, Collection<BackfillStatus> statuses) {
+        return checkpoints.values().stream()
+                .filter(checkpoint -> checkpoint.getJob().getId().equals(jobId) && statuses.contains(checkpoint.getStatus()))
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toList();
+    }
+}
@@ -0,0 +1,153 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.response.BulkQuoteResponseDTO;
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.dto.response.PriceTickDTO;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.service.impl.PriceStreamServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscription;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for the live price stream.
+ *
+ * Validates that one poll serves every subscriber, that unchanged prices are not
+ * re-sent, and that slow subscribers drop their oldest ticks.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price Stream Service - Multicast Tests")
+@ActiveProfiles("test")
+class PriceStreamServiceTest {
+
+    @Mock
+    private MarketQuoteService marketQuoteService;
+
+    private PriceStreamServiceImpl priceStreamService;
+    private double price;
+
+    @BeforeEach
+    void setUp() {
+        priceStreamService = new PriceStreamServiceImpl(marketQuoteService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(priceStreamService, "subscriberBuffer", 2);
+        ReflectionTestUtils.setField(priceStreamService, "maxSymbols", 5);
+        price = 100.0;
+    }
+
+    @Test
+    @DisplayName("Should fetch each symbol once per poll regardless of subscriber count")
+    void shouldMulticastOnePollToAllSubscribers() {
+        given(marketQuoteService.getQuotes(any())).willAnswer(invocation -> quotes(invocation.getArgument(0)));
+        List<PriceTickDTO> first = new CopyOnWriteArrayList<>();
+        List<PriceTickDTO> second = new CopyOnWriteArrayList<>();
+        Disposable a = priceStreamService.subscribe(List.of("aapl", "BTC")).subscribe(first::add);
+        Disposable b = priceStreamService.subscribe(List.of("AAPL")).subscribe(second::add);
+
+        priceStreamService.poll();
+
+        verify(marketQuoteService, times(1)).getQuotes(any());
+        assertThat(first).extracting(PriceTickDTO::getSymbol).containsExactlyInAnyOrder("AAPL", "BTC");
+        assertThat(second).extracting(PriceTickDTO::getSymbol).containsExactly("AAPL");
+        a.dispose();
+        b.dispose();
+    }
+
+    @Test
+    @DisplayName("Should skip unchanged prices and replay the last price to new subscribers")
+    void shouldSkipUnchangedPricesAndReplaySnapshot() {
+        given(marketQuoteService.getQuotes(any())).willAnswer(invocation -> quotes(invocation.getArgument(0)));
+        List<PriceTickDTO> early = new CopyOnWriteArrayList<>();
+        Disposable a = priceStreamService.subscribe(List.of("AAPL")).subscribe(early::add);
+
+        priceStreamService.poll();
+        priceStreamService.poll();
+        List<PriceTickDTO> late = new CopyOnWriteArrayList<>();
+        Disposable b = priceStreamService.subscribe(List.of("AAPL")).subscribe(late::add);
+
+        assertThat(early).hasSize(1);
+        assertThat(late).extracting(PriceTickDTO::getCurrentPrice).containsExactly(100.0);
+        a.dispose();
+        b.dispose();
+    }
+
+    @Test
+    @DisplayName("Should stop polling symbols once all subscribers have gone")
+    void shouldStopPollingAfterUnsubscribe() {
+        priceStreamService.subscribe(List.of("AAPL")).subscribe().dispose();
+
+        priceStreamService.poll();
+
+        verify(marketQuoteService, never()).getQuotes(any());
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest ticks for a subscriber that is not keeping up")
+    void shouldDropOldestTicksForSlowSubscriber() {
+        given(marketQuoteService.getQuotes(any())).willAnswer(invocation -> quotes(invocation.getArgument(0)));
+        List<Double> received = new CopyOnWriteArrayList<>();
+        BaseSubscriber<PriceTickDTO> slow = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // request nothing until the test says so
+            }
+
+            @Override
+            protected void hookOnNext(PriceTickDTO tick) {
+                received.add(tick.getCurrentPrice());
+            }
+        };
+        priceStreamService.subscribe(List.of("AAPL")).subscribe(slow);
+
+        for (int i = 0; i < 4; i++) {
+            price += 1;
+            priceStreamService.poll();
+        }
+        slow.request(Long.MAX_VALUE);
+
+        assertThat(received).containsExactly(103.0, 104.0);
+        slow.dispose();
+    }
+
+    @Test
+    @DisplayName("Should reject empty and oversized subscriptions")
+    void shouldValidateSubscriptions() {
+        assertThatThrownBy(() -> priceStreamService.subscribe(List.of(" ")))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> priceStreamService.subscribe(List.of("A", "B", "C", "D", "E", "F")))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("5");
+    }
+
+    private BulkQuoteResponseDTO quotes(Collection<String> symbols) {
+        Map<String, FinnhubQuoteResponse> quotes = new LinkedHashMap<>();
+        for (String symbol : symbols) {
+            FinnhubQuoteResponse quote = new FinnhubQuoteResponse();
+            quote.setCurrentPrice(price);
+            quotes.put(symbol, quote);
+        }
+        return BulkQuoteResponseDTO.builder().quotes(quotes).failures(Map.of()).build();
+    }
+}
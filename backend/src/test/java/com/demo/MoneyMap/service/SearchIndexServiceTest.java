@@ -0,0 +1,92 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.repository.ClientRepository;
+import com.demo.MoneyMap.repository.PaymentRepository;
+import com.demo.MoneyMap.repository.PortfolioRepository;
+import com.demo.MoneyMap.service.impl.SearchIndexServiceImpl;
+import com.demo.MoneyMap.service.search.SearchDomain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for the search index rebuild.
+ *
+ * Validates that every domain is indexed from id-ordered projection pages,
+ * that a full page is followed by the page after its last id, and that no
+ * entities are loaded.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Search Index Service - Rebuild Tests")
+class SearchIndexServiceTest {
+
+    private static final int PAGE_SIZE = 5_000;
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Mock
+    private PortfolioRepository portfolioRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    private SearchIndexService searchIndexService;
+
+    @BeforeEach
+    void setUp() {
+        searchIndexService = new SearchIndexServiceImpl(clientRepository, assetRepository, portfolioRepository,
+                paymentRepository);
+    }
+
+    @Test
+    @DisplayName("Should index each domain from keyset pages of its searchable fields")
+    void shouldRebuildFromKeysetPages() {
+        List<Object[]> firstPage = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            firstPage.add(new Object[]{id, "Client", "Number" + id, "client" + id + "@example.com"});
+        }
+        given(clientRepository.findSearchFieldsAfter(eq(0L), any(Pageable.class))).willReturn(firstPage);
+        given(clientRepository.findSearchFieldsAfter(eq((long) PAGE_SIZE), any(Pageable.class)))
+                .willReturn(List.<Object[]>of(new Object[]{9_001L, "Zelda", "Quartermain", null}));
+        given(assetRepository.findSearchFieldsAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.<Object[]>of(new Object[]{3L, "Apple Inc.", "AAPL"}));
+        given(portfolioRepository.findSearchFieldsAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.<Object[]>of(new Object[]{4L, "Retirement Fund"}));
+        given(paymentRepository.findSearchFieldsAfter(eq(0L), any(Pageable.class)))
+                .willReturn(List.<Object[]>of(new Object[]{5L, "Invoice 42", null, "PAY-777"}));
+
+        searchIndexService.rebuild();
+
+        assertThat(searchIndexService.search(SearchDomain.CLIENT, "quartermain")).contains(List.of(9_001L));
+        assertThat(searchIndexService.search(SearchDomain.ASSET, "aapl")).contains(List.of(3L));
+        assertThat(searchIndexService.search(SearchDomain.PORTFOLIO, "retirement")).contains(List.of(4L));
+        assertThat(searchIndexService.search(SearchDomain.PAYMENT, "PAY-777")).contains(List.of(5L));
+        verify(clientRepository, never()).findAll();
+        verify(paymentRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should report the index as not ready before the first rebuild")
+    void shouldNotServeBeforeRebuild() {
+        assertThat(searchIndexService.search(SearchDomain.CLIENT, "anyone")).isEmpty();
+    }
+}
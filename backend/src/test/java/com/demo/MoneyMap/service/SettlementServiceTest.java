@@ -0,0 +1,174 @@
+package com.demo.MoneyMap.service;
+
+import com.demo.MoneyMap.dto.request.SettlementRequestDTO;
+import com.demo.MoneyMap.dto.response.SettlementBatchResponseDTO;
+import com.demo.MoneyMap.entity.SettlementBatch;
+import com.demo.MoneyMap.entity.SettlementInstruction;
+import com.demo.MoneyMap.entity.enums.NettingMode;
+import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import com.demo.MoneyMap.repository.PaymentBatchRepository.PaymentFlowHandler;
+import com.demo.MoneyMap.repository.PaymentRepository;
+import com.demo.MoneyMap.repository.PaymentSelection;
+import com.demo.MoneyMap.repository.SettlementBatchRepository;
+import com.demo.MoneyMap.repository.SettlementInstructionRepository;
+import com.demo.MoneyMap.service.impl.SettlementServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for settlement runs.
+ *
+ * Validates that a run claims the window's payments, nets their flows into
+ * instructions of the requested mode and moves them to SENT in one committed
+ * transaction, and that a run whose counts disagree, or that claims nothing,
+ * is rolled back.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Settlement Service - Netting Run Tests")
+class SettlementServiceTest {
+
+    private static final long BATCH_ID = 7L;
+    private static final LocalDateTime WINDOW_START = LocalDateTime.of(2024, 6, 10, 0, 0);
+    private static final LocalDateTime WINDOW_END = LocalDateTime.of(2024, 6, 11, 0, 0);
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private SettlementBatchRepository batchRepository;
+
+    @Mock
+    private SettlementInstructionRepository instructionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SettlementService settlementService;
+
+    @BeforeEach
+    void setUp() {
+        settlementService = new SettlementServiceImpl(paymentRepository, batchRepository, instructionRepository,
+                transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(settlementService, "defaultMode", NettingMode.BILATERAL);
+        ReflectionTestUtils.setField(settlementService, "clearingAccount", "CLEARING");
+        given(batchRepository.save(any(SettlementBatch.class))).willAnswer(invocation -> {
+            SettlementBatch batch = invocation.getArgument(0);
+            batch.setId(BATCH_ID);
+            return batch;
+        });
+    }
+
+    @Test
+    @DisplayName("Should claim, net and send the window's payments in one committed transaction")
+    void shouldSettleClaimedPayments() {
+        given(paymentRepository.claimForSettlement(BATCH_ID, WINDOW_START, WINDOW_END)).willReturn(3);
+        streamFlows();
+        given(paymentRepository.transitionStatus(eq(PaymentSelection.settlementBatch(BATCH_ID)),
+                eq(PaymentStatus.VALIDATED), eq(PaymentStatus.SENT), anyString(), isNull(), isNull(), any()))
+                .willReturn(3);
+
+        SettlementBatchResponseDTO response = settlementService.settle(request());
+
+        assertThat(response.getId()).isEqualTo(BATCH_ID);
+        assertThat(response.getPaymentCount()).isEqualTo(3);
+        assertThat(response.getFlowCount()).isEqualTo(3);
+        assertThat(response.getBilateralInstructionCount()).isEqualTo(2);
+        assertThat(response.getMultilateralInstructionCount()).isEqualTo(3);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SettlementInstruction>> instructions = ArgumentCaptor.forClass(List.class);
+        InOrder order = inOrder(paymentRepository, instructionRepository, transactionManager);
+        order.verify(paymentRepository).claimForSettlement(BATCH_ID, WINDOW_START, WINDOW_END);
+        order.verify(instructionRepository).insertAll(instructions.capture());
+        order.verify(paymentRepository).transitionStatus(any(), any(), any(), anyString(), any(), any(), any());
+        order.verify(transactionManager).commit(any());
+        verify(transactionManager, never()).rollback(any());
+
+        assertThat(instructions.getValue()).hasSize(2).allSatisfy(instruction ->
+                assertThat(instruction.getSettlementBatchId()).isEqualTo(BATCH_ID));
+        assertThat(instructions.getValue())
+                .filteredOn(instruction -> instruction.getPayerAccount().equals("A")
+                        && instruction.getPayeeAccount().equals("B"))
+                .singleElement()
+                .satisfies(instruction -> assertThat(instruction.getAmount()).isEqualByComparingTo("70"));
+        assertThat(meterRegistry.counter("moneymap.settlement.payments").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("moneymap.settlement.instructions").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should roll back the run when fewer payments are sent than were claimed")
+    void shouldRollBackOnCountMismatch() {
+        given(paymentRepository.claimForSettlement(BATCH_ID, WINDOW_START, WINDOW_END)).willReturn(3);
+        streamFlows();
+        given(paymentRepository.transitionStatus(any(), any(), any(), anyString(), any(), any(), any()))
+                .willReturn(2);
+
+        assertThatThrownBy(() -> settlementService.settle(request()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("claimed 3 payments but netted 3 and sent 2");
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        assertThat(meterRegistry.counter("moneymap.settlement.payments").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should roll back the empty batch when no payments are claimed")
+    void shouldRollBackWhenNothingClaimed() {
+        SimpleTransactionStatus status = new SimpleTransactionStatus();
+        given(transactionManager.getTransaction(any())).willReturn(status);
+        given(paymentRepository.claimForSettlement(BATCH_ID, WINDOW_START, WINDOW_END)).willReturn(0);
+
+        SettlementBatchResponseDTO response = settlementService.settle(request());
+
+        assertThat(response.getId()).isNull();
+        assertThat(status.isRollbackOnly()).isTrue();
+        verify(instructionRepository, never()).insertAll(anyList());
+    }
+
+    private void streamFlows() {
+        willAnswer(invocation -> {
+            PaymentFlowHandler handler = invocation.getArgument(1);
+            handler.accept("A", "B", "USD", new BigDecimal("100"));
+            handler.accept("B", "A", "USD", new BigDecimal("30"));
+            handler.accept("A", "C", "USD", new BigDecimal("50"));
+            return null;
+        }).given(paymentRepository).forEachSettlementFlow(eq(BATCH_ID), any());
+    }
+
+    private static SettlementRequestDTO request() {
+        return SettlementRequestDTO.builder()
+                .windowStart(WINDOW_START)
+                .windowEnd(WINDOW_END)
+                .mode(NettingMode.BILATERAL)
+                .build();
+    }
+}
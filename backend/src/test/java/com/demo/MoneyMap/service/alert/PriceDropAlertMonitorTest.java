@@ -0,0 +1,142 @@
+package com.demo.MoneyMap.service.alert;
+
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.repository.AssetRepository;
+import com.demo.MoneyMap.service.market.QuoteObservedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for quote-driven price drop alerts.
+ *
+ * Validates the in-memory holder index, its cooldown state and incremental
+ * updates, and that observed quotes only reach the dispatcher when a holder
+ * is due.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Price Drop Alert Monitor - Event-Driven Alert Tests")
+class PriceDropAlertMonitorTest {
+
+    private static final Duration COOLDOWN = Duration.ofMinutes(60);
+    private static final Instant NOW = Instant.parse("2024-06-10T15:00:00Z");
+
+    @Mock
+    private AssetRepository assetRepository;
+
+    @Mock
+    private PriceDropAlertDispatcher dispatcher;
+
+    private PriceDropHolderIndex holderIndex;
+    private PriceDropAlertMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        given(assetRepository.findAlertStates()).willReturn(List.of(
+                new Object[]{1L, "AAPL", null},
+                new Object[]{2L, "AAPL", NOW.minus(Duration.ofMinutes(10))},
+                new Object[]{3L, "BTC", null}));
+        holderIndex = new PriceDropHolderIndex(assetRepository);
+        holderIndex.refresh();
+
+        monitor = new PriceDropAlertMonitor(holderIndex, dispatcher);
+        ReflectionTestUtils.setField(monitor, "queueCapacity", 10);
+        monitor.start();
+        given(dispatcher.getCooldown()).willReturn(COOLDOWN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    @DisplayName("Should return only holders out of cooldown and hold them back until it expires")
+    void shouldTrackCooldownInMemory() {
+        assertThat(holderIndex.takeDue("aapl", NOW, COOLDOWN)).containsExactly(1L);
+        assertThat(holderIndex.takeDue("AAPL", NOW.plusSeconds(60), COOLDOWN)).isEmpty();
+        assertThat(holderIndex.takeDue("AAPL", NOW.plus(Duration.ofMinutes(55)), COOLDOWN)).containsExactly(2L);
+        assertThat(holderIndex.takeDue("AAPL", NOW.plus(Duration.ofMinutes(61)), COOLDOWN)).containsExactly(1L);
+        assertThat(holderIndex.takeDue("MSFT", NOW, COOLDOWN)).isEmpty();
+
+        holderIndex.markAlerted("BTC", Set.of(3L), NOW);
+        assertThat(holderIndex.takeDue("BTC", NOW.plusSeconds(60), COOLDOWN)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should pick up added, moved and deleted holdings without reloading")
+    void shouldApplyChangesIncrementally() {
+        holderIndex.put(4L, "msft", null);
+        holderIndex.put(3L, "ETH", null);
+        holderIndex.remove(1L);
+        holderIndex.put(2L, "AAPL", NOW.minus(Duration.ofHours(2)));
+
+        assertThat(holderIndex.takeDue("MSFT", NOW, COOLDOWN)).containsExactly(4L);
+        assertThat(holderIndex.takeDue("BTC", NOW, COOLDOWN)).isEmpty();
+        assertThat(holderIndex.takeDue("ETH", NOW, COOLDOWN)).containsExactly(3L);
+        // A known alert time is kept, so the update does not make holding 2 due early
+        assertThat(holderIndex.takeDue("AAPL", NOW, COOLDOWN)).isEmpty();
+        verify(assetRepository, times(1)).findAlertStates();
+    }
+
+    @Test
+    @DisplayName("Should keep changes made while a reload reads the database")
+    void shouldReplayChangesDuringReload() {
+        given(assetRepository.findAlertStates()).willAnswer(invocation -> {
+            holderIndex.put(5L, "NVDA", null);
+            return List.<Object[]>of(new Object[]{1L, "AAPL", null});
+        });
+
+        holderIndex.refresh();
+
+        assertThat(holderIndex.takeDue("NVDA", NOW, COOLDOWN)).containsExactly(5L);
+        assertThat(holderIndex.takeDue("AAPL", NOW, COOLDOWN)).containsExactly(1L);
+        assertThat(holderIndex.takeDue("BTC", NOW, COOLDOWN)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should dispatch a dropped quote once per cooldown and ignore quotes that did not drop")
+    void shouldDispatchDroppedQuotes() {
+        FinnhubQuoteResponse dropped = quote(-8.0);
+        FinnhubQuoteResponse flat = quote(0.5);
+        given(dispatcher.isDrop(dropped)).willReturn(true);
+        given(dispatcher.isDrop(flat)).willReturn(false);
+
+        monitor.onQuote(new QuoteObservedEvent("ETH", flat));
+        monitor.onQuote(new QuoteObservedEvent("BTC", dropped));
+        monitor.onQuote(new QuoteObservedEvent("BTC", dropped));
+
+        verify(dispatcher, timeout(2000)).dispatch(Map.of("BTC", dropped));
+        verify(dispatcher, times(1)).dispatch(any());
+        verify(dispatcher, never()).dispatch(Map.of("ETH", flat));
+    }
+
+    private static FinnhubQuoteResponse quote(double changePercent) {
+        FinnhubQuoteResponse quote = new FinnhubQuoteResponse();
+        quote.setCurrentPrice(100.0);
+        quote.setChangePercent(changePercent);
+        return quote;
+    }
+}
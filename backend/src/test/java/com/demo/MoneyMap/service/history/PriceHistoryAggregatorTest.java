@@ -0,0 +1,123 @@
+package com.demo.MoneyMap.service.history;
+
+import com.demo.MoneyMap.entity.AssetPriceHistory;
+import com.demo.MoneyMap.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test suite for server-side price history aggregation and downsampling.
+ *
+ * Validates weekly and monthly OHLCV roll-ups and that LTTB keeps the
+ * endpoints and the extremes while bounding the number of points.
+ */
+@DisplayName("Price History Aggregator - Aggregation and Downsampling Tests")
+class PriceHistoryAggregatorTest {
+
+    @Test
+    @DisplayName("Should roll daily bars up into Monday-dated weekly OHLCV bars")
+    void shouldAggregateWeeks() {
+        // Wed 2024-06-05 .. Tue 2024-06-18, weekdays only
+        PriceHistorySeries daily = PriceHistorySeries.of("AAPL", weekdays(LocalDate.parse("2024-06-05"), 14));
+
+        PriceHistorySeries weekly = PriceHistoryAggregator.aggregate(daily, PriceInterval.WEEK);
+
+        assertThat(weekly.size()).isEqualTo(3);
+        assertThat(weekly.getDate(0)).isEqualTo(LocalDate.parse("2024-06-03"));
+        assertThat(weekly.getDate(1)).isEqualTo(LocalDate.parse("2024-06-10"));
+        assertThat(weekly.getDate(2)).isEqualTo(LocalDate.parse("2024-06-17"));
+        // Week of 06-10: bars 3..7 (Mon..Fri), open of Monday, close of Friday
+        assertThat(weekly.getOpen(1)).isEqualByComparingTo(daily.getOpen(3));
+        assertThat(weekly.getClose(1)).isEqualByComparingTo(daily.getClose(7));
+        assertThat(weekly.getHigh(1)).isEqualByComparingTo(daily.getHigh(7));
+        assertThat(weekly.getLow(1)).isEqualByComparingTo(daily.getLow(3));
+        assertThat(weekly.getVolume(1)).isEqualTo(5 * 1000L + (3 + 4 + 5 + 6 + 7));
+        assertThat(weekly.getDate(0).getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+    }
+
+    @Test
+    @DisplayName("Should roll daily bars up into monthly bars")
+    void shouldAggregateMonths() {
+        PriceHistorySeries daily = PriceHistorySeries.of("BTC", days(LocalDate.parse("2024-01-15"), 60));
+
+        PriceHistorySeries monthly = PriceHistoryAggregator.aggregate(daily, PriceInterval.MONTH);
+
+        assertThat(monthly.size()).isEqualTo(3);
+        assertThat(monthly.getDate(0)).isEqualTo(LocalDate.parse("2024-01-01"));
+        assertThat(monthly.getDate(1)).isEqualTo(LocalDate.parse("2024-02-01"));
+        assertThat(monthly.getDate(2)).isEqualTo(LocalDate.parse("2024-03-01"));
+        assertThat(monthly.getClose(0)).isEqualByComparingTo(daily.getClose(16)); // 2024-01-31
+        assertThat(PriceHistoryAggregator.aggregate(daily, PriceInterval.DAY)).isSameAs(daily);
+    }
+
+    @Test
+    @DisplayName("Should downsample to maxPoints keeping endpoints and spikes")
+    void shouldDownsampleWithLttb() {
+        List<AssetPriceHistory> rows = days(LocalDate.parse("2015-01-01"), 3000);
+        rows.get(1234).setClosePrice(new BigDecimal("9999.0000"));
+        PriceHistorySeries series = PriceHistorySeries.of("ETH", rows);
+
+        PriceHistorySeries sampled = PriceHistoryAggregator.downsample(series, 300);
+
+        assertThat(sampled.size()).isEqualTo(300);
+        assertThat(sampled.getDate(0)).isEqualTo(series.getDate(0));
+        assertThat(sampled.getDate(299)).isEqualTo(series.getDate(2999));
+        boolean spikeKept = false;
+        for (int i = 1; i < sampled.size(); i++) {
+            assertThat(sampled.epochDay(i)).isGreaterThan(sampled.epochDay(i - 1));
+            spikeKept |= sampled.getDate(i).equals(series.getDate(1234));
+        }
+        assertThat(spikeKept).isTrue();
+        assertThat(PriceHistoryAggregator.downsample(series, 5000)).isSameAs(series);
+    }
+
+    @Test
+    @DisplayName("Should parse intervals case-insensitively and reject unknown ones")
+    void shouldParseIntervals() {
+        assertThat(PriceInterval.from("Week")).isEqualTo(PriceInterval.WEEK);
+        assertThat(PriceInterval.from(null)).isEqualTo(PriceInterval.DAY);
+        assertThatThrownBy(() -> PriceInterval.from("hour")).isInstanceOf(BadRequestException.class);
+    }
+
+    private static List<AssetPriceHistory> days(LocalDate start, int count) {
+        List<AssetPriceHistory> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(bar(start.plusDays(i), i));
+        }
+        return rows;
+    }
+
+    private static List<AssetPriceHistory> weekdays(LocalDate start, int calendarDays) {
+        List<AssetPriceHistory> rows = new ArrayList<>();
+        int index = 0;
+        for (int i = 0; i < calendarDays; i++) {
+            LocalDate date = start.plusDays(i);
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                rows.add(bar(date, index++));
+            }
+        }
+        return rows;
+    }
+
+    private static AssetPriceHistory bar(LocalDate date, int index) {
+        BigDecimal base = BigDecimal.valueOf(100 + index % 50);
+        return AssetPriceHistory.builder()
+                .symbol("X")
+                .priceDate(date)
+                .openPrice(base)
+                .highPrice(base.add(BigDecimal.ONE))
+                .lowPrice(base.subtract(BigDecimal.ONE))
+                .closePrice(base.add(new BigDecimal("0.5")))
+                .volume(1000L + index)
+                .build();
+    }
+}
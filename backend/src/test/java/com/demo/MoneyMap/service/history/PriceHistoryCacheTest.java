@@ -0,0 +1,120 @@
+package com.demo.MoneyMap.service.history;
+
+import com.demo.MoneyMap.entity.AssetPriceHistory;
+import com.demo.MoneyMap.repository.AssetPriceHistoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for the columnar price history cache.
+ *
+ * Validates lazy loading, exact round-tripping of prices, binary-search
+ * range views, invalidation and memory-bounded LRU eviction.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Price History Cache - Columnar Cache Tests")
+class PriceHistoryCacheTest {
+
+    private static final LocalDate START = LocalDate.parse("2024-01-01");
+
+    @Mock
+    private AssetPriceHistoryRepository repository;
+
+    @Test
+    @DisplayName("Should load a symbol once and serve later lookups from memory")
+    void shouldLoadLazilyOnce() {
+        given(repository.findBySymbolOrderByPriceDateAsc("AAPL")).willReturn(bars("AAPL", 10));
+        PriceHistoryCache cache = new PriceHistoryCache(repository, 1 << 20, new SimpleMeterRegistry());
+
+        PriceHistorySeries first = cache.get("aapl");
+        PriceHistorySeries second = cache.get("AAPL");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.size()).isEqualTo(10);
+        assertThat(first.getClose(3)).isEqualTo(new BigDecimal("103.2500"));
+        assertThat(first.closeValue(3)).isEqualTo(103.25);
+        assertThat(first.getVolume(3)).isEqualTo(1003L);
+        verify(repository, times(1)).findBySymbolOrderByPriceDateAsc("AAPL");
+    }
+
+    @Test
+    @DisplayName("Should slice date ranges without copying, inclusive on both ends")
+    void shouldSliceDateRanges() {
+        List<AssetPriceHistory> rows = bars("BTC", 30);
+        rows.remove(10); // gap on 2024-01-11
+        PriceHistorySeries series = PriceHistorySeries.of("BTC", rows);
+
+        PriceHistorySeries range = series.range(LocalDate.parse("2024-01-11"), LocalDate.parse("2024-01-20"));
+
+        assertThat(range.size()).isEqualTo(9);
+        assertThat(range.getDate(0)).isEqualTo(LocalDate.parse("2024-01-12"));
+        assertThat(range.getDate(8)).isEqualTo(LocalDate.parse("2024-01-20"));
+        assertThat(range.range(LocalDate.parse("2024-01-15"), null).getDate(0)).isEqualTo(LocalDate.parse("2024-01-15"));
+        assertThat(series.range(null, null)).isSameAs(series);
+        assertThat(series.range(LocalDate.parse("2025-01-01"), null).isEmpty()).isTrue();
+        assertThat(series.range(LocalDate.parse("2024-01-20"), LocalDate.parse("2024-01-10")).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reload a symbol after invalidation")
+    void shouldReloadAfterInvalidation() {
+        given(repository.findBySymbolOrderByPriceDateAsc("ETH")).willReturn(bars("ETH", 5), bars("ETH", 6));
+        PriceHistoryCache cache = new PriceHistoryCache(repository, 1 << 20, new SimpleMeterRegistry());
+
+        assertThat(cache.get("ETH").size()).isEqualTo(5);
+        cache.invalidate("eth");
+
+        assertThat(cache.get("ETH").size()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used symbols when over the memory budget")
+    void shouldEvictByFootprint() {
+        given(repository.findBySymbolOrderByPriceDateAsc(anyString()))
+                .willAnswer(invocation -> bars(invocation.getArgument(0), 1000));
+        long oneSeries = PriceHistorySeries.of("X", bars("X", 1000)).estimatedBytes();
+        PriceHistoryCache cache = new PriceHistoryCache(repository, oneSeries * 2, new SimpleMeterRegistry());
+
+        cache.get("AAPL");
+        cache.get("MSFT");
+        cache.get("AAPL");
+        cache.get("GOOGL");
+
+        assertThat(cache.contains("AAPL")).isTrue();
+        assertThat(cache.contains("MSFT")).isFalse();
+        assertThat(cache.contains("GOOGL")).isTrue();
+        assertThat(cache.footprint()).isLessThanOrEqualTo(oneSeries * 2);
+    }
+
+    private static List<AssetPriceHistory> bars(String symbol, int days) {
+        List<AssetPriceHistory> rows = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            BigDecimal price = BigDecimal.valueOf(100 + i).add(new BigDecimal("0.0833"));
+            rows.add(AssetPriceHistory.builder()
+                    .symbol(symbol)
+                    .priceDate(START.plusDays(i))
+                    .openPrice(price)
+                    .highPrice(price.add(BigDecimal.ONE))
+                    .lowPrice(price.subtract(BigDecimal.ONE))
+                    .closePrice(BigDecimal.valueOf(100 + i).add(new BigDecimal("0.25")))
+                    .volume(1000L + i)
+                    .build());
+        }
+        return rows;
+    }
+}
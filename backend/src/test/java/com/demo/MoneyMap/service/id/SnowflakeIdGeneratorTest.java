@@ -0,0 +1,152 @@
+package com.demo.MoneyMap.service.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test suite for the Snowflake id generator.
+ *
+ * Validates that ids stay unique and increasing across threads issuing
+ * millions of them, that a full sequence or a clock stepping back borrows
+ * from the next millisecond instead of repeating an id, that the node id
+ * is encoded in every id and required on a node of a cluster, and that
+ * base32 references sort like their ids.
+ */
+@DisplayName("Snowflake Id Generator - Unique Reference Tests")
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 86_400_000L;
+
+    @Test
+    @DisplayName("Should issue unique, per-thread increasing ids from many threads at once")
+    void shouldStayUniqueAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 500_000;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    long[] ids = new long[perThread];
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            long[] all = new long[threads * perThread];
+            int offset = 0;
+            for (Future<long[]> result : results) {
+                long[] ids = result.get();
+                for (int i = 1; i < ids.length; i++) {
+                    assertThat(ids[i]).isGreaterThan(ids[i - 1]);
+                }
+                System.arraycopy(ids, 0, all, offset, ids.length);
+                offset += ids.length;
+            }
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                if (all[i] == all[i - 1]) {
+                    throw new AssertionError("Duplicate id " + all[i]);
+                }
+            }
+            assertThat(all[0]).isPositive();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should borrow the next millisecond when the sequence runs out")
+    void shouldBorrowWhenSequenceRunsOut() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> NOW);
+
+        long first = generator.nextId();
+        long last = first;
+        for (int i = 1; i <= 4096; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+
+        assertThat(millis(first)).isEqualTo(NOW - SnowflakeIdGenerator.EPOCH_MILLIS);
+        assertThat(millis(last)).isEqualTo(millis(first) + 1);
+        assertThat(last & 0xFFF).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep increasing when the clock steps back")
+    void shouldSurviveClockStepBack() {
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        long before = generator.nextId();
+        clock.set(NOW - 500);
+        long after = generator.nextId();
+        clock.set(NOW + 10);
+        long caughtUp = generator.nextId();
+
+        assertThat(after).isGreaterThan(before);
+        assertThat(millis(after)).isEqualTo(millis(before));
+        assertThat(millis(caughtUp)).isEqualTo(NOW + 10 - SnowflakeIdGenerator.EPOCH_MILLIS);
+        assertThat(caughtUp & 0xFFF).isZero();
+    }
+
+    @Test
+    @DisplayName("Should put the node id in every id and reject ids outside 0-1023")
+    void shouldEncodeNodeId() {
+        long id = new SnowflakeIdGenerator(1023, () -> NOW).nextId();
+
+        assertThat((id >>> 12) & 1023).isEqualTo(1023);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ids.node-id");
+    }
+
+    @Test
+    @DisplayName("Should refuse to pick a random node id on a node of a cluster")
+    void shouldRequireNodeIdInCluster() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1, "node-a"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ids.node-id");
+        assertThat((new SnowflakeIdGenerator(5, "node-a").nextId() >>> 12) & 1023).isEqualTo(5);
+        assertThat(new SnowflakeIdGenerator(-1, "").nextId()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should build fixed-width base32 references that sort like their ids")
+    void shouldEncodeSortableReferences() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+
+        String payment = generator.nextPaymentReference();
+        String alert = generator.nextAlertReference();
+
+        assertThat(payment).matches("PAY-[0-9A-HJKMNP-TV-Z]{13}");
+        assertThat(alert).matches("ALERT-[0-9A-HJKMNP-TV-Z]{13}");
+        assertThat(payment.substring(4)).isLessThan(alert.substring(6));
+        assertThat(SnowflakeIdGenerator.encode(0)).isEqualTo("0000000000000");
+        assertThat(SnowflakeIdGenerator.encode(Long.MAX_VALUE)).isEqualTo("7ZZZZZZZZZZZZ");
+        assertThat(SnowflakeIdGenerator.encode(31)).isLessThan(SnowflakeIdGenerator.encode(32));
+    }
+
+    private static long millis(long id) {
+        return id >>> 22;
+    }
+}
@@ -0,0 +1,193 @@
+package com.demo.MoneyMap.service.indicator;
+
+import com.demo.MoneyMap.entity.AssetPriceHistory;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.service.history.PriceHistoryCache;
+import com.demo.MoneyMap.service.history.PriceHistorySeries;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Test suite for the incremental technical-indicator engine.
+ *
+ * Validates indicator values against hand-computed references, that appending
+ * new days gives the same result as a full recompute, recomputation when older
+ * history appears, and per-parameter caching.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Indicator Engine - Incremental Indicator Tests")
+class IndicatorEngineTest {
+
+    private static final LocalDate START = LocalDate.parse("2024-01-01");
+
+    @Mock
+    private PriceHistoryCache historyCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IndicatorEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new IndicatorEngine(historyCache, 100, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should match reference values for each indicator, NaN while warming up")
+    void shouldMatchReferenceValues() {
+        given(historyCache.get("AAPL")).willReturn(series(0, 1, 2, 3, 2, 4));
+
+        IndicatorSeries sma = engine.compute("aapl", spec(IndicatorType.SMA, 3));
+        assertThat(sma.value(0, 1)).isNaN();
+        assertThat(sma.value(0, 2)).isEqualTo(2.0);
+        assertThat(sma.value(0, 4)).isEqualTo(3.0);
+        assertThat(sma.size()).isEqualTo(5);
+
+        IndicatorSeries ema = engine.compute("AAPL", spec(IndicatorType.EMA, 3));
+        assertThat(ema.value(0, 2)).isEqualTo(2.0);
+        assertThat(ema.value(0, 3)).isEqualTo(2.0);
+        assertThat(ema.value(0, 4)).isEqualTo(3.0);
+
+        IndicatorSeries rsi = engine.compute("AAPL", spec(IndicatorType.RSI, 2));
+        assertThat(rsi.value(0, 1)).isNaN();
+        assertThat(rsi.value(0, 2)).isEqualTo(100.0);
+        assertThat(rsi.value(0, 3)).isEqualTo(50.0);
+
+        IndicatorSeries bollinger = engine.compute("AAPL", spec(IndicatorType.BOLLINGER, 3, 2));
+        assertThat(bollinger.value(0, 2)).isEqualTo(2.0);
+        assertThat(bollinger.value(1, 2)).isCloseTo(2 + 2 * Math.sqrt(2.0 / 3), within(1e-9));
+        assertThat(bollinger.value(2, 2)).isCloseTo(2 - 2 * Math.sqrt(2.0 / 3), within(1e-9));
+
+        IndicatorSeries macd = engine.compute("AAPL", spec(IndicatorType.MACD, 2, 3, 2));
+        assertThat(macd.value(0, 1)).isNaN();
+        assertThat(macd.value(0, 2)).isEqualTo(0.5);
+        assertThat(macd.value(1, 2)).isNaN();
+        assertThat(macd.value(2, 3)).isEqualTo(macd.value(0, 3) - macd.value(1, 3));
+    }
+
+    @Test
+    @DisplayName("Should append only new days and match a full recompute")
+    void shouldAppendIncrementally() {
+        double[] closes = randomWalk(300);
+        PriceHistorySeries full = series(0, closes);
+        PriceHistorySeries partial = series(0, Arrays.copyOf(closes, 250));
+        given(historyCache.get("BTC")).willReturn(partial, full);
+        IndicatorSpec macd = spec(IndicatorType.MACD, 12, 26, 9);
+
+        IndicatorSeries before = engine.compute("BTC", macd);
+        IndicatorSeries after = engine.compute("BTC", macd);
+
+        IndicatorEngine fresh = new IndicatorEngine(historyCache, 100, new SimpleMeterRegistry());
+        given(historyCache.get("BTC")).willReturn(full);
+        IndicatorSeries expected = fresh.compute("BTC", macd);
+
+        assertThat(before.size()).isEqualTo(250);
+        assertThat(after.size()).isEqualTo(300);
+        assertSameValues(after, expected);
+        assertThat(barsCounted("recomputed")).isEqualTo(250);
+        assertThat(barsCounted("appended")).isEqualTo(50);
+        // Earlier snapshots are untouched by the append
+        assertThat(before.getDate(249)).isEqualTo(START.plusDays(249));
+    }
+
+    @Test
+    @DisplayName("Should recompute from scratch when older history is backfilled")
+    void shouldRecomputeWhenHistoryIsBackfilled() {
+        double[] closes = randomWalk(200);
+        PriceHistorySeries recent = series(100, Arrays.copyOfRange(closes, 100, 200));
+        PriceHistorySeries full = series(0, closes);
+        given(historyCache.get("ETH")).willReturn(recent, full, full);
+        IndicatorSpec rsi = spec(IndicatorType.RSI, 14);
+
+        engine.compute("ETH", rsi);
+        IndicatorSeries backfilled = engine.compute("ETH", rsi);
+        IndicatorSeries expected = new IndicatorEngine(historyCache, 100, new SimpleMeterRegistry())
+                .compute("ETH", rsi);
+
+        assertThat(backfilled.getDate(0)).isEqualTo(START);
+        assertSameValues(backfilled, expected);
+        assertThat(barsCounted("appended")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep separate state per parameter set and reject invalid parameters")
+    void shouldCachePerParameterSet() {
+        given(historyCache.get("MSFT")).willReturn(series(0, randomWalk(60)));
+
+        IndicatorSeries rsi14 = engine.compute("MSFT", spec(IndicatorType.RSI, 14));
+        IndicatorSeries rsi7 = engine.compute("MSFT", spec(IndicatorType.RSI, 7));
+        engine.compute("MSFT", spec(IndicatorType.RSI, 14));
+
+        assertThat(rsi14.value(0, 10)).isNaN();
+        assertThat(rsi7.value(0, 10)).isNotNaN();
+        assertThat(barsCounted("recomputed")).isEqualTo(120);
+        assertThat(rsi14.range(START.plusDays(20), START.plusDays(29)).size()).isEqualTo(10);
+
+        assertThatThrownBy(() -> spec(IndicatorType.MACD, 26, 12, 9)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> spec(IndicatorType.SMA, 2.5)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> IndicatorType.from("vwap")).isInstanceOf(BadRequestException.class);
+    }
+
+    private double barsCounted(String mode) {
+        return meterRegistry.get("moneymap.indicator.bars").tag("mode", mode).counter().count();
+    }
+
+    private static void assertSameValues(IndicatorSeries actual, IndicatorSeries expected) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        int outputs = expected.getSpec().getType().getOutputs().size();
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.getDate(i)).isEqualTo(expected.getDate(i));
+            for (int output = 0; output < outputs; output++) {
+                assertThat(Double.valueOf(actual.value(output, i))).isEqualTo(Double.valueOf(expected.value(output, i)));
+            }
+        }
+    }
+
+    private static IndicatorSpec spec(IndicatorType type, double... params) {
+        List<Double> values = new ArrayList<>();
+        for (double param : params) {
+            values.add(param);
+        }
+        return IndicatorSpec.of(type, values);
+    }
+
+    private static double[] randomWalk(int days) {
+        Random random = new Random(42);
+        double[] closes = new double[days];
+        double price = 100;
+        for (int i = 0; i < days; i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            closes[i] = Math.round(price * 10_000) / 10_000d;
+        }
+        return closes;
+    }
+
+    private static PriceHistorySeries series(int firstDay, double... closes) {
+        List<AssetPriceHistory> rows = new ArrayList<>();
+        for (int i = 0; i < closes.length; i++) {
+            rows.add(AssetPriceHistory.builder()
+                    .symbol("X")
+                    .priceDate(START.plusDays(firstDay + i))
+                    .closePrice(BigDecimal.valueOf(closes[i]))
+                    .build());
+        }
+        return PriceHistorySeries.of("X", rows);
+    }
+}
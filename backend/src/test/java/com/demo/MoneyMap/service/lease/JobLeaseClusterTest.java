@@ -0,0 +1,179 @@
+package com.demo.MoneyMap.service.lease;
+
+import com.demo.MoneyMap.entity.ScheduledJobLease;
+import com.demo.MoneyMap.repository.ScheduledJobLeaseRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test suite for cluster-wide job leases.
+ *
+ * Runs two application contexts against one H2 file database, as two nodes
+ * would share MySQL, and validates exclusive acquisition, expiry takeover,
+ * fencing tokens, renewal and the {@link ClusterLocked} aspect.
+ */
+@DisplayName("Job Lease - Two-Node Cluster Tests")
+class JobLeaseClusterTest {
+
+    @TempDir
+    static Path databaseDir;
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        String url = "jdbc:h2:file:" + databaseDir.resolve("cluster").toAbsolutePath() + ";DB_CLOSE_DELAY=-1";
+        nodeA = startNode(url, "node-a");
+        nodeB = startNode(url, "node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    @Test
+    @DisplayName("Should grant a lease to one node at a time and fence off the previous holder")
+    void shouldGrantLeaseToOneNodeAtATime() throws InterruptedException {
+        JobLeaseManager a = nodeA.getBean(JobLeaseManager.class);
+        JobLeaseManager b = nodeB.getBean(JobLeaseManager.class);
+
+        JobLease first = a.tryAcquire("valuation", Duration.ofSeconds(30)).orElseThrow();
+        assertThat(first.fencingToken()).isEqualTo(1);
+        assertThat(b.tryAcquire("valuation", Duration.ofSeconds(30))).isEmpty();
+        assertThat(a.renew(first, Duration.ofSeconds(30))).isPresent();
+
+        a.release(first);
+        JobLease second = b.tryAcquire("valuation", Duration.ofMillis(300)).orElseThrow();
+        assertThat(second.fencingToken()).isEqualTo(2);
+        assertThat(a.isCurrent(first)).isFalse();
+        assertThat(a.renew(first, Duration.ofSeconds(30))).isEmpty();
+
+        // B stops renewing (e.g. it crashed): A takes over once the lease runs out
+        Thread.sleep(400);
+        JobLease third = a.tryAcquire("valuation", Duration.ofSeconds(30)).orElseThrow();
+        assertThat(third.fencingToken()).isEqualTo(3);
+        assertThat(b.isCurrent(second)).isFalse();
+        assertThat(b.renew(second, Duration.ofSeconds(30))).isEmpty();
+        assertThat(a.isCurrent(third)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should run a cluster-locked job on only one node when both fire together")
+    void shouldRunLockedJobOnOneNode() throws Exception {
+        LockedJob jobA = nodeA.getBean(LockedJob.class);
+        LockedJob jobB = nodeB.getBean(LockedJob.class);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> runA = pool.submit(() -> {
+                start.await();
+                jobA.run(500);
+                return null;
+            });
+            Future<?> runB = pool.submit(() -> {
+                start.await();
+                jobB.run(500);
+                return null;
+            });
+            start.countDown();
+            runA.get();
+            runB.get();
+        } finally {
+            pool.shutdown();
+        }
+
+        List<JobLease> runs = new CopyOnWriteArrayList<>(jobA.runs());
+        runs.addAll(jobB.runs());
+        assertThat(runs).hasSize(1);
+
+        // Released on return, so the other node can run straight away, under a newer token
+        LockedJob loser = jobA.runs().isEmpty() ? jobA : jobB;
+        loser.run(0);
+        assertThat(loser.runs()).hasSize(1);
+        assertThat(loser.runs().get(0).fencingToken()).isEqualTo(runs.get(0).fencingToken() + 1);
+    }
+
+    private static ConfigurableApplicationContext startNode(String url, String nodeId) {
+        return new SpringApplicationBuilder(LeaseNode.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.config.name=lease-cluster-test",
+                        "spring.main.banner-mode=off",
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=sa",
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "scheduling.lease.node-id=" + nodeId)
+                .run();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class, AopAutoConfiguration.class})
+    @EnableJpaRepositories(basePackageClasses = ScheduledJobLeaseRepository.class,
+            includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+                    classes = ScheduledJobLeaseRepository.class))
+    @Import({JobLeaseManager.class, ClusterLockAspect.class, LockedJob.class})
+    static class LeaseNode {
+
+        @Bean
+        PersistenceManagedTypes persistenceManagedTypes() {
+            return PersistenceManagedTypes.of(ScheduledJobLease.class.getName());
+        }
+    }
+
+    static class LockedJob {
+
+        private final List<JobLease> runs = new CopyOnWriteArrayList<>();
+        private final JobLeaseManager leaseManager;
+
+        LockedJob(JobLeaseManager leaseManager) {
+            this.leaseManager = leaseManager;
+        }
+
+        public List<JobLease> runs() {
+            return runs;
+        }
+
+        @ClusterLocked(value = "quarterly-report", leaseSeconds = 5)
+        public void run(long millis) throws InterruptedException {
+            Optional<JobLease> lease = leaseManager.currentLease();
+            assertThat(leaseManager.holdsCurrentLease()).isTrue();
+            runs.add(lease.orElseThrow());
+            Thread.sleep(millis);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.demo.MoneyMap.service.market;
+
+import com.demo.MoneyMap.exception.UpstreamUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test suite for the market data circuit breaker and bulkhead.
+ *
+ * Validates opening on upstream faults, half-open recovery, bulkhead rejection,
+ * and that client errors do not count against the upstream.
+ */
+@DisplayName("Market Data Guard - Circuit Breaker Tests")
+class MarketDataGuardTest {
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private MarketDataGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new MarketDataGuard(10, 4, 50, 30, 2, 2, clock::get, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should open after the failure rate threshold and reject without calling upstream")
+    void shouldOpenOnUpstreamFaults() {
+        succeed();
+        succeed();
+        fail();
+        fail();
+
+        assertThat(guard.getState()).isEqualTo(MarketDataGuard.State.OPEN);
+        assertThatThrownBy(() -> guard.execute(() -> "never"))
+                .isInstanceOf(UpstreamUnavailableException.class)
+                .hasMessageContaining("circuit open");
+        assertThat(meterRegistry.counter("moneymap.upstream.rejected",
+                "upstream", "market-data", "reason", "circuit_open").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("moneymap.upstream.circuit.state").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should close again after successful half-open trial calls")
+    void shouldRecoverThroughHalfOpen() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(31));
+        assertThat(guard.getState()).isEqualTo(MarketDataGuard.State.HALF_OPEN);
+
+        succeed();
+        succeed();
+
+        assertThat(guard.getState()).isEqualTo(MarketDataGuard.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should reopen when a half-open trial call fails")
+    void shouldReopenOnHalfOpenFailure() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        fail();
+
+        assertThat(guard.getState()).isEqualTo(MarketDataGuard.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("Should not count client errors as upstream failures")
+    void shouldIgnoreClientErrors() {
+        for (int i = 0; i < 6; i++) {
+            assertThatThrownBy(() -> guard.execute(() -> {
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        assertThat(guard.getState()).isEqualTo(MarketDataGuard.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Should time out slow reactive calls and reject calls beyond the bulkhead")
+    void shouldTimeOutAndLimitConcurrency() {
+        Mono<String> slow = guard.call(Mono::never, Duration.ofMillis(50));
+        assertThatThrownBy(slow::block).hasCauseInstanceOf(TimeoutException.class);
+
+        var first = guard.call(Mono::<String>never, Duration.ofSeconds(10)).subscribe();
+        var second = guard.call(Mono::<String>never, Duration.ofSeconds(10)).subscribe();
+        assertThatThrownBy(() -> guard.call(() -> Mono.just("x"), Duration.ofSeconds(1)).block())
+                .isInstanceOf(UpstreamUnavailableException.class)
+                .hasMessageContaining("busy");
+
+        first.dispose();
+        second.dispose();
+        assertThat(guard.call(() -> Mono.just("x"), Duration.ofSeconds(1)).block()).isEqualTo("x");
+    }
+
+    private void succeed() {
+        guard.execute(() -> "ok");
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> guard.execute(() -> {
+            throw new ResourceAccessException("connection refused");
+        })).isInstanceOf(ResourceAccessException.class);
+    }
+}
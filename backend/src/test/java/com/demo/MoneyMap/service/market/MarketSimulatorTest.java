@@ -0,0 +1,77 @@
+package com.demo.MoneyMap.service.market;
+
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.entity.enums.AvailableAsset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test suite for the offline market simulator.
+ *
+ * Validates that live prices move and stay positive, that history is
+ * reproducible, and that unknown symbols are rejected.
+ */
+@DisplayName("Market Simulator - Synthetic Price Tests")
+class MarketSimulatorTest {
+
+    private AtomicLong clock;
+    private MarketSimulator simulator;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        simulator = new MarketSimulator(3600, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should start every catalog asset at its catalog price")
+    void shouldQuoteEveryCatalogAsset() {
+        for (AvailableAsset asset : AvailableAsset.values()) {
+            FinnhubQuoteResponse quote = simulator.quote(asset.getSymbol().toLowerCase()).orElseThrow();
+            assertThat(quote.getCurrentPrice()).isEqualTo(asset.getCurrentMarketPrice().doubleValue());
+        }
+        assertThat(simulator.quote("NOPE")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should move prices over time and keep them positive")
+    void shouldMovePricesOverTime() {
+        double start = simulator.quote("BTC").orElseThrow().getCurrentPrice();
+        boolean moved = false;
+        for (int i = 0; i < 100; i++) {
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+            FinnhubQuoteResponse quote = simulator.quote("BTC").orElseThrow();
+            assertThat(quote.getCurrentPrice()).isPositive();
+            assertThat(quote.getHigh()).isGreaterThanOrEqualTo(quote.getCurrentPrice());
+            assertThat(quote.getLow()).isLessThanOrEqualTo(quote.getCurrentPrice());
+            moved |= quote.getCurrentPrice() != start;
+        }
+        assertThat(moved).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should generate reproducible daily history ending at the catalog price")
+    void shouldGenerateReproducibleHistory() {
+        LocalDate to = LocalDate.of(2024, 6, 28);
+        LocalDate from = to.minusMonths(1);
+
+        List<Map<String, Object>> first = simulator.history("AAPL", from, to).orElseThrow();
+        List<Map<String, Object>> second = simulator.history("AAPL", from, to).orElseThrow();
+        List<Map<String, Object>> crypto = simulator.history("BTC", from, to).orElseThrow();
+
+        assertThat(first).isEqualTo(second);
+        assertThat(first).hasSize(24);
+        assertThat(crypto).hasSize(32);
+        assertThat(first.get(first.size() - 1)).containsEntry("date", "2024-06-28").containsEntry("close", 175.5);
+        assertThat(simulator.history("NOPE", from, to)).isEmpty();
+    }
+}
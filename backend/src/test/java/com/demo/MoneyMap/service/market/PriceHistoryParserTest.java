@@ -0,0 +1,93 @@
+package com.demo.MoneyMap.service.market;
+
+import com.demo.MoneyMap.entity.AssetPriceHistory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test suite for the streaming price history parser.
+ *
+ * Validates typed decoding of integer and float prices, skipping of
+ * unrelated fields, and chunked delivery of rows.
+ */
+@DisplayName("Price History Parser - Streaming Tests")
+class PriceHistoryParserTest {
+
+    private final PriceHistoryParser parser = new PriceHistoryParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("Should read integer and float prices as exact decimals")
+    void shouldReadTypedRows() throws IOException {
+        String json = """
+                {"metadata": {"ticker": "AAPL", "tags": [1, {"a": 2}]},
+                 "latestPrice": 190.5,
+                 "historicalData": [
+                   {"date": "2024-06-10", "open": 190, "high": 192.25, "low": 189.1, "close": 191, "volume": 52000000, "dividends": 0},
+                   {"date": "2024-06-11 00:00:00", "open": "191.5", "high": null, "low": 190, "close": 193.75, "volume": 4.1E7},
+                   {"open": 1, "close": 2}
+                 ],
+                 "period": "5d"}
+                """;
+        List<AssetPriceHistory> rows = new ArrayList<>();
+
+        int count = parser.parse(stream(json), "AAPL", 100, rows::addAll);
+
+        assertThat(count).isEqualTo(2);
+        AssetPriceHistory first = rows.get(0);
+        assertThat(first.getSymbol()).isEqualTo("AAPL");
+        assertThat(first.getPriceDate()).isEqualTo(LocalDate.parse("2024-06-10"));
+        assertThat(first.getOpenPrice()).isEqualByComparingTo("190");
+        assertThat(first.getHighPrice()).isEqualTo(new BigDecimal("192.25"));
+        assertThat(first.getVolume()).isEqualTo(52_000_000L);
+
+        AssetPriceHistory second = rows.get(1);
+        assertThat(second.getPriceDate()).isEqualTo(LocalDate.parse("2024-06-11"));
+        assertThat(second.getOpenPrice()).isEqualTo(new BigDecimal("191.5"));
+        assertThat(second.getHighPrice()).isNull();
+        assertThat(second.getVolume()).isEqualTo(41_000_000L);
+    }
+
+    @Test
+    @DisplayName("Should hand rows over in fixed-size chunks")
+    void shouldDeliverChunks() throws IOException {
+        StringBuilder json = new StringBuilder("{\"historicalData\":[");
+        LocalDate date = LocalDate.parse("2020-01-01");
+        for (int i = 0; i < 1205; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"date\":\"").append(date.plusDays(i))
+                    .append("\",\"open\":1,\"high\":1,\"low\":1,\"close\":1,\"volume\":1}");
+        }
+        json.append("]}");
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        int count = parser.parse(stream(json.toString()), "BTC", 500, chunk -> chunkSizes.add(chunk.size()));
+
+        assertThat(count).isEqualTo(1205);
+        assertThat(chunkSizes).containsExactly(500, 500, 205);
+    }
+
+    @Test
+    @DisplayName("Should return no rows when the response has no history")
+    void shouldHandleMissingHistory() throws IOException {
+        List<AssetPriceHistory> rows = new ArrayList<>();
+
+        assertThat(parser.parse(stream("{\"error\":\"not found\"}"), "NOPE", 100, rows::addAll)).isZero();
+        assertThat(rows).isEmpty();
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
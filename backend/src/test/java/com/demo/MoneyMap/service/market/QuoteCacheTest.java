@@ -0,0 +1,167 @@
+package com.demo.MoneyMap.service.market;
+
+import com.demo.MoneyMap.dto.response.FinnhubQuoteResponse;
+import com.demo.MoneyMap.entity.enums.AssetType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Test suite for the shared quote cache.
+ *
+ * Validates per-type TTLs, stale-while-revalidate, that concurrent misses
+ * for one symbol are coalesced into a single upstream call, and that the
+ * least recently used symbols are evicted once the cache is full.
+ */
+@DisplayName("Quote Cache - Caching and Coalescing Tests")
+class QuoteCacheTest {
+
+    private AtomicLong clock;
+    private SimpleMeterRegistry meterRegistry;
+    private QuoteCache quoteCache;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        meterRegistry = new SimpleMeterRegistry();
+        quoteCache = new QuoteCache(
+                Map.of(AssetType.STOCK, 15L, AssetType.CRYPTO, 5L),
+                15, 60, 3, clock::get, meterRegistry);
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from cache within the TTL")
+    void shouldServeFromCacheWithinTtl() {
+        quoteCache.get("AAPL", this::countingLoader);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        FinnhubQuoteResponse quote = quoteCache.get("aapl", this::countingLoader);
+
+        assertThat(quote.getCurrentPrice()).isEqualTo(1.0);
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(meterRegistry.counter("moneymap.quote.cache", "result", "hit").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should apply the TTL of the symbol's asset type")
+    void shouldApplyTtlPerAssetType() {
+        quoteCache.get("BTC", this::countingLoader);
+        quoteCache.get("AAPL", this::countingLoader);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(8));
+
+        quoteCache.get("BTC", this::countingLoader);
+        quoteCache.get("AAPL", this::countingLoader);
+
+        // BTC (5s TTL) went stale and was refreshed; AAPL (15s TTL) was still fresh
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(meterRegistry.counter("moneymap.quote.cache", "result", "stale").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should serve stale quotes while revalidating, then the refreshed value")
+    void shouldServeStaleWhileRevalidating() {
+        quoteCache.get("AAPL", this::countingLoader);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        FinnhubQuoteResponse stale = quoteCache.get("AAPL", this::countingLoader);
+        FinnhubQuoteResponse refreshed = quoteCache.get("AAPL", this::countingLoader);
+
+        assertThat(stale.getCurrentPrice()).isEqualTo(1.0);
+        assertThat(refreshed.getCurrentPrice()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Should block for a fresh quote once past the stale window")
+    void shouldReloadPastStaleWindow() {
+        quoteCache.get("AAPL", this::countingLoader);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(120));
+
+        FinnhubQuoteResponse quote = quoteCache.get("AAPL", this::countingLoader);
+
+        assertThat(quote.getCurrentPrice()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("moneymap.quote.cache", "result", "miss").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should coalesce concurrent misses into one upstream call")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        CompletableFuture<FinnhubQuoteResponse> upstream = new CompletableFuture<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] callers = new Future<?>[8];
+            for (int i = 0; i < callers.length; i++) {
+                callers[i] = executor.submit(() -> quoteCache.get("AAPL", symbol -> {
+                    upstreamCalls.incrementAndGet();
+                    return Mono.fromFuture(upstream);
+                }));
+            }
+            await().atMost(5, TimeUnit.SECONDS).until(() ->
+                    meterRegistry.counter("moneymap.quote.cache", "result", "coalesced").count() == 7);
+
+            upstream.complete(quote(42.0));
+            for (Future<?> caller : callers) {
+                assertThat(((FinnhubQuoteResponse) caller.get(5, TimeUnit.SECONDS)).getCurrentPrice()).isEqualTo(42.0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should serve async lookups from the same cache without blocking")
+    void shouldServeAsyncLookups() {
+        FinnhubQuoteResponse first = quoteCache.getAsync("AAPL", this::countingLoader).block();
+        FinnhubQuoteResponse second = quoteCache.getAsync("AAPL", this::countingLoader).block();
+        FinnhubQuoteResponse blocking = quoteCache.get("AAPL", this::countingLoader);
+
+        assertThat(first.getCurrentPrice()).isEqualTo(1.0);
+        assertThat(second).isSameAs(first);
+        assertThat(blocking).isSameAs(first);
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used symbol once full")
+    void shouldEvictLeastRecentlyUsed() {
+        quoteCache.get("AAPL", this::countingLoader);
+        quoteCache.get("MSFT", this::countingLoader);
+        quoteCache.get("GOOGL", this::countingLoader);
+        quoteCache.get("AAPL", this::countingLoader);
+
+        quoteCache.get("TSLA", this::countingLoader);
+
+        assertThat(quoteCache.size()).isEqualTo(3);
+        assertThat(quoteCache.lastKnown("MSFT")).isEmpty();
+        assertThat(quoteCache.lastKnown("AAPL")).isPresent();
+        assertThat(quoteCache.lastKnown("TSLA")).isPresent();
+        assertThat(meterRegistry.counter("moneymap.quote.cache", "result", "eviction").count()).isEqualTo(1);
+        assertThat(upstreamCalls).hasValue(4);
+    }
+
+    private Mono<FinnhubQuoteResponse> countingLoader(String symbol) {
+        return Mono.just(quote(upstreamCalls.incrementAndGet()));
+    }
+
+    private static FinnhubQuoteResponse quote(double price) {
+        FinnhubQuoteResponse quote = new FinnhubQuoteResponse();
+        quote.setCurrentPrice(price);
+        return quote;
+    }
+}
@@ -0,0 +1,126 @@
+package com.demo.MoneyMap.service.notification;
+
+import com.demo.MoneyMap.entity.AlertDigestItem;
+import com.demo.MoneyMap.entity.enums.AlertKind;
+import com.demo.MoneyMap.repository.AlertDigestItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for per-client alert digests.
+ *
+ * Validates that alerts are collected rather than mailed, that a flush
+ * queues one email per recipient listing all of their alerts, that a lone
+ * alert keeps the plain alert email, and that disabling digests mails each
+ * alert straight away.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Alert Digester - Per-Client Digest Tests")
+class AlertDigesterTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-10T15:00:00Z");
+
+    @Mock
+    private AlertDigestItemRepository repository;
+
+    @Mock
+    private NotificationQueue notificationQueue;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AlertDigester digester;
+
+    @BeforeEach
+    void setUp() {
+        digester = new AlertDigester(repository, notificationQueue, transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(digester, "enabled", true);
+        ReflectionTestUtils.setField(digester, "windowSeconds", 120L);
+    }
+
+    @Test
+    @DisplayName("Should store alerts for the next digest instead of queueing an email")
+    void shouldCollectAlerts() {
+        digester.priceDrop("ann@example.com", "Growth", "AAPL", new BigDecimal("182.50"), -7.5);
+
+        ArgumentCaptor<AlertDigestItem> item = ArgumentCaptor.forClass(AlertDigestItem.class);
+        verify(repository).save(item.capture());
+        assertThat(item.getValue().getKind()).isEqualTo(AlertKind.PRICE_DROP);
+        assertThat(item.getValue().getSymbol()).isEqualTo("AAPL");
+        assertThat(item.getValue().getCreatedAt()).isNotNull();
+        verify(notificationQueue, never()).enqueue(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should queue one digest per recipient covering all of their alerts")
+    void shouldQueueOneDigestPerRecipient() {
+        given(repository.findDueRecipients(eq(NOW.minusSeconds(120)), any()))
+                .willReturn(List.of("ann@example.com", "bob@example.com"))
+                .willReturn(List.of());
+        given(repository.findByRecipientInOrderByIdAsc(List.of("ann@example.com", "bob@example.com"))).willReturn(List.of(
+                drop(1L, "ann@example.com", "AAPL", -6.0),
+                drop(2L, "ann@example.com", "TSLA", -9.0),
+                drop(3L, "bob@example.com", "MSFT", -5.5),
+                drop(4L, "ann@example.com", "AAPL", -8.0),
+                drop(5L, "ann@example.com", "BTC", -12.0),
+                AlertDigestItem.builder().id(6L).recipient("ann@example.com").kind(AlertKind.LOW_VALUE)
+                        .portfolioName("Retirement").amount(new BigDecimal("900.00")).createdAt(NOW).build()));
+
+        assertThat(digester.flushDue(NOW)).isEqualTo(2);
+
+        ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+        verify(notificationQueue).enqueue(eq("ann@example.com"),
+                eq("⚠ Alert Digest: 3 price drops, 1 low value portfolio"), body.capture());
+        assertThat(body.getValue())
+                .contains("BTC in Growth", "TSLA in Growth", "AAPL in Growth: 100 (-8.00% today)", "Retirement: 900")
+                .doesNotContain("-6.00%");
+        assertThat(body.getValue().indexOf("BTC")).isLessThan(body.getValue().indexOf("TSLA"));
+
+        verify(notificationQueue).enqueue(eq("bob@example.com"), eq("⚠ Asset Price Alert: MSFT"), anyString());
+        verify(repository).deleteByIds(List.of(1L, 2L, 3L, 4L, 5L, 6L));
+    }
+
+    @Test
+    @DisplayName("Should queue each alert straight away when digests are disabled")
+    void shouldSendImmediatelyWhenDisabled() {
+        ReflectionTestUtils.setField(digester, "enabled", false);
+
+        digester.lowValue("ann@example.com", "Retirement", new BigDecimal("12345"));
+
+        verify(notificationQueue).enqueue(eq("ann@example.com"), eq("⚠ Portfolio Value Alert"), anyString());
+        verify(repository, never()).save(any());
+    }
+
+    private static AlertDigestItem drop(long id, String recipient, String symbol, double changePercent) {
+        return AlertDigestItem.builder()
+                .id(id)
+                .recipient(recipient)
+                .kind(AlertKind.PRICE_DROP)
+                .portfolioName("Growth")
+                .symbol(symbol)
+                .amount(new BigDecimal("100.00000000"))
+                .changePercent(changePercent)
+                .createdAt(NOW)
+                .build();
+    }
+}
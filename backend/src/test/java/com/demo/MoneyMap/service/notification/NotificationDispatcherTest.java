@@ -0,0 +1,355 @@
+package com.demo.MoneyMap.service.notification;
+
+import com.demo.MoneyMap.entity.Notification;
+import com.demo.MoneyMap.entity.enums.NotificationStatus;
+import com.demo.MoneyMap.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Test suite for the notification dispatcher.
+ *
+ * Validates against an in-process SMTP server that a batch is delivered over
+ * one connection, that temporarily refused recipients are retried and then
+ * dead-lettered, that rejected or malformed addresses are dead-lettered
+ * without retries, and that the queue depth gauges refresh without workers.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Notification Dispatcher - Queued Email Delivery Tests")
+class NotificationDispatcherTest {
+
+    @Mock
+    private NotificationRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<Long, Notification> rows = new TreeMap<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SmtpStub smtp;
+    private NotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtp = new SmtpStub();
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.port());
+        mailSender.setDefaultEncoding("UTF-8");
+        mailSender.getJavaMailProperties().put("mail.smtp.from", "alerts@moneymap.test");
+
+        dispatcher = new NotificationDispatcher(repository, mailSender, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(dispatcher, "batchSize", 50);
+        ReflectionTestUtils.setField(dispatcher, "maxAttempts", 3);
+        ReflectionTestUtils.setField(dispatcher, "retryBackoffMillis", 0L);
+        ReflectionTestUtils.setField(dispatcher, "maxBackoffMillis", 0L);
+        ReflectionTestUtils.setField(dispatcher, "claimTimeoutMillis", 60_000L);
+        stubRepository();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        smtp.close();
+    }
+
+    @Test
+    @DisplayName("Should send a whole batch over a single SMTP connection")
+    void shouldSendBatchOverOneConnection() {
+        queue(1L, "ann@example.com");
+        queue(2L, "bob@example.com");
+        queue(3L, "cat@example.com");
+
+        assertThat(dispatcher.drainOnce()).isEqualTo(3);
+
+        assertThat(smtp.connections.get()).isEqualTo(1);
+        assertThat(smtp.delivered).containsExactlyInAnyOrder("ann@example.com", "bob@example.com", "cat@example.com");
+        assertThat(rows.values()).allSatisfy(row -> {
+            assertThat(row.getStatus()).isEqualTo(NotificationStatus.SENT);
+            assertThat(row.getClaimToken()).isNull();
+        });
+        assertThat(dispatcher.drainOnce()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should retry a temporarily refused recipient and dead-letter it after max attempts")
+    void shouldRetryThenDeadLetter() {
+        smtp.deferred.add("busy@example.com");
+        queue(1L, "busy@example.com");
+        queue(2L, "ann@example.com");
+
+        dispatcher.drainOnce();
+
+        assertThat(rows.get(2L).getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(rows.get(1L).getStatus()).isEqualTo(NotificationStatus.PENDING);
+        assertThat(rows.get(1L).getAttempts()).isEqualTo(1);
+
+        dispatcher.drainOnce();
+        dispatcher.drainOnce();
+
+        assertThat(rows.get(1L).getStatus()).isEqualTo(NotificationStatus.DEAD);
+        assertThat(rows.get(1L).getAttempts()).isEqualTo(3);
+        assertThat(rows.get(1L).getLastError()).isNotBlank();
+        assertThat(dispatcher.drainOnce()).isZero();
+        assertThat(smtp.delivered).containsExactly("ann@example.com");
+    }
+
+    @Test
+    @DisplayName("Should dead-letter rejected and malformed addresses without retrying")
+    void shouldDeadLetterBadAddresses() {
+        smtp.rejected.add("gone@example.com");
+        queue(1L, "gone@example.com");
+        queue(2L, "not-an-address");
+        queue(3L, "ann@example.com");
+
+        dispatcher.drainOnce();
+
+        assertThat(rows.get(1L).getStatus()).isEqualTo(NotificationStatus.DEAD);
+        assertThat(rows.get(1L).getAttempts()).isEqualTo(1);
+        assertThat(rows.get(2L).getStatus()).isEqualTo(NotificationStatus.DEAD);
+        assertThat(rows.get(3L).getStatus()).isEqualTo(NotificationStatus.SENT);
+        assertThat(smtp.delivered).containsExactly("ann@example.com");
+        assertThat(dispatcher.drainOnce()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep the whole batch for retry when the mail server is unreachable")
+    void shouldRetryBatchWhenServerIsDown() throws IOException {
+        queue(1L, "ann@example.com");
+        queue(2L, "bob@example.com");
+        smtp.close();
+
+        dispatcher.drainOnce();
+
+        assertThat(rows.values()).allSatisfy(row -> {
+            assertThat(row.getStatus()).isEqualTo(NotificationStatus.PENDING);
+            assertThat(row.getAttempts()).isEqualTo(1);
+            assertThat(row.getClaimToken()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should refresh the queue depth gauges when no workers are running")
+    void shouldRefreshDepthWithoutWorkers() {
+        smtp.rejected.add("gone@example.com");
+        queue(1L, "gone@example.com");
+        dispatcher.drainOnce();
+        queue(2L, "ann@example.com");
+        queue(3L, "bob@example.com");
+        given(repository.countByStatus(any())).willAnswer(invocation -> rows.values().stream()
+                .filter(row -> row.getStatus() == invocation.getArgument(0))
+                .count());
+
+        dispatcher.refreshDepth();
+
+        assertThat(meterRegistry.get("moneymap.notifications.queue").tag("status", "pending").gauge().value())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("moneymap.notifications.queue").tag("status", "dead").gauge().value())
+                .isEqualTo(1);
+    }
+
+    private void queue(long id, String recipient) {
+        rows.put(id, Notification.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject("Alert " + id)
+                .body("Body " + id)
+                .status(NotificationStatus.PENDING)
+                .nextAttemptAt(Instant.now().minusSeconds(1))
+                .build());
+    }
+
+    /**
+     * Backs the repository with {@link #rows}, applying the same guards as the queries.
+     */
+    @SuppressWarnings("unchecked")
+    private void stubRepository() {
+        given(repository.findDueIds(anyCollection(), any(), any())).willAnswer(invocation -> {
+            Collection<NotificationStatus> statuses = invocation.getArgument(0);
+            Instant now = invocation.getArgument(1);
+            return rows.values().stream()
+                    .filter(row -> statuses.contains(row.getStatus()) && !row.getNextAttemptAt().isAfter(now))
+                    .map(Notification::getId)
+                    .toList();
+        });
+        given(repository.claim(anyCollection(), anyCollection(), anyString(), any(), any())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            Collection<NotificationStatus> statuses = invocation.getArgument(1);
+            Instant now = invocation.getArgument(3);
+            int claimed = 0;
+            for (Long id : ids) {
+                Notification row = rows.get(id);
+                if (statuses.contains(row.getStatus()) && !row.getNextAttemptAt().isAfter(now)) {
+                    row.setStatus(NotificationStatus.SENDING);
+                    row.setClaimToken(invocation.getArgument(2));
+                    row.setNextAttemptAt(invocation.getArgument(4));
+                    claimed++;
+                }
+            }
+            return claimed;
+        });
+        given(repository.findByClaimTokenOrderByIdAsc(anyString())).willAnswer(invocation -> rows.values().stream()
+                .filter(row -> invocation.getArgument(0).equals(row.getClaimToken()))
+                .map(NotificationDispatcherTest::copy)
+                .toList());
+        given(repository.markSent(anyCollection(), anyString(), any())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            ids.forEach(id -> {
+                Notification row = rows.get(id);
+                row.setStatus(NotificationStatus.SENT);
+                row.setClaimToken(null);
+                row.setSentAt(invocation.getArgument(2));
+            });
+            return ids.size();
+        });
+        given(repository.saveAll(anyCollection())).willAnswer(invocation -> {
+            List<Notification> saved = List.copyOf((Collection<Notification>) invocation.getArgument(0));
+            saved.forEach(row -> rows.put(row.getId(), copy(row)));
+            return saved;
+        });
+    }
+
+    // Detached copies, so the dispatcher cannot change rows without going through the repository
+    private static Notification copy(Notification row) {
+        return Notification.builder()
+                .id(row.getId())
+                .recipient(row.getRecipient())
+                .subject(row.getSubject())
+                .body(row.getBody())
+                .status(row.getStatus())
+                .attempts(row.getAttempts())
+                .nextAttemptAt(row.getNextAttemptAt())
+                .claimToken(row.getClaimToken())
+                .lastError(row.getLastError())
+                .sentAt(row.getSentAt())
+                .build();
+    }
+
+    /**
+     * Minimal SMTP server: answers 550 for {@link #rejected} recipients, 451 for
+     * {@link #deferred} ones, and records who each accepted message was for.
+     */
+    private static final class SmtpStub implements AutoCloseable {
+
+        private final ServerSocket server;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final Set<String> rejected = ConcurrentHashMap.newKeySet();
+        private final Set<String> deferred = ConcurrentHashMap.newKeySet();
+        private final List<String> delivered = new CopyOnWriteArrayList<>();
+
+        private SmtpStub() throws IOException {
+            server = new ServerSocket(0);
+            Thread acceptor = new Thread(this::accept, "smtp-stub");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        private int port() {
+            return server.getLocalPort();
+        }
+
+        private void accept() {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    connections.incrementAndGet();
+                    Thread session = new Thread(() -> serve(socket), "smtp-stub-session");
+                    session.setDaemon(true);
+                    session.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket;
+                 BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                 PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+                reply(out, "220 stub ESMTP");
+                String recipient = null;
+                String line;
+                while ((line = in.readLine()) != null) {
+                    String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+                    switch (command) {
+                        case "EHLO", "HELO", "NOOP" -> reply(out, "250 OK");
+                        case "MAIL", "RSET" -> {
+                            recipient = null;
+                            reply(out, "250 OK");
+                        }
+                        case "RCPT" -> {
+                            String address = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+                            if (rejected.contains(address)) {
+                                reply(out, "550 5.1.1 No such user");
+                            } else if (deferred.contains(address)) {
+                                reply(out, "451 4.2.1 Mailbox busy");
+                            } else {
+                                recipient = address;
+                                reply(out, "250 OK");
+                            }
+                        }
+                        case "DATA" -> {
+                            reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                            while ((line = in.readLine()) != null && !line.equals(".")) {
+                                // message content is not inspected
+                            }
+                            delivered.add(recipient);
+                            reply(out, "250 OK queued");
+                        }
+                        case "QUIT" -> {
+                            reply(out, "221 Bye");
+                            return;
+                        }
+                        default -> reply(out, "502 Command not implemented");
+                    }
+                }
+            } catch (IOException e) {
+                // client went away
+            }
+        }
+
+        private static void reply(PrintWriter out, String line) {
+            out.print(line + "\r\n");
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.demo.MoneyMap.service.payment;
+
+import com.demo.MoneyMap.repository.PaymentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for the in-memory idempotency key index.
+ *
+ * Validates that keys the filter has never seen are answered without a
+ * query, that cached keys return their payment id directly, that a possible
+ * match is looked up once and then cached, that every key goes to the
+ * database until warm-up finishes, and that the Bloom filter never drops a
+ * key and stays near its false positive rate.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Idempotency Key Index - Duplicate Check Tests")
+class IdempotencyKeyIndexTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyKeyIndex index;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new IdempotencyKeyIndex(paymentRepository, 10_000, 0.01, 2, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should load existing keys page by page during warm-up")
+    void shouldWarmUpFromPayments() {
+        List<Object[]> fullPage = new ArrayList<>();
+        for (long id = 1; id <= 10_000; id++) {
+            fullPage.add(new Object[]{id, "key-" + id});
+        }
+        given(paymentRepository.findIdempotencyKeysAfter(eq(0L), any(Pageable.class))).willReturn(fullPage);
+        given(paymentRepository.findIdempotencyKeysAfter(eq(10_000L), any(Pageable.class)))
+                .willReturn(List.<Object[]>of(new Object[]{10_001L, "key-10001"}));
+
+        index.warmUp();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.find("key-10001")).contains(10_001L);
+        assertThat(index.possiblyUsed(List.of("key-1", "key-5000"))).containsExactly("key-1", "key-5000");
+        verify(paymentRepository, times(2)).findIdempotencyKeysAfter(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should answer unseen keys without querying the database")
+    void shouldSkipDatabaseForUnseenKeys() {
+        index.warmUp();
+
+        assertThat(index.find("fresh-key")).isEmpty();
+        assertThat(index.possiblyUsed(List.of("a", "b", "c"))).isEmpty();
+
+        verify(paymentRepository, never()).findIdByIdempotencyKey(anyString());
+        assertThat(meterRegistry.counter("moneymap.payments.idempotency", "lookup", "new").count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should look up a possible match once and then serve it from the cache")
+    void shouldCacheDatabaseMatches() {
+        given(paymentRepository.findIdByIdempotencyKey("k1")).willReturn(Optional.of(42L));
+
+        assertThat(index.find("k1")).contains(42L);
+        assertThat(index.find("k1")).contains(42L);
+
+        verify(paymentRepository, times(1)).findIdByIdempotencyKey("k1");
+    }
+
+    @Test
+    @DisplayName("Should check the database for every key until warm-up finishes")
+    void shouldQueryDatabaseBeforeWarmUp() {
+        given(paymentRepository.findIdByIdempotencyKey("k1")).willReturn(Optional.empty());
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.find("k1")).isEmpty();
+        assertThat(index.possiblyUsed(List.of("k1", "k2"))).containsExactly("k1", "k2");
+        verify(paymentRepository).findIdByIdempotencyKey("k1");
+    }
+
+    @Test
+    @DisplayName("Should keep recorded keys in the filter after they leave the cache")
+    void shouldRememberEvictedKeys() {
+        index.warmUp();
+        index.record("k1", 1L);
+        index.record("k2", 2L);
+        index.record("k3", 3L);
+        given(paymentRepository.findIdByIdempotencyKey("k1")).willReturn(Optional.of(1L));
+
+        assertThat(index.find("k3")).contains(3L);
+        assertThat(index.find("k1")).contains(1L);
+
+        verify(paymentRepository, times(1)).findIdByIdempotencyKey(anyString());
+        assertThat(meterRegistry.get("moneymap.payments.idempotency.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should never miss an inserted key and stay near the target false positive rate")
+    void shouldHaveNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("inserted-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("inserted-" + i)).isTrue();
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
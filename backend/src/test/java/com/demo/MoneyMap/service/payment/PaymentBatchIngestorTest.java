@@ -0,0 +1,222 @@
+package com.demo.MoneyMap.service.payment;
+
+import com.demo.MoneyMap.dto.request.PaymentRequestDTO;
+import com.demo.MoneyMap.dto.response.PaymentBatchResultDTO;
+import com.demo.MoneyMap.entity.Payment;
+import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import com.demo.MoneyMap.mapper.PaymentMapper;
+import com.demo.MoneyMap.repository.PaymentRepository;
+import com.demo.MoneyMap.service.SearchIndexService;
+import com.demo.MoneyMap.service.id.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for batch payment ingestion.
+ *
+ * Validates that payments are written chunk by chunk with at most one
+ * idempotency lookup per chunk, that keys the idempotency index has never
+ * seen are not looked up, that duplicate keys within the batch and in the
+ * database are skipped, that invalid payments are reported by position,
+ * and that unreadable input stops the batch but keeps earlier chunks.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Payment Batch Ingestor - Bulk Payment Creation Tests")
+class PaymentBatchIngestorTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    @Mock
+    private PaymentRuleEvaluationQueue ruleEvaluationQueue;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+    private final AtomicLong nextId = new AtomicLong(100);
+    private final Set<String> storedKeys = new HashSet<>();
+    private IdempotencyKeyIndex idempotencyKeyIndex;
+    private PaymentBatchIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        idempotencyKeyIndex = new IdempotencyKeyIndex(paymentRepository, 1000, 0.01, 100, meterRegistry);
+        ingestor = new PaymentBatchIngestor(paymentRepository, new PaymentMapper(), validatorFactory.getValidator(),
+                searchIndexService, ruleEvaluationQueue, idempotencyKeyIndex, new SnowflakeIdGenerator(1),
+                transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(ingestor, "chunkSize", 2);
+
+        given(paymentRepository.insertAll(anyList())).willAnswer(invocation -> {
+            List<Payment> payments = invocation.getArgument(0);
+            payments.stream().map(Payment::getIdempotencyKey).filter(Objects::nonNull).forEach(storedKeys::add);
+            return payments.size();
+        });
+        given(paymentRepository.findExistingIdempotencyKeys(anyCollection())).willAnswer(invocation ->
+                ((Collection<?>) invocation.getArgument(0)).stream().filter(storedKeys::contains).toList());
+        given(paymentRepository.findIdsByPaymentReferences(anyCollection())).willAnswer(invocation -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Object reference : (Collection<?>) invocation.getArgument(0)) {
+                rows.add(new Object[]{reference, nextId.getAndIncrement()});
+            }
+            return rows;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should write chunks with one idempotency lookup each and skip duplicate keys")
+    void shouldSkipDuplicates() {
+        storedKeys.add("k3");
+
+        PaymentBatchResultDTO result = ingestor.ingest(Arrays.asList(
+                payment("k1", "ACC-1"), payment("k2", "ACC-2"),
+                payment("k1", "ACC-3"), payment("k3", "ACC-4"),
+                payment(null, "ACC-5")).iterator());
+
+        assertThat(result.getReceived()).isEqualTo(5);
+        assertThat(result.getCreated()).isEqualTo(3);
+        assertThat(result.getDuplicates()).isEqualTo(2);
+        assertThat(result.isComplete()).isTrue();
+        verify(paymentRepository, times(2)).findExistingIdempotencyKeys(anyCollection());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Payment>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(paymentRepository, times(2)).insertAll(inserted.capture());
+        List<Payment> payments = inserted.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(payments).extracting(Payment::getSourceAccount).containsExactly("ACC-1", "ACC-2", "ACC-5");
+        assertThat(payments).allSatisfy(payment -> {
+            assertThat(payment.getPaymentReference()).startsWith("PAY-");
+            assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CREATED);
+            assertThat(payment.getCreatedAt()).isNotNull();
+        });
+
+        verify(paymentRepository).insertStatusHistory(eq(List.of(100L, 101L)), isNull(), eq(PaymentStatus.CREATED), any(), any());
+        verify(paymentRepository).insertStatusHistory(eq(List.of(102L)), isNull(), eq(PaymentStatus.CREATED), any(), any());
+        verify(ruleEvaluationQueue).submit(List.of(100L, 101L));
+        verify(ruleEvaluationQueue).submit(List.of(102L));
+        verify(searchIndexService, times(3)).index(any(Payment.class));
+    }
+
+    @Test
+    @DisplayName("Should skip the idempotency lookup for keys the index has never seen")
+    void shouldSkipLookupForFreshKeys() {
+        storedKeys.add("k1");
+        idempotencyKeyIndex.warmUp();
+        idempotencyKeyIndex.record("k1", 7L);
+
+        PaymentBatchResultDTO result = ingestor.ingest(Arrays.asList(
+                payment("k2", "ACC-1"), payment("k3", "ACC-2"),
+                payment("k1", "ACC-3")).iterator());
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        verify(paymentRepository).findExistingIdempotencyKeys(List.of("k1"));
+        verify(paymentRepository, times(1)).findExistingIdempotencyKeys(anyCollection());
+        assertThat(idempotencyKeyIndex.find("k2")).contains(100L);
+    }
+
+    @Test
+    @DisplayName("Should report invalid payments by position without failing the batch")
+    void shouldRejectInvalidPayments() {
+        PaymentRequestDTO sameAccount = payment(null, "ACC-1");
+        sameAccount.setDestinationAccount("ACC-1");
+        PaymentRequestDTO noAmount = payment("k9", "ACC-2");
+        noAmount.setAmount(null);
+
+        PaymentBatchResultDTO result = ingestor.ingest(Arrays.asList(
+                sameAccount, payment(null, "ACC-3"), noAmount, null).iterator());
+
+        assertThat(result.getCreated()).isEqualTo(1);
+        assertThat(result.getRejected()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting("index").containsExactly(0L, 2L, 3L);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("Source and destination accounts cannot be the same");
+        assertThat(result.getErrors().get(1).getIdempotencyKey()).isEqualTo("k9");
+        assertThat(result.getErrors().get(1).getMessage()).isEqualTo("Amount is required");
+        verify(paymentRepository, never()).findExistingIdempotencyKeys(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should stop at unreadable input and keep the chunks already written")
+    void shouldStopAtUnreadableInput() {
+        Iterator<PaymentRequestDTO> requests = new Iterator<>() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                if (read == 3) {
+                    throw new IllegalStateException("Unexpected character");
+                }
+                return true;
+            }
+
+            @Override
+            public PaymentRequestDTO next() {
+                return payment(null, "ACC-" + read++);
+            }
+        };
+
+        PaymentBatchResultDTO result = ingestor.ingest(requests);
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getCreated()).isEqualTo(3);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getIndex()).isEqualTo(3);
+            assertThat(error.getMessage()).contains("Unexpected character");
+        });
+        verify(paymentRepository, times(2)).insertAll(anyList());
+    }
+
+    private static PaymentRequestDTO payment(String idempotencyKey, String sourceAccount) {
+        return PaymentRequestDTO.builder()
+                .idempotencyKey(idempotencyKey)
+                .sourceAccount(sourceAccount)
+                .destinationAccount("ACC-9")
+                .amount(new BigDecimal("25.00"))
+                .currency("usd")
+                .build();
+    }
+}
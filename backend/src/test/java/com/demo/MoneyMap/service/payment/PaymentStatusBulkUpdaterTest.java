@@ -0,0 +1,151 @@
+package com.demo.MoneyMap.service.payment;
+
+import com.demo.MoneyMap.dto.request.PaymentBulkStatusUpdateDTO;
+import com.demo.MoneyMap.dto.response.PaymentBulkStatusResultDTO;
+import com.demo.MoneyMap.entity.enums.PaymentErrorCode;
+import com.demo.MoneyMap.entity.enums.PaymentStatus;
+import com.demo.MoneyMap.exception.BadRequestException;
+import com.demo.MoneyMap.repository.PaymentRepository;
+import com.demo.MoneyMap.repository.PaymentSelection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for bulk payment status updates.
+ *
+ * Validates that every status allowed to move to the target is updated
+ * with its own statement, that id selections are split into chunks, that
+ * invalid or missing selections are refused, and that a selection changed
+ * mid-update is retried.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("Payment Status Bulk Updater - Set-Based Transition Tests")
+class PaymentStatusBulkUpdaterTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 6, 10, 0, 0);
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentStatusBulkUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        updater = new PaymentStatusBulkUpdater(paymentRepository, transactionManager, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should move a day of validated payments to SENT with one transition")
+    void shouldTransitionByFilter() {
+        PaymentSelection day = new PaymentSelection(null, DAY, DAY.plusDays(1));
+        given(paymentRepository.transitionStatus(eq(day), eq(PaymentStatus.VALIDATED), eq(PaymentStatus.SENT),
+                eq("End of day"), isNull(), isNull(), any())).willReturn(100_000);
+
+        PaymentBulkStatusResultDTO result = updater.update(PaymentBulkStatusUpdateDTO.builder()
+                .status(PaymentStatus.SENT)
+                .createdFrom(DAY)
+                .createdTo(DAY.plusDays(1))
+                .notes("End of day")
+                .build());
+
+        assertThat(result.getUpdated()).isEqualTo(100_000);
+        assertThat(result.getUpdatedFrom()).containsOnlyKeys(PaymentStatus.VALIDATED);
+        assertThat(result.getUnchanged()).isZero();
+        assertThat(meterRegistry.counter("moneymap.payments.transitions", "from", "VALIDATED", "to", "SENT").count())
+                .isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("Should fail payments from every non-terminal status and split ids into chunks")
+    void shouldFailFromEveryOpenStatusInChunks() {
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+        given(paymentRepository.transitionStatus(any(), eq(PaymentStatus.SENT), eq(PaymentStatus.FAILED),
+                anyString(), eq(PaymentErrorCode.NETWORK_ERROR), eq("Gateway down"), any())).willReturn(10);
+
+        PaymentBulkStatusResultDTO result = updater.update(PaymentBulkStatusUpdateDTO.builder()
+                .status(PaymentStatus.FAILED)
+                .paymentIds(ids)
+                .errorCode(PaymentErrorCode.NETWORK_ERROR)
+                .errorMessage("Gateway down")
+                .build());
+
+        ArgumentCaptor<PaymentSelection> selections = ArgumentCaptor.forClass(PaymentSelection.class);
+        verify(paymentRepository, times(3)).transitionStatus(selections.capture(), eq(PaymentStatus.CREATED),
+                eq(PaymentStatus.FAILED), anyString(), any(), any(), any());
+        assertThat(selections.getAllValues()).extracting(selection -> selection.ids().size())
+                .containsExactly(1000, 1000, 500);
+        verify(paymentRepository, times(3)).transitionStatus(any(), eq(PaymentStatus.VALIDATED),
+                eq(PaymentStatus.FAILED), anyString(), any(), any(), any());
+        verify(paymentRepository, never()).transitionStatus(any(), eq(PaymentStatus.COMPLETED), any(),
+                any(), any(), any(), any());
+
+        assertThat(result.getUpdated()).isEqualTo(30);
+        assertThat(result.getUpdatedFrom()).containsOnlyKeys(PaymentStatus.SENT);
+        assertThat(result.getUnchanged()).isEqualTo(2470);
+    }
+
+    @Test
+    @DisplayName("Should refuse a transition the lifecycle does not allow or a request without a selection")
+    void shouldRejectInvalidRequests() {
+        assertThatThrownBy(() -> updater.update(PaymentBulkStatusUpdateDTO.builder()
+                .status(PaymentStatus.COMPLETED)
+                .currentStatus(PaymentStatus.CREATED)
+                .build()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Invalid status transition from CREATED to COMPLETED");
+
+        assertThatThrownBy(() -> updater.update(PaymentBulkStatusUpdateDTO.builder()
+                .status(PaymentStatus.VALIDATED)
+                .build()))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(paymentRepository, never()).transitionStatus(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should retry when payments enter the selection during the update")
+    void shouldRetryConcurrentChanges() {
+        PaymentSelection selection = new PaymentSelection(List.of(1L, 2L), null, null);
+        given(paymentRepository.transitionStatus(eq(selection), eq(PaymentStatus.CREATED), eq(PaymentStatus.VALIDATED),
+                anyString(), any(), any(), any()))
+                .willThrow(new ConcurrencyFailureException("Payments entered status CREATED"))
+                .willReturn(2);
+
+        int moved = updater.transition(selection, PaymentStatus.CREATED, PaymentStatus.VALIDATED,
+                "Validated", null, null);
+
+        assertThat(moved).isEqualTo(2);
+        verify(paymentRepository, times(2)).transitionStatus(eq(selection), any(), any(), any(), any(), any(), any());
+    }
+}
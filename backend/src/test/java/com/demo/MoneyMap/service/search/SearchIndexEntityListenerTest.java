@@ -0,0 +1,86 @@
+package com.demo.MoneyMap.service.search;
+
+import com.demo.MoneyMap.entity.Client;
+import com.demo.MoneyMap.service.SearchIndexService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Test suite for the search index entity listener.
+ *
+ * Validates that entity writes reach the index only after their transaction
+ * commits, are dropped on rollback, and apply at once outside a transaction.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Search Index Entity Listener - Commit Tests")
+class SearchIndexEntityListenerTest {
+
+    @Mock
+    private SearchIndexService searchIndexService;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should index a saved entity only after the transaction commits")
+    void shouldIndexAfterCommit() {
+        SearchIndexEntityListener listener = new SearchIndexEntityListener(searchIndexService);
+        Client client = new Client();
+        TransactionSynchronizationManager.initSynchronization();
+
+        listener.onSave(client);
+        verifyNoInteractions(searchIndexService);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        verify(searchIndexService).index(client);
+    }
+
+    @Test
+    @DisplayName("Should leave the index untouched when the transaction rolls back")
+    void shouldIgnoreRolledBackWrites() {
+        SearchIndexEntityListener listener = new SearchIndexEntityListener(searchIndexService);
+        Client client = new Client();
+        TransactionSynchronizationManager.initSynchronization();
+
+        listener.onSave(client);
+        listener.onRemove(client);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(searchIndexService, never()).index(client);
+        verify(searchIndexService, never()).remove(client);
+    }
+
+    @Test
+    @DisplayName("Should apply changes at once outside a transaction")
+    void shouldApplyWithoutTransaction() {
+        SearchIndexEntityListener listener = new SearchIndexEntityListener(searchIndexService);
+        Client client = new Client();
+
+        listener.onRemove(client);
+
+        verify(searchIndexService).remove(client);
+    }
+
+    private static void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
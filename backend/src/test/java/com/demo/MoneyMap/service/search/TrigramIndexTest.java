@@ -0,0 +1,91 @@
+package com.demo.MoneyMap.service.search;
+
+import com.demo.MoneyMap.entity.enums.AvailableAsset;
+import com.demo.MoneyMap.service.catalog.AssetCatalogIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test suite for the trigram search index.
+ *
+ * Validates substring semantics matching the previous LIKE queries, ranking,
+ * and that updates and removals keep the posting lists consistent.
+ */
+@DisplayName("Trigram Index - Search Tests")
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1L, "John", "Doe", "john.doe@example.com");
+        index.put(2L, "Johnny", "Walker", "jw@example.com");
+        index.put(3L, "Alice", "Johnson", "alice@example.com");
+        index.put(4L, "Bob", "Smith", "bob@test.org");
+    }
+
+    @Test
+    @DisplayName("Should match substrings case-insensitively")
+    void shouldMatchSubstrings() {
+        assertThat(index.search("OHN")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.search("example")).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.search("zzz")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should rank exact matches before prefixes and substrings")
+    void shouldRankResults() {
+        index.put(5L, "Mary", "Ajohn", "mary@example.com");
+
+        List<Long> results = index.search("john");
+
+        assertThat(results).containsExactly(1L, 2L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("Should answer short queries by scanning documents")
+    void shouldHandleShortQueries() {
+        assertThat(index.search("bo")).containsExactly(4L);
+        assertThat(index.search("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and removals")
+    void shouldReflectUpdatesAndRemovals() {
+        index.put(1L, "Jane", "Doe", "jane.doe@example.com");
+        index.remove(3L);
+
+        assertThat(index.search("john")).containsExactly(2L);
+        assertThat(index.search("jane")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep posting lists sorted when IDs arrive out of order")
+    void shouldHandleOutOfOrderIds() {
+        TrigramIndex outOfOrder = new TrigramIndex();
+        outOfOrder.put(1000L, "portfolio growth");
+        outOfOrder.put(5L, "growth fund");
+        outOfOrder.put(300_000L, "aggressive growth");
+        outOfOrder.put(42L, "income");
+
+        assertThat(outOfOrder.search("growth")).containsExactly(5L, 1000L, 300_000L);
+    }
+
+    @Test
+    @DisplayName("Should search the available asset catalog")
+    void shouldSearchAvailableAssets() {
+        AssetCatalogIndex catalog = new AssetCatalogIndex();
+
+        assertThat(catalog.search("btc")).containsExactly(AvailableAsset.BTC);
+        assertThat(catalog.search("gold").get(0).getAssetType().name()).isEqualTo("GOLD");
+        assertThat(catalog.search("vanguard"))
+                .containsExactlyInAnyOrder(AvailableAsset.VFIAX, AvailableAsset.VTSAX);
+    }
+}
@@ -0,0 +1,144 @@
+package com.demo.MoneyMap.service.settlement;
+
+import com.demo.MoneyMap.service.settlement.NettingEngine.Transfer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test suite for the settlement netting engine.
+ *
+ * Validates that bilateral netting folds both directions of a pair into one
+ * transfer, that multilateral positions balance per currency against the
+ * clearing account, that currencies never net against each other, and that
+ * a million payments net correctly within seconds.
+ */
+@DisplayName("Netting Engine - Bilateral and Multilateral Netting Tests")
+class NettingEngineTest {
+
+    @Test
+    @DisplayName("Should net both directions of a pair and drop pairs that cancel out")
+    void shouldNetBilaterally() {
+        NettingEngine engine = new NettingEngine(4);
+        engine.add("A", "B", "USD", new BigDecimal("100.00"));
+        engine.add("A", "B", "USD", new BigDecimal("50.25"));
+        engine.add("B", "A", "USD", new BigDecimal("200.00"));
+        engine.add("C", "D", "USD", new BigDecimal("10"));
+        engine.add("D", "C", "USD", new BigDecimal("10.0000"));
+
+        assertThat(engine.paymentCount()).isEqualTo(5);
+        assertThat(engine.flowCount()).isEqualTo(4);
+        assertThat(engine.bilateral()).containsExactly(
+                new Transfer("B", "A", "USD", new BigDecimal("49.7500"), 3));
+    }
+
+    @Test
+    @DisplayName("Should settle every account's net position against the clearing account")
+    void shouldNetMultilaterally() {
+        NettingEngine engine = new NettingEngine(4);
+        engine.add("A", "B", "USD", new BigDecimal("100"));
+        engine.add("B", "C", "USD", new BigDecimal("100"));
+        engine.add("C", "A", "USD", new BigDecimal("30"));
+
+        List<Transfer> transfers = engine.multilateral("CLEARING");
+
+        assertThat(transfers).containsExactly(
+                new Transfer("A", "CLEARING", "USD", new BigDecimal("70.0000"), 2),
+                new Transfer("CLEARING", "C", "USD", new BigDecimal("70.0000"), 2));
+        // No pair flows both ways, so bilateral netting keeps every flow
+        assertThat(engine.bilateral()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should keep each currency separate")
+    void shouldKeepCurrenciesApart() {
+        NettingEngine engine = new NettingEngine(4);
+        engine.add("A", "B", "USD", new BigDecimal("100"));
+        engine.add("B", "A", "EUR", new BigDecimal("100"));
+
+        assertThat(engine.bilateral()).containsExactly(
+                new Transfer("B", "A", "EUR", new BigDecimal("100.0000"), 1),
+                new Transfer("A", "B", "USD", new BigDecimal("100.0000"), 1));
+        assertThat(engine.multilateral("CLEARING")).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should refuse amounts finer than a ten-thousandth")
+    void shouldRejectExcessPrecision() {
+        NettingEngine engine = new NettingEngine(4);
+
+        assertThatThrownBy(() -> engine.add("A", "B", "USD", new BigDecimal("0.00001")))
+                .isInstanceOf(ArithmeticException.class);
+        assertThat(engine.paymentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should net a million payments correctly within seconds")
+    void shouldNetAMillionPayments() {
+        int payments = 1_000_000;
+        int accounts = 2_000;
+        String[] names = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            names[i] = "ACC" + i;
+        }
+        String[] currencies = {"USD", "EUR", "GBP"};
+        SplittableRandom random = new SplittableRandom(42);
+        Map<String, Long> expected = new HashMap<>();
+
+        // Starts far below the final flow count so the table has to grow
+        NettingEngine engine = new NettingEngine(16);
+        long started = System.nanoTime();
+        for (int i = 0; i < payments; i++) {
+            int source = random.nextInt(accounts);
+            int destination = (source + 1 + random.nextInt(accounts - 1)) % accounts;
+            String currency = currencies[random.nextInt(currencies.length)];
+            long cents = 1 + random.nextInt(1_000_000);
+            engine.add(names[source], names[destination], currency, BigDecimal.valueOf(cents, 2));
+            expected.merge(names[source] + "/" + currency, -cents, Long::sum);
+            expected.merge(names[destination] + "/" + currency, cents, Long::sum);
+        }
+        List<Transfer> bilateral = engine.bilateral();
+        List<Transfer> multilateral = engine.multilateral("CLEARING");
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(engine.paymentCount()).isEqualTo(payments);
+        assertThat(bilateral.stream().mapToLong(Transfer::paymentCount).sum()).isLessThanOrEqualTo(payments);
+        assertThat(bilateral.size()).isLessThan(engine.flowCount());
+
+        Map<String, Long> positions = new HashMap<>();
+        Map<String, BigDecimal> clearingBalance = new HashMap<>();
+        for (Transfer transfer : multilateral) {
+            long cents = transfer.amount().movePointRight(2).longValueExact();
+            if (transfer.payer().equals("CLEARING")) {
+                positions.merge(transfer.payee() + "/" + transfer.currency(), cents, Long::sum);
+                clearingBalance.merge(transfer.currency(), transfer.amount().negate(), BigDecimal::add);
+            } else {
+                positions.merge(transfer.payer() + "/" + transfer.currency(), -cents, Long::sum);
+                clearingBalance.merge(transfer.currency(), transfer.amount(), BigDecimal::add);
+            }
+        }
+        expected.values().removeIf(position -> position == 0);
+        assertThat(positions).isEqualTo(expected);
+        assertThat(clearingBalance.values()).allSatisfy(balance -> assertThat(balance.signum()).isZero());
+
+        // Bilateral transfers leave every account with the same net position
+        Map<String, Long> bilateralPositions = new HashMap<>();
+        for (Transfer transfer : bilateral) {
+            long cents = transfer.amount().movePointRight(2).longValueExact();
+            bilateralPositions.merge(transfer.payer() + "/" + transfer.currency(), -cents, Long::sum);
+            bilateralPositions.merge(transfer.payee() + "/" + transfer.currency(), cents, Long::sum);
+        }
+        bilateralPositions.values().removeIf(position -> position == 0);
+        assertThat(bilateralPositions).isEqualTo(expected);
+
+        assertThat(elapsedMillis).isLessThan(10_000);
+    }
+}
@@ -0,0 +1,130 @@
+package com.demo.MoneyMap.service.tick;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test suite for the memory-mapped intraday tick store.
+ *
+ * Validates range reads across segments and days, segment rolling,
+ * persistence across restarts, retention, and that symbols cannot name
+ * directories outside the store.
+ */
+@DisplayName("Tick Store - Intraday Tick Tests")
+class TickStoreTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long DAY = 86_400L * SECOND;
+    private static final long START = Instant.parse("2024-06-10T13:30:00Z").getEpochSecond() * SECOND;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should return only ticks inside the requested range, in order")
+    void shouldReadTimeRange() {
+        TickStore store = store(1 << 16, "2024-06-10T20:00:00Z");
+        for (int i = 0; i < 5000; i++) {
+            store.append("aapl", START + i * SECOND, 190 + i * 0.0001, -0.5);
+        }
+
+        TickSeries series = store.read("AAPL", START + 1500 * SECOND, START + 3500 * SECOND);
+
+        assertThat(series.size()).isEqualTo(2000);
+        assertThat(series.getEpochNanos()[0]).isEqualTo(START + 1500 * SECOND);
+        assertThat(series.getEpochNanos()[1999]).isEqualTo(START + 3499 * SECOND);
+        assertThat(series.getPrices()[0]).isEqualTo(190.15);
+        assertThat(series.getChangePercents()[0]).isEqualTo(-0.5);
+        assertThat(store.read("AAPL", START - DAY, START).size()).isZero();
+        assertThat(store.read("MSFT", START, START + DAY).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should roll to a new segment when full and on a new day")
+    void shouldRollSegments() throws Exception {
+        TickStore store = store(100, "2024-06-11T20:00:00Z");
+        for (int i = 0; i < 250; i++) {
+            store.append("BTC", START + i * SECOND, 67000 + i, 1.25);
+        }
+        store.append("BTC", START + DAY, 68000, 2.0);
+
+        assertThat(segments("BTC")).containsExactly(
+                "2024-06-10.000.ticks", "2024-06-10.001.ticks", "2024-06-10.002.ticks", "2024-06-11.000.ticks");
+
+        TickSeries series = store.read("BTC", START, START + 2 * DAY);
+        assertThat(series.size()).isEqualTo(251);
+        assertThat(series.getPrices()[250]).isEqualTo(68000.0);
+    }
+
+    @Test
+    @DisplayName("Should keep ticks and resume the last segment after a restart")
+    void shouldPersistAcrossRestarts() throws Exception {
+        TickStore first = store(100, "2024-06-10T20:00:00Z");
+        for (int i = 0; i < 150; i++) {
+            first.append("ETH", START + i * SECOND, 3500, 0.1);
+        }
+        first.close();
+
+        TickStore second = store(100, "2024-06-10T20:00:00Z");
+        assertThat(second.read("ETH", START, START + DAY).size()).isEqualTo(150);
+
+        second.append("ETH", START + 150 * SECOND, 3501, 0.2);
+        assertThat(segments("ETH")).containsExactly("2024-06-10.000.ticks", "2024-06-10.001.ticks");
+        assertThat(second.read("ETH", START, START + DAY).size()).isEqualTo(151);
+    }
+
+    @Test
+    @DisplayName("Should delete segments older than the retention period")
+    void shouldPurgeExpiredSegments() throws Exception {
+        TickStore writer = store(100, "2024-06-20T00:00:00Z");
+        writer.append("GLD", START - 20 * DAY, 2300, 0);
+        writer.append("GLD", START, 2310, 0);
+        writer.close();
+
+        TickStore store = store(100, "2024-06-20T00:00:00Z");
+
+        assertThat(segments("GLD")).containsExactly("2024-06-10.000.ticks");
+        assertThat(store.read("GLD", START - 30 * DAY, START + DAY).size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse symbols that are not plain tickers")
+    void shouldRejectUnsafeSymbols() throws Exception {
+        Path root = Files.createDirectory(dir.resolve("ticks"));
+        TickStore store = new TickStore(root, 100, 14, true,
+                Clock.fixed(Instant.parse("2024-06-10T20:00:00Z"), ZoneOffset.UTC));
+
+        for (String symbol : List.of("../../X", "..", ".", "A/B", "", "TOO-LONG-TO-BE-A-TICKER")) {
+            assertThat(TickStore.isValidSymbol(symbol)).as(symbol).isFalse();
+            assertThatThrownBy(() -> store.append(symbol, START, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> store.read(symbol, START, START + DAY)).isInstanceOf(IllegalArgumentException.class);
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files).containsExactly(root);
+        }
+        assertThat(TickStore.isValidSymbol(" brk.b ")).isTrue();
+        assertThat(TickStore.isValidSymbol("BTC-USD")).isTrue();
+    }
+
+    private TickStore store(int capacity, String now) {
+        return new TickStore(dir, capacity, 14, true, Clock.fixed(Instant.parse(now), ZoneOffset.UTC));
+    }
+
+    private List<String> segments(String symbol) throws Exception {
+        try (Stream<Path> files = Files.list(dir.resolve(symbol))) {
+            return files.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+}